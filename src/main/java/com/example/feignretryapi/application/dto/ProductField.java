@@ -0,0 +1,69 @@
+package com.example.feignretryapi.application.dto;
+
+import com.example.feignretryapi.domain.exception.InvalidFieldSelectionException;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Campos do {@link ProductResponse} selecionáveis com {@code ?fields=}, pelo nome no JSON.
+ */
+public enum ProductField {
+
+    ID("id"),
+    NAME("name"),
+    DESCRIPTION("description"),
+    PRICE("price"),
+    QUANTITY("quantity"),
+    CATEGORY("category"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt");
+
+    /**
+     * Todos os campos: a resposta completa, usada quando {@code fields} não é informado.
+     */
+    public static final Set<ProductField> ALL = Collections.unmodifiableSet(EnumSet.allOf(ProductField.class));
+
+    private final String jsonName;
+
+    ProductField(String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    public String jsonName() {
+        return jsonName;
+    }
+
+    /**
+     * Interpreta a lista separada por vírgulas (ex.: {@code id,name,price}); ausente ou vazia seleciona todos.
+     *
+     * @throws InvalidFieldSelectionException se algum nome não é um campo do produto
+     */
+    public static Set<ProductField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        EnumSet<ProductField> selected = EnumSet.noneOf(ProductField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(fromJsonName(trimmed));
+        }
+        if (selected.isEmpty()) {
+            return ALL;
+        }
+        return selected.size() == ALL.size() ? ALL : Collections.unmodifiableSet(selected);
+    }
+
+    private static ProductField fromJsonName(String name) {
+        for (ProductField field : values()) {
+            if (field.jsonName.equals(name)) {
+                return field;
+            }
+        }
+        throw new InvalidFieldSelectionException("Campo desconhecido em fields: " + name);
+    }
+}
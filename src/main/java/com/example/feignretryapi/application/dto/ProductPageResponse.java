@@ -0,0 +1,15 @@
+package com.example.feignretryapi.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO para resposta de uma página de produtos.
+ * {@code nextCursor} é opaco e deve ser repassado no parâmetro {@code cursor} da próxima requisição;
+ * é nulo na última página.
+ */
+public record ProductPageResponse(
+        List<ProductResponse> products,
+        int count,
+        String nextCursor
+) {
+}
@@ -1,11 +1,15 @@
 package com.example.feignretryapi.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
  * DTO para resposta de produto.
+ * Serializado com o filtro {@value #FIELDS_FILTER}, que omite os campos fora da seleção {@code ?fields=}.
  */
+@JsonFilter(ProductResponse.FIELDS_FILTER)
 public record ProductResponse(
         String id,
         String name,
@@ -16,4 +20,6 @@ public record ProductResponse(
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {
+
+    public static final String FIELDS_FILTER = "productFields";
 }
@@ -1,10 +1,16 @@
 package com.example.feignretryapi.application.usecase;
 
 import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.domain.entity.ProductPage;
+import com.example.feignretryapi.domain.gateway.AsyncProductGateway;
 import com.example.feignretryapi.domain.gateway.ProductGateway;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * Use Case para buscar todos os produtos.
@@ -13,12 +19,45 @@ import java.util.List;
 public class GetAllProductsUseCase {
 
     private final ProductGateway productGateway;
+    private final AsyncProductGateway asyncProductGateway;
 
     public GetAllProductsUseCase(ProductGateway productGateway) {
+        this(productGateway, Optional.empty());
+    }
+
+    @Autowired
+    public GetAllProductsUseCase(ProductGateway productGateway, Optional<AsyncProductGateway> asyncProductGateway) {
         this.productGateway = productGateway;
+        this.asyncProductGateway = asyncProductGateway.orElse(null);
     }
 
     public List<Product> execute() {
         return productGateway.findAll();
     }
+
+    /**
+     * Executa a busca de forma assíncrona quando há um AsyncProductGateway disponível.
+     * Caso contrário, executa de forma síncrona na thread chamadora.
+     */
+    public CompletableFuture<List<Product>> executeAsync() {
+        if (asyncProductGateway == null) {
+            return CompletableFuture.completedFuture(execute());
+        }
+        return asyncProductGateway.findAll();
+    }
+
+    /**
+     * Entrega os produtos ao consumidor um a um, sem materializar o catálogo quando o gateway
+     * lê a API externa em streaming.
+     */
+    public void stream(Consumer<? super Product> consumer) {
+        productGateway.streamAll(consumer);
+    }
+
+    /**
+     * Busca uma página em ordem de ID, a partir do produto seguinte a {@code afterId} (null na primeira página).
+     */
+    public ProductPage executePage(String afterId, int limit) {
+        return productGateway.findPage(afterId, limit);
+    }
 }
@@ -2,9 +2,14 @@ package com.example.feignretryapi.application.usecase;
 
 import com.example.feignretryapi.domain.entity.Product;
 import com.example.feignretryapi.domain.exception.ProductNotFoundException;
+import com.example.feignretryapi.domain.gateway.AsyncProductGateway;
 import com.example.feignretryapi.domain.gateway.ProductGateway;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Use Case para buscar um produto pelo ID.
  */
@@ -12,13 +17,32 @@ import org.springframework.stereotype.Service;
 public class GetProductByIdUseCase {
 
     private final ProductGateway productGateway;
+    private final AsyncProductGateway asyncProductGateway;
 
     public GetProductByIdUseCase(ProductGateway productGateway) {
+        this(productGateway, Optional.empty());
+    }
+
+    @Autowired
+    public GetProductByIdUseCase(ProductGateway productGateway, Optional<AsyncProductGateway> asyncProductGateway) {
         this.productGateway = productGateway;
+        this.asyncProductGateway = asyncProductGateway.orElse(null);
     }
 
     public Product execute(String id) {
         return productGateway.findById(id)
                 .orElseThrow(() -> new ProductNotFoundException(id));
     }
+
+    /**
+     * Executa a busca de forma assíncrona quando há um AsyncProductGateway disponível.
+     * Caso contrário, executa de forma síncrona na thread chamadora.
+     */
+    public CompletableFuture<Product> executeAsync(String id) {
+        if (asyncProductGateway == null) {
+            return CompletableFuture.completedFuture(execute(id));
+        }
+        return asyncProductGateway.findById(id)
+                .thenApply(product -> product.orElseThrow(() -> new ProductNotFoundException(id)));
+    }
 }
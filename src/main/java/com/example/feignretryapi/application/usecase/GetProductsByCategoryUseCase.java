@@ -1,10 +1,15 @@
 package com.example.feignretryapi.application.usecase;
 
 import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.domain.entity.ProductPage;
+import com.example.feignretryapi.domain.gateway.AsyncProductGateway;
 import com.example.feignretryapi.domain.gateway.ProductGateway;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Use Case para buscar produtos por categoria.
@@ -13,12 +18,38 @@ import java.util.List;
 public class GetProductsByCategoryUseCase {
 
     private final ProductGateway productGateway;
+    private final AsyncProductGateway asyncProductGateway;
 
     public GetProductsByCategoryUseCase(ProductGateway productGateway) {
+        this(productGateway, Optional.empty());
+    }
+
+    @Autowired
+    public GetProductsByCategoryUseCase(ProductGateway productGateway,
+                                        Optional<AsyncProductGateway> asyncProductGateway) {
         this.productGateway = productGateway;
+        this.asyncProductGateway = asyncProductGateway.orElse(null);
     }
 
     public List<Product> execute(String category) {
         return productGateway.findByCategory(category);
     }
+
+    /**
+     * Executa a busca de forma assíncrona quando há um AsyncProductGateway disponível.
+     * Caso contrário, executa de forma síncrona na thread chamadora.
+     */
+    public CompletableFuture<List<Product>> executeAsync(String category) {
+        if (asyncProductGateway == null) {
+            return CompletableFuture.completedFuture(execute(category));
+        }
+        return asyncProductGateway.findByCategory(category);
+    }
+
+    /**
+     * Busca uma página em ordem de ID, a partir do produto seguinte a {@code afterId} (null na primeira página).
+     */
+    public ProductPage executePage(String category, String afterId, int limit) {
+        return productGateway.findPageByCategory(category, afterId, limit);
+    }
 }
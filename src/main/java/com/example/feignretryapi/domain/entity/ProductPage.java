@@ -0,0 +1,80 @@
+package com.example.feignretryapi.domain.entity;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Página de produtos da paginação por cursor (keyset), em ordem de ID.
+ * O cursor é o ID do último produto entregue: a próxima página começa no primeiro ID maior que ele,
+ * então inserções e remoções entre uma página e outra não duplicam nem pulam produtos.
+ *
+ * @param products    Produtos da página, em ordem de ID
+ * @param nextAfterId ID a partir do qual buscar a próxima página, ou null na última página
+ */
+public record ProductPage(List<Product> products, String nextAfterId) {
+
+    /**
+     * Ordem estável das páginas: ID em ordem lexicográfica.
+     */
+    public static final Comparator<Product> ORDER = Comparator.comparing(Product::getId);
+
+    public ProductPage {
+        products = List.copyOf(products);
+    }
+
+    public boolean hasNext() {
+        return nextAfterId != null;
+    }
+
+    /**
+     * Página sobre uma lista já ordenada por {@link #ORDER}: busca binária pelo primeiro ID maior que
+     * {@code afterId} e cópia de até {@code limit} produtos, O(log n + limit).
+     */
+    public static ProductPage slice(List<Product> sortedById, String afterId, int limit) {
+        int from = afterId == null ? 0 : firstAfter(sortedById, afterId);
+        int to = (int) Math.min(sortedById.size(), (long) from + limit);
+        String nextAfterId = to < sortedById.size() && to > from ? sortedById.get(to - 1).getId() : null;
+        return new ProductPage(sortedById.subList(from, to), nextAfterId);
+    }
+
+    /**
+     * Página sobre uma lista em qualquer ordem, ordenando os produtos após o cursor, O(n log n).
+     * Usada quando não há paginação na origem nem índice ordenado.
+     */
+    public static ProductPage of(List<Product> products, String afterId, int limit) {
+        List<Product> candidates = new ArrayList<>(products.size());
+        for (Product product : products) {
+            if (afterId == null || product.getId().compareTo(afterId) > 0) {
+                candidates.add(product);
+            }
+        }
+        candidates.sort(ORDER);
+        return slice(candidates, null, limit);
+    }
+
+    /**
+     * Página a partir de até {@code limit + 1} produtos já ordenados, como devolvidos por uma origem paginada:
+     * o produto excedente só indica que há próxima página.
+     */
+    public static ProductPage fromLookahead(List<Product> products, int limit) {
+        if (products.size() <= limit) {
+            return new ProductPage(products, null);
+        }
+        return new ProductPage(products.subList(0, limit), products.get(limit - 1).getId());
+    }
+
+    private static int firstAfter(List<Product> sortedById, String afterId) {
+        int low = 0;
+        int high = sortedById.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedById.get(mid).getId().compareTo(afterId) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.feignretryapi.domain.exception;
+
+/**
+ * Exceção lançada quando o circuit breaker de um método da API externa está aberto.
+ * A chamada é rejeitada sem nenhum I/O de rede.
+ */
+public class CircuitBreakerOpenException extends ExternalApiException {
+
+    private final String circuitName;
+    private final long retryAfterMillis;
+
+    public CircuitBreakerOpenException(String circuitName, long retryAfterMillis) {
+        super("Circuit breaker aberto para " + circuitName + ". Chamada rejeitada sem acessar a API externa.",
+                503, false);
+        this.circuitName = circuitName;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public String getCircuitName() {
+        return circuitName;
+    }
+
+    /**
+     * Tempo restante até o circuito aceitar chamadas de teste (half-open).
+     */
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.feignretryapi.domain.exception;
+
+/**
+ * Exceção lançada quando o limite adaptativo de concorrência com a API externa está esgotado
+ * e a chamada não conseguiu vaga dentro do tempo máximo de fila.
+ */
+public class ConcurrencyLimitExceededException extends ExternalApiException {
+
+    private final int limit;
+
+    public ConcurrencyLimitExceededException(int limit) {
+        super("Limite de concorrência com a API externa atingido (" + limit + " chamadas simultâneas).",
+                503, false);
+        this.limit = limit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
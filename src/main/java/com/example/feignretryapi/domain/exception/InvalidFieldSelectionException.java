@@ -0,0 +1,11 @@
+package com.example.feignretryapi.domain.exception;
+
+/**
+ * Exceção lançada quando a seleção de campos da resposta ({@code fields}) traz um campo desconhecido.
+ */
+public class InvalidFieldSelectionException extends DomainException {
+
+    public InvalidFieldSelectionException(String message) {
+        super(message);
+    }
+}
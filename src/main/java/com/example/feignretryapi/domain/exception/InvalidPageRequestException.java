@@ -0,0 +1,11 @@
+package com.example.feignretryapi.domain.exception;
+
+/**
+ * Exceção lançada quando o cursor ou o limite de uma página são inválidos.
+ */
+public class InvalidPageRequestException extends DomainException {
+
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.feignretryapi.domain.gateway;
+
+import com.example.feignretryapi.domain.entity.Product;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Variante assíncrona do {@link ProductGateway}.
+ * Cada operação retorna imediatamente um {@link CompletableFuture}, liberando a thread
+ * chamadora enquanto a chamada à API externa está em andamento.
+ */
+public interface AsyncProductGateway {
+
+    /**
+     * Busca todos os produtos da API externa.
+     *
+     * @return Futuro com a lista de produtos
+     */
+    CompletableFuture<List<Product>> findAll();
+
+    /**
+     * Busca um produto pelo ID.
+     *
+     * @param id Identificador do produto
+     * @return Futuro com Optional contendo o produto ou vazio se não encontrado
+     */
+    CompletableFuture<Optional<Product>> findById(String id);
+
+    /**
+     * Busca produtos por categoria.
+     *
+     * @param category Categoria dos produtos
+     * @return Futuro com a lista de produtos da categoria
+     */
+    CompletableFuture<List<Product>> findByCategory(String category);
+}
@@ -1,9 +1,11 @@
 package com.example.feignretryapi.domain.gateway;
 
 import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.domain.entity.ProductPage;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Interface de Gateway para operações com Produtos.
@@ -18,6 +20,17 @@ public interface ProductGateway {
      */
     List<Product> findAll();
 
+    /**
+     * Entrega todos os produtos ao consumidor, um a um.
+     * Implementações que leem a API externa incrementalmente evitam materializar o catálogo;
+     * por padrão, percorre o resultado de {@link #findAll()}.
+     *
+     * @param consumer Consumidor de cada produto, na ordem do catálogo
+     */
+    default void streamAll(Consumer<? super Product> consumer) {
+        findAll().forEach(consumer);
+    }
+
     /**
      * Busca um produto pelo ID.
      *
@@ -33,4 +46,30 @@ public interface ProductGateway {
      * @return Lista de produtos da categoria
      */
     List<Product> findByCategory(String category);
+
+    /**
+     * Busca uma página de produtos em ordem de ID.
+     * Implementações com paginação na origem ou índice ordenado fazem trabalho proporcional à página;
+     * por padrão, pagina o resultado de {@link #findAll()}.
+     *
+     * @param afterId ID do último produto da página anterior, ou null para a primeira página
+     * @param limit   Tamanho máximo da página
+     * @return Página de produtos
+     */
+    default ProductPage findPage(String afterId, int limit) {
+        return ProductPage.of(findAll(), afterId, limit);
+    }
+
+    /**
+     * Busca uma página dos produtos de uma categoria, em ordem de ID.
+     * Por padrão, pagina o resultado de {@link #findByCategory(String)}.
+     *
+     * @param category Categoria dos produtos
+     * @param afterId  ID do último produto da página anterior, ou null para a primeira página
+     * @param limit    Tamanho máximo da página
+     * @return Página de produtos da categoria
+     */
+    default ProductPage findPageByCategory(String category, String afterId, int limit) {
+        return ProductPage.of(findByCategory(category), afterId, limit);
+    }
 }
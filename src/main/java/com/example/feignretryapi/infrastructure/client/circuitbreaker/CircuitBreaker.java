@@ -0,0 +1,219 @@
+package com.example.feignretryapi.infrastructure.client.circuitbreaker;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Circuit breaker de um método da API externa.
+ * A janela deslizante é um ring buffer das últimas windowSize chamadas com contadores
+ * agregados atualizados por deltas atômicos, sem locks no caminho da requisição.
+ * Estados: CLOSED → OPEN (taxa de falhas ou de chamadas lentas acima do limite) →
+ * HALF_OPEN (após openDuration, até halfOpenCalls chamadas de teste) → CLOSED ou OPEN.
+ */
+public class CircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    private static final int EMPTY = 0;
+    private static final int SUCCESS = 0b001;
+    private static final int FAILURE = 0b010;
+    private static final int SLOW = 0b100;
+
+    private final String name;
+    private final CircuitBreakerSettings settings;
+    private final AtomicReference<StateSnapshot> state;
+
+    private final AtomicIntegerArray window;
+    private final AtomicLong windowIndex = new AtomicLong();
+    private final AtomicInteger recordedCalls = new AtomicInteger();
+    private final AtomicInteger failedCalls = new AtomicInteger();
+    private final AtomicInteger slowCalls = new AtomicInteger();
+
+    private final AtomicInteger halfOpenPermits = new AtomicInteger();
+    private final AtomicInteger halfOpenSuccesses = new AtomicInteger();
+
+    private final LongAdder notPermittedCalls = new LongAdder();
+
+    /**
+     * Estado imutável trocado por CAS; a geração descarta resultados de chamadas de um estado anterior.
+     */
+    private record StateSnapshot(CircuitState state, long openedAt, long generation) {
+    }
+
+    /**
+     * Permissão de uma chamada, usada para registrar o resultado no estado em que foi concedida.
+     */
+    public record Permission(long generation) {
+    }
+
+    public CircuitBreaker(String name, CircuitBreakerSettings settings) {
+        this.name = name;
+        this.settings = settings;
+        this.window = new AtomicIntegerArray(settings.windowSize());
+        this.state = new AtomicReference<>(new StateSnapshot(CircuitState.CLOSED, 0, 0));
+    }
+
+    /**
+     * Solicita permissão para uma chamada.
+     *
+     * @return a permissão, ou null se o circuito estiver aberto
+     */
+    public Permission tryAcquirePermission() {
+        while (true) {
+            StateSnapshot current = state.get();
+            switch (current.state()) {
+                case CLOSED:
+                    return new Permission(current.generation());
+                case OPEN:
+                    if (System.currentTimeMillis() - current.openedAt() < settings.openDuration()) {
+                        notPermittedCalls.increment();
+                        return null;
+                    }
+                    transition(current, CircuitState.HALF_OPEN);
+                    continue;
+                default:
+                    int permits = halfOpenPermits.incrementAndGet();
+                    if (permits <= settings.halfOpenCalls() && state.get() == current) {
+                        return new Permission(current.generation());
+                    }
+                    notPermittedCalls.increment();
+                    return null;
+            }
+        }
+    }
+
+    /**
+     * Registra o resultado de uma chamada permitida.
+     */
+    public void onResult(Permission permission, boolean failure, long durationMillis) {
+        StateSnapshot current = state.get();
+        if (permission.generation() != current.generation()) {
+            return;
+        }
+        boolean slow = durationMillis >= settings.slowCallDuration();
+
+        if (current.state() == CircuitState.HALF_OPEN) {
+            if (failure || slow) {
+                transition(current, CircuitState.OPEN);
+            } else if (halfOpenSuccesses.incrementAndGet() >= settings.halfOpenCalls()) {
+                transition(current, CircuitState.CLOSED);
+            }
+            return;
+        }
+
+        if (current.state() == CircuitState.CLOSED) {
+            record((failure ? FAILURE : SUCCESS) | (slow ? SLOW : 0));
+            if (isAboveThresholds()) {
+                transition(current, CircuitState.OPEN);
+            }
+        }
+    }
+
+    /**
+     * Devolve a permissão de uma chamada cancelada pela aplicação, sem registrar resultado: no half-open,
+     * a vaga de chamada de teste volta a ficar disponível.
+     */
+    public void onIgnored(Permission permission) {
+        StateSnapshot current = state.get();
+        if (permission.generation() == current.generation() && current.state() == CircuitState.HALF_OPEN) {
+            halfOpenPermits.decrementAndGet();
+        }
+    }
+
+    /**
+     * Grava o resultado no ring buffer e ajusta os contadores pela diferença com o resultado substituído.
+     */
+    private void record(int outcome) {
+        int slot = (int) (windowIndex.getAndIncrement() % settings.windowSize());
+        int previous = window.getAndSet(slot, outcome);
+        if (previous == EMPTY) {
+            recordedCalls.incrementAndGet();
+        }
+        failedCalls.addAndGet(bit(outcome, FAILURE) - bit(previous, FAILURE));
+        slowCalls.addAndGet(bit(outcome, SLOW) - bit(previous, SLOW));
+    }
+
+    private static int bit(int outcome, int flag) {
+        return (outcome & flag) != 0 ? 1 : 0;
+    }
+
+    private boolean isAboveThresholds() {
+        int calls = recordedCalls.get();
+        if (calls < settings.minimumCalls()) {
+            return false;
+        }
+        return getFailureRate() >= settings.failureRateThreshold()
+                || getSlowCallRate() >= settings.slowCallRateThreshold();
+    }
+
+    private void transition(StateSnapshot from, CircuitState to) {
+        long openedAt = to == CircuitState.OPEN ? System.currentTimeMillis() : from.openedAt();
+        StateSnapshot next = new StateSnapshot(to, openedAt, from.generation() + 1);
+        if (!state.compareAndSet(from, next)) {
+            return;
+        }
+        if (to == CircuitState.HALF_OPEN) {
+            halfOpenPermits.set(0);
+            halfOpenSuccesses.set(0);
+        } else if (to == CircuitState.CLOSED) {
+            resetWindow();
+        }
+        logger.warn("Circuit breaker {} mudou de {} para {} (falhas {}%, lentas {}%)",
+                name, from.state(), to, getFailureRate(), getSlowCallRate());
+    }
+
+    private void resetWindow() {
+        for (int i = 0; i < settings.windowSize(); i++) {
+            window.set(i, EMPTY);
+        }
+        windowIndex.set(0);
+        recordedCalls.set(0);
+        failedCalls.set(0);
+        slowCalls.set(0);
+    }
+
+    /**
+     * Tempo restante até o circuito aceitar chamadas de teste (0 se não estiver aberto).
+     */
+    public long getRemainingOpenMillis() {
+        StateSnapshot current = state.get();
+        if (current.state() != CircuitState.OPEN) {
+            return 0;
+        }
+        return Math.max(0, settings.openDuration() - (System.currentTimeMillis() - current.openedAt()));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CircuitState getState() {
+        return state.get().state();
+    }
+
+    /**
+     * Percentual de falhas na janela (0 enquanto não houver o mínimo de chamadas).
+     */
+    public float getFailureRate() {
+        int calls = recordedCalls.get();
+        return calls < settings.minimumCalls() ? 0 : failedCalls.get() * 100f / calls;
+    }
+
+    /**
+     * Percentual de chamadas lentas na janela (0 enquanto não houver o mínimo de chamadas).
+     */
+    public float getSlowCallRate() {
+        int calls = recordedCalls.get();
+        return calls < settings.minimumCalls() ? 0 : slowCalls.get() * 100f / calls;
+    }
+
+    public long getNotPermittedCalls() {
+        return notPermittedCalls.sum();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.feignretryapi.infrastructure.client.circuitbreaker;
+
+import com.example.feignretryapi.domain.exception.CircuitBreakerOpenException;
+import feign.AsyncClient;
+import feign.Request;
+import feign.Response;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Variante do {@link CircuitBreakerClient} para o AsyncFeign: usa os mesmos circuitos por methodKey e
+ * registra o resultado quando o futuro da resposta termina.
+ */
+public class CircuitBreakerAsyncClient implements AsyncClient<Object> {
+
+    private final AsyncClient<Object> delegate;
+    private final CircuitBreakerRegistry registry;
+
+    public CircuitBreakerAsyncClient(AsyncClient<Object> delegate, CircuitBreakerRegistry registry) {
+        this.delegate = delegate;
+        this.registry = registry;
+    }
+
+    @Override
+    public CompletableFuture<Response> execute(Request request, Request.Options options,
+                                               Optional<Object> requestContext) {
+        CircuitBreaker circuitBreaker = registry.circuitBreaker(CircuitBreakerClient.methodKey(request));
+        CircuitBreaker.Permission permission = circuitBreaker.tryAcquirePermission();
+        if (permission == null) {
+            return CompletableFuture.failedFuture(new CircuitBreakerOpenException(
+                    circuitBreaker.getName(), circuitBreaker.getRemainingOpenMillis()));
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture<Response> response;
+        try {
+            response = delegate.execute(request, options, requestContext);
+        } catch (RuntimeException e) {
+            circuitBreaker.onResult(permission, true, elapsedMillis(start));
+            throw e;
+        }
+        return response.whenComplete((result, error) -> circuitBreaker.onResult(permission,
+                error != null || result.status() >= 500, elapsedMillis(start)));
+    }
+
+    private static long elapsedMillis(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    public AsyncClient<Object> getDelegate() {
+        return delegate;
+    }
+}
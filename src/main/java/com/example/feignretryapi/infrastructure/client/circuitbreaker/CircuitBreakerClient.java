@@ -0,0 +1,68 @@
+package com.example.feignretryapi.infrastructure.client.circuitbreaker;
+
+import com.example.feignretryapi.domain.exception.CircuitBreakerOpenException;
+import com.example.feignretryapi.infrastructure.client.transport.CancelledCalls;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+
+/**
+ * Client do Feign que aplica o circuit breaker do método antes de acessar a rede.
+ * Com o circuito aberto lança {@link CircuitBreakerOpenException}, que não é retryable:
+ * o Feign propaga a exceção sem passar pelo ciclo de retry e backoff.
+ * Falhas de I/O e respostas 5xx contam como falha; chamadas acima de slowCallDuration contam como lentas.
+ * Chamadas canceladas pela aplicação (thread interrompida, ex.: a tentativa perdedora do hedging) não contam.
+ */
+public class CircuitBreakerClient implements Client {
+
+    private final Client delegate;
+    private final CircuitBreakerRegistry registry;
+
+    public CircuitBreakerClient(Client delegate, CircuitBreakerRegistry registry) {
+        this.delegate = delegate;
+        this.registry = registry;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        CircuitBreaker circuitBreaker = registry.circuitBreaker(methodKey(request));
+        CircuitBreaker.Permission permission = circuitBreaker.tryAcquirePermission();
+        if (permission == null) {
+            throw new CircuitBreakerOpenException(circuitBreaker.getName(), circuitBreaker.getRemainingOpenMillis());
+        }
+
+        long start = System.nanoTime();
+        try {
+            Response response = delegate.execute(request, options);
+            circuitBreaker.onResult(permission, response.status() >= 500, elapsedMillis(start));
+            return response;
+        } catch (IOException | RuntimeException e) {
+            if (CancelledCalls.isCancellation(e)) {
+                circuitBreaker.onIgnored(permission);
+            } else {
+                circuitBreaker.onResult(permission, true, elapsedMillis(start));
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * methodKey do Feign (configKey), ou método + URL quando a requisição não tem metadados.
+     */
+    static String methodKey(Request request) {
+        if (request.requestTemplate() != null && request.requestTemplate().methodMetadata() != null) {
+            return request.requestTemplate().methodMetadata().configKey();
+        }
+        return request.httpMethod() + " " + request.url();
+    }
+
+    private static long elapsedMillis(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    public Client getDelegate() {
+        return delegate;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.feignretryapi.infrastructure.client.circuitbreaker;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Expõe o estado dos circuit breakers como métricas do Micrometer, com a tag name=methodKey.
+ * Disponíveis em /actuator/metrics/feign.circuit-breaker.*
+ */
+public class CircuitBreakerMetrics implements MeterBinder {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+    public CircuitBreakerMetrics(CircuitBreakerRegistry circuitBreakerRegistry) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        circuitBreakerRegistry.onCircuitBreakerCreated(circuitBreaker -> register(registry, circuitBreaker));
+    }
+
+    private void register(MeterRegistry registry, CircuitBreaker circuitBreaker) {
+        Gauge.builder("feign.circuit-breaker.state", circuitBreaker, cb -> cb.getState().ordinal())
+                .description("Estado do circuito (0 = closed, 1 = open, 2 = half-open)")
+                .tag("name", circuitBreaker.getName())
+                .register(registry);
+        Gauge.builder("feign.circuit-breaker.failure.rate", circuitBreaker, CircuitBreaker::getFailureRate)
+                .description("Percentual de falhas na janela deslizante")
+                .tag("name", circuitBreaker.getName())
+                .register(registry);
+        Gauge.builder("feign.circuit-breaker.slow.call.rate", circuitBreaker, CircuitBreaker::getSlowCallRate)
+                .description("Percentual de chamadas lentas na janela deslizante")
+                .tag("name", circuitBreaker.getName())
+                .register(registry);
+        FunctionCounter.builder("feign.circuit-breaker.not.permitted", circuitBreaker,
+                        CircuitBreaker::getNotPermittedCalls)
+                .description("Chamadas rejeitadas com o circuito aberto")
+                .tag("name", circuitBreaker.getName())
+                .register(registry);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.feignretryapi.infrastructure.client.circuitbreaker;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Registro dos circuit breakers, um por methodKey do Feign (ex.: ExternalProductClient#getAllProducts()).
+ * Os circuitos são criados sob demanda na primeira chamada de cada método.
+ */
+public class CircuitBreakerRegistry {
+
+    private final CircuitBreakerSettings settings;
+    private final ConcurrentMap<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final List<Consumer<CircuitBreaker>> listeners = new CopyOnWriteArrayList<>();
+
+    public CircuitBreakerRegistry(CircuitBreakerSettings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * Retorna o circuit breaker do método, criando-o se necessário.
+     */
+    public CircuitBreaker circuitBreaker(String name) {
+        CircuitBreaker existing = circuitBreakers.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        CircuitBreaker created = new CircuitBreaker(name, settings);
+        existing = circuitBreakers.putIfAbsent(name, created);
+        if (existing != null) {
+            return existing;
+        }
+        listeners.forEach(listener -> listener.accept(created));
+        return created;
+    }
+
+    /**
+     * Registra um listener chamado para os circuitos existentes e para cada novo circuito.
+     */
+    public void onCircuitBreakerCreated(Consumer<CircuitBreaker> listener) {
+        listeners.add(listener);
+        circuitBreakers.values().forEach(listener);
+    }
+
+    public Collection<CircuitBreaker> getAll() {
+        return circuitBreakers.values();
+    }
+
+    public CircuitBreakerSettings getSettings() {
+        return settings;
+    }
+}
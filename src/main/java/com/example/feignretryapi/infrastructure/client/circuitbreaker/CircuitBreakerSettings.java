@@ -0,0 +1,30 @@
+package com.example.feignretryapi.infrastructure.client.circuitbreaker;
+
+/**
+ * Configurações do circuit breaker, aplicadas a cada methodKey.
+ *
+ * @param windowSize            número de chamadas na janela deslizante
+ * @param minimumCalls          chamadas mínimas na janela antes de avaliar as taxas
+ * @param failureRateThreshold  percentual de falhas que abre o circuito
+ * @param slowCallRateThreshold percentual de chamadas lentas que abre o circuito
+ * @param slowCallDuration      duração a partir da qual a chamada é considerada lenta (ms)
+ * @param openDuration          tempo em que o circuito fica aberto antes do half-open (ms)
+ * @param halfOpenCalls         chamadas de teste permitidas no estado half-open
+ */
+public record CircuitBreakerSettings(
+        int windowSize,
+        int minimumCalls,
+        float failureRateThreshold,
+        float slowCallRateThreshold,
+        long slowCallDuration,
+        long openDuration,
+        int halfOpenCalls
+) {
+
+    public CircuitBreakerSettings {
+        if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize || halfOpenCalls < 1) {
+            throw new IllegalArgumentException("Configuração inválida do circuit breaker: janela " + windowSize
+                    + ", mínimo " + minimumCalls + ", chamadas half-open " + halfOpenCalls);
+        }
+    }
+}
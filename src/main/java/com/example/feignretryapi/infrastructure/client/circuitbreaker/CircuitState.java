@@ -0,0 +1,22 @@
+package com.example.feignretryapi.infrastructure.client.circuitbreaker;
+
+/**
+ * Estados do circuit breaker.
+ */
+public enum CircuitState {
+
+    /**
+     * Chamadas passam normalmente e alimentam a janela deslizante.
+     */
+    CLOSED,
+
+    /**
+     * Chamadas são rejeitadas sem I/O até o fim do tempo de abertura.
+     */
+    OPEN,
+
+    /**
+     * Um número limitado de chamadas de teste decide se o circuito fecha ou reabre.
+     */
+    HALF_OPEN
+}
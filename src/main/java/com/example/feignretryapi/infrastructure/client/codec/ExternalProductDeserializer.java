@@ -0,0 +1,132 @@
+package com.example.feignretryapi.infrastructure.client.codec;
+
+import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.infrastructure.mapper.IsoDateTimeParser;
+import com.example.feignretryapi.infrastructure.mapper.UpstreamDateTimeParser;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Lê um produto da API externa (layout do ExternalProductDto: {@code created_at}, {@code updated_at} como
+ * ISO-8601) direto para a entidade {@link Product}, em uma passada pelos tokens do parser, sem o DTO
+ * intermediário nem a cópia do {@code ProductMapper.toDomain}; o resultado é o mesmo.
+ * <p>
+ * Os timestamps são lidos do buffer de texto do parser pelo {@link IsoDateTimeParser} recebido: quando o valor
+ * já está no cache, nem a String é criada. Funciona com qualquer parser do Jackson, inclusive CBOR e Smile.
+ */
+public class ExternalProductDeserializer extends StdDeserializer<Product> {
+
+    private final IsoDateTimeParser dateParser;
+
+    public ExternalProductDeserializer(IsoDateTimeParser dateParser) {
+        super(Product.class);
+        this.dateParser = dateParser;
+    }
+
+    /**
+     * Módulo que registra o deserializer para {@link Product} em um ObjectMapper, com o parser de timestamps
+     * compartilhado com o ProductMapper ({@link UpstreamDateTimeParser}).
+     */
+    public static Module module() {
+        return module(UpstreamDateTimeParser.get());
+    }
+
+    /**
+     * Módulo que registra o deserializer para {@link Product} em um ObjectMapper.
+     */
+    public static Module module(IsoDateTimeParser dateParser) {
+        return new SimpleModule("external-product")
+                .addDeserializer(Product.class, new ExternalProductDeserializer(dateParser));
+    }
+
+    @Override
+    public Product deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (Product) ctxt.handleUnexpectedToken(Product.class, p);
+        }
+
+        Product product = new Product();
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String name = p.currentName();
+            p.nextToken();
+            switch (name) {
+                case "id" -> product.setId(readString(p, ctxt));
+                case "name" -> product.setName(readString(p, ctxt));
+                case "description" -> product.setDescription(readString(p, ctxt));
+                case "price" -> product.setPrice(readDecimal(p, ctxt));
+                case "quantity" -> product.setQuantity(readInteger(p, ctxt));
+                case "category" -> product.setCategory(readString(p, ctxt));
+                case "created_at" -> product.setCreatedAt(readDateTime(p, ctxt));
+                case "updated_at" -> product.setUpdatedAt(readDateTime(p, ctxt));
+                default -> ctxt.handleUnknownProperty(p, this, Product.class, name);
+            }
+        }
+        return product;
+    }
+
+    private static String readString(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return switch (p.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_STRING -> p.getText();
+            default -> ctxt.readValue(p, String.class);
+        };
+    }
+
+    private static BigDecimal readDecimal(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return switch (p.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> p.getDecimalValue();
+            default -> ctxt.readValue(p, BigDecimal.class);
+        };
+    }
+
+    private static Integer readInteger(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return switch (p.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT -> p.getIntValue();
+            default -> ctxt.readValue(p, Integer.class);
+        };
+    }
+
+    /**
+     * Timestamp ISO-8601; vazio é tratado como ausente, como no {@code ProductMapper.stringToLocalDateTime}.
+     */
+    private LocalDateTime readDateTime(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.VALUE_STRING) {
+            String text = ctxt.readValue(p, String.class);
+            return text == null || text.isEmpty() ? null : parseDateTime(text, ctxt);
+        }
+        if (p.getTextLength() == 0) {
+            return null;
+        }
+        try {
+            return dateParser.parse(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+        } catch (DateTimeParseException e) {
+            throw ctxt.weirdStringException(p.getText(), LocalDateTime.class, e.getMessage());
+        }
+    }
+
+    private LocalDateTime parseDateTime(String text, DeserializationContext ctxt) throws IOException {
+        try {
+            return dateParser.parse(text);
+        } catch (DateTimeParseException e) {
+            throw ctxt.weirdStringException(text, LocalDateTime.class, e.getMessage());
+        }
+    }
+}
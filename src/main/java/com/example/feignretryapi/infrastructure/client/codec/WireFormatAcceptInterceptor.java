@@ -0,0 +1,29 @@
+package com.example.feignretryapi.infrastructure.client.codec;
+
+import com.example.feignretryapi.infrastructure.codec.WireFormat;
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+
+/**
+ * Pede à API externa o formato binário configurado, aceitando JSON com qualidade menor para que uma
+ * API sem suporte a ele continue respondendo. O {@link WireFormatDecoder} decodifica pelo Content-Type.
+ */
+public class WireFormatAcceptInterceptor implements RequestInterceptor {
+
+    static final String ACCEPT = "Accept";
+
+    private final String accept;
+
+    public WireFormatAcceptInterceptor(WireFormat format) {
+        this.accept = format == WireFormat.JSON
+                ? WireFormat.JSON.mediaType().toString()
+                : format.mediaType() + ", " + WireFormat.JSON.mediaType() + ";q=0.5";
+    }
+
+    @Override
+    public void apply(RequestTemplate template) {
+        if (!template.headers().containsKey(ACCEPT)) {
+            template.header(ACCEPT, accept);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.feignretryapi.infrastructure.client.codec;
+
+import com.example.feignretryapi.infrastructure.codec.WireFormat;
+import com.example.feignretryapi.infrastructure.codec.WireFormatMappers;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import feign.Response;
+import feign.codec.DecodeException;
+import feign.codec.Decoder;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+/**
+ * Decoder das respostas da API externa em JSON, CBOR ou Smile, escolhido pelo Content-Type da resposta, com os
+ * mappers de leitura da origem ({@link WireFormatMappers#upstreamMapper}). A API externa pode ignorar o Accept
+ * binário e responder JSON. Content-Type ausente ou malformado e qualquer tipo JSON ({@code application/json}
+ * ou com sufixo {@code +json}) são lidos como JSON pelo mapper da origem, para que o Product seja lido no layout
+ * da API externa; só respostas sem corpo ou com outros tipos (ex.: {@code text/plain}) seguem para o delegate.
+ * Um corpo vazio é decodificado como null, como no SpringDecoder.
+ */
+public class WireFormatDecoder implements Decoder {
+
+    private final Decoder delegate;
+    private final WireFormatMappers mappers;
+
+    public WireFormatDecoder(Decoder delegate, WireFormatMappers mappers) {
+        this.delegate = delegate;
+        this.mappers = mappers;
+    }
+
+    @Override
+    public Object decode(Response response, Type type) throws IOException, FeignException {
+        String contentType = contentType(response);
+        WireFormat format = WireFormat.forContentType(contentType);
+        if (response.body() == null || (format == WireFormat.JSON && !isJson(contentType))) {
+            return delegate.decode(response, type);
+        }
+        ObjectMapper mapper = mappers.upstreamMapper(format);
+        try (InputStream body = response.body().asInputStream();
+             JsonParser parser = mapper.createParser(body)) {
+            if (parser.nextToken() == null) {
+                return null;
+            }
+            return mapper.readValue(parser, mapper.constructType(type));
+        } catch (IOException e) {
+            throw new DecodeException(response.status(),
+                    "Falha ao decodificar resposta " + format + ": " + e.getMessage(), response.request(), e);
+        }
+    }
+
+    /**
+     * Content-Type lido como JSON: ausente, malformado, compatível com {@code application/json} ou com
+     * sufixo {@code +json} (ex.: {@code application/vnd.api+json}).
+     */
+    private static boolean isJson(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return true;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return WireFormat.JSON.mediaType().isCompatibleWith(mediaType)
+                    || "json".equalsIgnoreCase(mediaType.getSubtypeSuffix());
+        } catch (InvalidMediaTypeException e) {
+            return true;
+        }
+    }
+
+    static String contentType(Response response) {
+        Collection<String> values = response.headers().get("Content-Type");
+        return values == null || values.isEmpty() ? null : values.iterator().next();
+    }
+}
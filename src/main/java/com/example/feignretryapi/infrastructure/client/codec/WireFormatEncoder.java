@@ -0,0 +1,45 @@
+package com.example.feignretryapi.infrastructure.client.codec;
+
+import com.example.feignretryapi.infrastructure.codec.WireFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.RequestTemplate;
+import feign.codec.EncodeException;
+import feign.codec.Encoder;
+
+import java.lang.reflect.Type;
+
+/**
+ * Encoder dos corpos enviados à API externa no formato configurado em external-api.wire-format.
+ * Em JSON, e para corpos nulos, usa o delegate (o encoder padrão do Spring Cloud OpenFeign).
+ */
+public class WireFormatEncoder implements Encoder {
+
+    static final String CONTENT_TYPE = "Content-Type";
+
+    private final WireFormat format;
+    private final ObjectMapper mapper;
+    private final Encoder delegate;
+
+    public WireFormatEncoder(WireFormat format, ObjectMapper mapper, Encoder delegate) {
+        this.format = format;
+        this.mapper = mapper;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void encode(Object object, Type bodyType, RequestTemplate template) throws EncodeException {
+        if (format == WireFormat.JSON || object == null) {
+            delegate.encode(object, bodyType, template);
+            return;
+        }
+        try {
+            byte[] body = mapper.writerFor(mapper.constructType(bodyType)).writeValueAsBytes(object);
+            template.removeHeader(CONTENT_TYPE);
+            template.header(CONTENT_TYPE, format.mediaType().toString());
+            template.body(body, null);
+        } catch (JsonProcessingException e) {
+            throw new EncodeException("Falha ao codificar corpo em " + format + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.feignretryapi.infrastructure.client.conditional;
+
+import feign.AsyncClient;
+import feign.Request;
+import feign.Response;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Variante do {@link ConditionalGetClient} para o AsyncFeign, com o mesmo {@link ConditionalGetCache}:
+ * as respostas guardadas por uma chamada síncrona também validam as assíncronas, e vice-versa.
+ */
+public class ConditionalGetAsyncClient implements AsyncClient<Object> {
+
+    private final AsyncClient<Object> delegate;
+    private final ConditionalGetCache cache;
+
+    public ConditionalGetAsyncClient(AsyncClient<Object> delegate, ConditionalGetCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public CompletableFuture<Response> execute(Request request, Request.Options options,
+                                               Optional<Object> requestContext) {
+        ConditionalGetCache.Entry entry = ConditionalGetClient.storedEntry(request, cache);
+        if (entry == null) {
+            return delegate.execute(request, options, requestContext);
+        }
+        return delegate.execute(ConditionalGetClient.conditional(request, entry), options, requestContext)
+                .thenApply(response -> ConditionalGetClient.revalidated(response, entry, cache));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.feignretryapi.infrastructure.client.conditional;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Respostas GET já decodificadas, guardadas por URL junto com os validadores (ETag / Last-Modified)
+ * enviados pela API externa. Compartilhado pelo {@link ConditionalGetClient}, que envia os validadores,
+ * e pelo {@link ConditionalGetDecoder}, que devolve o corpo guardado quando a resposta é 304.
+ */
+public class ConditionalGetCache {
+
+    private final Cache<String, Entry> entries;
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder modified = new LongAdder();
+
+    /**
+     * @param url          URL completa da requisição
+     * @param etag         valor do header ETag, ou null
+     * @param lastModified valor do header Last-Modified, ou null
+     * @param body         corpo já decodificado
+     */
+    public record Entry(String url, String etag, String lastModified, Object body) {
+    }
+
+    public ConditionalGetCache(long maximumSize) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    public Entry get(String url) {
+        return entries.getIfPresent(url);
+    }
+
+    void put(Entry entry) {
+        entries.put(entry.url(), entry);
+    }
+
+    void recordNotModified() {
+        notModified.increment();
+    }
+
+    void recordModified() {
+        modified.increment();
+    }
+
+    /**
+     * Respostas 304: corpo não transferido nem decodificado.
+     */
+    public long getNotModified() {
+        return notModified.sum();
+    }
+
+    /**
+     * Respostas 200 a requisições condicionais (o recurso mudou).
+     */
+    public long getModified() {
+        return modified.sum();
+    }
+
+    public long getSize() {
+        return entries.estimatedSize();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.feignretryapi.infrastructure.client.conditional;
+
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Client Feign que transforma GETs com resposta guardada em requisições condicionais
+ * (If-None-Match / If-Modified-Since).
+ * Um 304 é devolvido ao Feign como 200 sem corpo, marcado com {@link #NOT_MODIFIED_HEADER}, para
+ * que o {@link ConditionalGetDecoder} entregue o corpo guardado sem passar pelo Jackson e para que
+ * circuit breaker e limitador de concorrência o vejam como sucesso.
+ * Métodos que devolvem o {@link Response} cru não passam pelo decoder e nunca são condicionais.
+ */
+public class ConditionalGetClient implements Client {
+
+    static final String NOT_MODIFIED_HEADER = "X-Conditional-Get-Not-Modified";
+
+    private final Client delegate;
+    private final ConditionalGetCache cache;
+
+    public ConditionalGetClient(Client delegate, ConditionalGetCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        ConditionalGetCache.Entry entry = storedEntry(request, cache);
+        if (entry == null) {
+            return delegate.execute(request, options);
+        }
+        return revalidated(delegate.execute(conditional(request, entry), options), entry, cache);
+    }
+
+    /**
+     * Resposta guardada para um GET decodificado, que torna a requisição condicional; null se não houver.
+     */
+    static ConditionalGetCache.Entry storedEntry(Request request, ConditionalGetCache cache) {
+        return request.httpMethod() == Request.HttpMethod.GET && isDecoded(request) ? cache.get(request.url()) : null;
+    }
+
+    /**
+     * Resposta da requisição condicional: um 304 vira 200 sem corpo, marcado para o decoder.
+     */
+    static Response revalidated(Response response, ConditionalGetCache.Entry entry, ConditionalGetCache cache) {
+        if (response.status() != 304) {
+            cache.recordModified();
+            return response;
+        }
+
+        cache.recordNotModified();
+        // reinsere a entrada: o decoder a lê logo em seguida, e ela acabou de ser confirmada como atual
+        cache.put(entry);
+        response.close();
+        Map<String, Collection<String>> headers = new LinkedHashMap<>(response.headers());
+        headers.put(NOT_MODIFIED_HEADER, List.of("true"));
+        return response.toBuilder()
+                .status(200)
+                .reason("Not Modified")
+                .headers(headers)
+                .body((Response.Body) null)
+                .build();
+    }
+
+    private static boolean isDecoded(Request request) {
+        RequestTemplate template = request.requestTemplate();
+        return template == null || template.methodMetadata() == null
+                || template.methodMetadata().returnType() != Response.class;
+    }
+
+    static Request conditional(Request request, ConditionalGetCache.Entry entry) {
+        Map<String, Collection<String>> headers = new LinkedHashMap<>(request.headers());
+        if (entry.etag() != null) {
+            headers.put("If-None-Match", List.of(entry.etag()));
+        }
+        if (entry.lastModified() != null) {
+            headers.put("If-Modified-Since", List.of(entry.lastModified()));
+        }
+        return Request.create(request.httpMethod(), request.url(), headers, request.body(), request.charset(),
+                request.requestTemplate());
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.feignretryapi.infrastructure.client.conditional;
+
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import feign.RetryableException;
+import feign.codec.Decoder;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+/**
+ * Decoder que guarda as respostas GET com ETag ou Last-Modified no {@link ConditionalGetCache}
+ * e, nas respostas marcadas como não modificadas pelo {@link ConditionalGetClient}, devolve o corpo
+ * guardado sem decodificar nada.
+ */
+public class ConditionalGetDecoder implements Decoder {
+
+    private final Decoder delegate;
+    private final ConditionalGetCache cache;
+
+    public ConditionalGetDecoder(Decoder delegate, ConditionalGetCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Object decode(Response response, Type type) throws IOException, FeignException {
+        Request request = response.request();
+        if (response.headers().containsKey(ConditionalGetClient.NOT_MODIFIED_HEADER)) {
+            ConditionalGetCache.Entry entry = cache.get(request.url());
+            if (entry == null) {
+                // descartada entre o 304 e a decodificação: o retry refaz a requisição sem validadores
+                throw new RetryableException(response.status(), "Resposta 304 sem corpo guardado para "
+                        + request.url(), request.httpMethod(), (Long) null, request);
+            }
+            return entry.body();
+        }
+
+        Object body = delegate.decode(response, type);
+        String etag = firstHeader(response, "ETag");
+        String lastModified = firstHeader(response, "Last-Modified");
+        if (request.httpMethod() == Request.HttpMethod.GET && body != null
+                && (etag != null || lastModified != null)) {
+            cache.put(new ConditionalGetCache.Entry(request.url(), etag, lastModified, body));
+        }
+        return body;
+    }
+
+    private static String firstHeader(Response response, String name) {
+        Collection<String> values = response.headers().get(name);
+        return values == null || values.isEmpty() ? null : values.iterator().next();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.feignretryapi.infrastructure.client.conditional;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Expõe o resultado das requisições condicionais como métricas do Micrometer.
+ * Disponíveis em /actuator/metrics/feign.conditional-get.*
+ */
+public class ConditionalGetMetrics implements MeterBinder {
+
+    private final ConditionalGetCache cache;
+
+    public ConditionalGetMetrics(ConditionalGetCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("feign.conditional-get.responses", cache, ConditionalGetCache::getNotModified)
+                .description("Respostas a requisições condicionais")
+                .tag("result", "not-modified")
+                .register(registry);
+        FunctionCounter.builder("feign.conditional-get.responses", cache, ConditionalGetCache::getModified)
+                .description("Respostas a requisições condicionais")
+                .tag("result", "modified")
+                .register(registry);
+        Gauge.builder("feign.conditional-get.entries", cache, ConditionalGetCache::getSize)
+                .description("Respostas guardadas com validadores")
+                .register(registry);
+    }
+}
@@ -8,6 +8,12 @@ import feign.codec.ErrorDecoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * Decoder customizado para tratar erros do Feign Client.
  * Determina quais erros são retryable e transforma em exceções apropriadas.
@@ -16,6 +22,8 @@ public class CustomErrorDecoder implements ErrorDecoder {
 
     private static final Logger logger = LoggerFactory.getLogger(CustomErrorDecoder.class);
 
+    private static final String RETRY_AFTER = "Retry-After";
+
     private final ErrorDecoder defaultErrorDecoder = new Default();
 
     @Override
@@ -67,16 +75,54 @@ public class CustomErrorDecoder implements ErrorDecoder {
 
     /**
      * Cria uma exceção RetryableException para permitir retry pelo Feign.
+     * O Retry-After da resposta, quando presente, define o instante mínimo do próximo retry.
      */
     private RetryableException createRetryableException(Response response, String methodKey, String message) {
         return new RetryableException(
                 response.status(),
                 message,
                 response.request().httpMethod(),
-                (Long) null,
+                parseRetryAfter(response, methodKey),
                 response.request());
     }
 
+    /**
+     * Converte o header Retry-After (segundos ou HTTP-date) em epoch millis.
+     *
+     * @return instante do próximo retry ou null se o header estiver ausente ou inválido
+     */
+    private Long parseRetryAfter(Response response, String methodKey) {
+        String value = firstHeader(response.headers(), RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        value = value.trim();
+        try {
+            if (value.chars().allMatch(Character::isDigit)) {
+                return System.currentTimeMillis() + Long.parseLong(value) * 1000;
+            }
+            return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (NumberFormatException | DateTimeParseException e) {
+            logger.warn("Retry-After inválido no método {}: {}", methodKey, value);
+            return null;
+        }
+    }
+
+    /**
+     * Busca o header ignorando maiúsculas/minúsculas.
+     */
+    private String firstHeader(Map<String, Collection<String>> headers, String name) {
+        if (headers == null) {
+            return null;
+        }
+        for (Map.Entry<String, Collection<String>> header : headers.entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey()) && !header.getValue().isEmpty()) {
+                return header.getValue().iterator().next();
+            }
+        }
+        return null;
+    }
+
     /**
      * Verifica se o status é um erro de servidor (5xx).
      */
@@ -0,0 +1,27 @@
+package com.example.feignretryapi.infrastructure.client.feign;
+
+import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.infrastructure.client.feign.dto.ExternalProductDto;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Client AsyncFeign para comunicação não bloqueante com a API externa de produtos.
+ * Usa os mesmos endpoints do {@link ExternalProductClient}, com as mesmas listagens lidas direto para
+ * {@link Product}; é criado pelo AsyncFeignConfig.
+ */
+public interface AsyncExternalProductClient {
+
+    @GetMapping("/api/products")
+    CompletableFuture<List<Product>> getAllProducts();
+
+    @GetMapping("/api/products/{id}")
+    CompletableFuture<ExternalProductDto> getProductById(@PathVariable("id") String id);
+
+    @GetMapping("/api/products/category")
+    CompletableFuture<List<Product>> getProductsByCategory(@RequestParam("category") String category);
+}
@@ -1,7 +1,9 @@
 package com.example.feignretryapi.infrastructure.client.feign;
 
+import com.example.feignretryapi.domain.entity.Product;
 import com.example.feignretryapi.infrastructure.client.feign.dto.ExternalProductDto;
 import com.example.feignretryapi.infrastructure.config.FeignConfig;
+import feign.Response;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -11,6 +13,8 @@ import java.util.List;
 
 /**
  * Feign Client para comunicação com a API externa de produtos.
+ * As listagens completas (catálogo e categoria) são lidas direto para {@link Product} pelo
+ * ExternalProductDeserializer, sem o ExternalProductDto; as demais consultas devolvem o DTO.
  */
 @FeignClient(
         name = "external-product-api",
@@ -20,11 +24,48 @@ import java.util.List;
 public interface ExternalProductClient {
 
     @GetMapping("/api/products")
-    List<ExternalProductDto> getAllProducts();
+    List<Product> getAllProducts();
+
+    /**
+     * Mesma consulta do getAllProducts, sem decodificação: a resposta volta aberta para leitura incremental
+     * pelo ExternalProductStreamer, que deve fechá-la.
+     */
+    @GetMapping("/api/products")
+    Response streamAllProducts();
 
     @GetMapping("/api/products/{id}")
     ExternalProductDto getProductById(@PathVariable("id") String id);
 
+    /**
+     * Busca vários produtos em uma única chamada (GET /api/products?ids=1&ids=2...).
+     * IDs inexistentes são omitidos da resposta.
+     */
+    @GetMapping("/api/products")
+    List<ExternalProductDto> getProductsByIds(@RequestParam("ids") List<String> ids);
+
+    /**
+     * Busca os produtos alterados a partir do instante informado, inclusive (GET /api/products?updatedSince=...),
+     * em formato ISO-8601 local, como o updated_at. Usado pela sincronização incremental do catálogo.
+     */
+    @GetMapping("/api/products")
+    List<ExternalProductDto> getProductsUpdatedSince(@RequestParam("updatedSince") String updatedSince);
+
+    /**
+     * Página do catálogo em ordem de ID (GET /api/products?limit=N&after=...): até {@code limit} produtos com ID
+     * maior que {@code after}, ou do início quando {@code after} é nulo.
+     */
+    @GetMapping("/api/products")
+    List<ExternalProductDto> getProductsPage(@RequestParam(value = "after", required = false) String after,
+                                             @RequestParam("limit") int limit);
+
+    @GetMapping("/api/products/category")
+    List<Product> getProductsByCategory(@RequestParam("category") String category);
+
+    /**
+     * Página dos produtos da categoria em ordem de ID, com a mesma semântica do getProductsPage.
+     */
     @GetMapping("/api/products/category")
-    List<ExternalProductDto> getProductsByCategory(@RequestParam("category") String category);
+    List<ExternalProductDto> getProductsByCategoryPage(@RequestParam("category") String category,
+                                                       @RequestParam(value = "after", required = false) String after,
+                                                       @RequestParam("limit") int limit);
 }
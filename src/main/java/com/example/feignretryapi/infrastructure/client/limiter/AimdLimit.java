@@ -0,0 +1,32 @@
+package com.example.feignretryapi.infrastructure.client.limiter;
+
+/**
+ * AIMD: soma 1 ao limite a cada chamada bem-sucedida e o multiplica por backoffRatio quando a chamada
+ * indica sobrecarga ou passa de latencyThreshold.
+ * O limite só cresce quando está de fato em uso (inflight >= limite / 2).
+ */
+public class AimdLimit implements LimitAlgorithm {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    public AimdLimit(int minLimit, int maxLimit, double backoffRatio, long latencyThresholdNanos) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+    }
+
+    @Override
+    public int update(int currentLimit, long rttNanos, int inflight, boolean dropped) {
+        if (dropped || rttNanos > latencyThresholdNanos) {
+            return Math.max(minLimit, (int) (currentLimit * backoffRatio));
+        }
+        if (inflight * 2 >= currentLimit) {
+            return Math.min(maxLimit, currentLimit + 1);
+        }
+        return currentLimit;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.feignretryapi.infrastructure.client.limiter;
+
+import com.example.feignretryapi.domain.exception.CircuitBreakerOpenException;
+import feign.AsyncClient;
+import feign.Request;
+import feign.Response;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Variante do {@link ConcurrencyLimitClient} para o AsyncFeign, com as mesmas regras de amostra e liberação.
+ * A vaga é obtida na thread chamadora (que pode aguardar até max-queue-wait na fila) e liberada quando o
+ * corpo da resposta é fechado.
+ */
+public class ConcurrencyLimitAsyncClient implements AsyncClient<Object> {
+
+    private final AsyncClient<Object> delegate;
+    private final ConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitAsyncClient(AsyncClient<Object> delegate, ConcurrencyLimiter limiter) {
+        this.delegate = delegate;
+        this.limiter = limiter;
+    }
+
+    @Override
+    public CompletableFuture<Response> execute(Request request, Request.Options options,
+                                               Optional<Object> requestContext) {
+        ConcurrencyLimiter.Permit permit = limiter.acquire();
+        CompletableFuture<Response> response;
+        try {
+            response = delegate.execute(request, options, requestContext);
+        } catch (CircuitBreakerOpenException e) {
+            permit.onIgnore();
+            throw e;
+        } catch (RuntimeException e) {
+            permit.onDropped();
+            throw e;
+        }
+        return response.handle((result, error) -> {
+            if (error == null) {
+                return ConcurrencyLimitClient.releaseOnClose(result, permit);
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause()
+                    : error;
+            if (cause instanceof CircuitBreakerOpenException) {
+                permit.onIgnore();
+            } else {
+                permit.onDropped();
+            }
+            throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+        });
+    }
+
+    public AsyncClient<Object> getDelegate() {
+        return delegate;
+    }
+}
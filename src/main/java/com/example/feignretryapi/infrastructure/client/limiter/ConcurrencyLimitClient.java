@@ -0,0 +1,146 @@
+package com.example.feignretryapi.infrastructure.client.limiter;
+
+import com.example.feignretryapi.domain.exception.CircuitBreakerOpenException;
+import com.example.feignretryapi.infrastructure.client.transport.CancelledCalls;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Client do Feign que obtém uma vaga no {@link ConcurrencyLimiter} antes de cada chamada.
+ * Respostas 429, 503 e 504 e falhas de I/O são tratadas como sinal de sobrecarga;
+ * chamadas rejeitadas pelo circuit breaker ou canceladas pela aplicação (thread interrompida, ex.: a tentativa
+ * perdedora do hedging) liberam a vaga sem gerar amostra.
+ * <p>
+ * A vaga é liberada quando o corpo da resposta é fechado (ou logo, se não houver corpo): a amostra de latência
+ * inclui a transferência do corpo e uma resposta lida em streaming ocupa a vaga até o fim da leitura.
+ */
+public class ConcurrencyLimitClient implements Client {
+
+    private final Client delegate;
+    private final ConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitClient(Client delegate, ConcurrencyLimiter limiter) {
+        this.delegate = delegate;
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        ConcurrencyLimiter.Permit permit = limiter.acquire();
+        Response response;
+        try {
+            response = delegate.execute(request, options);
+        } catch (CircuitBreakerOpenException e) {
+            permit.onIgnore();
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            if (CancelledCalls.isCancellation(e)) {
+                permit.onIgnore();
+            } else {
+                permit.onDropped();
+            }
+            throw e;
+        }
+        return releaseOnClose(response, permit);
+    }
+
+    /**
+     * Devolve a resposta com a vaga vinculada ao fechamento do corpo; sem corpo, a vaga é liberada já.
+     * Fechado por uma thread interrompida (leitura cancelada), o corpo libera a vaga sem amostra.
+     */
+    static Response releaseOnClose(Response response, ConcurrencyLimiter.Permit permit) {
+        boolean overloaded = isOverloaded(response.status());
+        Runnable release = () -> {
+            if (Thread.currentThread().isInterrupted()) {
+                permit.onIgnore();
+            } else if (overloaded) {
+                permit.onDropped();
+            } else {
+                permit.onSuccess();
+            }
+        };
+        if (response.body() == null) {
+            release.run();
+            return response;
+        }
+        return response.toBuilder()
+                .body(new PermitReleasingBody(response.body(), release))
+                .build();
+    }
+
+    private static boolean isOverloaded(int status) {
+        return status == 429 || status == 503 || status == 504;
+    }
+
+    public Client getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Corpo que libera a vaga uma única vez, ao ser fechado ou ao fechar o stream ou reader obtido dele.
+     */
+    private static final class PermitReleasingBody implements Response.Body {
+
+        private final Response.Body delegate;
+        private final Runnable release;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        PermitReleasingBody(Response.Body delegate, Runnable release) {
+            this.delegate = delegate;
+            this.release = release;
+        }
+
+        @Override
+        public Integer length() {
+            return delegate.length();
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return delegate.isRepeatable();
+        }
+
+        @Override
+        public InputStream asInputStream() throws IOException {
+            return new FilterInputStream(delegate.asInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        release();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public Reader asReader(Charset charset) throws IOException {
+            return new InputStreamReader(asInputStream(), charset);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                delegate.close();
+            } finally {
+                release();
+            }
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                release.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.feignretryapi.infrastructure.client.limiter;
+
+import com.example.feignretryapi.domain.exception.ConcurrencyLimitExceededException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limitador adaptativo de chamadas simultâneas à API externa.
+ * O limite é recalculado pelo {@link LimitAlgorithm} a cada chamada concluída, descobrindo a capacidade
+ * da API externa em tempo de execução. Acima do limite, a chamada aguarda em uma fila limitada
+ * (maxQueueSize, maxQueueWait) e depois é rejeitada com {@link ConcurrencyLimitExceededException}.
+ * O caminho sem espera é lock-free; a fila usa ReentrantLock (sem synchronized, não prende virtual threads).
+ */
+public class ConcurrencyLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimiter.class);
+
+    private final ConcurrencyLimiterSettings settings;
+    private final LimitAlgorithm algorithm;
+
+    private final AtomicInteger limit;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    private final ReentrantLock queueLock = new ReentrantLock();
+    private final Condition permitReleased = queueLock.newCondition();
+
+    private final LongAdder queuedCalls = new LongAdder();
+    private final LongAdder queueDelayNanos = new LongAdder();
+    private final LongAdder rejectedCalls = new LongAdder();
+
+    /**
+     * Vaga obtida no limitador; deve ser liberada com exatamente um dos métodos on*.
+     */
+    public final class Permit {
+
+        private final long startNanos = System.nanoTime();
+        private final int inflightAtStart;
+
+        private Permit(int inflightAtStart) {
+            this.inflightAtStart = inflightAtStart;
+        }
+
+        /**
+         * Chamada concluída: a latência alimenta o algoritmo.
+         */
+        public void onSuccess() {
+            release(this, false);
+        }
+
+        /**
+         * Chamada indicou sobrecarga (timeout, I/O, 429/503/504).
+         */
+        public void onDropped() {
+            release(this, true);
+        }
+
+        /**
+         * Chamada não chegou à API externa: libera a vaga sem amostra.
+         */
+        public void onIgnore() {
+            inflight.decrementAndGet();
+            signalWaiter();
+        }
+    }
+
+    public ConcurrencyLimiter(ConcurrencyLimiterSettings settings, LimitAlgorithm algorithm) {
+        this.settings = settings;
+        this.algorithm = algorithm;
+        this.limit = new AtomicInteger(settings.initialLimit());
+    }
+
+    /**
+     * Obtém uma vaga, aguardando na fila se necessário.
+     *
+     * @throws ConcurrencyLimitExceededException se a fila estiver cheia ou o tempo de espera acabar
+     */
+    public Permit acquire() {
+        int current = tryAcquire();
+        if (current >= 0) {
+            return new Permit(current);
+        }
+        return acquireQueued();
+    }
+
+    private Permit acquireQueued() {
+        if (waiting.incrementAndGet() > settings.maxQueueSize()) {
+            waiting.decrementAndGet();
+            throw reject();
+        }
+        long start = System.nanoTime();
+        long remaining = TimeUnit.MILLISECONDS.toNanos(settings.maxQueueWait());
+        queueLock.lock();
+        try {
+            int current;
+            while ((current = tryAcquire()) < 0) {
+                if (remaining <= 0) {
+                    throw reject();
+                }
+                remaining = permitReleased.awaitNanos(remaining);
+            }
+            queuedCalls.increment();
+            queueDelayNanos.add(System.nanoTime() - start);
+            return new Permit(current);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject();
+        } finally {
+            queueLock.unlock();
+            waiting.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return chamadas em andamento antes desta, ou -1 se o limite foi atingido
+     */
+    private int tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= limit.get()) {
+                return -1;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    private ConcurrencyLimitExceededException reject() {
+        rejectedCalls.increment();
+        logger.warn("Chamada à API externa rejeitada: limite de concorrência {} atingido ({} em andamento)",
+                limit.get(), inflight.get());
+        return new ConcurrencyLimitExceededException(limit.get());
+    }
+
+    private void release(Permit permit, boolean dropped) {
+        long rtt = System.nanoTime() - permit.startNanos;
+        int previous = limit.get();
+        int updated = algorithm.update(previous, rtt, permit.inflightAtStart, dropped);
+        if (updated != previous && limit.compareAndSet(previous, updated)) {
+            logger.debug("Limite de concorrência ajustado de {} para {}", previous, updated);
+        }
+        inflight.decrementAndGet();
+        signalWaiter();
+    }
+
+    private void signalWaiter() {
+        if (waiting.get() == 0) {
+            return;
+        }
+        queueLock.lock();
+        try {
+            permitReleased.signalAll();
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        return limit.get();
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    public long getQueuedCalls() {
+        return queuedCalls.sum();
+    }
+
+    /**
+     * Tempo total aguardado na fila pelas chamadas que obtiveram vaga (nanos).
+     */
+    public double getQueueDelayNanos() {
+        return queueDelayNanos.sum();
+    }
+
+    public long getRejectedCalls() {
+        return rejectedCalls.sum();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.feignretryapi.infrastructure.client.limiter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Expõe o estado do {@link ConcurrencyLimiter} como métricas do Micrometer.
+ * Disponíveis em /actuator/metrics/feign.concurrency.*
+ */
+public class ConcurrencyLimiterMetrics implements MeterBinder {
+
+    private final ConcurrencyLimiter limiter;
+
+    public ConcurrencyLimiterMetrics(ConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("feign.concurrency.limit", limiter, ConcurrencyLimiter::getLimit)
+                .description("Limite atual de chamadas simultâneas à API externa")
+                .register(registry);
+        Gauge.builder("feign.concurrency.inflight", limiter, ConcurrencyLimiter::getInflight)
+                .description("Chamadas em andamento")
+                .register(registry);
+        Gauge.builder("feign.concurrency.waiting", limiter, ConcurrencyLimiter::getWaiting)
+                .description("Chamadas aguardando vaga")
+                .register(registry);
+        FunctionTimer.builder("feign.concurrency.queue.delay", limiter,
+                        ConcurrencyLimiter::getQueuedCalls, ConcurrencyLimiter::getQueueDelayNanos,
+                        TimeUnit.NANOSECONDS)
+                .description("Tempo de espera na fila das chamadas que obtiveram vaga")
+                .register(registry);
+        FunctionCounter.builder("feign.concurrency.rejected", limiter, ConcurrencyLimiter::getRejectedCalls)
+                .description("Chamadas rejeitadas por limite de concorrência")
+                .register(registry);
+    }
+}
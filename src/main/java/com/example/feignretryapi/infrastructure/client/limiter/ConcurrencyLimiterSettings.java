@@ -0,0 +1,26 @@
+package com.example.feignretryapi.infrastructure.client.limiter;
+
+/**
+ * Configurações do limitador adaptativo de concorrência.
+ *
+ * @param initialLimit limite inicial de chamadas simultâneas
+ * @param minLimit     menor limite permitido
+ * @param maxLimit     maior limite permitido
+ * @param maxQueueSize chamadas que podem aguardar vaga (0 = rejeita imediatamente)
+ * @param maxQueueWait tempo máximo de espera por vaga (ms)
+ */
+public record ConcurrencyLimiterSettings(
+        int initialLimit,
+        int minLimit,
+        int maxLimit,
+        int maxQueueSize,
+        long maxQueueWait
+) {
+
+    public ConcurrencyLimiterSettings {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limites de concorrência inválidos: inicial " + initialLimit
+                    + ", mínimo " + minLimit + ", máximo " + maxLimit);
+        }
+    }
+}
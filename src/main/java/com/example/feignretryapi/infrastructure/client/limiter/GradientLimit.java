@@ -0,0 +1,84 @@
+package com.example.feignretryapi.infrastructure.client.limiter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limite baseado no gradiente de latência (estilo Gradient2).
+ * Mantém uma média exponencial de longo prazo da latência; quando a latência atual sobe acima dela
+ * (fila se formando na API externa), o gradiente longRtt / rtt cai abaixo de 1 e o limite encolhe.
+ * Com latência estável o limite cresce pela folga de fila (raiz quadrada do limite); em sobrecarga
+ * aplica o gradiente mínimo, sem folga.
+ */
+public class GradientLimit implements LimitAlgorithm {
+
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final int longWindow;
+
+    /**
+     * Latência de longo prazo em nanos, armazenada como bits de double.
+     */
+    private final AtomicLong longRtt = new AtomicLong(Double.doubleToLongBits(0));
+
+    /**
+     * @param tolerance  quanto a latência pode subir em relação à de longo prazo antes de reduzir o limite
+     * @param smoothing  peso do novo limite calculado (0..1)
+     * @param longWindow número de amostras da média de longo prazo
+     */
+    public GradientLimit(int minLimit, int maxLimit, double tolerance, double smoothing, int longWindow) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.longWindow = longWindow;
+    }
+
+    @Override
+    public int update(int currentLimit, long rttNanos, int inflight, boolean dropped) {
+        double shortRtt = Math.max(1, rttNanos);
+        double longTerm = updateLongRtt(shortRtt);
+
+        // Limite ocioso: amostra não diz nada sobre a capacidade da API externa
+        if (!dropped && inflight * 2 < currentLimit) {
+            return currentLimit;
+        }
+
+        double gradient = dropped
+                ? MIN_GRADIENT
+                : Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longTerm / shortRtt));
+        double queueSize = dropped ? 0 : Math.sqrt(currentLimit);
+        double newLimit = currentLimit * gradient + queueSize;
+        newLimit = currentLimit * (1 - smoothing) + newLimit * smoothing;
+        return (int) Math.max(minLimit, Math.min(maxLimit, Math.round(newLimit)));
+    }
+
+    private double updateLongRtt(double sample) {
+        long previousBits;
+        double updated;
+        do {
+            previousBits = longRtt.get();
+            double previous = Double.longBitsToDouble(previousBits);
+            if (previous == 0) {
+                updated = sample;
+            } else {
+                updated = previous + (sample - previous) / longWindow;
+                // Recupera rapidamente quando a latência cai bastante abaixo da média antiga
+                if (updated / sample > 2) {
+                    updated *= 0.95;
+                }
+            }
+        } while (!longRtt.compareAndSet(previousBits, Double.doubleToLongBits(updated)));
+        return updated;
+    }
+
+    /**
+     * Latência de longo prazo atual em nanos.
+     */
+    public double getLongRttNanos() {
+        return Double.longBitsToDouble(longRtt.get());
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.feignretryapi.infrastructure.client.limiter;
+
+/**
+ * Algoritmo que ajusta o limite de concorrência a partir das amostras de latência das chamadas.
+ */
+public interface LimitAlgorithm {
+
+    /**
+     * Calcula o novo limite após uma chamada.
+     *
+     * @param currentLimit limite atual
+     * @param rttNanos     latência da chamada
+     * @param inflight     chamadas em andamento quando a chamada começou
+     * @param dropped      true se a chamada indicou sobrecarga (timeout, I/O, 429/503/504)
+     * @return novo limite
+     */
+    int update(int currentLimit, long rttNanos, int inflight, boolean dropped);
+}
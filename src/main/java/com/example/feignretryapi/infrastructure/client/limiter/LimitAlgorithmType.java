@@ -0,0 +1,29 @@
+package com.example.feignretryapi.infrastructure.client.limiter;
+
+import java.util.Locale;
+
+/**
+ * Algoritmos de limite adaptativo disponíveis.
+ */
+public enum LimitAlgorithmType {
+
+    /**
+     * Additive increase / multiplicative decrease, guiado por sobrecarga e latência acima de um limiar.
+     */
+    AIMD,
+
+    /**
+     * Gradiente entre a latência de longo prazo e a atual (estilo Gradient2).
+     */
+    GRADIENT;
+
+    /**
+     * Converte o valor configurado (ex.: "gradient") para o enum.
+     */
+    public static LimitAlgorithmType from(String value) {
+        if (value == null || value.isBlank()) {
+            return GRADIENT;
+        }
+        return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+    }
+}
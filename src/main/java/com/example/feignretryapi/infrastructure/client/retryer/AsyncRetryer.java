@@ -0,0 +1,150 @@
+package com.example.feignretryapi.infrastructure.client.retryer;
+
+import feign.RetryableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Motor de retry assíncrono.
+ * Aplica a mesma política do {@link CustomRetryer} (tentativas, {@link BackoffStrategy}, Retry-After
+ * e {@link RetryBudget}), mas agenda cada nova tentativa em um {@link ScheduledExecutorService}
+ * compartilhado em vez de bloquear a thread com Thread.sleep. Milhares de retries em andamento
+ * ocupam apenas as poucas threads do agendador.
+ */
+public class AsyncRetryer {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncRetryer.class);
+
+    private final ScheduledExecutorService scheduler;
+    private final int maxAttempts;
+    private final BackoffStrategy backoffStrategy;
+    private final long maxRetryAfter;
+    private final RetryBudget retryBudget;
+
+    public AsyncRetryer(ScheduledExecutorService scheduler, int maxAttempts, long backoffPeriod) {
+        this(scheduler, maxAttempts, BackoffStrategy.exponential(backoffPeriod), CustomRetryer.DEFAULT_MAX_RETRY_AFTER);
+    }
+
+    public AsyncRetryer(ScheduledExecutorService scheduler, int maxAttempts,
+                        BackoffStrategy backoffStrategy, long maxRetryAfter) {
+        this(scheduler, maxAttempts, backoffStrategy, maxRetryAfter, RetryBudget.unlimited());
+    }
+
+    public AsyncRetryer(ScheduledExecutorService scheduler, int maxAttempts,
+                        BackoffStrategy backoffStrategy, long maxRetryAfter, RetryBudget retryBudget) {
+        this.scheduler = scheduler;
+        this.maxAttempts = maxAttempts;
+        this.backoffStrategy = backoffStrategy;
+        this.maxRetryAfter = maxRetryAfter;
+        this.retryBudget = retryBudget;
+    }
+
+    /**
+     * Executa a ação com retry.
+     * A ação deve ser não bloqueante: cada chamada inicia uma nova tentativa e devolve seu futuro.
+     *
+     * @param action fornecedor de uma nova tentativa
+     * @return futuro com o resultado da primeira tentativa bem-sucedida ou a última falha
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> action) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        retryBudget.recordRequest();
+        attempt(action, 1, 0, result);
+        return result;
+    }
+
+    private <T> void attempt(Supplier<CompletableFuture<T>> action, int attempt, long previousDelay,
+                             CompletableFuture<T> result) {
+        if (result.isDone()) {
+            // Chamador cancelou ou já completou o futuro: não inicia novas tentativas
+            return;
+        }
+
+        CompletableFuture<T> current;
+        try {
+            current = action.get();
+        } catch (RuntimeException e) {
+            current = CompletableFuture.failedFuture(e);
+        }
+
+        current.whenComplete((value, error) -> {
+            if (error == null) {
+                result.complete(value);
+                return;
+            }
+
+            Throwable cause = unwrap(error);
+            if (!(cause instanceof RetryableException retryable)) {
+                result.completeExceptionally(cause);
+                return;
+            }
+
+            if (attempt >= maxAttempts) {
+                logger.error("Número máximo de tentativas alcançado ({}) para a requisição. Erro: {}",
+                        maxAttempts, retryable.getMessage());
+                result.completeExceptionally(retryable);
+                return;
+            }
+
+            long retryAfterDelay = CustomRetryer.retryAfterDelay(retryable);
+            if (retryAfterDelay > maxRetryAfter) {
+                logger.error("Retry-After de {}ms excede o limite de {}ms. Não será realizado retry. Erro: {}",
+                        retryAfterDelay, maxRetryAfter, retryable.getMessage());
+                result.completeExceptionally(retryable);
+                return;
+            }
+
+            if (!retryBudget.tryAcquireRetry()) {
+                logger.error("Orçamento global de retries esgotado. Não será realizado retry. Erro: {}",
+                        retryable.getMessage());
+                result.completeExceptionally(retryable);
+                return;
+            }
+
+            int nextAttempt = attempt + 1;
+            long waitTime = Math.max(backoffStrategy.nextDelay(nextAttempt, previousDelay), retryAfterDelay);
+            logger.warn("Tentativa {} de {}. Agendando próximo retry em {}ms. Motivo: {}",
+                    nextAttempt, maxAttempts, waitTime, retryable.getMessage());
+
+            try {
+                scheduler.schedule(() -> attempt(action, nextAttempt, waitTime, result),
+                        waitTime, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException rejected) {
+                // Agendador encerrado (shutdown da aplicação): propaga a última falha
+                result.completeExceptionally(retryable);
+            }
+        });
+    }
+
+    /**
+     * Remove os wrappers de CompletionException/ExecutionException adicionados pelos futuros.
+     */
+    public static Throwable unwrap(Throwable error) {
+        Throwable current = error;
+        while ((current instanceof CompletionException || current instanceof ExecutionException)
+                && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public long getBackoffPeriod() {
+        return backoffStrategy.baseDelay();
+    }
+
+    public BackoffStrategy getBackoffStrategy() {
+        return backoffStrategy;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.feignretryapi.infrastructure.client.retryer;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Política de backoff compartilhada pelo {@link CustomRetryer} e pelo {@link AsyncRetryer}.
+ * Toda espera calculada é limitada por maxDelay.
+ *
+ * @param type      estratégia de backoff
+ * @param baseDelay espera base (ms)
+ * @param maxDelay  teto de qualquer espera calculada (ms)
+ */
+public record BackoffStrategy(BackoffType type, long baseDelay, long maxDelay) {
+
+    /**
+     * Teto usado quando nenhum é configurado.
+     */
+    public static final long DEFAULT_MAX_DELAY = 30_000;
+
+    public BackoffStrategy {
+        if (baseDelay < 0 || maxDelay < baseDelay) {
+            throw new IllegalArgumentException(
+                    "Backoff inválido: base " + baseDelay + "ms, teto " + maxDelay + "ms");
+        }
+    }
+
+    /**
+     * Backoff exponencial sem jitter com o teto padrão.
+     */
+    public static BackoffStrategy exponential(long baseDelay) {
+        return new BackoffStrategy(BackoffType.EXPONENTIAL, baseDelay, Math.max(baseDelay, DEFAULT_MAX_DELAY));
+    }
+
+    /**
+     * Calcula a espera antes da tentativa informada.
+     *
+     * @param attempt       número da próxima tentativa (2 para o primeiro retry)
+     * @param previousDelay espera aplicada antes da tentativa anterior (0 se não houve)
+     * @return tempo de espera em milissegundos
+     */
+    public long nextDelay(int attempt, long previousDelay) {
+        return switch (type) {
+            case EXPONENTIAL -> exponentialDelay(attempt);
+            case FULL_JITTER -> random(0, exponentialDelay(attempt));
+            case EQUAL_JITTER -> {
+                long half = exponentialDelay(attempt) / 2;
+                yield half + random(0, half);
+            }
+            case DECORRELATED_JITTER -> {
+                long previous = Math.max(baseDelay, previousDelay);
+                long upper = previous > maxDelay / 3 ? maxDelay : previous * 3;
+                yield Math.min(maxDelay, random(baseDelay, upper));
+            }
+            case FIXED -> baseDelay;
+            case LINEAR -> baseDelay > maxDelay / Math.max(1, attempt) ? maxDelay : baseDelay * attempt;
+        };
+    }
+
+    /**
+     * min(maxDelay, baseDelay * 2^(attempt-1)), sem overflow para tentativas altas.
+     */
+    private long exponentialDelay(int attempt) {
+        int shift = Math.max(0, attempt - 1);
+        if (shift >= Long.SIZE - 2 || baseDelay > (maxDelay >> shift)) {
+            return maxDelay;
+        }
+        return baseDelay << shift;
+    }
+
+    private static long random(long origin, long bound) {
+        return bound <= origin ? origin : ThreadLocalRandom.current().nextLong(origin, bound + 1);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.feignretryapi.infrastructure.client.retryer;
+
+import java.util.Locale;
+
+/**
+ * Estratégias de backoff disponíveis para os retryers.
+ * As variantes com jitter espalham os retries de clientes que falharam ao mesmo tempo,
+ * evitando que todos voltem à API externa em ondas sincronizadas.
+ */
+public enum BackoffType {
+
+    /**
+     * Exponencial sem jitter: base * 2^(tentativa-1).
+     */
+    EXPONENTIAL,
+
+    /**
+     * Full jitter: valor aleatório entre 0 e o exponencial.
+     */
+    FULL_JITTER,
+
+    /**
+     * Equal jitter: metade do exponencial mais um valor aleatório até a outra metade.
+     */
+    EQUAL_JITTER,
+
+    /**
+     * Decorrelated jitter: valor aleatório entre a base e o triplo da espera anterior.
+     */
+    DECORRELATED_JITTER,
+
+    /**
+     * Espera fixa igual à base.
+     */
+    FIXED,
+
+    /**
+     * Crescimento linear: base * tentativa.
+     */
+    LINEAR;
+
+    /**
+     * Converte o valor configurado (ex.: "full-jitter") para o enum.
+     */
+    public static BackoffType from(String value) {
+        if (value == null || value.isBlank()) {
+            return EXPONENTIAL;
+        }
+        return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+    }
+}
@@ -7,32 +7,72 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Implementação customizada do Feign Retryer.
- * Realiza tentativas de retry com backoff exponencial.
+ * Realiza tentativas de retry com a {@link BackoffStrategy} configurada e respeita o
+ * Retry-After informado pela API externa (preenchido pelo CustomErrorDecoder).
+ * Cada retry consome um token do {@link RetryBudget} global; sem tokens, a falha é propagada.
+ * Uma chamada cancelada pela aplicação (thread interrompida) é propagada sem retry e sem consumir o orçamento.
  */
 public class CustomRetryer implements Retryer {
 
     private static final Logger logger = LoggerFactory.getLogger(CustomRetryer.class);
 
+    /**
+     * Maior Retry-After aceito quando nenhum limite é configurado.
+     */
+    public static final long DEFAULT_MAX_RETRY_AFTER = 60_000;
+
     private final int maxAttempts;
-    private final long backoffPeriod;
+    private final BackoffStrategy backoffStrategy;
+    private final long maxRetryAfter;
+    private final RetryBudget retryBudget;
     private int attempt;
+    private long previousDelay;
 
     public CustomRetryer(int maxAttempts, long backoffPeriod) {
+        this(maxAttempts, BackoffStrategy.exponential(backoffPeriod), DEFAULT_MAX_RETRY_AFTER);
+    }
+
+    public CustomRetryer(int maxAttempts, BackoffStrategy backoffStrategy, long maxRetryAfter) {
+        this(maxAttempts, backoffStrategy, maxRetryAfter, RetryBudget.unlimited());
+    }
+
+    public CustomRetryer(int maxAttempts, BackoffStrategy backoffStrategy, long maxRetryAfter,
+                         RetryBudget retryBudget) {
         this.maxAttempts = maxAttempts;
-        this.backoffPeriod = backoffPeriod;
+        this.backoffStrategy = backoffStrategy;
+        this.maxRetryAfter = maxRetryAfter;
+        this.retryBudget = retryBudget;
         this.attempt = 1;
     }
 
     @Override
     public void continueOrPropagate(RetryableException e) {
+        if (Thread.currentThread().isInterrupted()) {
+            logger.debug("Requisição cancelada; não será realizado retry. Erro: {}", e.getMessage());
+            throw e;
+        }
         if (attempt >= maxAttempts) {
             logger.error("Número máximo de tentativas alcançado ({}) para a requisição. Erro: {}", 
                     maxAttempts, e.getMessage());
             throw e;
         }
 
+        long retryAfterDelay = retryAfterDelay(e);
+        if (retryAfterDelay > maxRetryAfter) {
+            logger.error("Retry-After de {}ms excede o limite de {}ms. Não será realizado retry. Erro: {}",
+                    retryAfterDelay, maxRetryAfter, e.getMessage());
+            throw e;
+        }
+
+        if (!retryBudget.tryAcquireRetry()) {
+            logger.error("Orçamento global de retries esgotado. Não será realizado retry. Erro: {}",
+                    e.getMessage());
+            throw e;
+        }
+
         attempt++;
-        long waitTime = calculateBackoff();
+        long waitTime = Math.max(calculateBackoff(), retryAfterDelay);
+        previousDelay = waitTime;
         
         logger.warn("Tentativa {} de {}. Aguardando {}ms antes do próximo retry. Motivo: {}", 
                 attempt, maxAttempts, waitTime, e.getMessage());
@@ -46,18 +86,33 @@ public class CustomRetryer implements Retryer {
     }
 
     /**
-     * Calcula o tempo de espera com backoff exponencial.
+     * Calcula o tempo de espera pela estratégia de backoff configurada.
      * 
      * @return tempo de espera em milissegundos
      */
     private long calculateBackoff() {
-        // Backoff exponencial: backoffPeriod * 2^(attempt-1)
-        return backoffPeriod * (long) Math.pow(2, attempt - 1);
+        return backoffStrategy.nextDelay(attempt, previousDelay);
     }
 
+    /**
+     * Tempo restante até o instante indicado pelo Retry-After (0 se ausente ou já passado).
+     * Compartilhado com o {@link AsyncRetryer}.
+     */
+    static long retryAfterDelay(RetryableException e) {
+        Long retryAfter = e.retryAfter();
+        if (retryAfter == null) {
+            return 0;
+        }
+        return Math.max(0, retryAfter - System.currentTimeMillis());
+    }
+
+    /**
+     * O Feign clona o retryer a cada requisição: é o ponto em que a requisição deposita no orçamento.
+     */
     @Override
     public Retryer clone() {
-        return new CustomRetryer(maxAttempts, backoffPeriod);
+        retryBudget.recordRequest();
+        return new CustomRetryer(maxAttempts, backoffStrategy, maxRetryAfter, retryBudget);
     }
 
     public int getMaxAttempts() {
@@ -65,7 +120,19 @@ public class CustomRetryer implements Retryer {
     }
 
     public long getBackoffPeriod() {
-        return backoffPeriod;
+        return backoffStrategy.baseDelay();
+    }
+
+    public BackoffStrategy getBackoffStrategy() {
+        return backoffStrategy;
+    }
+
+    public long getMaxRetryAfter() {
+        return maxRetryAfter;
+    }
+
+    public RetryBudget getRetryBudget() {
+        return retryBudget;
     }
 
     public int getCurrentAttempt() {
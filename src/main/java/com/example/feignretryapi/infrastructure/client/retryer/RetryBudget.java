@@ -0,0 +1,138 @@
+package com.example.feignretryapi.infrastructure.client.retryer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Orçamento global de retries (token bucket) compartilhado por todas as requisições do processo.
+ * Cada requisição deposita {@code ratio} tokens e cada retry consome um token inteiro, de modo que
+ * os retries ficam limitados a ~ratio das requisições (ex.: 0.2 = no máximo 20%).
+ * Uma reserva de minRetriesPerSecond tokens por segundo garante retries em períodos de pouco tráfego.
+ * Quando o orçamento está vazio os retryers propagam a falha imediatamente, evitando que a
+ * degradação da API externa seja amplificada por retry storms.
+ * Implementação lock-free: o saldo é mantido em milésimos de token em um AtomicLong.
+ */
+public final class RetryBudget {
+
+    private static final long SCALE = 1000;
+    private static final RetryBudget UNLIMITED = new RetryBudget(0, 0, 0, true);
+
+    private final long depositPerRequest;
+    private final long maxBalance;
+    private final double minRetriesPerSecond;
+    private final boolean unlimited;
+
+    private final AtomicLong balance;
+    private final AtomicLong lastRefillNanos = new AtomicLong(System.nanoTime());
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder retriesAllowed = new LongAdder();
+    private final LongAdder retriesRejected = new LongAdder();
+
+    /**
+     * @param ratio               tokens depositados por requisição (fração de retries permitida)
+     * @param minRetriesPerSecond tokens adicionados por segundo independentemente do tráfego
+     * @param maxTokens           capacidade do bucket (também o saldo inicial)
+     */
+    public RetryBudget(double ratio, double minRetriesPerSecond, int maxTokens) {
+        this(ratio, minRetriesPerSecond, maxTokens, false);
+    }
+
+    private RetryBudget(double ratio, double minRetriesPerSecond, int maxTokens, boolean unlimited) {
+        if (ratio < 0 || minRetriesPerSecond < 0 || maxTokens < 0) {
+            throw new IllegalArgumentException("Parâmetros do orçamento de retries não podem ser negativos");
+        }
+        this.depositPerRequest = Math.round(ratio * SCALE);
+        this.maxBalance = maxTokens * SCALE;
+        this.minRetriesPerSecond = minRetriesPerSecond;
+        this.unlimited = unlimited;
+        this.balance = new AtomicLong(maxBalance);
+    }
+
+    /**
+     * Orçamento que sempre permite retries (comportamento sem limite global).
+     */
+    public static RetryBudget unlimited() {
+        return UNLIMITED;
+    }
+
+    /**
+     * Registra uma nova requisição, depositando ratio tokens.
+     */
+    public void recordRequest() {
+        if (unlimited) {
+            return;
+        }
+        requests.increment();
+        deposit(depositPerRequest);
+    }
+
+    /**
+     * Tenta consumir um token para realizar um retry.
+     *
+     * @return true se o retry é permitido, false se o orçamento está esgotado
+     */
+    public boolean tryAcquireRetry() {
+        if (unlimited) {
+            return true;
+        }
+        refill();
+        long current;
+        do {
+            current = balance.get();
+            if (current < SCALE) {
+                retriesRejected.increment();
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - SCALE));
+        retriesAllowed.increment();
+        return true;
+    }
+
+    /**
+     * Adiciona a reserva proporcional ao tempo decorrido desde o último refill.
+     */
+    private void refill() {
+        if (minRetriesPerSecond <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long last = lastRefillNanos.get();
+        long tokens = (long) ((now - last) * minRetriesPerSecond * SCALE / TimeUnit.SECONDS.toNanos(1));
+        if (tokens > 0 && lastRefillNanos.compareAndSet(last, now)) {
+            deposit(tokens);
+        }
+    }
+
+    private void deposit(long amount) {
+        balance.accumulateAndGet(amount, (current, delta) -> Math.min(maxBalance, current + delta));
+    }
+
+    public boolean isUnlimited() {
+        return unlimited;
+    }
+
+    /**
+     * Tokens disponíveis no momento.
+     */
+    public double getAvailableTokens() {
+        return (double) balance.get() / SCALE;
+    }
+
+    public double getMaxTokens() {
+        return (double) maxBalance / SCALE;
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getRetriesAllowed() {
+        return retriesAllowed.sum();
+    }
+
+    public long getRetriesRejected() {
+        return retriesRejected.sum();
+    }
+}
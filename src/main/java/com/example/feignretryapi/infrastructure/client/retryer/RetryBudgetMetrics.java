@@ -0,0 +1,43 @@
+package com.example.feignretryapi.infrastructure.client.retryer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Expõe o estado do {@link RetryBudget} como métricas do Micrometer.
+ * Disponíveis em /actuator/metrics/feign.retry.budget.*
+ */
+public class RetryBudgetMetrics implements MeterBinder {
+
+    private final RetryBudget retryBudget;
+
+    public RetryBudgetMetrics(RetryBudget retryBudget) {
+        this.retryBudget = retryBudget;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (retryBudget.isUnlimited()) {
+            return;
+        }
+        Gauge.builder("feign.retry.budget.tokens", retryBudget, RetryBudget::getAvailableTokens)
+                .description("Tokens disponíveis para retries")
+                .register(registry);
+        Gauge.builder("feign.retry.budget.max", retryBudget, RetryBudget::getMaxTokens)
+                .description("Capacidade do orçamento de retries")
+                .register(registry);
+        FunctionCounter.builder("feign.retry.budget.requests", retryBudget, RetryBudget::getRequests)
+                .description("Requisições que depositaram no orçamento")
+                .register(registry);
+        FunctionCounter.builder("feign.retry.budget.retries", retryBudget, RetryBudget::getRetriesAllowed)
+                .description("Retries avaliados pelo orçamento")
+                .tag("result", "allowed")
+                .register(registry);
+        FunctionCounter.builder("feign.retry.budget.retries", retryBudget, RetryBudget::getRetriesRejected)
+                .description("Retries avaliados pelo orçamento")
+                .tag("result", "rejected")
+                .register(registry);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.feignretryapi.infrastructure.client.streaming;
+
+import com.example.feignretryapi.infrastructure.client.feign.ExternalProductClient;
+import com.example.feignretryapi.infrastructure.client.feign.dto.ExternalProductDto;
+import com.example.feignretryapi.infrastructure.codec.WireFormatMappers;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Response;
+import feign.RetryableException;
+import feign.Retryer;
+import feign.codec.ErrorDecoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Lê o catálogo completo da API externa em streaming, produto a produto.
+ * <p>
+ * O {@link ExternalProductClient#streamAllProducts()} devolve a resposta sem decodificação, e nesse caso o
+ * Feign não aplica o ErrorDecoder nem o Retryer. Este componente faz esse papel antes da leitura: respostas
+ * não-2xx passam pelo mesmo ErrorDecoder, e as retryable são repetidas pelo mesmo Retryer (com backoff e
+ * orçamento de retry). Depois que o primeiro produto foi entregue não há retry: uma falha no meio da
+ * leitura é propagada ao chamador.
+ */
+@Component
+public class ExternalProductStreamer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExternalProductStreamer.class);
+    private static final String METHOD_KEY = "ExternalProductClient#streamAllProducts()";
+
+    private final ExternalProductClient externalProductClient;
+    private final ErrorDecoder errorDecoder;
+    private final Retryer retryer;
+    private final JsonArrayStreamDecoder<ExternalProductDto> decoder;
+
+    public ExternalProductStreamer(ExternalProductClient externalProductClient, ErrorDecoder errorDecoder,
+                                   Retryer retryer, ObjectMapper objectMapper) {
+        this(externalProductClient, errorDecoder, retryer, new WireFormatMappers(objectMapper));
+    }
+
+    @Autowired
+    public ExternalProductStreamer(ExternalProductClient externalProductClient, ErrorDecoder errorDecoder,
+                                   Retryer retryer, WireFormatMappers wireFormatMappers) {
+        this.externalProductClient = externalProductClient;
+        this.errorDecoder = errorDecoder;
+        this.retryer = retryer;
+        this.decoder = new JsonArrayStreamDecoder<>(wireFormatMappers, ExternalProductDto.class);
+    }
+
+    /**
+     * Busca todos os produtos e os entrega ao consumidor à medida que são lidos.
+     *
+     * @return quantidade de produtos entregues
+     */
+    public long streamAllProducts(Consumer<? super ExternalProductDto> consumer) throws IOException {
+        Retryer attemptRetryer = retryer.clone();
+        while (true) {
+            RetryableException retryable;
+            try (Response response = externalProductClient.streamAllProducts()) {
+                if (response.status() >= 200 && response.status() < 300) {
+                    return decoder.decode(response, consumer);
+                }
+                Exception error = errorDecoder.decode(METHOD_KEY, response);
+                if (error instanceof RuntimeException && !(error instanceof RetryableException)) {
+                    throw (RuntimeException) error;
+                }
+                if (!(error instanceof RetryableException e)) {
+                    throw new IOException("Falha ao buscar o catálogo em streaming", error);
+                }
+                retryable = e;
+            }
+            // A resposta (e a conexão do pool) é liberada antes da espera do backoff
+            attemptRetryer.continueOrPropagate(retryable);
+            logger.debug("Nova tentativa do catálogo em streaming após status {}", retryable.status());
+        }
+    }
+}
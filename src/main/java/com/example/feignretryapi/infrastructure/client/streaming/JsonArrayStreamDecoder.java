@@ -0,0 +1,70 @@
+package com.example.feignretryapi.infrastructure.client.streaming;
+
+import com.example.feignretryapi.infrastructure.codec.WireFormat;
+import com.example.feignretryapi.infrastructure.codec.WireFormatMappers;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import feign.Response;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Decodifica incrementalmente uma resposta cujo corpo é um array JSON, entregando cada elemento ao
+ * consumidor assim que é lido. Usa o parser de streaming do Jackson: só o elemento corrente fica em
+ * memória, independentemente do tamanho do array. Corpos CBOR ou Smile (pelo Content-Type) são lidos com o
+ * parser do formato, que produz os mesmos tokens.
+ *
+ * @param <T> tipo dos elementos do array
+ */
+public class JsonArrayStreamDecoder<T> {
+
+    private final WireFormatMappers mappers;
+    private final ObjectReader reader;
+
+    public JsonArrayStreamDecoder(ObjectMapper objectMapper, Class<T> elementType) {
+        this(new WireFormatMappers(objectMapper), elementType);
+    }
+
+    public JsonArrayStreamDecoder(WireFormatMappers mappers, Class<T> elementType) {
+        this.mappers = mappers;
+        this.reader = mappers.get(WireFormat.JSON).readerFor(elementType);
+    }
+
+    /**
+     * Lê o array do corpo da resposta, sem fechá-la.
+     *
+     * @return quantidade de elementos entregues
+     * @throws IOException se o corpo não for um array JSON ou estiver truncado
+     */
+    public long decode(Response response, Consumer<? super T> consumer) throws IOException {
+        if (response.body() == null) {
+            throw new IOException("Resposta sem corpo; esperado um array JSON");
+        }
+        WireFormat format = WireFormat.forContentType(contentType(response));
+        try (JsonParser parser = mappers.get(format).getFactory().createParser(response.body().asInputStream())) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Esperado um array JSON, encontrado " + parser.currentToken());
+            }
+            long count = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                T element = reader.readValue(parser);
+                consumer.accept(element);
+                count++;
+            }
+            if (token != JsonToken.END_ARRAY) {
+                throw new IOException("Array JSON truncado ou com elemento inválido após " + count + " itens");
+            }
+            return count;
+        }
+    }
+
+    private static String contentType(Response response) {
+        Collection<String> values = response.headers().get("Content-Type");
+        return values == null || values.isEmpty() ? null : values.iterator().next();
+    }
+}
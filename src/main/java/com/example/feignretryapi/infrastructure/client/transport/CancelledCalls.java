@@ -0,0 +1,24 @@
+package com.example.feignretryapi.infrastructure.client.transport;
+
+import java.io.InterruptedIOException;
+import java.nio.channels.ClosedByInterruptException;
+
+/**
+ * Identifica chamadas canceladas pela própria aplicação (thread interrompida), como a tentativa perdedora
+ * do hedging: interromper uma virtual thread fecha o socket em que ela está bloqueada, e a falha de I/O
+ * resultante não diz nada sobre a API externa.
+ */
+public final class CancelledCalls {
+
+    private CancelledCalls() {
+    }
+
+    /**
+     * Se a falha veio do cancelamento da chamada na thread corrente, e não da API externa.
+     */
+    public static boolean isCancellation(Throwable failure) {
+        return Thread.currentThread().isInterrupted()
+                || failure instanceof InterruptedIOException
+                || failure instanceof ClosedByInterruptException;
+    }
+}
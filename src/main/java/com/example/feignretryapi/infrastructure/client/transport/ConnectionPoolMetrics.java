@@ -0,0 +1,49 @@
+package com.example.feignretryapi.infrastructure.client.transport;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Expõe as estatísticas do pool de conexões do Feign como métricas do Micrometer.
+ * Disponíveis em /actuator/metrics/feign.client.pool.*
+ */
+public class ConnectionPoolMetrics implements MeterBinder {
+
+    private final HttpTransport<?> transport;
+    private final String mode;
+
+    public ConnectionPoolMetrics(HttpTransport<?> transport) {
+        this(transport, "sync");
+    }
+
+    /**
+     * @param mode identifica o transporte nas tags ("sync" ou "async")
+     */
+    public ConnectionPoolMetrics(HttpTransport<?> transport, String mode) {
+        this.transport = transport;
+        this.mode = mode;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (transport.getPoolStats().isEmpty()) {
+            return;
+        }
+        register(registry, "feign.client.pool.leased", "Conexões em uso", ConnectionPoolStats::leased);
+        register(registry, "feign.client.pool.pending", "Requisições aguardando conexão", ConnectionPoolStats::pending);
+        register(registry, "feign.client.pool.available", "Conexões ociosas disponíveis", ConnectionPoolStats::available);
+        register(registry, "feign.client.pool.max", "Capacidade máxima do pool", ConnectionPoolStats::max);
+    }
+
+    private void register(MeterRegistry registry, String name, String description,
+                          ToIntFunction<ConnectionPoolStats> value) {
+        Gauge.builder(name, transport, t -> t.getPoolStats().map(value::applyAsInt).orElse(0))
+                .description(description)
+                .tag("client", transport.getType().name().toLowerCase())
+                .tag("mode", mode)
+                .register(registry);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.feignretryapi.infrastructure.client.transport;
+
+/**
+ * Fotografia das estatísticas do pool de conexões.
+ *
+ * @param leased    conexões em uso
+ * @param pending   requisições aguardando uma conexão
+ * @param available conexões ociosas disponíveis para reuso
+ * @param max       capacidade máxima do pool
+ */
+public record ConnectionPoolStats(
+        int leased,
+        int pending,
+        int available,
+        int max
+) {
+}
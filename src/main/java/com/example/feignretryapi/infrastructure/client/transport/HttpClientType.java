@@ -0,0 +1,39 @@
+package com.example.feignretryapi.infrastructure.client.transport;
+
+import java.util.Locale;
+
+/**
+ * Backends de transporte HTTP suportados pelo Feign Client.
+ */
+public enum HttpClientType {
+
+    /**
+     * Client padrão do Feign baseado em HttpURLConnection (sem pool configurável).
+     */
+    DEFAULT,
+
+    /**
+     * Apache HttpClient 5 com PoolingHttpClientConnectionManager.
+     */
+    APACHE_HC5,
+
+    /**
+     * OkHttp com ConnectionPool próprio.
+     */
+    OKHTTP,
+
+    /**
+     * java.net.http.HttpClient do JDK.
+     */
+    JDK;
+
+    /**
+     * Converte o valor configurado (ex.: "apache-hc5") para o enum.
+     */
+    public static HttpClientType from(String value) {
+        if (value == null || value.isBlank()) {
+            return DEFAULT;
+        }
+        return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+    }
+}
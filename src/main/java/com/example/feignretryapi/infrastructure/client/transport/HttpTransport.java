@@ -0,0 +1,60 @@
+package com.example.feignretryapi.infrastructure.client.transport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Transporte HTTP utilizado pelo Feign.
+ * Agrupa o client ({@link feign.Client} ou {@link feign.AsyncClient}), a leitura das
+ * estatísticas do pool e o encerramento dos recursos.
+ *
+ * @param <C> tipo do client do Feign
+ */
+public class HttpTransport<C> implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpTransport.class);
+
+    private final HttpClientType type;
+    private final C client;
+    private final Supplier<ConnectionPoolStats> poolStats;
+    private final AutoCloseable resources;
+
+    public HttpTransport(HttpClientType type, C client,
+                         Supplier<ConnectionPoolStats> poolStats, AutoCloseable resources) {
+        this.type = type;
+        this.client = client;
+        this.poolStats = poolStats;
+        this.resources = resources;
+    }
+
+    public HttpClientType getType() {
+        return type;
+    }
+
+    public C getClient() {
+        return client;
+    }
+
+    /**
+     * Retorna as estatísticas do pool, quando o backend as expõe.
+     */
+    public Optional<ConnectionPoolStats> getPoolStats() {
+        return poolStats != null ? Optional.ofNullable(poolStats.get()) : Optional.empty();
+    }
+
+    @Override
+    public void close() {
+        if (resources == null) {
+            return;
+        }
+        try {
+            resources.close();
+            logger.info("Transporte HTTP {} encerrado", type);
+        } catch (Exception e) {
+            logger.warn("Falha ao encerrar transporte HTTP {}: {}", type, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.feignretryapi.infrastructure.client.transport;
+
+import feign.AsyncClient;
+import feign.Client;
+import feign.hc5.ApacheHttp5Client;
+import feign.hc5.AsyncApacheHttp5Client;
+import feign.http2client.Http2Client;
+import feign.okhttp.OkHttpClient;
+import okhttp3.ConnectionPool;
+import org.apache.hc.client5.http.ConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fábrica do transporte HTTP do Feign.
+ * Cria o backend configurado (Apache HttpClient 5, OkHttp, JDK HttpClient ou o padrão do Feign)
+ * aplicando os limites de pool, TTL e keep-alive.
+ */
+public final class HttpTransportFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpTransportFactory.class);
+
+    private HttpTransportFactory() {
+    }
+
+    public static HttpTransport<Client> create(HttpTransportSettings settings) {
+        logger.info("Criando transporte HTTP {} (maxConnections={}, maxPerRoute={}, ttl={}ms, keepAlive={}ms)",
+                settings.type(), settings.maxConnections(), settings.maxConnectionsPerRoute(),
+                settings.connectionTtl(), settings.keepAlive());
+
+        return switch (settings.type()) {
+            case APACHE_HC5 -> createApacheHc5(settings);
+            case OKHTTP -> createOkHttp(settings);
+            case JDK -> createJdk(settings);
+            case DEFAULT -> new HttpTransport<>(HttpClientType.DEFAULT, new Client.Default(null, null), null, null);
+        };
+    }
+
+    /**
+     * Cria o transporte não bloqueante usado pelo AsyncFeign.
+     * Apache HttpClient 5 usa o client assíncrono com pool próprio; os demais tipos
+     * usam o HttpClient do JDK, pois OkHttp e HttpURLConnection não têm client assíncrono no Feign.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static HttpTransport<AsyncClient<Object>> createAsync(HttpTransportSettings settings) {
+        if (settings.type() == HttpClientType.APACHE_HC5) {
+            return createAsyncApacheHc5(settings);
+        }
+        if (settings.type() != HttpClientType.JDK) {
+            logger.info("Transporte {} não possui client assíncrono; usando HttpClient do JDK", settings.type());
+        }
+        HttpTransport<Client> jdk = createJdk(settings);
+        return new HttpTransport<>(HttpClientType.JDK, (AsyncClient) jdk.getClient(), null, jdk);
+    }
+
+    private static HttpTransport<Client> createApacheHc5(HttpTransportSettings settings) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(settings.maxConnections())
+                .setMaxConnPerRoute(settings.maxConnectionsPerRoute())
+                .setDefaultConnectionConfig(connectionConfig(settings))
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy(keepAliveStrategy(settings))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(settings.idleEviction()))
+                .disableRedirectHandling()
+                .build();
+
+        return new HttpTransport<>(
+                HttpClientType.APACHE_HC5,
+                new ApacheHttp5Client(httpClient),
+                () -> toConnectionPoolStats(connectionManager.getTotalStats()),
+                httpClient);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static HttpTransport<AsyncClient<Object>> createAsyncApacheHc5(HttpTransportSettings settings) {
+        PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(settings.maxConnections())
+                .setMaxConnPerRoute(settings.maxConnectionsPerRoute())
+                .setDefaultConnectionConfig(connectionConfig(settings))
+                .build();
+
+        CloseableHttpAsyncClient httpAsyncClient = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy(keepAliveStrategy(settings))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(settings.idleEviction()))
+                .disableRedirectHandling()
+                .build();
+        httpAsyncClient.start();
+
+        // O contexto do AsyncFeign não é utilizado: o client é exposto como AsyncClient<Object>
+        AsyncClient client = new AsyncApacheHttp5Client(httpAsyncClient);
+        return new HttpTransport<>(
+                HttpClientType.APACHE_HC5,
+                (AsyncClient<Object>) client,
+                () -> toConnectionPoolStats(connectionManager.getTotalStats()),
+                httpAsyncClient);
+    }
+
+    private static ConnectionConfig connectionConfig(HttpTransportSettings settings) {
+        return ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(settings.connectTimeout()))
+                .setTimeToLive(TimeValue.ofMilliseconds(settings.connectionTtl()))
+                .setValidateAfterInactivity(TimeValue.ofMilliseconds(settings.idleEviction() / 2))
+                .build();
+    }
+
+    /**
+     * Respeita o Keep-Alive enviado pelo servidor, limitado ao máximo configurado.
+     */
+    private static ConnectionKeepAliveStrategy keepAliveStrategy(HttpTransportSettings settings) {
+        TimeValue maxKeepAlive = TimeValue.ofMilliseconds(settings.keepAlive());
+        return (response, context) -> {
+            TimeValue serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE
+                    .getKeepAliveDuration(response, context);
+            return TimeValue.isPositive(serverKeepAlive)
+                    && serverKeepAlive.compareTo(maxKeepAlive) < 0 ? serverKeepAlive : maxKeepAlive;
+        };
+    }
+
+    private static ConnectionPoolStats toConnectionPoolStats(PoolStats stats) {
+        return new ConnectionPoolStats(stats.getLeased(), stats.getPending(), stats.getAvailable(), stats.getMax());
+    }
+
+    private static HttpTransport<Client> createOkHttp(HttpTransportSettings settings) {
+        // O OkHttp não limita o total de conexões: maxConnections define o máximo de conexões ociosas
+        ConnectionPool connectionPool = new ConnectionPool(
+                settings.maxConnections(), settings.keepAlive(), TimeUnit.MILLISECONDS);
+
+        okhttp3.OkHttpClient okHttpClient = new okhttp3.OkHttpClient.Builder()
+                .connectionPool(connectionPool)
+                .connectTimeout(settings.connectTimeout(), TimeUnit.MILLISECONDS)
+                .followRedirects(false)
+                .build();
+        okHttpClient.dispatcher().setMaxRequestsPerHost(settings.maxConnectionsPerRoute());
+
+        return new HttpTransport<>(
+                HttpClientType.OKHTTP,
+                new OkHttpClient(okHttpClient),
+                () -> {
+                    int total = connectionPool.connectionCount();
+                    int idle = connectionPool.idleConnectionCount();
+                    return new ConnectionPoolStats(total - idle, 0, idle, settings.maxConnections());
+                },
+                () -> {
+                    okHttpClient.dispatcher().executorService().shutdown();
+                    connectionPool.evictAll();
+                });
+    }
+
+    private static HttpTransport<Client> createJdk(HttpTransportSettings settings) {
+        // O pool do HttpClient do JDK é controlado pelas propriedades jdk.httpclient.* e não expõe estatísticas
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(settings.connectTimeout()))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+
+        return new HttpTransport<>(HttpClientType.JDK, new Http2Client(httpClient), null, httpClient);
+    }
+}
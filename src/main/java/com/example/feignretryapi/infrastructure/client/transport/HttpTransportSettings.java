@@ -0,0 +1,23 @@
+package com.example.feignretryapi.infrastructure.client.transport;
+
+/**
+ * Configurações do transporte HTTP e do pool de conexões.
+ *
+ * @param type                    backend de transporte
+ * @param maxConnections          máximo de conexões no pool
+ * @param maxConnectionsPerRoute  máximo de conexões por rota (host)
+ * @param connectionTtl           tempo de vida máximo de uma conexão (ms)
+ * @param idleEviction            tempo ocioso após o qual a conexão é removida (ms)
+ * @param keepAlive               keep-alive máximo aplicado às conexões (ms)
+ * @param connectTimeout          timeout de conexão (ms)
+ */
+public record HttpTransportSettings(
+        HttpClientType type,
+        int maxConnections,
+        int maxConnectionsPerRoute,
+        long connectionTtl,
+        long idleEviction,
+        long keepAlive,
+        long connectTimeout
+) {
+}
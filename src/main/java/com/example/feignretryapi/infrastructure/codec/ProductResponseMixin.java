@@ -0,0 +1,14 @@
+package com.example.feignretryapi.infrastructure.codec;
+
+import com.example.feignretryapi.application.dto.ProductResponse;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * Mixin que serializa a entidade Product no mesmo formato do {@link ProductResponse}: mesmos nomes, mesma ordem
+ * e o mesmo filtro de {@code ?fields=}. Os getters do Product já têm os nomes dos componentes do record.
+ */
+@JsonFilter(ProductResponse.FIELDS_FILTER)
+@JsonPropertyOrder({"id", "name", "description", "price", "quantity", "category", "createdAt", "updatedAt"})
+abstract class ProductResponseMixin {
+}
@@ -0,0 +1,92 @@
+package com.example.feignretryapi.infrastructure.codec;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Formatos de serialização dos produtos: JSON e os binários CBOR e Smile, que codificam números
+ * (incluindo BigDecimal) e nomes de campos sem o custo de texto do JSON.
+ */
+public enum WireFormat {
+
+    JSON(MediaType.APPLICATION_JSON),
+
+    CBOR(MediaType.APPLICATION_CBOR),
+
+    SMILE(new MediaType("application", "x-jackson-smile"));
+
+    private final MediaType mediaType;
+
+    WireFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Converte o valor configurado (ex.: "cbor") para o enum.
+     */
+    public static WireFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return JSON;
+        }
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Formato de um corpo pelo Content-Type; ausente ou desconhecido é tratado como JSON.
+     */
+    public static WireFormat forContentType(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return JSON;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            for (WireFormat format : values()) {
+                if (format.mediaType.isCompatibleWith(mediaType)) {
+                    return format;
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            // Content-Type malformado: segue como JSON
+        }
+        return JSON;
+    }
+
+    /**
+     * Escolhe o formato da resposta pelo header Accept: o de maior qualidade entre os aceitos, com JSON
+     * para {@code *}{@code /*}, Accept ausente ou sem nenhum formato suportado.
+     */
+    public static WireFormat negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+        WireFormat best = JSON;
+        double bestQuality = 0;
+        for (MediaType mediaType : accepted) {
+            double quality = mediaType.getQualityValue();
+            if (quality <= bestQuality) {
+                continue;
+            }
+            for (WireFormat format : values()) {
+                if (mediaType.includes(format.mediaType)) {
+                    best = format;
+                    bestQuality = quality;
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.feignretryapi.infrastructure.codec;
+
+import com.example.feignretryapi.domain.entity.Product;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Um ObjectMapper por {@link WireFormat}. Os binários são cópias do mapper JSON da aplicação com outra
+ * fábrica de parsers/geradores, então herdam módulos (datas), configurações e filtros.
+ * <p>
+ * Para as listagens há também, por formato, um mapper que escreve o {@link Product} direto no formato do
+ * ProductResponse ({@link ProductResponseMixin}), sem a cópia para o DTO de resposta.
+ * <p>
+ * As respostas da API externa são lidas por outra cópia, com os módulos do layout da origem (como a leitura
+ * direta de Product no formato snake_case); o mapper da aplicação, usado pelo Spring MVC, não os recebe.
+ */
+public class WireFormatMappers {
+
+    private final Map<WireFormat, ObjectMapper> mappers = new EnumMap<>(WireFormat.class);
+    private final Map<WireFormat, ObjectMapper> productMappers = new EnumMap<>(WireFormat.class);
+    private final Map<WireFormat, ObjectMapper> upstreamMappers = new EnumMap<>(WireFormat.class);
+
+    public WireFormatMappers(ObjectMapper jsonMapper) {
+        this(jsonMapper, List.of());
+    }
+
+    /**
+     * @param upstreamModules módulos registrados só nos mappers de leitura da API externa
+     */
+    public WireFormatMappers(ObjectMapper jsonMapper, List<Module> upstreamModules) {
+        mappers.put(WireFormat.JSON, jsonMapper);
+        mappers.put(WireFormat.CBOR, jsonMapper.copyWith(new CBORFactory()));
+        mappers.put(WireFormat.SMILE, jsonMapper.copyWith(new SmileFactory()));
+        mappers.forEach((format, mapper) -> {
+            productMappers.put(format, mapper.copy().addMixIn(Product.class, ProductResponseMixin.class));
+            upstreamMappers.put(format, mapper.copy().registerModules(upstreamModules));
+        });
+    }
+
+    public ObjectMapper get(WireFormat format) {
+        return mappers.get(format);
+    }
+
+    /**
+     * Mapper do formato que serializa Product como ProductResponse.
+     */
+    public ObjectMapper productResponseMapper(WireFormat format) {
+        return productMappers.get(format);
+    }
+
+    /**
+     * Mapper do formato para as respostas da API externa, com os módulos do layout da origem.
+     */
+    public ObjectMapper upstreamMapper(WireFormat format) {
+        return upstreamMappers.get(format);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.feignretryapi.infrastructure.config;
+
+import com.example.feignretryapi.infrastructure.client.circuitbreaker.CircuitBreakerAsyncClient;
+import com.example.feignretryapi.infrastructure.client.circuitbreaker.CircuitBreakerRegistry;
+import com.example.feignretryapi.infrastructure.client.conditional.ConditionalGetAsyncClient;
+import com.example.feignretryapi.infrastructure.client.conditional.ConditionalGetCache;
+import com.example.feignretryapi.infrastructure.client.feign.AsyncExternalProductClient;
+import com.example.feignretryapi.infrastructure.client.limiter.ConcurrencyLimitAsyncClient;
+import com.example.feignretryapi.infrastructure.client.limiter.ConcurrencyLimiter;
+import com.example.feignretryapi.infrastructure.client.transport.HttpTransport;
+import feign.AsyncClient;
+import feign.AsyncFeign;
+import feign.Logger;
+import feign.Request;
+import feign.RequestInterceptor;
+import feign.Retryer;
+import feign.codec.Decoder;
+import feign.codec.ErrorDecoder;
+import feign.slf4j.Slf4jLogger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuração do client AsyncFeign.
+ * Ativada com external-api.async.enabled=true.
+ */
+@Configuration
+@ConditionalOnProperty(name = "external-api.async.enabled", havingValue = "true")
+public class AsyncFeignConfig {
+
+    @Value("${external-api.base-url}")
+    private String baseUrl;
+
+    @Value("${external-api.http-client.connect-timeout:5000}")
+    private long connectTimeout;
+
+    @Value("${external-api.async.read-timeout:5000}")
+    private long readTimeout;
+
+    /**
+     * Bean do client AsyncFeign.
+     * O retry interno do AsyncFeign é desativado: as novas tentativas são agendadas
+     * pelo AsyncRetryer, sem bloquear threads durante o backoff.
+     * Usa as mesmas camadas do client síncrono (FeignConfig), sobre o transporte assíncrono: limitador de
+     * concorrência → circuit breaker → requisições condicionais, com o mesmo decoder, error decoder,
+     * Accept e nível de log (feign.client.config.default.loggerLevel).
+     */
+    @Bean
+    public AsyncExternalProductClient asyncExternalProductClient(
+            HttpTransport<AsyncClient<Object>> asyncHttpTransport,
+            Optional<ConditionalGetCache> conditionalGetCache,
+            Optional<CircuitBreakerRegistry> circuitBreakerRegistry,
+            Optional<ConcurrencyLimiter> concurrencyLimiter,
+            Decoder feignDecoder,
+            ErrorDecoder errorDecoder,
+            RequestInterceptor wireFormatAcceptInterceptor,
+            Logger.Level feignLoggerLevel) {
+        return AsyncFeign.<Object>builder()
+                .client(asyncClient(asyncHttpTransport.getClient(), conditionalGetCache, circuitBreakerRegistry,
+                        concurrencyLimiter))
+                .contract(new SpringMvcContract())
+                .decoder(feignDecoder)
+                .requestInterceptor(wireFormatAcceptInterceptor)
+                .errorDecoder(errorDecoder)
+                .retryer(Retryer.NEVER_RETRY)
+                .options(new Request.Options(
+                        connectTimeout, TimeUnit.MILLISECONDS, readTimeout, TimeUnit.MILLISECONDS, false))
+                .logger(new Slf4jLogger(AsyncExternalProductClient.class))
+                .logLevel(feignLoggerLevel)
+                .target(AsyncExternalProductClient.class, baseUrl);
+    }
+
+    private static AsyncClient<Object> asyncClient(AsyncClient<Object> transportClient,
+                                                   Optional<ConditionalGetCache> conditionalGetCache,
+                                                   Optional<CircuitBreakerRegistry> circuitBreakerRegistry,
+                                                   Optional<ConcurrencyLimiter> concurrencyLimiter) {
+        AsyncClient<Object> conditional = conditionalGetCache
+                .<AsyncClient<Object>>map(cache -> new ConditionalGetAsyncClient(transportClient, cache))
+                .orElse(transportClient);
+        AsyncClient<Object> client = circuitBreakerRegistry
+                .<AsyncClient<Object>>map(registry -> new CircuitBreakerAsyncClient(conditional, registry))
+                .orElse(conditional);
+        return concurrencyLimiter
+                .<AsyncClient<Object>>map(limiter -> new ConcurrencyLimitAsyncClient(client, limiter))
+                .orElse(client);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.feignretryapi.infrastructure.config;
+
+import com.example.feignretryapi.infrastructure.client.retryer.AsyncRetryer;
+import com.example.feignretryapi.infrastructure.client.retryer.BackoffStrategy;
+import com.example.feignretryapi.infrastructure.client.retryer.RetryBudget;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Configuração do motor de retry assíncrono.
+ * O agendador é compartilhado por todas as requisições: os intervalos de backoff
+ * não ocupam threads de requisição.
+ */
+@Configuration
+public class AsyncRetryConfig {
+
+    @Value("${external-api.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${external-api.retry.max-retry-after:60000}")
+    private long maxRetryAfter;
+
+    @Value("${external-api.retry.scheduler-threads:2}")
+    private int schedulerThreads;
+
+    /**
+     * Agendador compartilhado dos retries assíncronos.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService retryScheduler() {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName("retry-scheduler-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(schedulerThreads, threadFactory);
+        // Evita acúmulo de tarefas canceladas na fila do agendador
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    /**
+     * Bean do retryer assíncrono, com a mesma estratégia de backoff e o mesmo orçamento do CustomRetryer.
+     */
+    @Bean
+    public AsyncRetryer asyncRetryer(ScheduledExecutorService retryScheduler, BackoffStrategy backoffStrategy,
+                                     RetryBudget retryBudget) {
+        return new AsyncRetryer(retryScheduler, maxAttempts, backoffStrategy, maxRetryAfter, retryBudget);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.feignretryapi.infrastructure.config;
+
+import com.example.feignretryapi.infrastructure.client.circuitbreaker.CircuitBreakerMetrics;
+import com.example.feignretryapi.infrastructure.client.circuitbreaker.CircuitBreakerRegistry;
+import com.example.feignretryapi.infrastructure.client.circuitbreaker.CircuitBreakerSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração dos circuit breakers do ExternalProductClient.
+ * Fica separada do {@link FeignConfig} para que o estado dos circuitos seja único no processo.
+ */
+@Configuration
+@ConditionalOnProperty(name = "external-api.circuit-breaker.enabled", havingValue = "true", matchIfMissing = true)
+public class CircuitBreakerConfig {
+
+    @Value("${external-api.circuit-breaker.window-size:20}")
+    private int windowSize;
+
+    @Value("${external-api.circuit-breaker.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${external-api.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${external-api.circuit-breaker.slow-call-rate-threshold:80}")
+    private float slowCallRateThreshold;
+
+    @Value("${external-api.circuit-breaker.slow-call-duration:3000}")
+    private long slowCallDuration;
+
+    @Value("${external-api.circuit-breaker.open-duration:10000}")
+    private long openDuration;
+
+    @Value("${external-api.circuit-breaker.half-open-calls:3}")
+    private int halfOpenCalls;
+
+    /**
+     * Registro dos circuit breakers, um por methodKey.
+     */
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry() {
+        return new CircuitBreakerRegistry(new CircuitBreakerSettings(windowSize, minimumCalls,
+                failureRateThreshold, slowCallRateThreshold, slowCallDuration, openDuration, halfOpenCalls));
+    }
+
+    /**
+     * Métricas dos circuit breakers (estado, taxas e chamadas rejeitadas).
+     */
+    @Bean
+    public CircuitBreakerMetrics circuitBreakerMetrics(CircuitBreakerRegistry circuitBreakerRegistry) {
+        return new CircuitBreakerMetrics(circuitBreakerRegistry);
+    }
+}
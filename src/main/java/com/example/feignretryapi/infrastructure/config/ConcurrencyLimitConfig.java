@@ -0,0 +1,79 @@
+package com.example.feignretryapi.infrastructure.config;
+
+import com.example.feignretryapi.infrastructure.client.limiter.AimdLimit;
+import com.example.feignretryapi.infrastructure.client.limiter.ConcurrencyLimiter;
+import com.example.feignretryapi.infrastructure.client.limiter.ConcurrencyLimiterMetrics;
+import com.example.feignretryapi.infrastructure.client.limiter.ConcurrencyLimiterSettings;
+import com.example.feignretryapi.infrastructure.client.limiter.GradientLimit;
+import com.example.feignretryapi.infrastructure.client.limiter.LimitAlgorithm;
+import com.example.feignretryapi.infrastructure.client.limiter.LimitAlgorithmType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuração do limitador adaptativo de concorrência com a API externa.
+ * Fica separada do {@link FeignConfig} para que o limite seja único no processo.
+ */
+@Configuration
+@ConditionalOnProperty(name = "external-api.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Value("${external-api.concurrency-limit.algorithm:gradient}")
+    private String algorithm;
+
+    @Value("${external-api.concurrency-limit.initial-limit:20}")
+    private int initialLimit;
+
+    @Value("${external-api.concurrency-limit.min-limit:2}")
+    private int minLimit;
+
+    @Value("${external-api.concurrency-limit.max-limit:200}")
+    private int maxLimit;
+
+    @Value("${external-api.concurrency-limit.max-queue-size:50}")
+    private int maxQueueSize;
+
+    @Value("${external-api.concurrency-limit.max-queue-wait:100}")
+    private long maxQueueWait;
+
+    @Value("${external-api.concurrency-limit.aimd.backoff-ratio:0.9}")
+    private double backoffRatio;
+
+    @Value("${external-api.concurrency-limit.aimd.latency-threshold:2000}")
+    private long latencyThreshold;
+
+    @Value("${external-api.concurrency-limit.gradient.tolerance:1.5}")
+    private double tolerance;
+
+    @Value("${external-api.concurrency-limit.gradient.smoothing:0.2}")
+    private double smoothing;
+
+    /**
+     * Bean do limitador de concorrência.
+     */
+    @Bean
+    public ConcurrencyLimiter concurrencyLimiter() {
+        return new ConcurrencyLimiter(
+                new ConcurrencyLimiterSettings(initialLimit, minLimit, maxLimit, maxQueueSize, maxQueueWait),
+                limitAlgorithm());
+    }
+
+    /**
+     * Métricas do limitador (limite, em andamento, fila, atraso de fila e rejeições).
+     */
+    @Bean
+    public ConcurrencyLimiterMetrics concurrencyLimiterMetrics(ConcurrencyLimiter concurrencyLimiter) {
+        return new ConcurrencyLimiterMetrics(concurrencyLimiter);
+    }
+
+    private LimitAlgorithm limitAlgorithm() {
+        return switch (LimitAlgorithmType.from(algorithm)) {
+            case AIMD -> new AimdLimit(minLimit, maxLimit, backoffRatio, TimeUnit.MILLISECONDS.toNanos(latencyThreshold));
+            case GRADIENT -> new GradientLimit(minLimit, maxLimit, tolerance, smoothing, 600);
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.feignretryapi.infrastructure.config;
+
+import com.example.feignretryapi.infrastructure.client.conditional.ConditionalGetCache;
+import com.example.feignretryapi.infrastructure.client.conditional.ConditionalGetMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração das requisições condicionais (ETag / Last-Modified) do ExternalProductClient.
+ * Fica separada do {@link FeignConfig} para que as respostas guardadas sejam únicas no processo.
+ */
+@Configuration
+@ConditionalOnProperty(name = "external-api.conditional-get.enabled", havingValue = "true", matchIfMissing = true)
+public class ConditionalGetConfig {
+
+    @Value("${external-api.conditional-get.maximum-size:10000}")
+    private long maximumSize;
+
+    /**
+     * Respostas GET decodificadas com seus validadores, por URL.
+     */
+    @Bean
+    public ConditionalGetCache conditionalGetCache() {
+        return new ConditionalGetCache(maximumSize);
+    }
+
+    /**
+     * Métricas das requisições condicionais (304 e respostas modificadas).
+     */
+    @Bean
+    public ConditionalGetMetrics conditionalGetMetrics(ConditionalGetCache conditionalGetCache) {
+        return new ConditionalGetMetrics(conditionalGetCache);
+    }
+}
@@ -1,14 +1,45 @@
 package com.example.feignretryapi.infrastructure.config;
 
+import com.example.feignretryapi.infrastructure.client.circuitbreaker.CircuitBreakerClient;
+import com.example.feignretryapi.infrastructure.client.circuitbreaker.CircuitBreakerRegistry;
+import com.example.feignretryapi.infrastructure.client.conditional.ConditionalGetCache;
+import com.example.feignretryapi.infrastructure.client.conditional.ConditionalGetClient;
+import com.example.feignretryapi.infrastructure.client.codec.WireFormatAcceptInterceptor;
+import com.example.feignretryapi.infrastructure.client.codec.WireFormatDecoder;
+import com.example.feignretryapi.infrastructure.client.codec.WireFormatEncoder;
+import com.example.feignretryapi.infrastructure.client.conditional.ConditionalGetDecoder;
 import com.example.feignretryapi.infrastructure.client.decoder.CustomErrorDecoder;
+import com.example.feignretryapi.infrastructure.client.limiter.ConcurrencyLimitClient;
+import com.example.feignretryapi.infrastructure.client.limiter.ConcurrencyLimiter;
+import com.example.feignretryapi.infrastructure.client.retryer.BackoffStrategy;
+import com.example.feignretryapi.infrastructure.client.retryer.BackoffType;
 import com.example.feignretryapi.infrastructure.client.retryer.CustomRetryer;
+import com.example.feignretryapi.infrastructure.client.retryer.RetryBudget;
+import com.example.feignretryapi.infrastructure.client.transport.HttpTransport;
+import com.example.feignretryapi.infrastructure.codec.WireFormat;
+import com.example.feignretryapi.infrastructure.codec.WireFormatMappers;
+import feign.Client;
 import feign.Logger;
+import feign.RequestInterceptor;
 import feign.Retryer;
+import feign.codec.Decoder;
+import feign.codec.Encoder;
 import feign.codec.ErrorDecoder;
+import feign.optionals.OptionalDecoder;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Locale;
+import java.util.Optional;
+
 /**
  * Configuração do Feign Client.
  */
@@ -21,12 +52,92 @@ public class FeignConfig {
     @Value("${external-api.retry.backoff-period:1000}")
     private long backoffPeriod;
 
+    @Value("${external-api.retry.backoff-strategy:exponential}")
+    private String backoffStrategy;
+
+    @Value("${external-api.retry.max-backoff:30000}")
+    private long maxBackoff;
+
+    @Value("${external-api.retry.max-retry-after:60000}")
+    private long maxRetryAfter;
+
+    @Value("${feign.client.config.default.loggerLevel:basic}")
+    private String loggerLevel;
+
+    @Value("${external-api.wire-format:json}")
+    private String wireFormat;
+
+    /**
+     * Bean para o Client HTTP do Feign, usando o transporte configurado em external-api.http-client.
+     * Com o circuit breaker habilitado, cada methodKey passa pelo seu circuito antes da rede.
+     * O limitador de concorrência fica por fora, para que suas rejeições não contem como falha no circuito.
+     * As requisições condicionais ficam junto ao transporte, para que um 304 chegue às demais camadas como sucesso.
+     */
+    @Bean
+    public Client feignClient(HttpTransport<Client> httpTransport,
+                              Optional<ConditionalGetCache> conditionalGetCache,
+                              Optional<CircuitBreakerRegistry> circuitBreakerRegistry,
+                              Optional<ConcurrencyLimiter> concurrencyLimiter) {
+        Client transportClient = conditionalGetCache
+                .<Client>map(cache -> new ConditionalGetClient(httpTransport.getClient(), cache))
+                .orElse(httpTransport.getClient());
+        Client client = circuitBreakerRegistry
+                .<Client>map(registry -> new CircuitBreakerClient(transportClient, registry))
+                .orElse(transportClient);
+        return concurrencyLimiter
+                .<Client>map(limiter -> new ConcurrencyLimitClient(client, limiter))
+                .orElse(client);
+    }
+
+    /**
+     * Estratégia de backoff compartilhada pelos retryers síncrono e assíncrono.
+     */
+    @Bean
+    public BackoffStrategy backoffStrategy() {
+        return new BackoffStrategy(BackoffType.from(backoffStrategy), backoffPeriod, maxBackoff);
+    }
+
     /**
      * Bean para o Retryer customizado.
      */
     @Bean
-    public Retryer retryer() {
-        return new CustomRetryer(maxAttempts, backoffPeriod);
+    public Retryer retryer(BackoffStrategy backoffStrategy, RetryBudget retryBudget) {
+        return new CustomRetryer(maxAttempts, backoffStrategy, maxRetryAfter, retryBudget);
+    }
+
+    /**
+     * Decoder padrão do Spring Cloud OpenFeign, com as respostas CBOR e Smile lidas direto pelo
+     * {@link WireFormatDecoder}; com as requisições condicionais habilitadas, as respostas
+     * com ETag ou Last-Modified são guardadas e um 304 devolve o corpo guardado sem decodificação.
+     */
+    @Bean
+    public Decoder feignDecoder(ObjectFactory<HttpMessageConverters> messageConverters,
+                                ObjectProvider<HttpMessageConverterCustomizer> customizers,
+                                WireFormatMappers wireFormatMappers,
+                                Optional<ConditionalGetCache> conditionalGetCache) {
+        Decoder decoder = new OptionalDecoder(new ResponseEntityDecoder(
+                new WireFormatDecoder(new SpringDecoder(messageConverters, customizers), wireFormatMappers)));
+        return conditionalGetCache
+                .<Decoder>map(cache -> new ConditionalGetDecoder(decoder, cache))
+                .orElse(decoder);
+    }
+
+    /**
+     * Encoder dos corpos no formato de external-api.wire-format; em JSON, o encoder padrão do Spring.
+     */
+    @Bean
+    public Encoder feignEncoder(ObjectFactory<HttpMessageConverters> messageConverters,
+                                WireFormatMappers wireFormatMappers) {
+        WireFormat format = WireFormat.from(wireFormat);
+        return new WireFormatEncoder(format, wireFormatMappers.get(format), new SpringEncoder(messageConverters));
+    }
+
+    /**
+     * Accept das chamadas à API externa: o formato de external-api.wire-format, com JSON como alternativa.
+     */
+    @Bean
+    public RequestInterceptor wireFormatAcceptInterceptor() {
+        return new WireFormatAcceptInterceptor(WireFormat.from(wireFormat));
     }
 
     /**
@@ -38,10 +149,12 @@ public class FeignConfig {
     }
 
     /**
-     * Configura o nível de log do Feign.
+     * Configura o nível de log do Feign (feign.client.config.default.loggerLevel).
+     * O padrão é BASIC: no nível FULL o Feign lê o corpo inteiro da resposta para logá-lo, inclusive no
+     * streaming do catálogo, que deixa de ter memória constante.
      */
     @Bean
     public Logger.Level feignLoggerLevel() {
-        return Logger.Level.FULL;
+        return Logger.Level.valueOf(loggerLevel.toUpperCase(Locale.ROOT));
     }
 }
@@ -0,0 +1,88 @@
+package com.example.feignretryapi.infrastructure.config;
+
+import com.example.feignretryapi.infrastructure.client.transport.ConnectionPoolMetrics;
+import com.example.feignretryapi.infrastructure.client.transport.HttpClientType;
+import com.example.feignretryapi.infrastructure.client.transport.HttpTransport;
+import com.example.feignretryapi.infrastructure.client.transport.HttpTransportFactory;
+import com.example.feignretryapi.infrastructure.client.transport.HttpTransportSettings;
+import feign.AsyncClient;
+import feign.Client;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração do transporte HTTP compartilhado pelos Feign Clients.
+ * Fica separada do {@link FeignConfig} para que o pool seja criado uma única vez
+ * no contexto principal, e não novamente em cada contexto filho do Feign.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Value("${external-api.http-client.type:default}")
+    private String type;
+
+    @Value("${external-api.http-client.max-connections:200}")
+    private int maxConnections;
+
+    @Value("${external-api.http-client.max-connections-per-route:50}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${external-api.http-client.connection-ttl:60000}")
+    private long connectionTtl;
+
+    @Value("${external-api.http-client.idle-eviction:30000}")
+    private long idleEviction;
+
+    @Value("${external-api.http-client.keep-alive:30000}")
+    private long keepAlive;
+
+    @Value("${external-api.http-client.connect-timeout:5000}")
+    private long connectTimeout;
+
+    /**
+     * Bean do transporte HTTP (cliente + pool de conexões).
+     */
+    @Bean
+    public HttpTransport<Client> httpTransport() {
+        return HttpTransportFactory.create(settings());
+    }
+
+    /**
+     * Métricas do pool de conexões (leased, pending, available, max).
+     */
+    @Bean
+    public ConnectionPoolMetrics connectionPoolMetrics(HttpTransport<Client> httpTransport) {
+        return new ConnectionPoolMetrics(httpTransport);
+    }
+
+    /**
+     * Bean do transporte não bloqueante usado pelo AsyncFeign.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "external-api.async.enabled", havingValue = "true")
+    public HttpTransport<AsyncClient<Object>> asyncHttpTransport() {
+        return HttpTransportFactory.createAsync(settings());
+    }
+
+    /**
+     * Métricas do pool de conexões do transporte assíncrono.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "external-api.async.enabled", havingValue = "true")
+    public ConnectionPoolMetrics asyncConnectionPoolMetrics(HttpTransport<AsyncClient<Object>> asyncHttpTransport) {
+        return new ConnectionPoolMetrics(asyncHttpTransport, "async");
+    }
+
+    private HttpTransportSettings settings() {
+        return new HttpTransportSettings(
+                HttpClientType.from(type),
+                maxConnections,
+                maxConnectionsPerRoute,
+                connectionTtl,
+                idleEviction,
+                keepAlive,
+                connectTimeout);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.feignretryapi.infrastructure.config;
+
+import com.example.feignretryapi.application.dto.ProductField;
+import com.example.feignretryapi.infrastructure.client.codec.ExternalProductDeserializer;
+import com.example.feignretryapi.infrastructure.codec.WireFormat;
+import com.example.feignretryapi.infrastructure.codec.WireFormatMappers;
+import com.example.feignretryapi.infrastructure.mapper.UpstreamDateTimeParser;
+import com.example.feignretryapi.presentation.controller.ProductFieldsFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.util.List;
+
+/**
+ * Configuração do ObjectMapper da aplicação e dos formatos binários (CBOR e Smile).
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Filtro padrão do ProductResponse: todos os campos. A seleção de {@code ?fields=} substitui o filtro
+     * por requisição.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer productFieldsFilterCustomizer() {
+        return builder -> builder.filters(ProductFieldsFilter.filterProvider(ProductField.ALL));
+    }
+
+    /**
+     * Mappers por formato, derivados do ObjectMapper da aplicação. A leitura do produto da API externa direto
+     * para a entidade Product, usada pelas listagens do Feign, fica só nos mappers de leitura da origem
+     * ({@link WireFormatMappers#upstreamMapper}); o ObjectMapper do Spring MVC continua lendo e escrevendo
+     * Product no mesmo layout.
+     */
+    @Bean
+    public WireFormatMappers wireFormatMappers(ObjectMapper objectMapper) {
+        return new WireFormatMappers(objectMapper,
+                List.of(ExternalProductDeserializer.module(UpstreamDateTimeParser.get())));
+    }
+
+    /**
+     * Conversor application/cbor: negociação pelo Accept nos endpoints e decodificação no Feign.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(WireFormatMappers wireFormatMappers) {
+        return new MappingJackson2CborHttpMessageConverter(wireFormatMappers.get(WireFormat.CBOR));
+    }
+
+    /**
+     * Conversor application/x-jackson-smile: negociação pelo Accept nos endpoints e decodificação no Feign.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(WireFormatMappers wireFormatMappers) {
+        return new MappingJackson2SmileHttpMessageConverter(wireFormatMappers.get(WireFormat.SMILE));
+    }
+}
@@ -0,0 +1,277 @@
+package com.example.feignretryapi.infrastructure.config;
+
+import com.example.feignretryapi.domain.gateway.AsyncProductGateway;
+import com.example.feignretryapi.domain.gateway.ProductGateway;
+import com.example.feignretryapi.infrastructure.client.retryer.RetryBudget;
+import com.example.feignretryapi.infrastructure.gateway.AsyncProductGatewayImpl;
+import com.example.feignretryapi.infrastructure.gateway.ExecutorAsyncProductGateway;
+import com.example.feignretryapi.infrastructure.gateway.ProductGatewayImpl;
+import com.example.feignretryapi.infrastructure.gateway.batching.BatchingMetrics;
+import com.example.feignretryapi.infrastructure.gateway.batching.BatchingProductGateway;
+import com.example.feignretryapi.infrastructure.gateway.caching.CacheSettings;
+import com.example.feignretryapi.infrastructure.gateway.caching.CachingMetrics;
+import com.example.feignretryapi.infrastructure.gateway.caching.CachingProductGateway;
+import com.example.feignretryapi.infrastructure.gateway.caching.NegativeLookupMetrics;
+import com.example.feignretryapi.infrastructure.gateway.caching.NegativeLookupProductGateway;
+import com.example.feignretryapi.infrastructure.gateway.coalescing.SingleFlightMetrics;
+import com.example.feignretryapi.infrastructure.gateway.coalescing.SingleFlightProductGateway;
+import com.example.feignretryapi.infrastructure.gateway.hedging.HedgingMetrics;
+import com.example.feignretryapi.infrastructure.gateway.hedging.HedgingProductGateway;
+import com.example.feignretryapi.infrastructure.gateway.hedging.LatencyPercentileTracker;
+import com.example.feignretryapi.infrastructure.gateway.snapshot.CatalogSnapshotStore;
+import com.example.feignretryapi.infrastructure.gateway.snapshot.SnapshotMetrics;
+import com.example.feignretryapi.infrastructure.gateway.snapshot.SnapshotProductGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Composição do ProductGateway usado pelos casos de uso.
+ * O {@link ProductGatewayImpl} (Feign) é envolvido pelos decorators habilitados, e o resultado
+ * é exposto como o ProductGateway primário.
+ */
+@Configuration
+public class ProductGatewayConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductGatewayConfig.class);
+
+    @Value("${external-api.snapshot.enabled:false}")
+    private boolean snapshotEnabled;
+
+    @Value("${external-api.snapshot.refresh-interval:60000}")
+    private long snapshotRefreshInterval;
+
+    @Value("${external-api.snapshot.delta-sync.enabled:true}")
+    private boolean snapshotDeltaSyncEnabled;
+
+    @Value("${external-api.snapshot.delta-sync.full-resync-interval:600000}")
+    private long snapshotFullResyncInterval;
+
+    @Value("${external-api.snapshot.persistence.enabled:false}")
+    private boolean snapshotPersistenceEnabled;
+
+    @Value("${external-api.snapshot.persistence.file:${java.io.tmpdir}/feign-retry-api/catalog.snapshot}")
+    private String snapshotPersistenceFile;
+
+    @Value("${external-api.snapshot.persistence.max-age:86400000}")
+    private long snapshotPersistenceMaxAge;
+
+    @Value("${external-api.cache.enabled:false}")
+    private boolean cacheEnabled;
+
+    @Value("${external-api.cache.find-all.maximum-size:1}")
+    private long findAllMaximumSize;
+
+    @Value("${external-api.cache.find-all.maximum-weight:0}")
+    private long findAllMaximumWeight;
+
+    @Value("${external-api.cache.find-all.expire-after-write:60000}")
+    private long findAllExpireAfterWrite;
+
+    @Value("${external-api.cache.find-all.refresh-after-write:30000}")
+    private long findAllRefreshAfterWrite;
+
+    @Value("${external-api.cache.find-all.stale-grace:300000}")
+    private long findAllStaleGrace;
+
+    @Value("${external-api.cache.find-by-id.maximum-size:10000}")
+    private long findByIdMaximumSize;
+
+    @Value("${external-api.cache.find-by-id.maximum-weight:0}")
+    private long findByIdMaximumWeight;
+
+    @Value("${external-api.cache.find-by-id.expire-after-write:300000}")
+    private long findByIdExpireAfterWrite;
+
+    @Value("${external-api.cache.find-by-id.refresh-after-write:60000}")
+    private long findByIdRefreshAfterWrite;
+
+    @Value("${external-api.cache.find-by-id.stale-grace:600000}")
+    private long findByIdStaleGrace;
+
+    @Value("${external-api.cache.find-by-category.maximum-size:0}")
+    private long findByCategoryMaximumSize;
+
+    @Value("${external-api.cache.find-by-category.maximum-weight:10000}")
+    private long findByCategoryMaximumWeight;
+
+    @Value("${external-api.cache.find-by-category.expire-after-write:120000}")
+    private long findByCategoryExpireAfterWrite;
+
+    @Value("${external-api.cache.find-by-category.refresh-after-write:60000}")
+    private long findByCategoryRefreshAfterWrite;
+
+    @Value("${external-api.cache.find-by-category.stale-grace:300000}")
+    private long findByCategoryStaleGrace;
+
+    @Value("${external-api.cache.negative.ttl:30000}")
+    private long negativeCacheTtl;
+
+    @Value("${external-api.cache.negative.maximum-size:10000}")
+    private long negativeCacheMaximumSize;
+
+    @Value("${external-api.cache.bloom-filter.enabled:false}")
+    private boolean bloomFilterEnabled;
+
+    @Value("${external-api.cache.bloom-filter.expected-insertions:10000}")
+    private int bloomFilterExpectedInsertions;
+
+    @Value("${external-api.cache.bloom-filter.false-positive-rate:0.01}")
+    private double bloomFilterFalsePositiveRate;
+
+    @Value("${external-api.single-flight.enabled:true}")
+    private boolean singleFlightEnabled;
+
+    @Value("${external-api.batching.enabled:false}")
+    private boolean batchingEnabled;
+
+    @Value("${external-api.batching.max-batch-size:50}")
+    private int batchingMaxBatchSize;
+
+    @Value("${external-api.batching.window:5}")
+    private long batchingWindow;
+
+    @Value("${external-api.hedging.enabled:false}")
+    private boolean hedgingEnabled;
+
+    @Value("${external-api.hedging.percentile:0.95}")
+    private double hedgingPercentile;
+
+    @Value("${external-api.hedging.window-size:1000}")
+    private int hedgingWindowSize;
+
+    @Value("${external-api.hedging.min-samples:50}")
+    private int hedgingMinSamples;
+
+    @Value("${external-api.hedging.min-delay:20}")
+    private long hedgingMinDelay;
+
+    @Value("${external-api.hedging.max-delay:1000}")
+    private long hedgingMaxDelay;
+
+    @Value("${external-api.hedging.budget.ratio:0.05}")
+    private double hedgingBudgetRatio;
+
+    @Value("${external-api.hedging.budget.min-per-second:1}")
+    private double hedgingBudgetMinPerSecond;
+
+    @Value("${external-api.hedging.budget.max-tokens:10}")
+    private int hedgingBudgetMaxTokens;
+
+    /**
+     * Executor das tentativas de hedging, das buscas em lote e das recargas do cache:
+     * uma virtual thread por tarefa, interrompível no cancelamento.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService gatewayExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("gateway-", 0).factory());
+    }
+
+    /**
+     * ProductGateway primário, com os decorators habilitados em volta do ProductGatewayImpl.
+     * Ordem (de fora para dentro): IDs inexistentes → cache → single-flight → hedging → micro-batching → Feign;
+     * as falhas de cache concorrentes são coalescidas e compartilham também o hedge da chamada líder.
+     * No modo snapshot, a foto do catálogo substitui o cache e as camadas de IDs inexistentes.
+     */
+    @Bean
+    @Primary
+    public ProductGateway productGateway(ProductGatewayImpl productGatewayImpl, ExecutorService gatewayExecutor,
+                                         MeterRegistry meterRegistry) {
+        ProductGateway gateway = productGatewayImpl;
+        if (!productGatewayImpl.isUpstreamPagination() && !snapshotEnabled) {
+            logger.warn("Paginação sem suporte na API externa e sem snapshot do catálogo: "
+                    + "cada página busca e ordena o catálogo completo");
+        }
+        if (batchingEnabled) {
+            BatchingProductGateway batching = new BatchingProductGateway(gateway, productGatewayImpl::findByIds,
+                    batchingMaxBatchSize, batchingWindow, gatewayExecutor);
+            new BatchingMetrics(batching).bindTo(meterRegistry);
+            logger.info("Micro-batching do findById habilitado (até {} IDs, janela de {}ms)",
+                    batchingMaxBatchSize, batchingWindow);
+            gateway = batching;
+        }
+        if (hedgingEnabled) {
+            HedgingProductGateway hedging = new HedgingProductGateway(gateway, gatewayExecutor,
+                    new LatencyPercentileTracker(hedgingPercentile, hedgingWindowSize, hedgingMinSamples, 50),
+                    new RetryBudget(hedgingBudgetRatio, hedgingBudgetMinPerSecond, hedgingBudgetMaxTokens),
+                    hedgingMinDelay, hedgingMaxDelay);
+            new HedgingMetrics(hedging).bindTo(meterRegistry);
+            logger.info("Hedging habilitado para findById (p{})", Math.round(hedgingPercentile * 100));
+            gateway = hedging;
+        }
+        if (singleFlightEnabled) {
+            SingleFlightProductGateway singleFlight = new SingleFlightProductGateway(gateway);
+            new SingleFlightMetrics(singleFlight).bindTo(meterRegistry);
+            gateway = singleFlight;
+        }
+        if (snapshotEnabled) {
+            CatalogSnapshotStore store = snapshotPersistenceEnabled
+                    ? new CatalogSnapshotStore(Path.of(snapshotPersistenceFile),
+                            Duration.ofMillis(snapshotPersistenceMaxAge))
+                    : null;
+            SnapshotProductGateway snapshot = new SnapshotProductGateway(gateway,
+                    Duration.ofMillis(snapshotRefreshInterval),
+                    snapshotDeltaSyncEnabled ? productGatewayImpl::findUpdatedSince : null,
+                    Duration.ofMillis(snapshotFullResyncInterval), store);
+            new SnapshotMetrics(snapshot).bindTo(meterRegistry);
+            snapshot.start();
+            logger.info("Modo snapshot do catálogo habilitado (recarga a cada {}ms, delta: {}, persistência: {}); "
+                    + "o cache do gateway não é usado", snapshotRefreshInterval, snapshotDeltaSyncEnabled,
+                    store != null ? store.getFile() : "desabilitada");
+            return snapshot;
+        }
+        if (cacheEnabled) {
+            CachingProductGateway caching = new CachingProductGateway(gateway,
+                    new CacheSettings(findAllMaximumSize, findAllMaximumWeight,
+                            findAllExpireAfterWrite, findAllRefreshAfterWrite, findAllStaleGrace),
+                    new CacheSettings(findByIdMaximumSize, findByIdMaximumWeight,
+                            findByIdExpireAfterWrite, findByIdRefreshAfterWrite, findByIdStaleGrace),
+                    new CacheSettings(findByCategoryMaximumSize, findByCategoryMaximumWeight,
+                            findByCategoryExpireAfterWrite, findByCategoryRefreshAfterWrite,
+                            findByCategoryStaleGrace),
+                    gatewayExecutor);
+            new CachingMetrics(caching).bindTo(meterRegistry);
+            logger.info("Cache do gateway de produtos habilitado");
+            gateway = caching;
+            if (negativeCacheTtl > 0 || bloomFilterEnabled) {
+                NegativeLookupProductGateway negativeLookup = new NegativeLookupProductGateway(gateway,
+                        negativeCacheTtl, negativeCacheMaximumSize,
+                        bloomFilterEnabled, bloomFilterExpectedInsertions, bloomFilterFalsePositiveRate,
+                        findAllExpireAfterWrite);
+                new NegativeLookupMetrics(negativeLookup).bindTo(meterRegistry);
+                gateway = negativeLookup;
+            }
+        }
+        return gateway;
+    }
+
+    /**
+     * AsyncProductGateway primário do modo assíncrono (external-api.async.enabled=true).
+     * Com algum decorator habilitado, as chamadas assíncronas passam pelo mesmo ProductGateway composto acima,
+     * executado no gatewayExecutor; o AsyncFeign (AsyncProductGatewayImpl) só é usado direto quando o gateway
+     * não tem decorators.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "external-api.async.enabled", havingValue = "true")
+    public AsyncProductGateway asyncProductGateway(AsyncProductGatewayImpl asyncProductGatewayImpl,
+                                                   ProductGateway productGateway,
+                                                   ProductGatewayImpl productGatewayImpl,
+                                                   ExecutorService gatewayExecutor) {
+        if (productGateway == productGatewayImpl) {
+            return asyncProductGatewayImpl;
+        }
+        logger.info("Modo assíncrono sobre os decorators do ProductGateway (executados no gatewayExecutor)");
+        return new ExecutorAsyncProductGateway(productGateway, gatewayExecutor);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.feignretryapi.infrastructure.config;
+
+import com.example.feignretryapi.presentation.cache.EncodedResponseCache;
+import com.example.feignretryapi.presentation.cache.EncodedResponseCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração do cache de respostas de listagem já codificadas (JSON e gzip) do ProductController.
+ */
+@Configuration
+@ConditionalOnProperty(name = "external-api.response-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class ResponseCacheConfig {
+
+    @Value("${external-api.response-cache.maximum-size:1000}")
+    private long maximumSize;
+
+    @Bean
+    public EncodedResponseCache encodedResponseCache() {
+        return new EncodedResponseCache(maximumSize);
+    }
+
+    /**
+     * Métricas do cache de respostas (hits, misses e entradas).
+     */
+    @Bean
+    public EncodedResponseCacheMetrics encodedResponseCacheMetrics(EncodedResponseCache encodedResponseCache) {
+        return new EncodedResponseCacheMetrics(encodedResponseCache);
+    }
+}
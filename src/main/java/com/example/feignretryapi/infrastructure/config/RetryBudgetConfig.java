@@ -0,0 +1,44 @@
+package com.example.feignretryapi.infrastructure.config;
+
+import com.example.feignretryapi.infrastructure.client.retryer.RetryBudget;
+import com.example.feignretryapi.infrastructure.client.retryer.RetryBudgetMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração do orçamento global de retries.
+ * Fica separada do {@link FeignConfig} para que exista um único orçamento no processo,
+ * compartilhado pelo CustomRetryer e pelo AsyncRetryer.
+ */
+@Configuration
+public class RetryBudgetConfig {
+
+    @Value("${external-api.retry.budget.enabled:true}")
+    private boolean enabled;
+
+    @Value("${external-api.retry.budget.ratio:0.2}")
+    private double ratio;
+
+    @Value("${external-api.retry.budget.min-retries-per-second:10}")
+    private double minRetriesPerSecond;
+
+    @Value("${external-api.retry.budget.max-tokens:100}")
+    private int maxTokens;
+
+    /**
+     * Bean do orçamento de retries (ilimitado quando external-api.retry.budget.enabled=false).
+     */
+    @Bean
+    public RetryBudget retryBudget() {
+        return enabled ? new RetryBudget(ratio, minRetriesPerSecond, maxTokens) : RetryBudget.unlimited();
+    }
+
+    /**
+     * Métricas do orçamento de retries (tokens, capacidade, retries autorizados e negados).
+     */
+    @Bean
+    public RetryBudgetMetrics retryBudgetMetrics(RetryBudget retryBudget) {
+        return new RetryBudgetMetrics(retryBudget);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.feignretryapi.infrastructure.config;
+
+import com.example.feignretryapi.infrastructure.client.transport.HttpClientType;
+import com.example.feignretryapi.infrastructure.client.transport.HttpTransport;
+import com.example.feignretryapi.infrastructure.monitoring.VirtualThreadPinningMonitor;
+import feign.Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuração do modo virtual threads.
+ * Ativado com spring.threads.virtual.enabled=true: o Spring Boot passa a atender as requisições
+ * do Tomcat em virtual threads, e como o Feign executa na thread da requisição, as chamadas
+ * externas e as esperas do CustomRetryer (Thread.sleep) liberam a carrier thread enquanto bloqueiam.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    @Value("${external-api.virtual-threads.pinning-threshold:20}")
+    private long pinningThreshold;
+
+    public VirtualThreadConfig(HttpTransport<Client> httpTransport) {
+        logger.info("Modo virtual threads ativo para o Tomcat e as chamadas do Feign");
+        HttpClientType type = httpTransport.getType();
+        if (type == HttpClientType.DEFAULT || type == HttpClientType.OKHTTP) {
+            // HttpURLConnection e o pool do OkHttp sincronizam com synchronized e prendem a carrier thread
+            logger.warn("O transporte {} usa blocos synchronized no caminho da requisição. "
+                    + "Prefira apache-hc5 ou jdk com virtual threads.", type);
+        }
+    }
+
+    /**
+     * Monitor de pinning baseado no evento JFR jdk.VirtualThreadPinned.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "external-api.virtual-threads.pinning-detection", havingValue = "true",
+            matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(Duration.ofMillis(pinningThreshold), meterRegistry);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.feignretryapi.infrastructure.gateway;
+
+import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.domain.exception.ExternalApiException;
+import com.example.feignretryapi.domain.exception.ProductNotFoundException;
+import com.example.feignretryapi.domain.gateway.AsyncProductGateway;
+import com.example.feignretryapi.infrastructure.client.feign.AsyncExternalProductClient;
+import com.example.feignretryapi.infrastructure.client.retryer.AsyncRetryer;
+import com.example.feignretryapi.infrastructure.mapper.ProductMapper;
+import feign.FeignException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Implementação do AsyncProductGateway que utiliza o client AsyncFeign.
+ * Os retries são agendados pelo {@link AsyncRetryer} e os erros são traduzidos
+ * da mesma forma que no {@link ProductGatewayImpl}.
+ */
+@Component
+@ConditionalOnProperty(name = "external-api.async.enabled", havingValue = "true")
+public class AsyncProductGatewayImpl implements AsyncProductGateway {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncProductGatewayImpl.class);
+
+    private final AsyncExternalProductClient asyncExternalProductClient;
+    private final ProductMapper productMapper;
+    private final AsyncRetryer asyncRetryer;
+
+    public AsyncProductGatewayImpl(AsyncExternalProductClient asyncExternalProductClient,
+                                   ProductMapper productMapper,
+                                   AsyncRetryer asyncRetryer) {
+        this.asyncExternalProductClient = asyncExternalProductClient;
+        this.productMapper = productMapper;
+        this.asyncRetryer = asyncRetryer;
+    }
+
+    @Override
+    public CompletableFuture<List<Product>> findAll() {
+        logger.info("Buscando todos os produtos da API externa (assíncrono)");
+        return asyncRetryer.execute(asyncExternalProductClient::getAllProducts)
+                .handle((products, error) -> {
+                    if (error != null) {
+                        throw translate(error, "Falha ao buscar produtos da API externa");
+                    }
+                    logger.info("Encontrados {} produtos", products.size());
+                    return products;
+                });
+    }
+
+    @Override
+    public CompletableFuture<Optional<Product>> findById(String id) {
+        logger.info("Buscando produto com ID: {} (assíncrono)", id);
+        return asyncRetryer.execute(() -> asyncExternalProductClient.getProductById(id))
+                .handle((externalProduct, error) -> {
+                    if (error != null) {
+                        Throwable cause = AsyncRetryer.unwrap(error);
+                        if (cause instanceof ProductNotFoundException || cause instanceof FeignException.NotFound) {
+                            logger.warn("Produto não encontrado com ID: {}", id);
+                            return Optional.empty();
+                        }
+                        throw translate(cause, "Falha ao buscar produto da API externa");
+                    }
+                    Product product = productMapper.toDomain(externalProduct);
+                    logger.info("Produto encontrado: {}", product.getName());
+                    return Optional.of(product);
+                });
+    }
+
+    @Override
+    public CompletableFuture<List<Product>> findByCategory(String category) {
+        logger.info("Buscando produtos da categoria: {} (assíncrono)", category);
+        return asyncRetryer.execute(() -> asyncExternalProductClient.getProductsByCategory(category))
+                .handle((products, error) -> {
+                    if (error != null) {
+                        throw translate(error, "Falha ao buscar produtos por categoria da API externa");
+                    }
+                    logger.info("Encontrados {} produtos na categoria {}", products.size(), category);
+                    return products;
+                });
+    }
+
+    /**
+     * Converte a falha do futuro na mesma exceção lançada pelo gateway síncrono.
+     */
+    private CompletionException translate(Throwable error, String message) {
+        Throwable cause = AsyncRetryer.unwrap(error);
+        if (cause instanceof FeignException feignException) {
+            logger.error("{}: {}", message, feignException.getMessage());
+            return new CompletionException(new ExternalApiException(message, feignException.status(), false, feignException));
+        }
+        return new CompletionException(cause);
+    }
+}
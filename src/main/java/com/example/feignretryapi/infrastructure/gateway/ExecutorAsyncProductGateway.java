@@ -0,0 +1,44 @@
+package com.example.feignretryapi.infrastructure.gateway;
+
+import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.domain.gateway.AsyncProductGateway;
+import com.example.feignretryapi.domain.gateway.ProductGateway;
+import com.example.feignretryapi.infrastructure.gateway.caching.CacheFreshness;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * AsyncProductGateway sobre o ProductGateway composto pelo ProductGatewayConfig: cada operação roda no
+ * executor, liberando a thread chamadora, e passa pelos mesmos decorators (snapshot, cache, IDs inexistentes,
+ * single-flight, hedging, micro-batching) e pelas mesmas camadas do client Feign que as chamadas síncronas.
+ * A idade do dado servido pelo cache continua registrada no Recorder da requisição.
+ */
+public class ExecutorAsyncProductGateway implements AsyncProductGateway {
+
+    private final ProductGateway delegate;
+    private final Executor executor;
+
+    public ExecutorAsyncProductGateway(ProductGateway delegate, Executor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<List<Product>> findAll() {
+        return CompletableFuture.supplyAsync(CacheFreshness.propagate(delegate::findAll), executor);
+    }
+
+    @Override
+    public CompletableFuture<Optional<Product>> findById(String id) {
+        return CompletableFuture.supplyAsync(CacheFreshness.propagate(() -> delegate.findById(id)), executor);
+    }
+
+    @Override
+    public CompletableFuture<List<Product>> findByCategory(String category) {
+        return CompletableFuture.supplyAsync(
+                CacheFreshness.propagate(() -> delegate.findByCategory(category)), executor);
+    }
+}
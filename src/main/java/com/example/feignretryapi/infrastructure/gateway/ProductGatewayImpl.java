@@ -1,22 +1,32 @@
 package com.example.feignretryapi.infrastructure.gateway;
 
 import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.domain.entity.ProductPage;
 import com.example.feignretryapi.domain.exception.ExternalApiException;
 import com.example.feignretryapi.domain.exception.ProductNotFoundException;
 import com.example.feignretryapi.domain.gateway.ProductGateway;
 import com.example.feignretryapi.infrastructure.client.feign.ExternalProductClient;
 import com.example.feignretryapi.infrastructure.client.feign.dto.ExternalProductDto;
+import com.example.feignretryapi.infrastructure.client.streaming.ExternalProductStreamer;
 import com.example.feignretryapi.infrastructure.mapper.ProductMapper;
 import feign.FeignException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Implementação do ProductGateway que utiliza o Feign Client.
+ * As listagens completas já chegam do client como {@link Product}; as demais consultas passam pelo
+ * ProductMapper.
  */
 @Component
 public class ProductGatewayImpl implements ProductGateway {
@@ -25,19 +35,30 @@ public class ProductGatewayImpl implements ProductGateway {
 
     private final ExternalProductClient externalProductClient;
     private final ProductMapper productMapper;
+    private final ExternalProductStreamer productStreamer;
+    private final boolean upstreamPagination;
 
     public ProductGatewayImpl(ExternalProductClient externalProductClient, ProductMapper productMapper) {
+        this(externalProductClient, productMapper, null, false);
+    }
+
+    @Autowired
+    public ProductGatewayImpl(ExternalProductClient externalProductClient, ProductMapper productMapper,
+                              ExternalProductStreamer productStreamer,
+                              @Value("${external-api.pagination.upstream-enabled:false}") boolean upstreamPagination) {
         this.externalProductClient = externalProductClient;
         this.productMapper = productMapper;
+        this.productStreamer = productStreamer;
+        this.upstreamPagination = upstreamPagination;
     }
 
     @Override
     public List<Product> findAll() {
         logger.info("Buscando todos os produtos da API externa");
         try {
-            List<ExternalProductDto> externalProducts = externalProductClient.getAllProducts();
-            logger.info("Encontrados {} produtos", externalProducts.size());
-            return productMapper.toDomainList(externalProducts);
+            List<Product> products = externalProductClient.getAllProducts();
+            logger.info("Encontrados {} produtos", products.size());
+            return products;
         } catch (FeignException e) {
             logger.error("Erro ao buscar produtos da API externa: {}", e.getMessage());
             throw new ExternalApiException(
@@ -49,6 +70,39 @@ public class ProductGatewayImpl implements ProductGateway {
         }
     }
 
+    /**
+     * Lê o catálogo da API externa em streaming, mapeando cada produto assim que é lido,
+     * sem materializar as listas de DTOs e de produtos.
+     */
+    @Override
+    public void streamAll(Consumer<? super Product> consumer) {
+        if (productStreamer == null) {
+            ProductGateway.super.streamAll(consumer);
+            return;
+        }
+        logger.info("Transmitindo todos os produtos da API externa");
+        try {
+            long count = productStreamer.streamAllProducts(dto -> consumer.accept(productMapper.toDomain(dto)));
+            logger.info("Transmitidos {} produtos", count);
+        } catch (FeignException e) {
+            logger.error("Erro ao transmitir produtos da API externa: {}", e.getMessage());
+            throw new ExternalApiException(
+                    "Falha ao buscar produtos da API externa",
+                    e.status(),
+                    false,
+                    e
+            );
+        } catch (IOException e) {
+            logger.error("Erro ao ler produtos da API externa em streaming: {}", e.getMessage());
+            throw new ExternalApiException(
+                    "Falha ao ler produtos da API externa",
+                    0,
+                    false,
+                    e
+            );
+        }
+    }
+
     @Override
     public Optional<Product> findById(String id) {
         logger.info("Buscando produto com ID: {}", id);
@@ -74,13 +128,86 @@ public class ProductGatewayImpl implements ProductGateway {
         }
     }
 
+    /**
+     * Busca vários produtos em uma única chamada à API externa.
+     * Usado pelo micro-batching do findById; IDs inexistentes não aparecem no resultado.
+     */
+    public List<Product> findByIds(List<String> ids) {
+        logger.info("Buscando {} produtos por ID em lote", ids.size());
+        try {
+            List<ExternalProductDto> externalProducts = externalProductClient.getProductsByIds(ids);
+            logger.info("Encontrados {} de {} produtos do lote", externalProducts.size(), ids.size());
+            return productMapper.toDomainList(externalProducts);
+        } catch (FeignException e) {
+            logger.error("Erro ao buscar lote de {} produtos: {}", ids.size(), e.getMessage());
+            throw new ExternalApiException(
+                    "Falha ao buscar lote de produtos da API externa",
+                    e.status(),
+                    false,
+                    e
+            );
+        }
+    }
+
+    /**
+     * Busca os produtos alterados a partir de {@code since} (updated_at maior ou igual).
+     * Usado pela sincronização incremental da foto do catálogo.
+     */
+    public List<Product> findUpdatedSince(LocalDateTime since) {
+        String updatedSince = since.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        logger.info("Buscando produtos alterados desde {}", updatedSince);
+        try {
+            List<ExternalProductDto> externalProducts = externalProductClient.getProductsUpdatedSince(updatedSince);
+            logger.info("Encontrados {} produtos alterados desde {}", externalProducts.size(), updatedSince);
+            return productMapper.toDomainList(externalProducts);
+        } catch (FeignException e) {
+            logger.error("Erro ao buscar produtos alterados desde {}: {}", updatedSince, e.getMessage());
+            throw new ExternalApiException(
+                    "Falha ao buscar produtos alterados da API externa",
+                    e.status(),
+                    false,
+                    e
+            );
+        }
+    }
+
+    /**
+     * Busca a página na API externa pedindo um produto a mais que o limite, só para saber se há próxima página.
+     * Sem paginação na API externa, ou se a resposta mostra que ela ignorou limit/after, pagina o catálogo completo.
+     */
+    @Override
+    public ProductPage findPage(String afterId, int limit) {
+        if (!upstreamPagination) {
+            return ProductGateway.super.findPage(afterId, limit);
+        }
+        logger.info("Buscando página de até {} produtos após o ID {}", limit, afterId);
+        try {
+            List<ExternalProductDto> externalProducts = externalProductClient.getProductsPage(afterId, limit + 1);
+            List<Product> products = productMapper.toDomainList(externalProducts);
+            if (!isUpstreamPage(products, afterId, limit)) {
+                logger.warn("API externa ignorou limit/after na página após o ID {}; paginando o catálogo completo",
+                        afterId);
+                return ProductGateway.super.findPage(afterId, limit);
+            }
+            return ProductPage.fromLookahead(products, limit);
+        } catch (FeignException e) {
+            logger.error("Erro ao buscar página de produtos após o ID {}: {}", afterId, e.getMessage());
+            throw new ExternalApiException(
+                    "Falha ao buscar produtos da API externa",
+                    e.status(),
+                    false,
+                    e
+            );
+        }
+    }
+
     @Override
     public List<Product> findByCategory(String category) {
         logger.info("Buscando produtos da categoria: {}", category);
         try {
-            List<ExternalProductDto> externalProducts = externalProductClient.getProductsByCategory(category);
-            logger.info("Encontrados {} produtos na categoria {}", externalProducts.size(), category);
-            return productMapper.toDomainList(externalProducts);
+            List<Product> products = externalProductClient.getProductsByCategory(category);
+            logger.info("Encontrados {} produtos na categoria {}", products.size(), category);
+            return products;
         } catch (FeignException e) {
             logger.error("Erro ao buscar produtos da categoria {}: {}", category, e.getMessage());
             throw new ExternalApiException(
@@ -91,4 +218,54 @@ public class ProductGatewayImpl implements ProductGateway {
             );
         }
     }
+
+    @Override
+    public ProductPage findPageByCategory(String category, String afterId, int limit) {
+        if (!upstreamPagination) {
+            return ProductGateway.super.findPageByCategory(category, afterId, limit);
+        }
+        logger.info("Buscando página de até {} produtos da categoria {} após o ID {}", limit, category, afterId);
+        try {
+            List<ExternalProductDto> externalProducts =
+                    externalProductClient.getProductsByCategoryPage(category, afterId, limit + 1);
+            List<Product> products = productMapper.toDomainList(externalProducts);
+            if (!isUpstreamPage(products, afterId, limit)) {
+                logger.warn("API externa ignorou limit/after na página da categoria {} após o ID {}; "
+                        + "paginando a categoria completa", category, afterId);
+                return ProductGateway.super.findPageByCategory(category, afterId, limit);
+            }
+            return ProductPage.fromLookahead(products, limit);
+        } catch (FeignException e) {
+            logger.error("Erro ao buscar página da categoria {} após o ID {}: {}", category, afterId, e.getMessage());
+            throw new ExternalApiException(
+                    "Falha ao buscar produtos por categoria da API externa",
+                    e.status(),
+                    false,
+                    e
+            );
+        }
+    }
+
+    /**
+     * Confere se a resposta respeitou a paginação pedida: no máximo {@code limit + 1} produtos, todos com ID
+     * maior que {@code afterId} e em ordem estritamente crescente de ID. Uma API externa que ignora os
+     * parâmetros devolve a lista completa fora de ordem, e recortá-la geraria cursores que pulam ou repetem itens.
+     */
+    private static boolean isUpstreamPage(List<Product> products, String afterId, int limit) {
+        if (products.size() > limit + 1) {
+            return false;
+        }
+        String previousId = afterId;
+        for (Product product : products) {
+            if (product.getId() == null || (previousId != null && product.getId().compareTo(previousId) <= 0)) {
+                return false;
+            }
+            previousId = product.getId();
+        }
+        return true;
+    }
+
+    public boolean isUpstreamPagination() {
+        return upstreamPagination;
+    }
 }
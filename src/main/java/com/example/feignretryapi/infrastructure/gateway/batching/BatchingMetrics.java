@@ -0,0 +1,42 @@
+package com.example.feignretryapi.infrastructure.gateway.batching;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Expõe o micro-batching do findById como métricas do Micrometer.
+ * Disponíveis em /actuator/metrics/gateway.batching.*
+ */
+public class BatchingMetrics implements MeterBinder {
+
+    private final MicroBatcher<?, ?> batcher;
+
+    public BatchingMetrics(BatchingProductGateway gateway) {
+        this.batcher = gateway.getBatcher();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("gateway.batching.batches", batcher, MicroBatcher::getBatchesBySize)
+                .description("Lotes despachados, por gatilho")
+                .tag("trigger", "size")
+                .register(registry);
+        FunctionCounter.builder("gateway.batching.batches", batcher, MicroBatcher::getBatchesByWindow)
+                .description("Lotes despachados, por gatilho")
+                .tag("trigger", "window")
+                .register(registry);
+        FunctionCounter.builder("gateway.batching.keys", batcher, MicroBatcher::getKeys)
+                .description("IDs pedidos ao micro-batching")
+                .tag("stage", "requested")
+                .register(registry);
+        FunctionCounter.builder("gateway.batching.keys", batcher, MicroBatcher::getBatchedKeys)
+                .description("IDs pedidos ao micro-batching")
+                .tag("stage", "sent")
+                .register(registry);
+        Gauge.builder("gateway.batching.fill.ratio", batcher, MicroBatcher::getAverageFill)
+                .description("Preenchimento médio dos lotes em relação ao tamanho máximo")
+                .register(registry);
+    }
+}
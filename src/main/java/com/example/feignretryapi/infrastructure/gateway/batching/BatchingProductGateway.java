@@ -0,0 +1,94 @@
+package com.example.feignretryapi.infrastructure.gateway.batching;
+
+import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.domain.entity.ProductPage;
+import com.example.feignretryapi.domain.gateway.ProductGateway;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Decorator do ProductGateway que agrupa os findById concorrentes em buscas em lote.
+ * Cada chamador espera o seu produto (ou Optional.empty, se o lote não o trouxe);
+ * findAll, findByCategory e as páginas seguem direto para o delegate.
+ */
+public class BatchingProductGateway implements ProductGateway {
+
+    private final ProductGateway delegate;
+    private final MicroBatcher<String, Product> batcher;
+
+    /**
+     * @param delegate     gateway usado em findAll e findByCategory
+     * @param bulkLoader   busca em lote por IDs (IDs inexistentes omitidos)
+     * @param maxBatchSize máximo de IDs por busca em lote
+     * @param windowMillis tempo máximo de espera por outros IDs antes de despachar o lote
+     * @param executor     executor das buscas em lote
+     */
+    public BatchingProductGateway(ProductGateway delegate, Function<List<String>, List<Product>> bulkLoader,
+                                  int maxBatchSize, long windowMillis, Executor executor) {
+        this.delegate = delegate;
+        this.batcher = new MicroBatcher<>(ids -> index(bulkLoader.apply(ids)), maxBatchSize, windowMillis, executor);
+    }
+
+    private static Map<String, Product> index(List<Product> products) {
+        return products.stream().collect(Collectors.toMap(Product::getId, Function.identity(), (a, b) -> a));
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public void streamAll(Consumer<? super Product> consumer) {
+        delegate.streamAll(consumer);
+    }
+
+    @Override
+    public Optional<Product> findById(String id) {
+        return Optional.ofNullable(await(batcher.load(id)));
+    }
+
+    @Override
+    public List<Product> findByCategory(String category) {
+        return delegate.findByCategory(category);
+    }
+
+    @Override
+    public ProductPage findPage(String afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public ProductPage findPageByCategory(String category, String afterId, int limit) {
+        return delegate.findPageByCategory(category, afterId, limit);
+    }
+
+    private static Product await(CompletableFuture<Product> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Espera pelo lote interrompida", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public MicroBatcher<String, Product> getBatcher() {
+        return batcher;
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.feignretryapi.infrastructure.gateway.batching;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Agrupa chaves pedidas dentro de uma janela curta em uma única carga em lote (estilo DataLoader).
+ * O lote é despachado quando a janela termina ou quando atinge o tamanho máximo, o que vier primeiro.
+ * Chaves repetidas no mesmo lote compartilham o futuro. Chaves ausentes do resultado completam com null,
+ * e uma falha da carga completa todos os futuros do lote com a mesma exceção.
+ *
+ * @param <K> tipo da chave
+ * @param <V> tipo do valor
+ */
+public class MicroBatcher<K, V> {
+
+    private final Function<List<K>, Map<K, V>> batchLoader;
+    private final int maxBatchSize;
+    private final long windowMillis;
+    private final Executor executor;
+    private final Executor delayedExecutor;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private Batch<K, V> current;
+
+    private final LongAdder keys = new LongAdder();
+    private final LongAdder batchesBySize = new LongAdder();
+    private final LongAdder batchesByWindow = new LongAdder();
+    private final LongAdder batchedKeys = new LongAdder();
+
+    private static final class Batch<K, V> {
+        private final Map<K, CompletableFuture<V>> entries = new LinkedHashMap<>();
+        private boolean dispatched;
+    }
+
+    /**
+     * @param batchLoader  carga em lote: recebe as chaves distintas e devolve os valores encontrados por chave
+     * @param maxBatchSize máximo de chaves distintas por lote
+     * @param windowMillis tempo máximo que a primeira chave de um lote espera por outras
+     * @param executor     executor onde a carga em lote roda
+     */
+    public MicroBatcher(Function<List<K>, Map<K, V>> batchLoader, int maxBatchSize, long windowMillis,
+                        Executor executor) {
+        if (maxBatchSize < 1 || windowMillis < 0) {
+            throw new IllegalArgumentException("Configuração de lote inválida: tamanho " + maxBatchSize
+                    + ", janela " + windowMillis);
+        }
+        this.batchLoader = batchLoader;
+        this.maxBatchSize = maxBatchSize;
+        this.windowMillis = windowMillis;
+        this.executor = executor;
+        this.delayedExecutor = CompletableFuture.delayedExecutor(windowMillis, TimeUnit.MILLISECONDS, executor);
+    }
+
+    public CompletableFuture<V> load(K key) {
+        keys.increment();
+        Batch<K, V> full = null;
+        CompletableFuture<V> future;
+        lock.lock();
+        try {
+            if (current == null) {
+                Batch<K, V> batch = new Batch<>();
+                current = batch;
+                delayedExecutor.execute(() -> dispatchOnWindow(batch));
+            }
+            future = current.entries.computeIfAbsent(key, k -> new CompletableFuture<>());
+            if (current.entries.size() >= maxBatchSize) {
+                full = detach(current);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full != null) {
+            batchesBySize.increment();
+            Batch<K, V> batch = full;
+            executor.execute(() -> run(batch));
+        }
+        return future;
+    }
+
+    private void dispatchOnWindow(Batch<K, V> batch) {
+        lock.lock();
+        try {
+            if (batch.dispatched) {
+                return;
+            }
+            detach(batch);
+        } finally {
+            lock.unlock();
+        }
+        batchesByWindow.increment();
+        run(batch);
+    }
+
+    private Batch<K, V> detach(Batch<K, V> batch) {
+        batch.dispatched = true;
+        if (current == batch) {
+            current = null;
+        }
+        return batch;
+    }
+
+    private void run(Batch<K, V> batch) {
+        List<K> batchKeys = new ArrayList<>(batch.entries.keySet());
+        batchedKeys.add(batchKeys.size());
+        Map<K, V> values;
+        try {
+            values = batchLoader.apply(batchKeys);
+        } catch (RuntimeException | Error e) {
+            batch.entries.values().forEach(future -> future.completeExceptionally(e));
+            return;
+        }
+        batch.entries.forEach((key, future) -> future.complete(values.get(key)));
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public long getWindowMillis() {
+        return windowMillis;
+    }
+
+    /**
+     * Chaves pedidas (incluindo repetidas dentro de um lote).
+     */
+    public long getKeys() {
+        return keys.sum();
+    }
+
+    /**
+     * Chaves distintas enviadas nas cargas em lote.
+     */
+    public long getBatchedKeys() {
+        return batchedKeys.sum();
+    }
+
+    public long getBatchesBySize() {
+        return batchesBySize.sum();
+    }
+
+    public long getBatchesByWindow() {
+        return batchesByWindow.sum();
+    }
+
+    /**
+     * Preenchimento médio dos lotes em relação ao tamanho máximo (0..1).
+     */
+    public double getAverageFill() {
+        long batches = batchesBySize.sum() + batchesByWindow.sum();
+        return batches == 0 ? 0 : (double) batchedKeys.sum() / batches / maxBatchSize;
+    }
+}
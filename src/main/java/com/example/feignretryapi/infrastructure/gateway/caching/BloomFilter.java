@@ -0,0 +1,101 @@
+package com.example.feignretryapi.infrastructure.gateway.caching;
+
+import java.util.Collection;
+
+/**
+ * Bloom filter imutável de strings, construído de uma vez a partir de uma coleção.
+ * {@link #mightContain(String)} nunca dá falso negativo; a taxa de falso positivo é dimensionada
+ * pelo número esperado de elementos e pela taxa desejada (m = -n·ln p / ln²2, k = m/n·ln 2).
+ * As k posições vêm de double hashing (h1 + i·h2) sobre um hash de 64 bits.
+ */
+public final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final int size;
+
+    private BloomFilter(long bitCount, int hashCount, int size) {
+        this.bits = new long[(int) ((bitCount + 63) / 64)];
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+        this.size = size;
+    }
+
+    /**
+     * Constrói o filtro com as chaves informadas, dimensionado para o maior entre
+     * {@code expectedInsertions} e o tamanho da coleção.
+     */
+    public static BloomFilter of(Collection<String> keys, int expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Taxa de falso positivo deve estar entre 0 e 1: " + falsePositiveRate);
+        }
+        int n = Math.max(1, Math.max(expectedInsertions, keys.size()));
+        long m = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (LN2 * LN2)));
+        int k = Math.max(1, (int) Math.round((double) m / n * LN2));
+        BloomFilter filter = new BloomFilter(m, k, keys.size());
+        keys.forEach(filter::put);
+        return filter;
+    }
+
+    private void put(String key) {
+        long hash = hash(key);
+        long h1 = (int) hash;
+        long h2 = hash >>> 32;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            bits[(int) (index >>> 6)] |= 1L << index;
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        long h1 = (int) hash;
+        long h2 = hash >>> 32;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Taxa de falso positivo esperada para o número de elementos inseridos: (1 - e^(-k·n/m))^k.
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) hashCount * size / bitCount), hashCount);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private static long hash(String key) {
+        long h = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0xFF51AFD7ED558CCDL;
+            h = Long.rotateLeft(h, 31);
+        }
+        h ^= key.length();
+        // fmix64 do MurmurHash3
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.feignretryapi.infrastructure.gateway.caching;
+
+/**
+ * Valor cacheado com o instante da carga (nanos do ticker do cache), usado para calcular idade e staleness.
+ */
+public record CacheEntry<V>(V value, long loadedAtNanos) {
+}
@@ -0,0 +1,96 @@
+package com.example.feignretryapi.infrastructure.gateway.caching;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Idade e staleness do dado servido pelo cache.
+ * Quem atende a chamada (na aplicação, o filtro da camada de apresentação) abre um {@link Recorder} na thread
+ * corrente com {@link #open()}; as consultas ao cache feitas até o fechamento ficam registradas nele, e a
+ * resposta pode informar os headers Age e X-Cache-Status mesmo quando o corpo é escrito em outro dispatch.
+ * Sem um Recorder aberto, nada é registrado.
+ *
+ * @param ageSeconds idade do dado em segundos
+ * @param stale      se o dado passou do TTL (servido durante a recarga ou no lugar de um erro)
+ */
+public record CacheFreshness(long ageSeconds, boolean stale) {
+
+    private static final ThreadLocal<Recorder> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Abre um Recorder na thread corrente, até o {@link Recorder#close()}.
+     */
+    public static Recorder open() {
+        Recorder recorder = new Recorder(CURRENT.get());
+        CURRENT.set(recorder);
+        return recorder;
+    }
+
+    /**
+     * Tarefa que, em outra thread, registra no Recorder aberto agora na thread corrente (se houver).
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        Recorder recorder = CURRENT.get();
+        if (recorder == null) {
+            return task;
+        }
+        return () -> {
+            Recorder previous = CURRENT.get();
+            CURRENT.set(recorder);
+            try {
+                return task.get();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * Registra a idade do dado servido no Recorder aberto na thread corrente, se houver.
+     */
+    static void record(long ageSeconds, boolean stale) {
+        Recorder recorder = CURRENT.get();
+        if (recorder != null) {
+            recorder.record(new CacheFreshness(ageSeconds, stale));
+        }
+    }
+
+    /**
+     * Idade do dado servido durante um escopo; com várias consultas, vale a mais antiga.
+     */
+    public static final class Recorder implements AutoCloseable {
+
+        private final Recorder previous;
+        private CacheFreshness oldest;
+
+        private Recorder(Recorder previous) {
+            this.previous = previous;
+        }
+
+        private synchronized void record(CacheFreshness freshness) {
+            if (oldest == null || freshness.ageSeconds() > oldest.ageSeconds()) {
+                oldest = freshness;
+            }
+        }
+
+        public synchronized Optional<CacheFreshness> oldest() {
+            return Optional.ofNullable(oldest);
+        }
+
+        /**
+         * Desvincula o Recorder da thread; o que foi registrado continua disponível em {@link #oldest()}.
+         */
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
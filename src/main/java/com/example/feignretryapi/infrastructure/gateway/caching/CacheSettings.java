@@ -0,0 +1,59 @@
+package com.example.feignretryapi.infrastructure.gateway.caching;
+
+/**
+ * Configurações do cache de uma operação do gateway.
+ * O limite é por número de entradas ({@code maximumSize}) ou por número de produtos
+ * armazenados ({@code maximumWeight}); exatamente um dos dois deve ser informado.
+ *
+ * @param maximumSize       máximo de entradas (0 = limitado por peso)
+ * @param maximumWeight     máximo de produtos somando todas as entradas (0 = limitado por tamanho)
+ * @param expireAfterWrite  tempo em que uma entrada é considerada fresca (ms)
+ * @param refreshAfterWrite idade a partir da qual a entrada é recarregada em background no próximo acesso
+ *                          (ms, 0 = sem refresh antecipado)
+ * @param staleGrace        tempo após o TTL em que a entrada vencida ainda é servida enquanto é recarregada,
+ *                          ou no lugar de um erro da API externa (ms, 0 = sem stale)
+ */
+public record CacheSettings(
+        long maximumSize,
+        long maximumWeight,
+        long expireAfterWrite,
+        long refreshAfterWrite,
+        long staleGrace
+) {
+
+    public CacheSettings {
+        if ((maximumSize > 0) == (maximumWeight > 0)) {
+            throw new IllegalArgumentException("Informe maximum-size ou maximum-weight para o cache: tamanho "
+                    + maximumSize + ", peso " + maximumWeight);
+        }
+        if (expireAfterWrite <= 0) {
+            throw new IllegalArgumentException("expire-after-write deve ser positivo: " + expireAfterWrite);
+        }
+        if (refreshAfterWrite < 0 || refreshAfterWrite >= expireAfterWrite) {
+            throw new IllegalArgumentException("refresh-after-write deve ser menor que expire-after-write: "
+                    + refreshAfterWrite);
+        }
+        if (staleGrace < 0) {
+            throw new IllegalArgumentException("stale-grace não pode ser negativo: " + staleGrace);
+        }
+    }
+
+    public CacheSettings(long maximumSize, long maximumWeight, long expireAfterWrite, long refreshAfterWrite) {
+        this(maximumSize, maximumWeight, expireAfterWrite, refreshAfterWrite, 0);
+    }
+
+    public boolean isWeighted() {
+        return maximumWeight > 0;
+    }
+
+    /**
+     * Idade em que a recarga em background é disparada: o refresh antecipado, ou o fim do TTL
+     * quando há período de stale (a entrada vencida é servida enquanto recarrega).
+     */
+    long effectiveRefreshAfterWrite() {
+        if (refreshAfterWrite > 0) {
+            return refreshAfterWrite;
+        }
+        return staleGrace > 0 ? expireAfterWrite : 0;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.feignretryapi.infrastructure.gateway.caching;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Expõe as estatísticas dos caches do {@link CachingProductGateway} (acertos, falhas, evictions, tamanho)
+ * e as respostas servidas vencidas.
+ * Disponíveis em /actuator/metrics/cache.*, com a tag cache=products.&lt;operação&gt;
+ */
+public class CachingMetrics implements MeterBinder {
+
+    private final CachingProductGateway gateway;
+
+    public CachingMetrics(CachingProductGateway gateway) {
+        this.gateway = gateway;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        register(registry, "products.findAll", gateway.getFindAllCache());
+        register(registry, "products.findById", gateway.getFindByIdCache());
+        register(registry, "products.findByCategory", gateway.getFindByCategoryCache());
+    }
+
+    private void register(MeterRegistry registry, String name, CachingProductGateway.OperationCache<?> cache) {
+        CaffeineCacheMetrics.monitor(registry, cache.getCache(), name);
+        FunctionCounter.builder("cache.stale.served", cache, CachingProductGateway.OperationCache::getStaleServed)
+                .description("Respostas servidas do cache após o TTL")
+                .tag("cache", name)
+                .register(registry);
+    }
+}
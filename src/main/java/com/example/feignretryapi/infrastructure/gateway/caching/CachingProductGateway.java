@@ -0,0 +1,156 @@
+package com.example.feignretryapi.infrastructure.gateway.caching;
+
+import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.domain.entity.ProductPage;
+import com.example.feignretryapi.domain.gateway.ProductGateway;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.Weigher;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Decorator do ProductGateway com cache read-through (Caffeine, eviction W-TinyLFU).
+ * Cada operação tem seu cache, TTL e limite; com refresh-after-write, uma entrada antiga
+ * é devolvida enquanto a recarga roda no executor, sem bloquear quem lê.
+ * Com stale-grace, a entrada vencida é mantida por mais esse período: é servida imediatamente
+ * enquanto recarrega (stale-while-revalidate) e continua sendo servida se a recarga falhar
+ * (stale-if-error), até o fim do período.
+ * Exceções não são cacheadas, e um findById sem resultado também não (o próximo acesso consulta de novo).
+ * As páginas não são cacheadas: as chaves (cursor, limite) quase não se repetem, e cada página já é uma consulta
+ * do tamanho do limite no delegate.
+ */
+public class CachingProductGateway implements ProductGateway {
+
+    private static final String ALL = "all";
+
+    private final ProductGateway delegate;
+    private final OperationCache<List<Product>> findAllCache;
+    private final OperationCache<Product> findByIdCache;
+    private final OperationCache<List<Product>> findByCategoryCache;
+
+    public CachingProductGateway(ProductGateway delegate, CacheSettings findAllSettings,
+                                 CacheSettings findByIdSettings, CacheSettings findByCategorySettings,
+                                 Executor refreshExecutor) {
+        this(delegate, findAllSettings, findByIdSettings, findByCategorySettings, refreshExecutor, Ticker.systemTicker());
+    }
+
+    CachingProductGateway(ProductGateway delegate, CacheSettings findAllSettings,
+                          CacheSettings findByIdSettings, CacheSettings findByCategorySettings,
+                          Executor refreshExecutor, Ticker ticker) {
+        this.delegate = delegate;
+        this.findAllCache = new OperationCache<>(findAllSettings, refreshExecutor, ticker,
+                List::size, key -> delegate.findAll());
+        this.findByIdCache = new OperationCache<>(findByIdSettings, refreshExecutor, ticker,
+                product -> 1, id -> delegate.findById(id).orElse(null));
+        this.findByCategoryCache = new OperationCache<>(findByCategorySettings, refreshExecutor, ticker,
+                List::size, delegate::findByCategory);
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return findAllCache.get(ALL);
+    }
+
+    @Override
+    public Optional<Product> findById(String id) {
+        return Optional.ofNullable(findByIdCache.get(id));
+    }
+
+    @Override
+    public List<Product> findByCategory(String category) {
+        return findByCategoryCache.get(category);
+    }
+
+    @Override
+    public ProductPage findPage(String afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public ProductPage findPageByCategory(String category, String afterId, int limit) {
+        return delegate.findPageByCategory(category, afterId, limit);
+    }
+
+    public OperationCache<List<Product>> getFindAllCache() {
+        return findAllCache;
+    }
+
+    public OperationCache<Product> getFindByIdCache() {
+        return findByIdCache;
+    }
+
+    public OperationCache<List<Product>> getFindByCategoryCache() {
+        return findByCategoryCache;
+    }
+
+    /**
+     * Cache de uma operação. As entradas guardam o instante da carga: até o TTL são frescas,
+     * e no período de stale são servidas marcadas como vencidas.
+     */
+    public static final class OperationCache<V> {
+
+        private final LoadingCache<String, CacheEntry<V>> cache;
+        private final Ticker ticker;
+        private final long ttlNanos;
+        private final LongAdder staleServed = new LongAdder();
+
+        OperationCache(CacheSettings settings, Executor executor, Ticker ticker,
+                       ToIntFunction<V> weight, Function<String, V> loader) {
+            this.ticker = ticker;
+            this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(settings.expireAfterWrite());
+            CacheLoader<String, CacheEntry<V>> entryLoader = key -> {
+                V value = loader.apply(key);
+                return value == null ? null : new CacheEntry<>(value, ticker.read());
+            };
+            Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                    .expireAfterWrite(Duration.ofMillis(settings.expireAfterWrite() + settings.staleGrace()))
+                    .executor(executor)
+                    .ticker(ticker)
+                    .recordStats();
+            if (settings.effectiveRefreshAfterWrite() > 0) {
+                builder.refreshAfterWrite(Duration.ofMillis(settings.effectiveRefreshAfterWrite()));
+            }
+            if (settings.isWeighted()) {
+                Weigher<String, CacheEntry<V>> weigher = (key, entry) -> weight.applyAsInt(entry.value());
+                this.cache = builder.maximumWeight(settings.maximumWeight()).weigher(weigher).build(entryLoader);
+            } else {
+                this.cache = builder.maximumSize(settings.maximumSize()).build(entryLoader);
+            }
+        }
+
+        V get(String key) {
+            CacheEntry<V> entry = cache.get(key);
+            if (entry == null) {
+                return null;
+            }
+            long ageNanos = Math.max(0, ticker.read() - entry.loadedAtNanos());
+            boolean stale = ageNanos > ttlNanos;
+            if (stale) {
+                staleServed.increment();
+            }
+            CacheFreshness.record(TimeUnit.NANOSECONDS.toSeconds(ageNanos), stale);
+            return entry.value();
+        }
+
+        public LoadingCache<String, CacheEntry<V>> getCache() {
+            return cache;
+        }
+
+        /**
+         * Respostas servidas após o TTL (durante a recarga ou no lugar de um erro).
+         */
+        public long getStaleServed() {
+            return staleServed.sum();
+        }
+    }
+}
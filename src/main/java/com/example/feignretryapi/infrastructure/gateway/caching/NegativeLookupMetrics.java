@@ -0,0 +1,45 @@
+package com.example.feignretryapi.infrastructure.gateway.caching;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Expõe as rejeições do {@link NegativeLookupProductGateway} e o estado do Bloom filter.
+ * Disponíveis em /actuator/metrics/gateway.negative-lookup.*
+ */
+public class NegativeLookupMetrics implements MeterBinder {
+
+    private final NegativeLookupProductGateway gateway;
+
+    public NegativeLookupMetrics(NegativeLookupProductGateway gateway) {
+        this.gateway = gateway;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("gateway.negative-lookup.rejected", gateway,
+                        NegativeLookupProductGateway::getNegativeCacheRejections)
+                .description("findById respondidos como inexistentes sem chamada externa")
+                .tag("source", "negative-cache")
+                .register(registry);
+        FunctionCounter.builder("gateway.negative-lookup.rejected", gateway,
+                        NegativeLookupProductGateway::getBloomFilterRejections)
+                .description("findById respondidos como inexistentes sem chamada externa")
+                .tag("source", "bloom-filter")
+                .register(registry);
+        Gauge.builder("gateway.negative-lookup.bloom-filter.size", gateway,
+                        g -> g.getKnownIds() == null ? 0 : g.getKnownIds().size())
+                .description("IDs conhecidos no Bloom filter")
+                .register(registry);
+        Gauge.builder("gateway.negative-lookup.bloom-filter.fpp", gateway,
+                        g -> g.getKnownIds() == null ? 0 : g.getKnownIds().expectedFalsePositiveRate())
+                .description("Taxa de falso positivo esperada do Bloom filter")
+                .register(registry);
+        if (gateway.getNotFoundCache() != null) {
+            CaffeineCacheMetrics.monitor(registry, gateway.getNotFoundCache(), "products.findById.notFound");
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.feignretryapi.infrastructure.gateway.caching;
+
+import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.domain.entity.ProductPage;
+import com.example.feignretryapi.domain.gateway.ProductGateway;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decorator do ProductGateway que evita idas à API externa para IDs inexistentes no findById.
+ * <ul>
+ *   <li>Cache negativo: um findById sem resultado (404) é lembrado por um TTL curto</li>
+ *   <li>Bloom filter opcional dos IDs conhecidos, reconstruído a cada catálogo completo obtido no findAll:
+ *       IDs que com certeza não estão no catálogo são rejeitados sem chamada externa</li>
+ * </ul>
+ * Enquanto nenhum findAll foi feito, o Bloom filter não é usado. Como um produto criado depois do último
+ * catálogo completo não está no filtro, ele só responde "com certeza inexistente" por um tempo limitado
+ * (o TTL do catálogo no cache): vencido, as consultas voltam a ir ao delegate até o próximo findAll trazer
+ * um catálogo novo.
+ */
+public class NegativeLookupProductGateway implements ProductGateway {
+
+    private final ProductGateway delegate;
+    private final Cache<String, Boolean> notFoundCache;
+    private final boolean bloomFilterEnabled;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+    private final long bloomFilterTtlNanos;
+    private final Ticker ticker;
+
+    private volatile List<Product> indexedCatalog;
+    private volatile KnownIds knownIds;
+
+    private final LongAdder negativeCacheRejections = new LongAdder();
+    private final LongAdder bloomFilterRejections = new LongAdder();
+
+    /**
+     * @param negativeTtl        tempo que um ID inexistente fica no cache negativo (ms, 0 = sem cache negativo)
+     * @param negativeMaxSize    máximo de IDs no cache negativo
+     * @param bloomFilterEnabled se o Bloom filter dos IDs conhecidos é construído e consultado
+     * @param expectedInsertions número esperado de produtos no catálogo
+     * @param falsePositiveRate  taxa de falso positivo desejada do Bloom filter
+     * @param bloomFilterTtl     tempo (ms) em que o Bloom filter de um catálogo pode rejeitar IDs
+     */
+    public NegativeLookupProductGateway(ProductGateway delegate, long negativeTtl, long negativeMaxSize,
+                                        boolean bloomFilterEnabled, int expectedInsertions,
+                                        double falsePositiveRate, long bloomFilterTtl) {
+        this(delegate, negativeTtl, negativeMaxSize, bloomFilterEnabled, expectedInsertions, falsePositiveRate,
+                bloomFilterTtl, Ticker.systemTicker());
+    }
+
+    NegativeLookupProductGateway(ProductGateway delegate, long negativeTtl, long negativeMaxSize,
+                                 boolean bloomFilterEnabled, int expectedInsertions, double falsePositiveRate,
+                                 long bloomFilterTtl, Ticker ticker) {
+        if (bloomFilterEnabled && (falsePositiveRate <= 0 || falsePositiveRate >= 1)) {
+            throw new IllegalArgumentException("Taxa de falso positivo deve estar entre 0 e 1: " + falsePositiveRate);
+        }
+        this.delegate = delegate;
+        this.notFoundCache = negativeTtl > 0
+                ? Caffeine.newBuilder()
+                        .expireAfterWrite(Duration.ofMillis(negativeTtl))
+                        .maximumSize(negativeMaxSize)
+                        .ticker(ticker)
+                        .executor(Runnable::run)
+                        .recordStats()
+                        .build()
+                : null;
+        this.bloomFilterEnabled = bloomFilterEnabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilterTtlNanos = TimeUnit.MILLISECONDS.toNanos(bloomFilterTtl);
+        this.ticker = ticker;
+    }
+
+    @Override
+    public List<Product> findAll() {
+        List<Product> products = delegate.findAll();
+        if (bloomFilterEnabled && products != indexedCatalog) {
+            // o cache devolve a mesma lista até a próxima recarga: só reconstrói (e renova o TTL) quando o
+            // catálogo muda
+            knownIds = new KnownIds(BloomFilter.of(products.stream().map(Product::getId).toList(),
+                    expectedInsertions, falsePositiveRate), ticker.read());
+            indexedCatalog = products;
+        }
+        return products;
+    }
+
+    @Override
+    public Optional<Product> findById(String id) {
+        KnownIds ids = knownIds;
+        if (ids != null && ticker.read() - ids.builtAt() < bloomFilterTtlNanos && !ids.filter().mightContain(id)) {
+            bloomFilterRejections.increment();
+            return Optional.empty();
+        }
+        if (notFoundCache != null && notFoundCache.getIfPresent(id) != null) {
+            negativeCacheRejections.increment();
+            return Optional.empty();
+        }
+        Optional<Product> product = delegate.findById(id);
+        if (product.isEmpty() && notFoundCache != null) {
+            notFoundCache.put(id, Boolean.TRUE);
+        }
+        return product;
+    }
+
+    @Override
+    public List<Product> findByCategory(String category) {
+        return delegate.findByCategory(category);
+    }
+
+    @Override
+    public ProductPage findPage(String afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public ProductPage findPageByCategory(String category, String afterId, int limit) {
+        return delegate.findPageByCategory(category, afterId, limit);
+    }
+
+    public Cache<String, Boolean> getNotFoundCache() {
+        return notFoundCache;
+    }
+
+    public BloomFilter getKnownIds() {
+        KnownIds ids = knownIds;
+        return ids == null ? null : ids.filter();
+    }
+
+    public long getNegativeCacheRejections() {
+        return negativeCacheRejections.sum();
+    }
+
+    public long getBloomFilterRejections() {
+        return bloomFilterRejections.sum();
+    }
+
+    /**
+     * Bloom filter de um catálogo e o instante (ticker) em que foi construído.
+     */
+    private record KnownIds(BloomFilter filter, long builtAt) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.feignretryapi.infrastructure.gateway.coalescing;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalescência de chamadas idênticas em andamento (single-flight).
+ * O primeiro chamador de uma chave executa a chamada; os que chegam enquanto ela está em andamento
+ * aguardam e recebem o mesmo resultado ou a mesma exceção. A chave é removida antes de o resultado
+ * ser publicado, então quem chega depois sempre dispara uma nova chamada (sem staleness).
+ *
+ * @param <K> tipo da chave
+ * @param <V> tipo do resultado
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inflight = new ConcurrentHashMap<>();
+    private final LongAdder leaderCalls = new LongAdder();
+    private final LongAdder sharedCalls = new LongAdder();
+
+    /**
+     * Executa a chamada ou aguarda a chamada em andamento da mesma chave.
+     */
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inflight.putIfAbsent(key, flight);
+        if (existing != null) {
+            sharedCalls.increment();
+            return await(existing);
+        }
+
+        leaderCalls.increment();
+        V result;
+        try {
+            result = call.get();
+        } catch (RuntimeException | Error e) {
+            inflight.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+        inflight.remove(key, flight);
+        flight.complete(result);
+        return result;
+    }
+
+    private V await(CompletableFuture<V> flight) {
+        try {
+            return flight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Espera pela chamada em andamento interrompida", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Chamadas que de fato executaram (uma por grupo de chamadas coalescidas).
+     */
+    public long getLeaderCalls() {
+        return leaderCalls.sum();
+    }
+
+    /**
+     * Chamadas que reaproveitaram uma chamada em andamento.
+     */
+    public long getSharedCalls() {
+        return sharedCalls.sum();
+    }
+
+    /**
+     * Fração das chamadas atendidas por coalescência (0..1).
+     */
+    public double getCoalescingRatio() {
+        long shared = sharedCalls.sum();
+        long total = shared + leaderCalls.sum();
+        return total == 0 ? 0 : (double) shared / total;
+    }
+
+    public int getInflightKeys() {
+        return inflight.size();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.feignretryapi.infrastructure.gateway.coalescing;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Expõe a coalescência do {@link SingleFlightProductGateway} como métricas do Micrometer, por operação.
+ * Disponíveis em /actuator/metrics/gateway.single-flight.*
+ */
+public class SingleFlightMetrics implements MeterBinder {
+
+    private final SingleFlightProductGateway gateway;
+
+    public SingleFlightMetrics(SingleFlightProductGateway gateway) {
+        this.gateway = gateway;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        register(registry, "findAll", gateway.getFindAllFlight());
+        register(registry, "findById", gateway.getFindByIdFlight());
+        register(registry, "findByCategory", gateway.getFindByCategoryFlight());
+        register(registry, "findPage", gateway.getFindPageFlight());
+    }
+
+    private void register(MeterRegistry registry, String operation, SingleFlight<?, ?> flight) {
+        FunctionCounter.builder("gateway.single-flight.calls", flight, SingleFlight::getLeaderCalls)
+                .description("Chamadas por papel na coalescência")
+                .tag("operation", operation)
+                .tag("role", "leader")
+                .register(registry);
+        FunctionCounter.builder("gateway.single-flight.calls", flight, SingleFlight::getSharedCalls)
+                .description("Chamadas por papel na coalescência")
+                .tag("operation", operation)
+                .tag("role", "shared")
+                .register(registry);
+        Gauge.builder("gateway.single-flight.coalescing.ratio", flight, SingleFlight::getCoalescingRatio)
+                .description("Fração das chamadas atendidas por uma chamada já em andamento")
+                .tag("operation", operation)
+                .register(registry);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.feignretryapi.infrastructure.gateway.coalescing;
+
+import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.domain.entity.ProductPage;
+import com.example.feignretryapi.domain.gateway.ProductGateway;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Decorator do ProductGateway que coalesce chamadas concorrentes idênticas.
+ * Cada operação tem seu {@link SingleFlight}, com o argumento como chave: centenas de requisições
+ * simultâneas pelo mesmo produto ou categoria geram uma única chamada à API externa.
+ */
+public class SingleFlightProductGateway implements ProductGateway {
+
+    private static final String ALL = "all";
+
+    private final ProductGateway delegate;
+    private final SingleFlight<String, List<Product>> findAllFlight = new SingleFlight<>();
+    private final SingleFlight<String, Optional<Product>> findByIdFlight = new SingleFlight<>();
+    private final SingleFlight<String, List<Product>> findByCategoryFlight = new SingleFlight<>();
+    private final SingleFlight<PageKey, ProductPage> findPageFlight = new SingleFlight<>();
+
+    public SingleFlightProductGateway(ProductGateway delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return findAllFlight.execute(ALL, delegate::findAll);
+    }
+
+    /**
+     * Sem coalescência: cada chamador consome a sua própria leitura, que não pode ser compartilhada.
+     */
+    @Override
+    public void streamAll(Consumer<? super Product> consumer) {
+        delegate.streamAll(consumer);
+    }
+
+    @Override
+    public Optional<Product> findById(String id) {
+        return findByIdFlight.execute(id, () -> delegate.findById(id));
+    }
+
+    @Override
+    public List<Product> findByCategory(String category) {
+        return findByCategoryFlight.execute(category, () -> delegate.findByCategory(category));
+    }
+
+    @Override
+    public ProductPage findPage(String afterId, int limit) {
+        return findPageFlight.execute(new PageKey(null, afterId, limit), () -> delegate.findPage(afterId, limit));
+    }
+
+    @Override
+    public ProductPage findPageByCategory(String category, String afterId, int limit) {
+        return findPageFlight.execute(new PageKey(category, afterId, limit),
+                () -> delegate.findPageByCategory(category, afterId, limit));
+    }
+
+    public SingleFlight<String, List<Product>> getFindAllFlight() {
+        return findAllFlight;
+    }
+
+    public SingleFlight<String, Optional<Product>> getFindByIdFlight() {
+        return findByIdFlight;
+    }
+
+    public SingleFlight<String, List<Product>> getFindByCategoryFlight() {
+        return findByCategoryFlight;
+    }
+
+    public SingleFlight<PageKey, ProductPage> getFindPageFlight() {
+        return findPageFlight;
+    }
+
+    /**
+     * Chave das páginas: categoria (null para o catálogo), cursor e limite.
+     */
+    public record PageKey(String category, String afterId, int limit) {
+    }
+}
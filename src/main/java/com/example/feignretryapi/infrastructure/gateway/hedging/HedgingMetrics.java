@@ -0,0 +1,47 @@
+package com.example.feignretryapi.infrastructure.gateway.hedging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Expõe o comportamento do {@link HedgingProductGateway} como métricas do Micrometer.
+ * Disponíveis em /actuator/metrics/gateway.hedging.*
+ */
+public class HedgingMetrics implements MeterBinder {
+
+    private final HedgingProductGateway gateway;
+
+    public HedgingMetrics(HedgingProductGateway gateway) {
+        this.gateway = gateway;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("gateway.hedging.delay", gateway, HedgingProductGateway::getHedgeDelayMillis)
+                .description("Espera atual antes de disparar o hedge (ms)")
+                .baseUnit("milliseconds")
+                .register(registry);
+        FunctionCounter.builder("gateway.hedging.hedges", gateway, HedgingProductGateway::getHedgesFired)
+                .description("Hedges avaliados")
+                .tag("result", "fired")
+                .register(registry);
+        FunctionCounter.builder("gateway.hedging.hedges", gateway, HedgingProductGateway::getHedgesRejected)
+                .description("Hedges avaliados")
+                .tag("result", "budget_exhausted")
+                .register(registry);
+        FunctionCounter.builder("gateway.hedging.wins", gateway, HedgingProductGateway::getPrimaryWins)
+                .description("Tentativa que respondeu primeiro com sucesso")
+                .tag("attempt", "primary")
+                .register(registry);
+        FunctionCounter.builder("gateway.hedging.wins", gateway, HedgingProductGateway::getHedgeWins)
+                .description("Tentativa que respondeu primeiro com sucesso")
+                .tag("attempt", "hedge")
+                .register(registry);
+        FunctionCounter.builder("gateway.hedging.primary.failures", gateway,
+                        HedgingProductGateway::getPrimaryFailures)
+                .description("Primeiras tentativas que terminaram com falha")
+                .register(registry);
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.feignretryapi.infrastructure.gateway.hedging;
+
+import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.domain.entity.ProductPage;
+import com.example.feignretryapi.domain.gateway.ProductGateway;
+import com.example.feignretryapi.infrastructure.client.retryer.RetryBudget;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Decorator do ProductGateway que aplica hedging ao findById (GET idempotente).
+ * Se a primeira tentativa não responder dentro do percentil de latência acompanhado
+ * (ex.: p95 das chamadas recentes), dispara uma segunda tentativa em paralelo, usa a primeira
+ * resposta bem-sucedida e cancela a outra (interrompendo sua thread).
+ * Cada hedge consome um token do orçamento próprio de hedges, que limita a carga extra
+ * a uma fração das requisições.
+ * findAll, findByCategory e as páginas são apenas delegados.
+ */
+public class HedgingProductGateway implements ProductGateway {
+
+    private static final Logger logger = LoggerFactory.getLogger(HedgingProductGateway.class);
+
+    private final ProductGateway delegate;
+    private final ExecutorService executor;
+    private final LatencyPercentileTracker latencyTracker;
+    private final RetryBudget hedgeBudget;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+
+    private final LongAdder primaryWins = new LongAdder();
+    private final LongAdder primaryFailures = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder hedgesFired = new LongAdder();
+    private final LongAdder hedgesRejected = new LongAdder();
+
+    /**
+     * @param minDelay menor espera antes do hedge (ms), evita hedges em latências muito baixas
+     * @param maxDelay espera usada enquanto o percentil ainda não tem amostras suficientes, e teto da espera (ms)
+     */
+    public HedgingProductGateway(ProductGateway delegate, ExecutorService executor,
+                                 LatencyPercentileTracker latencyTracker, RetryBudget hedgeBudget,
+                                 long minDelay, long maxDelay) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.latencyTracker = latencyTracker;
+        this.hedgeBudget = hedgeBudget;
+        this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(minDelay);
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelay);
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public void streamAll(Consumer<? super Product> consumer) {
+        delegate.streamAll(consumer);
+    }
+
+    @Override
+    public Optional<Product> findById(String id) {
+        hedgeBudget.recordRequest();
+        CompletionService<Optional<Product>> completionService = new ExecutorCompletionService<>(executor);
+        Future<Optional<Product>> primary = completionService.submit(() -> timedFindById(id));
+        Future<Optional<Product>> hedge = null;
+        try {
+            Future<Optional<Product>> first = completionService.poll(hedgeDelayNanos(), TimeUnit.NANOSECONDS);
+            if (first != null) {
+                Optional<Product> result = awaitPrimary(primary);
+                primaryWins.increment();
+                return result;
+            }
+
+            if (!hedgeBudget.tryAcquireRetry()) {
+                hedgesRejected.increment();
+                return awaitPrimary(primary);
+            }
+            hedgesFired.increment();
+            logger.debug("Produto {} sem resposta após {}ms. Disparando hedge.", id,
+                    TimeUnit.NANOSECONDS.toMillis(hedgeDelayNanos()));
+            hedge = completionService.submit(() -> timedFindById(id));
+
+            return firstSuccessful(completionService, primary);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Busca do produto " + id + " interrompida", e);
+        } catch (ExecutionException e) {
+            throw propagate(e.getCause());
+        } finally {
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Resultado da primeira tentativa; a falha é contada em primaryFailures e propagada.
+     */
+    private Optional<Product> awaitPrimary(Future<Optional<Product>> primary)
+            throws InterruptedException, ExecutionException {
+        try {
+            return primary.get();
+        } catch (ExecutionException e) {
+            primaryFailures.increment();
+            throw e;
+        }
+    }
+
+    /**
+     * Retorna a primeira tentativa bem-sucedida; se a primeira a terminar falhou, aguarda a outra.
+     * Só uma tentativa bem-sucedida conta como vitória.
+     */
+    private Optional<Product> firstSuccessful(CompletionService<Optional<Product>> completionService,
+                                              Future<Optional<Product>> primary)
+            throws InterruptedException, ExecutionException {
+        Future<Optional<Product>> first = completionService.take();
+        try {
+            Optional<Product> result = first == primary ? awaitPrimary(primary) : first.get();
+            countWinner(first == primary);
+            return result;
+        } catch (ExecutionException firstFailure) {
+            Future<Optional<Product>> second = completionService.take();
+            Optional<Product> result = second == primary ? awaitPrimary(primary) : second.get();
+            countWinner(second == primary);
+            return result;
+        }
+    }
+
+    private void countWinner(boolean primaryWon) {
+        if (primaryWon) {
+            primaryWins.increment();
+        } else {
+            hedgeWins.increment();
+        }
+    }
+
+    /**
+     * Tentativas canceladas (thread interrompida) registram ao menos a espera do hedge, e não o tempo truncado
+     * até o cancelamento: a perdedora levou pelo menos isso, e sem ela as chamadas lentas sumiriam da distribuição.
+     */
+    private Optional<Product> timedFindById(String id) {
+        long start = System.nanoTime();
+        try {
+            return delegate.findById(id);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            latencyTracker.record(Thread.currentThread().isInterrupted()
+                    ? Math.max(elapsed, hedgeDelayNanos())
+                    : elapsed);
+        }
+    }
+
+    /**
+     * Espera antes do hedge: o percentil acompanhado, limitado a [minDelay, maxDelay].
+     */
+    private long hedgeDelayNanos() {
+        long percentile = latencyTracker.getPercentileNanos();
+        if (percentile < 0) {
+            return maxDelayNanos;
+        }
+        return Math.max(minDelayNanos, Math.min(maxDelayNanos, percentile));
+    }
+
+    private RuntimeException propagate(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    @Override
+    public List<Product> findByCategory(String category) {
+        return delegate.findByCategory(category);
+    }
+
+    @Override
+    public ProductPage findPage(String afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public ProductPage findPageByCategory(String category, String afterId, int limit) {
+        return delegate.findPageByCategory(category, afterId, limit);
+    }
+
+    /**
+     * Espera atual antes do hedge, em milissegundos.
+     */
+    public double getHedgeDelayMillis() {
+        return hedgeDelayNanos() / 1_000_000.0;
+    }
+
+    public long getPrimaryWins() {
+        return primaryWins.sum();
+    }
+
+    /**
+     * Primeiras tentativas que terminaram com exceção, antes ou depois do hedge.
+     */
+    public long getPrimaryFailures() {
+        return primaryFailures.sum();
+    }
+
+    public long getHedgeWins() {
+        return hedgeWins.sum();
+    }
+
+    public long getHedgesFired() {
+        return hedgesFired.sum();
+    }
+
+    public long getHedgesRejected() {
+        return hedgesRejected.sum();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.feignretryapi.infrastructure.gateway.hedging;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Acompanha um percentil das latências recentes.
+ * As amostras ficam em um ring buffer lock-free; o percentil é recalculado a cada
+ * recomputeInterval amostras pela thread que registrou a amostra, e lido sem custo pelas demais.
+ */
+public class LatencyPercentileTracker {
+
+    private final double percentile;
+    private final int minSamples;
+    private final int recomputeInterval;
+
+    private final AtomicLongArray samples;
+    private final AtomicLong recorded = new AtomicLong();
+    private volatile long percentileNanos = -1;
+
+    /**
+     * @param percentile        percentil acompanhado (ex.: 0.95)
+     * @param windowSize        quantidade de amostras recentes consideradas
+     * @param minSamples        amostras necessárias antes de o percentil ser considerado válido
+     * @param recomputeInterval a cada quantas amostras o percentil é recalculado
+     */
+    public LatencyPercentileTracker(double percentile, int windowSize, int minSamples, int recomputeInterval) {
+        if (percentile <= 0 || percentile >= 1 || windowSize < 1 || minSamples > windowSize) {
+            throw new IllegalArgumentException("Configuração inválida do percentil de latência: p"
+                    + percentile + ", janela " + windowSize + ", mínimo " + minSamples);
+        }
+        this.percentile = percentile;
+        this.minSamples = minSamples;
+        this.recomputeInterval = Math.max(1, recomputeInterval);
+        this.samples = new AtomicLongArray(windowSize);
+    }
+
+    /**
+     * Registra a latência de uma chamada concluída.
+     */
+    public void record(long latencyNanos) {
+        long count = recorded.incrementAndGet();
+        samples.set((int) ((count - 1) % samples.length()), latencyNanos);
+        if (count >= minSamples && (count % recomputeInterval == 0 || percentileNanos < 0)) {
+            recompute(count);
+        }
+    }
+
+    private void recompute(long count) {
+        int size = (int) Math.min(count, samples.length());
+        long[] snapshot = new long[size];
+        for (int i = 0; i < size; i++) {
+            snapshot[i] = samples.get(i);
+        }
+        Arrays.sort(snapshot);
+        int index = (int) Math.ceil(percentile * size) - 1;
+        percentileNanos = snapshot[Math.max(0, Math.min(size - 1, index))];
+    }
+
+    /**
+     * Percentil atual em nanos, ou -1 enquanto não houver minSamples amostras.
+     */
+    public long getPercentileNanos() {
+        return percentileNanos;
+    }
+
+    public long getRecordedSamples() {
+        return recorded.get();
+    }
+}
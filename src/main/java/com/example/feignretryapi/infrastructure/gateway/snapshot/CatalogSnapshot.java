@@ -0,0 +1,270 @@
+package com.example.feignretryapi.infrastructure.gateway.snapshot;
+
+import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.domain.entity.ProductPage;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Foto imutável do catálogo completo, com índices secundários por ID e por categoria normalizada.
+ * Os índices são montados uma única vez, na criação; as consultas são O(1) e não alocam.
+ * Para a paginação, o catálogo e cada categoria também são mantidos em ordem de ID
+ * ({@link ProductPage#ORDER}), e uma página custa O(log n + limite).
+ * Alterações incrementais geram uma nova foto por cópia na escrita ({@link #withChanges}),
+ * compartilhando com a anterior as listas de categorias não afetadas.
+ */
+public final class CatalogSnapshot {
+
+    private final List<Product> products;
+    private final Map<String, Product> byId;
+    private final Map<String, List<Product>> byCategory;
+    private final List<Product> sortedById;
+    private final Map<String, List<Product>> byCategorySortedById;
+    private final LocalDateTime highWaterMark;
+    private final long version;
+    private final Instant createdAt;
+    private final Instant fullSyncAt;
+
+    private CatalogSnapshot(List<Product> products, Map<String, Product> byId,
+                            Map<String, List<Product>> byCategory, List<Product> sortedById,
+                            Map<String, List<Product>> byCategorySortedById, LocalDateTime highWaterMark,
+                            long version, Instant createdAt, Instant fullSyncAt) {
+        this.products = products;
+        this.byId = byId;
+        this.byCategory = byCategory;
+        this.sortedById = sortedById;
+        this.byCategorySortedById = byCategorySortedById;
+        this.highWaterMark = highWaterMark;
+        this.version = version;
+        this.createdAt = createdAt;
+        this.fullSyncAt = fullSyncAt;
+    }
+
+    /**
+     * Monta a foto e seus índices a partir do catálogo completo, obtido em {@code createdAt}.
+     */
+    public static CatalogSnapshot of(List<Product> products, long version, Instant createdAt) {
+        return of(products, version, createdAt, createdAt);
+    }
+
+    /**
+     * Monta a foto e seus índices a partir do catálogo completo, preservando o instante da carga completa que
+     * a originou (foto restaurada de disco após deltas).
+     */
+    public static CatalogSnapshot of(List<Product> products, long version, Instant createdAt, Instant fullSyncAt) {
+        Map<String, Product> byId = new HashMap<>(Math.max(16, products.size() * 4 / 3 + 1));
+        Map<String, List<Product>> categories = new HashMap<>();
+        for (Product product : products) {
+            byId.put(product.getId(), product);
+            if (product.getCategory() != null) {
+                categories.computeIfAbsent(normalize(product.getCategory()), key -> new ArrayList<>()).add(product);
+            }
+        }
+        Map<String, List<Product>> byCategory = new HashMap<>(Math.max(16, categories.size() * 4 / 3 + 1));
+        Map<String, List<Product>> byCategorySortedById = new HashMap<>(byCategory.size());
+        categories.forEach((category, list) -> {
+            byCategory.put(category, List.copyOf(list));
+            byCategorySortedById.put(category, sortById(list));
+        });
+        return new CatalogSnapshot(List.copyOf(products), Map.copyOf(byId), Map.copyOf(byCategory),
+                sortById(products), Map.copyOf(byCategorySortedById), maxUpdatedAt(products, null),
+                version, createdAt, fullSyncAt);
+    }
+
+    /**
+     * Nova foto com os produtos alterados aplicados sobre esta: produtos existentes são substituídos na mesma
+     * posição e produtos novos vão para o fim. Só as categorias afetadas (antiga e nova de cada produto)
+     * têm a lista refeita; as demais são compartilhadas com esta foto.
+     */
+    public CatalogSnapshot withChanges(List<Product> changes, long version, Instant createdAt) {
+        Map<String, Product> changed = new LinkedHashMap<>();
+        Set<String> affectedCategories = new HashSet<>();
+        for (Product product : changes) {
+            changed.put(product.getId(), product);
+            addCategory(affectedCategories, product);
+            addCategory(affectedCategories, byId.get(product.getId()));
+        }
+
+        List<Product> mergedProducts = new ArrayList<>(products.size() + changed.size());
+        for (Product product : products) {
+            Product replacement = changed.get(product.getId());
+            mergedProducts.add(replacement != null ? replacement : product);
+        }
+        Map<String, Product> mergedById = new HashMap<>(byId);
+        List<Product> added = new ArrayList<>();
+        for (Product product : changed.values()) {
+            if (mergedById.put(product.getId(), product) == null) {
+                mergedProducts.add(product);
+                added.add(product);
+            }
+        }
+
+        // Substituições mantêm a posição na ordem por ID; só os novos são ordenados e intercalados, O(n + k log k)
+        List<Product> replacedSortedById = new ArrayList<>(sortedById.size());
+        for (Product product : sortedById) {
+            replacedSortedById.add(changed.getOrDefault(product.getId(), product));
+        }
+        List<Product> mergedSortedById = mergeById(replacedSortedById, added);
+
+        Map<String, List<Product>> mergedByCategory = new HashMap<>(byCategory);
+        Map<String, List<Product>> mergedByCategorySortedById = new HashMap<>(byCategorySortedById);
+        for (String category : affectedCategories) {
+            List<Product> list = new ArrayList<>();
+            for (Product product : byCategory.getOrDefault(category, List.of())) {
+                Product current = changed.getOrDefault(product.getId(), product);
+                if (isInCategory(current, category)) {
+                    list.add(current);
+                }
+            }
+            List<Product> remainingSortedById = new ArrayList<>();
+            for (Product product : byCategorySortedById.getOrDefault(category, List.of())) {
+                Product current = changed.getOrDefault(product.getId(), product);
+                if (isInCategory(current, category)) {
+                    remainingSortedById.add(current);
+                }
+            }
+            List<Product> joined = new ArrayList<>();
+            for (Product product : changed.values()) {
+                if (isInCategory(product, category) && !isInCategory(byId.get(product.getId()), category)) {
+                    list.add(product);
+                    joined.add(product);
+                }
+            }
+            if (list.isEmpty()) {
+                mergedByCategory.remove(category);
+                mergedByCategorySortedById.remove(category);
+            } else {
+                mergedByCategory.put(category, List.copyOf(list));
+                mergedByCategorySortedById.put(category, mergeById(remainingSortedById, joined));
+            }
+        }
+
+        return new CatalogSnapshot(List.copyOf(mergedProducts), Map.copyOf(mergedById),
+                Map.copyOf(mergedByCategory), mergedSortedById, Map.copyOf(mergedByCategorySortedById),
+                maxUpdatedAt(changed.values(), highWaterMark), version, createdAt, fullSyncAt);
+    }
+
+    /**
+     * Intercala em uma lista já ordenada por ID os produtos novos (IDs ausentes dela), ordenando só os novos.
+     */
+    private static List<Product> mergeById(List<Product> sortedById, List<Product> additions) {
+        if (additions.isEmpty()) {
+            return List.copyOf(sortedById);
+        }
+        List<Product> sortedAdditions = new ArrayList<>(additions);
+        sortedAdditions.sort(ProductPage.ORDER);
+        List<Product> merged = new ArrayList<>(sortedById.size() + sortedAdditions.size());
+        int i = 0;
+        int j = 0;
+        while (i < sortedById.size() && j < sortedAdditions.size()) {
+            if (ProductPage.ORDER.compare(sortedById.get(i), sortedAdditions.get(j)) <= 0) {
+                merged.add(sortedById.get(i++));
+            } else {
+                merged.add(sortedAdditions.get(j++));
+            }
+        }
+        merged.addAll(sortedById.subList(i, sortedById.size()));
+        merged.addAll(sortedAdditions.subList(j, sortedAdditions.size()));
+        return List.copyOf(merged);
+    }
+
+    private static List<Product> sortById(List<Product> products) {
+        List<Product> sorted = new ArrayList<>(products);
+        sorted.sort(ProductPage.ORDER);
+        return List.copyOf(sorted);
+    }
+
+    private static void addCategory(Set<String> categories, Product product) {
+        if (product != null && product.getCategory() != null) {
+            categories.add(normalize(product.getCategory()));
+        }
+    }
+
+    private static boolean isInCategory(Product product, String category) {
+        return product != null && product.getCategory() != null && normalize(product.getCategory()).equals(category);
+    }
+
+    private static LocalDateTime maxUpdatedAt(Iterable<Product> products, LocalDateTime initial) {
+        LocalDateTime max = initial;
+        for (Product product : products) {
+            LocalDateTime updatedAt = product.getUpdatedAt();
+            if (updatedAt != null && (max == null || updatedAt.isAfter(max))) {
+                max = updatedAt;
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Normalização da categoria usada no índice: sem espaços nas pontas e em minúsculas.
+     */
+    static String normalize(String category) {
+        return category.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public List<Product> findAll() {
+        return products;
+    }
+
+    public Product findById(String id) {
+        return byId.get(id);
+    }
+
+    public List<Product> findByCategory(String category) {
+        return byCategory.getOrDefault(normalize(category), List.of());
+    }
+
+    /**
+     * Página do catálogo em ordem de ID, a partir do produto seguinte a {@code afterId}.
+     */
+    public ProductPage findPage(String afterId, int limit) {
+        return ProductPage.slice(sortedById, afterId, limit);
+    }
+
+    /**
+     * Página da categoria em ordem de ID, a partir do produto seguinte a {@code afterId}.
+     */
+    public ProductPage findPageByCategory(String category, String afterId, int limit) {
+        return ProductPage.slice(byCategorySortedById.getOrDefault(normalize(category), List.of()), afterId, limit);
+    }
+
+    public int size() {
+        return products.size();
+    }
+
+    public int categoryCount() {
+        return byCategory.size();
+    }
+
+    /**
+     * Maior updated_at do catálogo, usado como marca d'água da sincronização incremental
+     * (null se nenhum produto traz a data).
+     */
+    public LocalDateTime getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Instante da última carga completa por trás desta foto; fotos derivadas por delta o herdam.
+     */
+    public Instant getFullSyncAt() {
+        return fullSyncAt;
+    }
+}
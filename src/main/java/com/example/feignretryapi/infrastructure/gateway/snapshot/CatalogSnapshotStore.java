@@ -0,0 +1,308 @@
+package com.example.feignretryapi.infrastructure.gateway.snapshot;
+
+import com.example.feignretryapi.domain.entity.Product;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+
+/**
+ * Persistência da foto do catálogo em um arquivo binário local, para partidas a quente.
+ * <p>
+ * Layout (big-endian):
+ * <pre>
+ * cabeçalho  magic "CATS" (int) | formato (int) | versão da foto (long) | createdAt em ms (long)
+ *            | última carga completa em ms (long) | produtos (int) | offset do índice (long) | CRC32 do corpo (long)
+ * registros  um por produto, na ordem do catálogo
+ * índice     (id, offset do registro) por produto
+ * </pre>
+ * A leitura mapeia o arquivo com {@link FileChannel#map} e decodifica os registros pelo índice, sem JSON
+ * nem mapper. A escrita vai para um arquivo temporário no mesmo diretório, sincronizado em disco e movido
+ * atomicamente para o destino; com o CRC32 e o formato no cabeçalho, um arquivo incompleto, corrompido ou
+ * de outro formato nunca é carregado.
+ */
+public class CatalogSnapshotStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogSnapshotStore.class);
+
+    static final int MAGIC = 0x43415453;
+    static final int FORMAT_VERSION = 2;
+    static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 8 + 4 + 8 + 8;
+
+    private final Path file;
+    private final Duration maxAge;
+    private final Clock clock;
+    private final LongAdder loadSuccesses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder saveSuccesses = new LongAdder();
+    private final LongAdder saveFailures = new LongAdder();
+
+    public CatalogSnapshotStore(Path file, Duration maxAge) {
+        this(file, maxAge, Clock.systemUTC());
+    }
+
+    CatalogSnapshotStore(Path file, Duration maxAge, Clock clock) {
+        if (maxAge.isNegative() || maxAge.isZero()) {
+            throw new IllegalArgumentException("max-age da foto persistida deve ser positivo: " + maxAge);
+        }
+        this.file = file;
+        this.maxAge = maxAge;
+        this.clock = clock;
+    }
+
+    /**
+     * Carrega a foto persistida. Arquivo ausente, inválido ou mais velho que {@code maxAge} resulta em vazio.
+     */
+    public Optional<CatalogSnapshot> load() {
+        try {
+            CatalogSnapshot snapshot = read(file);
+            Duration age = Duration.between(snapshot.getCreatedAt(), clock.instant());
+            if (age.compareTo(maxAge) > 0) {
+                logger.info("Foto persistida do catálogo ignorada: {}s de idade, acima do máximo de {}s",
+                        age.toSeconds(), maxAge.toSeconds());
+                return Optional.empty();
+            }
+            loadSuccesses.increment();
+            return Optional.of(snapshot);
+        } catch (NoSuchFileException e) {
+            logger.debug("Nenhuma foto persistida do catálogo em {}", file);
+            return Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            loadFailures.increment();
+            logger.warn("Foto persistida do catálogo em {} descartada: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Persiste a foto, substituindo atomicamente a anterior. Falhas são registradas e não propagadas.
+     */
+    public void save(CatalogSnapshot snapshot) {
+        try {
+            write(snapshot, file);
+            saveSuccesses.increment();
+        } catch (IOException | RuntimeException e) {
+            saveFailures.increment();
+            logger.warn("Falha ao persistir a foto do catálogo em {}: {}", file, e.getMessage());
+        }
+    }
+
+    static void write(CatalogSnapshot snapshot, Path file) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(Math.max(1024, snapshot.size() * 256));
+        DataOutputStream out = new DataOutputStream(body);
+        List<Product> products = snapshot.findAll();
+        long[] offsets = new long[products.size()];
+        for (int i = 0; i < products.size(); i++) {
+            offsets[i] = HEADER_SIZE + out.size();
+            writeProduct(out, products.get(i));
+        }
+        long indexOffset = HEADER_SIZE + out.size();
+        for (int i = 0; i < products.size(); i++) {
+            writeString(out, products.get(i).getId());
+            out.writeLong(offsets[i]);
+        }
+        out.flush();
+        byte[] bodyBytes = body.toByteArray();
+
+        CRC32 crc = new CRC32();
+        crc.update(bodyBytes);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putLong(snapshot.getVersion())
+                .putLong(snapshot.getCreatedAt().toEpochMilli())
+                .putLong(snapshot.getFullSyncAt().toEpochMilli())
+                .putInt(products.size())
+                .putLong(indexOffset)
+                .putLong(crc.getValue())
+                .flip();
+
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer data = ByteBuffer.wrap(bodyBytes);
+                while (header.hasRemaining() || data.hasRemaining()) {
+                    channel.write(new ByteBuffer[]{header, data});
+                }
+                channel.force(true);
+            }
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    static CatalogSnapshot read(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("arquivo menor que o cabeçalho (" + channel.size() + " bytes)");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("assinatura inválida");
+        }
+        int format = buffer.getInt();
+        if (format != FORMAT_VERSION) {
+            throw new IOException("formato " + format + " não suportado");
+        }
+        long version = buffer.getLong();
+        Instant createdAt = Instant.ofEpochMilli(buffer.getLong());
+        Instant fullSyncAt = Instant.ofEpochMilli(buffer.getLong());
+        int count = buffer.getInt();
+        long indexOffset = buffer.getLong();
+        long checksum = buffer.getLong();
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(HEADER_SIZE, buffer.limit() - HEADER_SIZE));
+        if (crc.getValue() != checksum) {
+            throw new IOException("checksum não confere");
+        }
+        if (count < 0 || indexOffset < HEADER_SIZE || indexOffset > buffer.limit()) {
+            throw new IOException("cabeçalho inconsistente");
+        }
+
+        try {
+            ByteBuffer index = buffer.duplicate().position((int) indexOffset);
+            ByteBuffer record = buffer.duplicate();
+            List<Product> products = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String id = readString(index);
+                long offset = index.getLong();
+                if (offset < HEADER_SIZE || offset >= indexOffset) {
+                    throw new IOException("offset fora da área de registros para o produto " + id);
+                }
+                Product product = readProduct(record.position((int) offset));
+                if (!product.getId().equals(id)) {
+                    throw new IOException("índice aponta para o produto " + product.getId() + " em vez de " + id);
+                }
+                products.add(product);
+            }
+            return CatalogSnapshot.of(products, version, createdAt, fullSyncAt);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("registro truncado", e);
+        }
+    }
+
+    private static void writeProduct(DataOutputStream out, Product product) throws IOException {
+        writeString(out, product.getId());
+        writeString(out, product.getName());
+        writeString(out, product.getDescription());
+        BigDecimal price = product.getPrice();
+        out.writeBoolean(price != null);
+        if (price != null) {
+            byte[] unscaled = price.unscaledValue().toByteArray();
+            out.writeInt(price.scale());
+            out.writeInt(unscaled.length);
+            out.write(unscaled);
+        }
+        out.writeBoolean(product.getQuantity() != null);
+        if (product.getQuantity() != null) {
+            out.writeInt(product.getQuantity());
+        }
+        writeString(out, product.getCategory());
+        writeDateTime(out, product.getCreatedAt());
+        writeDateTime(out, product.getUpdatedAt());
+    }
+
+    private static Product readProduct(ByteBuffer in) {
+        String id = readString(in);
+        String name = readString(in);
+        String description = readString(in);
+        BigDecimal price = null;
+        if (in.get() != 0) {
+            int scale = in.getInt();
+            byte[] unscaled = new byte[in.getInt()];
+            in.get(unscaled);
+            price = new BigDecimal(new BigInteger(unscaled), scale);
+        }
+        Integer quantity = in.get() != 0 ? in.getInt() : null;
+        String category = readString(in);
+        LocalDateTime createdAt = readDateTime(in);
+        LocalDateTime updatedAt = readDateTime(in);
+        return new Product(id, name, description, price, quantity, category, createdAt, updatedAt);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static LocalDateTime readDateTime(ByteBuffer in) {
+        if (in.get() == 0) {
+            return null;
+        }
+        long epochSecond = in.getLong();
+        return LocalDateTime.ofEpochSecond(epochSecond, in.getInt(), ZoneOffset.UTC);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public long getLoadSuccesses() {
+        return loadSuccesses.sum();
+    }
+
+    public long getLoadFailures() {
+        return loadFailures.sum();
+    }
+
+    public long getSaveSuccesses() {
+        return saveSuccesses.sum();
+    }
+
+    public long getSaveFailures() {
+        return saveFailures.sum();
+    }
+}
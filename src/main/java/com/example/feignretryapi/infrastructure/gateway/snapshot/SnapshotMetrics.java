@@ -0,0 +1,72 @@
+package com.example.feignretryapi.infrastructure.gateway.snapshot;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Expõe o estado da foto do catálogo como métricas do Micrometer.
+ * Disponíveis em /actuator/metrics/gateway.snapshot.*
+ */
+public class SnapshotMetrics implements MeterBinder {
+
+    private final SnapshotProductGateway gateway;
+
+    public SnapshotMetrics(SnapshotProductGateway gateway) {
+        this.gateway = gateway;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("gateway.snapshot.size", gateway,
+                        g -> g.getSnapshot() == null ? 0 : g.getSnapshot().size())
+                .description("Produtos na foto corrente do catálogo")
+                .register(registry);
+        Gauge.builder("gateway.snapshot.version", gateway,
+                        g -> g.getSnapshot() == null ? 0 : g.getSnapshot().getVersion())
+                .description("Versão da foto corrente do catálogo")
+                .register(registry);
+        Gauge.builder("gateway.snapshot.age", gateway, SnapshotProductGateway::getSnapshotAgeSeconds)
+                .description("Idade da foto corrente do catálogo")
+                .baseUnit("seconds")
+                .register(registry);
+        FunctionCounter.builder("gateway.snapshot.refreshes", gateway, SnapshotProductGateway::getRefreshSuccesses)
+                .description("Recargas da foto do catálogo")
+                .tag("result", "success")
+                .register(registry);
+        FunctionCounter.builder("gateway.snapshot.refreshes", gateway, SnapshotProductGateway::getRefreshFailures)
+                .description("Recargas da foto do catálogo")
+                .tag("result", "failure")
+                .register(registry);
+        FunctionCounter.builder("gateway.snapshot.syncs", gateway, SnapshotProductGateway::getFullSyncs)
+                .description("Sincronizações bem-sucedidas da foto do catálogo, por tipo")
+                .tag("type", "full")
+                .register(registry);
+        FunctionCounter.builder("gateway.snapshot.syncs", gateway, SnapshotProductGateway::getDeltaSyncs)
+                .description("Sincronizações bem-sucedidas da foto do catálogo, por tipo")
+                .tag("type", "delta")
+                .register(registry);
+        FunctionCounter.builder("gateway.snapshot.delta.changes", gateway, SnapshotProductGateway::getDeltaChanges)
+                .description("Produtos alterados aplicados à foto pelas sincronizações incrementais")
+                .register(registry);
+        CatalogSnapshotStore store = gateway.getStore();
+        if (store != null) {
+            bindPersistence(registry, store, "load", "success", CatalogSnapshotStore::getLoadSuccesses);
+            bindPersistence(registry, store, "load", "failure", CatalogSnapshotStore::getLoadFailures);
+            bindPersistence(registry, store, "save", "success", CatalogSnapshotStore::getSaveSuccesses);
+            bindPersistence(registry, store, "save", "failure", CatalogSnapshotStore::getSaveFailures);
+        }
+    }
+
+    private void bindPersistence(MeterRegistry registry, CatalogSnapshotStore store, String operation,
+                                 String result, ToDoubleFunction<CatalogSnapshotStore> count) {
+        FunctionCounter.builder("gateway.snapshot.persistence", store, count)
+                .description("Leituras e escritas da foto do catálogo em disco")
+                .tag("operation", operation)
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,291 @@
+package com.example.feignretryapi.infrastructure.gateway.snapshot;
+
+import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.domain.entity.ProductPage;
+import com.example.feignretryapi.domain.gateway.ProductGateway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * ProductGateway servido a partir de uma foto do catálogo em memória.
+ * A foto é trocada atomicamente por um refresher em background a cada {@code refreshInterval};
+ * findAll, findById e findByCategory leem a foto corrente sem chamada externa.
+ * Enquanto nenhuma foto foi carregada (API externa indisponível na partida), as consultas vão ao delegate.
+ * Se uma recarga falha, a foto anterior continua em uso.
+ * <p>
+ * Com um {@code deltaLoader}, as recargas são incrementais: apenas os produtos alterados a partir da marca
+ * d'água da foto ({@link CatalogSnapshot#getHighWaterMark()}), inclusive, são buscados e aplicados sobre ela.
+ * A consulta inclusiva alcança alterações com o mesmo updated_at da marca d'água feitas depois do delta
+ * anterior; os produtos reenviados sem alteração são descartados. A carga
+ * completa é refeita a cada {@code fullResyncInterval} (que também reconcilia produtos removidos) e
+ * antecipada quando há sinal de divergência: falha no delta, produto alterado sem updated_at ou foto
+ * sem marca d'água.
+ * <p>
+ * Com um {@link CatalogSnapshotStore}, cada foto nova é persistida em disco e, na partida, a foto persistida
+ * é carregada antes da primeira recarga: as leituras são atendidas de imediato e a reconciliação com a API
+ * externa (delta a partir da marca d'água persistida) segue em background.
+ */
+public class SnapshotProductGateway implements ProductGateway, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotProductGateway.class);
+
+    private final ProductGateway delegate;
+    private final Duration refreshInterval;
+    private final Function<LocalDateTime, List<Product>> deltaLoader;
+    private final Duration fullResyncInterval;
+    private final CatalogSnapshotStore store;
+    private final Clock clock;
+    private final AtomicReference<CatalogSnapshot> snapshot = new AtomicReference<>();
+    private final LongAdder refreshSuccesses = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+    private final LongAdder fullSyncs = new LongAdder();
+    private final LongAdder deltaSyncs = new LongAdder();
+    private final LongAdder deltaChanges = new LongAdder();
+    private volatile Instant lastSyncAt;
+    private volatile Instant lastFullSyncAt;
+    private volatile boolean fullResyncRequired = true;
+    private ScheduledExecutorService scheduler;
+
+    public SnapshotProductGateway(ProductGateway delegate, Duration refreshInterval) {
+        this(delegate, refreshInterval, null, null, null, Clock.systemUTC());
+    }
+
+    /**
+     * @param deltaLoader        busca os produtos alterados a partir da marca d'água, inclusive
+     *                           (null = só cargas completas)
+     * @param fullResyncInterval intervalo máximo entre cargas completas quando há {@code deltaLoader}
+     * @param store              persistência da foto para partidas a quente (null = sem persistência)
+     */
+    public SnapshotProductGateway(ProductGateway delegate, Duration refreshInterval,
+                                  Function<LocalDateTime, List<Product>> deltaLoader, Duration fullResyncInterval,
+                                  CatalogSnapshotStore store) {
+        this(delegate, refreshInterval, deltaLoader, fullResyncInterval, store, Clock.systemUTC());
+    }
+
+    SnapshotProductGateway(ProductGateway delegate, Duration refreshInterval, Clock clock) {
+        this(delegate, refreshInterval, null, null, null, clock);
+    }
+
+    SnapshotProductGateway(ProductGateway delegate, Duration refreshInterval,
+                           Function<LocalDateTime, List<Product>> deltaLoader, Duration fullResyncInterval,
+                           CatalogSnapshotStore store, Clock clock) {
+        this.delegate = delegate;
+        this.refreshInterval = refreshInterval;
+        this.deltaLoader = deltaLoader;
+        this.fullResyncInterval = fullResyncInterval;
+        this.store = store;
+        this.clock = clock;
+    }
+
+    /**
+     * Carrega a foto persistida, se houver, e agenda a primeira recarga, imediata e em background,
+     * e as recargas periódicas.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        if (store != null && snapshot.get() == null) {
+            store.load().ifPresent(this::restore);
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("catalog-snapshot").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Atualiza a foto: carga completa ou, quando possível, incremental. Falhas são registradas e mantêm
+     * a foto anterior.
+     *
+     * @return true se a foto foi atualizada
+     */
+    public boolean refresh() {
+        CatalogSnapshot current = snapshot.get();
+        boolean full = isFullResyncDue(current);
+        try {
+            if (full) {
+                fullSync(current);
+            } else {
+                deltaSync(current);
+            }
+            refreshSuccesses.increment();
+            return true;
+        } catch (RuntimeException e) {
+            refreshFailures.increment();
+            if (!full) {
+                fullResyncRequired = true;
+            }
+            logger.warn("Falha ao atualizar a foto do catálogo ({}), mantendo a anterior: {}",
+                    full ? "carga completa" : "delta", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Instala a foto persistida. A idade conta a partir da criação da foto (último delta ou carga completa) e o
+     * prazo da próxima carga completa a partir da carga completa que a originou, não da leitura do arquivo.
+     */
+    private void restore(CatalogSnapshot persisted) {
+        snapshot.set(persisted);
+        lastSyncAt = persisted.getCreatedAt();
+        lastFullSyncAt = persisted.getFullSyncAt();
+        fullResyncRequired = false;
+        logger.info("Foto do catálogo restaurada de {}: versão {}, {} produtos",
+                store.getFile(), persisted.getVersion(), persisted.size());
+    }
+
+    private boolean isFullResyncDue(CatalogSnapshot current) {
+        if (deltaLoader == null || current == null || fullResyncRequired || current.getHighWaterMark() == null) {
+            return true;
+        }
+        return !clock.instant().isBefore(lastFullSyncAt.plus(fullResyncInterval));
+    }
+
+    private void fullSync(CatalogSnapshot current) {
+        List<Product> products = delegate.findAll();
+        long version = current == null ? 1 : current.getVersion() + 1;
+        Instant now = clock.instant();
+        CatalogSnapshot updated = CatalogSnapshot.of(products, version, now);
+        snapshot.set(updated);
+        persist(updated);
+        lastSyncAt = now;
+        lastFullSyncAt = now;
+        fullResyncRequired = false;
+        fullSyncs.increment();
+        logger.debug("Foto do catálogo recarregada por completo: versão {}, {} produtos", version, products.size());
+    }
+
+    private void deltaSync(CatalogSnapshot current) {
+        List<Product> changes = deltaLoader.apply(current.getHighWaterMark()).stream()
+                .filter(product -> !isUnchanged(current.findById(product.getId()), product))
+                .toList();
+        Instant now = clock.instant();
+        deltaSyncs.increment();
+        lastSyncAt = now;
+        if (changes.isEmpty()) {
+            return;
+        }
+        if (changes.stream().anyMatch(product -> product.getUpdatedAt() == null)) {
+            // sem updated_at a marca d'água não avança com segurança; a próxima recarga é completa
+            fullResyncRequired = true;
+            logger.warn("Delta do catálogo com produto sem updated_at; carga completa agendada");
+        }
+        CatalogSnapshot updated = current.withChanges(changes, current.getVersion() + 1, now);
+        snapshot.set(updated);
+        persist(updated);
+        deltaChanges.add(changes.size());
+        logger.debug("Foto do catálogo atualizada por delta: versão {}, {} produtos alterados",
+                current.getVersion() + 1, changes.size());
+    }
+
+    /**
+     * Produto reenviado pela consulta inclusiva sem nenhuma alteração em relação à foto.
+     */
+    private static boolean isUnchanged(Product current, Product candidate) {
+        return current != null
+                && Objects.equals(current.getUpdatedAt(), candidate.getUpdatedAt())
+                && Objects.equals(current.getName(), candidate.getName())
+                && Objects.equals(current.getDescription(), candidate.getDescription())
+                && Objects.equals(current.getPrice(), candidate.getPrice())
+                && Objects.equals(current.getQuantity(), candidate.getQuantity())
+                && Objects.equals(current.getCategory(), candidate.getCategory())
+                && Objects.equals(current.getCreatedAt(), candidate.getCreatedAt());
+    }
+
+    private void persist(CatalogSnapshot updated) {
+        if (store != null) {
+            store.save(updated);
+        }
+    }
+
+    @Override
+    public List<Product> findAll() {
+        CatalogSnapshot current = snapshot.get();
+        return current != null ? current.findAll() : delegate.findAll();
+    }
+
+    @Override
+    public Optional<Product> findById(String id) {
+        CatalogSnapshot current = snapshot.get();
+        return current != null ? Optional.ofNullable(current.findById(id)) : delegate.findById(id);
+    }
+
+    @Override
+    public List<Product> findByCategory(String category) {
+        CatalogSnapshot current = snapshot.get();
+        return current != null ? current.findByCategory(category) : delegate.findByCategory(category);
+    }
+
+    @Override
+    public ProductPage findPage(String afterId, int limit) {
+        CatalogSnapshot current = snapshot.get();
+        return current != null ? current.findPage(afterId, limit) : delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public ProductPage findPageByCategory(String category, String afterId, int limit) {
+        CatalogSnapshot current = snapshot.get();
+        return current != null
+                ? current.findPageByCategory(category, afterId, limit)
+                : delegate.findPageByCategory(category, afterId, limit);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    public CatalogSnapshotStore getStore() {
+        return store;
+    }
+
+    public CatalogSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Segundos desde a última sincronização bem-sucedida, completa ou delta (-1 enquanto nenhuma foto foi
+     * carregada). Um delta vazio confirma a foto sem trocá-la.
+     */
+    public double getSnapshotAgeSeconds() {
+        Instant syncedAt = lastSyncAt;
+        return syncedAt == null ? -1 : Duration.between(syncedAt, clock.instant()).toMillis() / 1000.0;
+    }
+
+    public long getRefreshSuccesses() {
+        return refreshSuccesses.sum();
+    }
+
+    public long getRefreshFailures() {
+        return refreshFailures.sum();
+    }
+
+    public long getFullSyncs() {
+        return fullSyncs.sum();
+    }
+
+    public long getDeltaSyncs() {
+        return deltaSyncs.sum();
+    }
+
+    public long getDeltaChanges() {
+        return deltaChanges.sum();
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.feignretryapi.infrastructure.mapper;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Conversão de timestamps ISO-8601 da API externa para LocalDateTime, com o mesmo resultado de
+ * {@code LocalDateTime.parse(text, DateTimeFormatter.ISO_DATE_TIME)}.
+ * <p>
+ * O layout fixo enviado pela origem ({@code yyyy-MM-ddTHH:mm[:ss[.fração]]}, opcionalmente com {@code Z})
+ * é lido dígito a dígito, sem o {@code Parsed} e os mapas de campos do DateTimeFormatter; qualquer outra
+ * forma (offset, zona, minúsculas, ano com sinal) e valores fora de faixa seguem pelo formatter, que
+ * também produz a mensagem de erro padrão.
+ * <p>
+ * Como muitos produtos compartilham o mesmo created_at/updated_at, os resultados ficam em um cache
+ * de mapeamento direto por hash: um acerto não aloca nada. As entradas são imutáveis e a tabela
+ * aceita corridas entre threads (no pior caso, uma entrada sobrescrita é recalculada).
+ */
+public final class IsoDateTimeParser {
+
+    private static final DateTimeFormatter FALLBACK = DateTimeFormatter.ISO_DATE_TIME;
+
+    private static final int[] NANO_SCALE = {
+            100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+    };
+
+    private record Entry(String text, LocalDateTime value) {
+
+        boolean matches(char[] chars, int offset, int length) {
+            if (text.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (text.charAt(i) != chars[offset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private final Entry[] cache;
+    private final int mask;
+
+    /**
+     * @param cacheSize Quantidade de entradas do cache, potência de 2
+     */
+    public IsoDateTimeParser(int cacheSize) {
+        if (cacheSize <= 0 || Integer.bitCount(cacheSize) != 1) {
+            throw new IllegalArgumentException("tamanho do cache deve ser uma potência de 2: " + cacheSize);
+        }
+        this.cache = new Entry[cacheSize];
+        this.mask = cacheSize - 1;
+    }
+
+    /**
+     * Converte o texto, reaproveitando o resultado de uma conversão anterior do mesmo texto.
+     *
+     * @throws java.time.format.DateTimeParseException se o texto não for uma data/hora ISO válida
+     */
+    public LocalDateTime parse(String text) {
+        int index = index(text.hashCode());
+        Entry entry = cache[index];
+        if (entry != null && entry.text().equals(text)) {
+            return entry.value();
+        }
+        LocalDateTime value = parseUncached(text);
+        cache[index] = new Entry(text, value);
+        return value;
+    }
+
+    /**
+     * Converte o texto em {@code chars[offset, offset + length)}, como o buffer de texto de um JsonParser.
+     * Em um acerto do cache a String do texto nem chega a ser criada.
+     *
+     * @throws java.time.format.DateTimeParseException se o texto não for uma data/hora ISO válida
+     */
+    public LocalDateTime parse(char[] chars, int offset, int length) {
+        // Mesmo hash de String.hashCode(), para que as duas formas compartilhem as entradas
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int index = index(hash);
+        Entry entry = cache[index];
+        if (entry != null && entry.matches(chars, offset, length)) {
+            return entry.value();
+        }
+        String text = new String(chars, offset, length);
+        LocalDateTime value = parseUncached(text);
+        cache[index] = new Entry(text, value);
+        return value;
+    }
+
+    private int index(int hash) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * Converte sem consultar o cache: caminho rápido e, se ele não reconhecer o texto, o formatter.
+     */
+    public static LocalDateTime parseUncached(String text) {
+        LocalDateTime value = parseFast(text);
+        return value != null ? value : LocalDateTime.parse(text, FALLBACK);
+    }
+
+    /**
+     * Caminho rápido para o layout fixo; retorna null quando o texto precisa do formatter.
+     */
+    static LocalDateTime parseFast(String text) {
+        int length = text.length();
+        if (length > 0 && text.charAt(length - 1) == 'Z') {
+            length--;
+        }
+        if (length < 16 || text.charAt(4) != '-' || text.charAt(7) != '-'
+                || text.charAt(10) != 'T' || text.charAt(13) != ':') {
+            return null;
+        }
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 2);
+        int day = digits(text, 8, 2);
+        int hour = digits(text, 11, 2);
+        int minute = digits(text, 14, 2);
+        if ((year | month | day | hour | minute) < 0) {
+            return null;
+        }
+
+        int second = 0;
+        int nano = 0;
+        if (length > 16) {
+            if (length < 19 || text.charAt(16) != ':') {
+                return null;
+            }
+            second = digits(text, 17, 2);
+            if (second < 0) {
+                return null;
+            }
+            if (length > 19) {
+                int fractionDigits = length - 20;
+                if (text.charAt(19) != '.' || fractionDigits < 1 || fractionDigits > 9) {
+                    return null;
+                }
+                int fraction = digits(text, 20, fractionDigits);
+                if (fraction < 0) {
+                    return null;
+                }
+                nano = fraction * NANO_SCALE[fractionDigits - 1];
+            }
+        }
+
+        try {
+            return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+        } catch (DateTimeException e) {
+            // Fora de faixa (ex.: 30 de fevereiro): o formatter rejeita com a mensagem padrão
+            return null;
+        }
+    }
+
+    /**
+     * Valor dos {@code count} dígitos ASCII a partir de {@code from}, ou -1 se algum não for dígito.
+     */
+    private static int digits(String text, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.feignretryapi.infrastructure.mapper;
 
+import com.example.feignretryapi.application.dto.ProductField;
 import com.example.feignretryapi.application.dto.ProductResponse;
 import com.example.feignretryapi.domain.entity.Product;
 import com.example.feignretryapi.infrastructure.client.feign.dto.ExternalProductDto;
@@ -9,7 +10,9 @@ import org.mapstruct.Named;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Mapper para conversão entre DTOs externos, entidades de domínio e DTOs de resposta.
@@ -43,14 +46,49 @@ public interface ProductMapper {
     List<ProductResponse> toResponseList(List<Product> products);
 
     /**
-     * Converte String para LocalDateTime.
+     * Converte Product para ProductResponse copiando só os campos selecionados; os demais ficam nulos
+     * e são omitidos na serialização. Com todos os campos, equivale a {@link #toResponse(Product)}.
+     */
+    default ProductResponse toResponse(Product product, Set<ProductField> fields) {
+        if (product == null || fields.containsAll(ProductField.ALL)) {
+            return product == null ? null : toResponse(product);
+        }
+        return new ProductResponse(
+                fields.contains(ProductField.ID) ? product.getId() : null,
+                fields.contains(ProductField.NAME) ? product.getName() : null,
+                fields.contains(ProductField.DESCRIPTION) ? product.getDescription() : null,
+                fields.contains(ProductField.PRICE) ? product.getPrice() : null,
+                fields.contains(ProductField.QUANTITY) ? product.getQuantity() : null,
+                fields.contains(ProductField.CATEGORY) ? product.getCategory() : null,
+                fields.contains(ProductField.CREATED_AT) ? product.getCreatedAt() : null,
+                fields.contains(ProductField.UPDATED_AT) ? product.getUpdatedAt() : null
+        );
+    }
+
+    /**
+     * Converte lista de Product para lista de ProductResponse com os campos selecionados.
+     */
+    default List<ProductResponse> toResponseList(List<Product> products, Set<ProductField> fields) {
+        if (fields.containsAll(ProductField.ALL)) {
+            return toResponseList(products);
+        }
+        List<ProductResponse> responses = new ArrayList<>(products.size());
+        for (Product product : products) {
+            responses.add(toResponse(product, fields));
+        }
+        return responses;
+    }
+
+    /**
+     * Converte String para LocalDateTime no formato ISO_DATE_TIME, pelo caminho rápido do
+     * {@link UpstreamDateTimeParser}.
      */
     @Named("stringToLocalDateTime")
     default LocalDateTime stringToLocalDateTime(String dateString) {
         if (dateString == null || dateString.isEmpty()) {
             return null;
         }
-        return LocalDateTime.parse(dateString, DATE_FORMATTER);
+        return UpstreamDateTimeParser.get().parse(dateString);
     }
 
     /**
@@ -0,0 +1,17 @@
+package com.example.feignretryapi.infrastructure.mapper;
+
+/**
+ * Instância compartilhada do {@link IsoDateTimeParser} para os timestamps da API externa: o ProductMapper e a
+ * leitura direta das listagens convertem os mesmos valores e aproveitam o mesmo cache.
+ */
+public final class UpstreamDateTimeParser {
+
+    private static final IsoDateTimeParser INSTANCE = new IsoDateTimeParser(1024);
+
+    private UpstreamDateTimeParser() {
+    }
+
+    public static IsoDateTimeParser get() {
+        return INSTANCE;
+    }
+}
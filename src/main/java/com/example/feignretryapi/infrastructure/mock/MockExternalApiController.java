@@ -9,13 +9,17 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Mock Controller que simula a API externa de produtos.
@@ -26,6 +30,10 @@ import java.util.concurrent.atomic.AtomicInteger;
  * - Erros 5xx para testar retry
  * - Rate limiting (429)
  * - Timeouts
+ * - Requisições condicionais: as respostas trazem ETag e Last-Modified da versão do catálogo,
+ *   e If-None-Match / If-Modified-Since atendidos respondem 304 sem corpo
+ * - Formatos binários: as respostas saem em JSON, CBOR ou Smile conforme o Accept
+ *   (conversores registrados no JacksonConfig)
  */
 @RestController
 @RequestMapping("/api/products")
@@ -44,6 +52,10 @@ public class MockExternalApiController {
     // Dados mock de produtos
     private final List<ExternalProductDto> mockProducts;
 
+    // Versão do catálogo, usada nos validadores (ETag / Last-Modified)
+    private final AtomicLong catalogVersion = new AtomicLong(1);
+    private volatile Instant catalogLastModified = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
     public MockExternalApiController() {
         this.mockProducts = initializeMockProducts();
     }
@@ -99,7 +111,85 @@ public class MockExternalApiController {
         // Simula latência
         simulateLatency(100);
 
-        return ResponseEntity.ok(mockProducts);
+        return withValidators("catalog").body(mockProducts);
+    }
+
+    /**
+     * Retorna os produtos dos IDs informados (GET /api/products?ids=1&ids=2); IDs inexistentes são omitidos.
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<ExternalProductDto>> getProductsByIds(@RequestParam("ids") List<String> ids) {
+        int currentRequest = requestCounter.incrementAndGet();
+        logger.info("Mock API - GET /api/products?ids={} - Requisição #{}", ids, currentRequest);
+
+        // Simula comportamento de falha
+        MockBehavior behavior = mockBehaviors.get("getProductsByIds");
+        if (behavior != null && behavior.shouldFail(currentRequest)) {
+            logger.warn("Mock API - Simulando falha {} para requisição #{}",
+                    behavior.getErrorCode(), currentRequest);
+            return ResponseEntity.status(behavior.getErrorCode()).build();
+        }
+
+        // Simula latência
+        simulateLatency(60);
+
+        List<ExternalProductDto> found = mockProducts.stream()
+                .filter(p -> ids.contains(p.getId()))
+                .toList();
+
+        return ResponseEntity.ok(found);
+    }
+
+    /**
+     * Retorna os produtos com updated_at igual ou posterior ao instante informado (GET /api/products?updatedSince=...).
+     */
+    @GetMapping(params = "updatedSince")
+    public ResponseEntity<List<ExternalProductDto>> getProductsUpdatedSince(
+            @RequestParam("updatedSince") String updatedSince) {
+        int currentRequest = requestCounter.incrementAndGet();
+        logger.info("Mock API - GET /api/products?updatedSince={} - Requisição #{}", updatedSince, currentRequest);
+
+        // Simula comportamento de falha
+        MockBehavior behavior = mockBehaviors.get("getProductsUpdatedSince");
+        if (behavior != null && behavior.shouldFail(currentRequest)) {
+            logger.warn("Mock API - Simulando falha {} para requisição #{}",
+                    behavior.getErrorCode(), currentRequest);
+            return ResponseEntity.status(behavior.getErrorCode()).build();
+        }
+
+        // Simula latência
+        simulateLatency(40);
+
+        LocalDateTime since = LocalDateTime.parse(updatedSince, formatter);
+        List<ExternalProductDto> changed = mockProducts.stream()
+                .filter(p -> !LocalDateTime.parse(p.getUpdatedAt(), formatter).isBefore(since))
+                .toList();
+
+        return ResponseEntity.ok(changed);
+    }
+
+    /**
+     * Retorna uma página do catálogo em ordem de ID (GET /api/products?limit=N&after=...):
+     * até {@code limit} produtos com ID maior que {@code after}.
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<List<ExternalProductDto>> getProductsPage(
+            @RequestParam(required = false) String after, @RequestParam int limit) {
+        int currentRequest = requestCounter.incrementAndGet();
+        logger.info("Mock API - GET /api/products?limit={}&after={} - Requisição #{}", limit, after, currentRequest);
+
+        // Simula comportamento de falha
+        MockBehavior behavior = mockBehaviors.get("getProductsPage");
+        if (behavior != null && behavior.shouldFail(currentRequest)) {
+            logger.warn("Mock API - Simulando falha {} para requisição #{}",
+                    behavior.getErrorCode(), currentRequest);
+            return ResponseEntity.status(behavior.getErrorCode()).build();
+        }
+
+        // Simula latência
+        simulateLatency(30);
+
+        return ResponseEntity.ok(page(mockProducts, after, limit));
     }
 
     /**
@@ -124,7 +214,7 @@ public class MockExternalApiController {
         return mockProducts.stream()
                 .filter(p -> p.getId().equals(id))
                 .findFirst()
-                .map(ResponseEntity::ok)
+                .map(product -> withValidators("product-" + id).body(product))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -153,7 +243,38 @@ public class MockExternalApiController {
                 .filter(p -> p.getCategory().equalsIgnoreCase(category))
                 .toList();
 
-        return ResponseEntity.ok(filtered);
+        return withValidators("category-" + category).body(filtered);
+    }
+
+    /**
+     * Retorna uma página dos produtos da categoria em ordem de ID
+     * (GET /api/products/category?category=...&limit=N&after=...).
+     */
+    @GetMapping(value = "/category", params = "limit")
+    public ResponseEntity<List<ExternalProductDto>> getProductsByCategoryPage(
+            @RequestParam("category") String category,
+            @RequestParam(required = false) String after,
+            @RequestParam int limit) {
+        int currentRequest = requestCounter.incrementAndGet();
+        logger.info("Mock API - GET /api/products/category?category={}&limit={}&after={} - Requisição #{}",
+                category, limit, after, currentRequest);
+
+        // Simula comportamento de falha
+        MockBehavior behavior = mockBehaviors.get("getProductsByCategoryPage");
+        if (behavior != null && behavior.shouldFail(currentRequest)) {
+            logger.warn("Mock API - Simulando falha {} para requisição #{}",
+                    behavior.getErrorCode(), currentRequest);
+            return ResponseEntity.status(behavior.getErrorCode()).build();
+        }
+
+        // Simula latência
+        simulateLatency(30);
+
+        List<ExternalProductDto> filtered = mockProducts.stream()
+                .filter(p -> p.getCategory().equalsIgnoreCase(category))
+                .toList();
+
+        return ResponseEntity.ok(page(filtered, after, limit));
     }
 
     /**
@@ -175,6 +296,24 @@ public class MockExternalApiController {
         return ResponseEntity.ok("Mock configurado com sucesso");
     }
 
+    /**
+     * Endpoint para simular uma alteração no catálogo: muda a versão, invalidando os validadores já emitidos.
+     * Com {@code id}, o produto também tem o updated_at atualizado e passa a aparecer no delta (updatedSince).
+     */
+    @PostMapping("/mock/catalog/touch")
+    public ResponseEntity<String> touchCatalog(@RequestParam(required = false) String id) {
+        long version = catalogVersion.incrementAndGet();
+        catalogLastModified = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        if (id != null) {
+            String now = LocalDateTime.now().format(formatter);
+            mockProducts.stream()
+                    .filter(p -> p.getId().equals(id))
+                    .forEach(p -> p.setUpdatedAt(now));
+        }
+        logger.info("Mock - catálogo alterado para a versão {} (produto: {})", version, id);
+        return ResponseEntity.ok("Catálogo na versão " + version);
+    }
+
     /**
      * Endpoint para resetar configurações do mock.
      */
@@ -198,6 +337,24 @@ public class MockExternalApiController {
         ));
     }
 
+    /**
+     * Resposta 200 com ETag e Last-Modified; o Spring MVC responde 304 quando a requisição
+     * traz If-None-Match ou If-Modified-Since ainda válidos.
+     */
+    private ResponseEntity.BodyBuilder withValidators(String resource) {
+        return ResponseEntity.ok()
+                .eTag("\"" + resource + "-v" + catalogVersion.get() + "\"")
+                .lastModified(catalogLastModified);
+    }
+
+    private static List<ExternalProductDto> page(List<ExternalProductDto> products, String after, int limit) {
+        return products.stream()
+                .filter(p -> after == null || p.getId().compareTo(after) > 0)
+                .sorted(Comparator.comparing(ExternalProductDto::getId))
+                .limit(limit)
+                .toList();
+    }
+
     private void simulateLatency(long milliseconds) {
         try {
             Thread.sleep(milliseconds);
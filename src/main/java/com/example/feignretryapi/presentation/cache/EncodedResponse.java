@@ -0,0 +1,52 @@
+package com.example.feignretryapi.presentation.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Corpo de resposta já codificado no formato negociado (JSON, CBOR ou Smile), com a versão comprimida em
+ * gzip gerada na primeira vez que um cliente a aceita.
+ * Guarda uma referência fraca aos dados de origem: a entrada vale enquanto o gateway devolver a mesma
+ * instância, sem impedir que uma foto ou lista antiga seja coletada.
+ */
+public final class EncodedResponse {
+
+    private final WeakReference<Object> source;
+    private final byte[] body;
+    private volatile byte[] gzip;
+
+    EncodedResponse(Object source, byte[] body) {
+        this.source = new WeakReference<>(source);
+        this.body = body;
+    }
+
+    boolean isEncodingOf(Object data) {
+        return source.get() == data;
+    }
+
+    public byte[] body() {
+        return body;
+    }
+
+    public byte[] gzip() {
+        byte[] compressed = gzip;
+        if (compressed == null) {
+            compressed = compress(body);
+            gzip = compressed;
+        }
+        return compressed;
+    }
+
+    static byte[] compress(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
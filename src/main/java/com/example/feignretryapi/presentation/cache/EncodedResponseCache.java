@@ -0,0 +1,110 @@
+package com.example.feignretryapi.presentation.cache;
+
+import com.example.feignretryapi.infrastructure.codec.WireFormat;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Respostas de listagem já codificadas (e a versão gzip), por operação, argumento, seleção de campos e formato.
+ * <p>
+ * A versão dos dados é a própria instância devolvida pelo gateway: a foto do catálogo e o cache do gateway
+ * entregam a mesma lista imutável até que os dados mudem (nova versão da foto, recarga do cache). Enquanto
+ * a instância for a mesma, a resposta sai destes bytes, sem mapeamento nem nova codificação; com uma
+ * instância nova, a entrada é recodificada e substituída. Sem foto nem cache, cada chamada traz uma lista
+ * nova e a entrada nunca é reaproveitada.
+ */
+public class EncodedResponseCache {
+
+    private final Cache<Key, EncodedResponse> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param operation operação do gateway (ex.: findAll)
+     * @param argument  argumento da operação, ou null
+     * @param fields    campos selecionados na resposta
+     * @param format    formato da codificação (JSON, CBOR ou Smile)
+     */
+    record Key(String operation, String argument, Set<?> fields, WireFormat format) {
+    }
+
+    public EncodedResponseCache(long maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximum-size do cache de respostas deve ser positivo: " + maximumSize);
+        }
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    /**
+     * Resposta codificada para {@code source}: a guardada, se foi gerada a partir da mesma instância,
+     * ou uma nova gerada pelo {@code encoder}, que passa a ser a guardada.
+     */
+    public EncodedResponse get(String operation, String argument, Set<?> fields, WireFormat format,
+                               Object source, Supplier<byte[]> encoder) {
+        Key key = new Key(operation, argument, fields, format);
+        EncodedResponse cached = entries.getIfPresent(key);
+        if (cached != null && cached.isEncodingOf(source)) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        EncodedResponse encoded = new EncodedResponse(source, encoder.get());
+        entries.put(key, encoded);
+        return encoded;
+    }
+
+    /**
+     * Indica se o header Accept-Encoding aceita gzip (ou {@code *}) com qualidade maior que zero.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (!name.equals("gzip") && !name.equals("*")) {
+                continue;
+            }
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2));
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            return quality > 0;
+        }
+        return false;
+    }
+
+    /**
+     * Respostas servidas dos bytes guardados.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Respostas codificadas de novo: primeira chamada ou dados de origem diferentes.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getSize() {
+        return entries.estimatedSize();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.feignretryapi.presentation.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Expõe o cache de respostas codificadas como métricas do Micrometer.
+ * Disponíveis em /actuator/metrics/http.response-cache.*
+ */
+public class EncodedResponseCacheMetrics implements MeterBinder {
+
+    private final EncodedResponseCache cache;
+
+    public EncodedResponseCacheMetrics(EncodedResponseCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("http.response-cache.requests", cache, EncodedResponseCache::getHits)
+                .description("Respostas de listagem por origem dos bytes")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("http.response-cache.requests", cache, EncodedResponseCache::getMisses)
+                .description("Respostas de listagem por origem dos bytes")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("http.response-cache.entries", cache, EncodedResponseCache::getSize)
+                .description("Respostas codificadas guardadas")
+                .register(registry);
+    }
+}
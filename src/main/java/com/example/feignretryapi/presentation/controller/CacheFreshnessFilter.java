@@ -0,0 +1,31 @@
+package com.example.feignretryapi.presentation.controller;
+
+import com.example.feignretryapi.infrastructure.gateway.caching.CacheFreshness;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Abre um {@link CacheFreshness.Recorder} durante o atendimento da requisição e o guarda como atributo,
+ * para que o {@link CacheHeadersResponseAdvice} informe a idade do dado servido pelo cache do gateway,
+ * inclusive no dispatch assíncrono que escreve o corpo.
+ */
+@Component
+public class CacheFreshnessFilter extends OncePerRequestFilter {
+
+    static final String ATTRIBUTE = CacheFreshness.Recorder.class.getName();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try (CacheFreshness.Recorder recorder = CacheFreshness.open()) {
+            request.setAttribute(ATTRIBUTE, recorder);
+            chain.doFilter(request, response);
+        }
+    }
+}
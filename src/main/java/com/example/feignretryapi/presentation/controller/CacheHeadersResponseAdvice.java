@@ -0,0 +1,46 @@
+package com.example.feignretryapi.presentation.controller;
+
+import com.example.feignretryapi.infrastructure.gateway.caching.CacheFreshness;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Informa na resposta a idade do dado servido pelo cache do gateway.
+ * Age traz a idade em segundos; X-Cache-Status indica FRESH ou STALE (dado servido após o TTL,
+ * durante a recarga ou no lugar de um erro da API externa), conforme registrado pelo {@link CacheFreshnessFilter}.
+ */
+@RestControllerAdvice
+public class CacheHeadersResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String CACHE_STATUS_HEADER = "X-Cache-Status";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            Object recorder = servletRequest.getServletRequest().getAttribute(CacheFreshnessFilter.ATTRIBUTE);
+            if (!(recorder instanceof CacheFreshness.Recorder freshnessRecorder)) {
+                return body;
+            }
+            freshnessRecorder.oldest()
+                    .ifPresent(freshness -> {
+                        response.getHeaders().set(HttpHeaders.AGE, String.valueOf(freshness.ageSeconds()));
+                        response.getHeaders().set(CACHE_STATUS_HEADER, freshness.stale() ? "STALE" : "FRESH");
+                    });
+        }
+        return body;
+    }
+}
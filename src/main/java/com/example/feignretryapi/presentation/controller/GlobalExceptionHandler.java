@@ -1,14 +1,19 @@
 package com.example.feignretryapi.presentation.controller;
 
 import com.example.feignretryapi.application.dto.ErrorResponse;
+import com.example.feignretryapi.domain.exception.CircuitBreakerOpenException;
+import com.example.feignretryapi.domain.exception.ConcurrencyLimitExceededException;
 import com.example.feignretryapi.domain.exception.DomainException;
 import com.example.feignretryapi.domain.exception.ExternalApiException;
+import com.example.feignretryapi.domain.exception.InvalidFieldSelectionException;
+import com.example.feignretryapi.domain.exception.InvalidPageRequestException;
 import com.example.feignretryapi.domain.exception.ProductNotFoundException;
 import feign.FeignException;
 import feign.RetryableException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -36,6 +41,65 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    @ExceptionHandler(InvalidPageRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidPageRequestException(
+            InvalidPageRequestException ex, HttpServletRequest request) {
+        logger.warn("Requisição de página inválida: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                ex.getMessage(),
+                "INVALID_PAGE_REQUEST",
+                request.getRequestURI()
+        );
+        
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(InvalidFieldSelectionException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidFieldSelectionException(
+            InvalidFieldSelectionException ex, HttpServletRequest request) {
+        logger.warn("Seleção de campos inválida: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                ex.getMessage(),
+                "INVALID_FIELDS",
+                request.getRequestURI()
+        );
+        
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(CircuitBreakerOpenException.class)
+    public ResponseEntity<ErrorResponse> handleCircuitBreakerOpenException(
+            CircuitBreakerOpenException ex, HttpServletRequest request) {
+        logger.warn("Circuit breaker aberto: {}", ex.getCircuitName());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                "Serviço externo indisponível. Tente novamente mais tarde.",
+                "CIRCUIT_BREAKER_OPEN",
+                request.getRequestURI()
+        );
+        
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfterMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrencyLimitExceededException(
+            ConcurrencyLimitExceededException ex, HttpServletRequest request) {
+        logger.warn("Limite de concorrência atingido: {}", ex.getLimit());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                "Serviço externo sobrecarregado. Tente novamente mais tarde.",
+                "CONCURRENCY_LIMIT_EXCEEDED",
+                request.getRequestURI()
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
     @ExceptionHandler(ExternalApiException.class)
     public ResponseEntity<ErrorResponse> handleExternalApiException(
             ExternalApiException ex, HttpServletRequest request) {
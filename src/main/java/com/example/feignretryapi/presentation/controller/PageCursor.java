@@ -0,0 +1,56 @@
+package com.example.feignretryapi.presentation.controller;
+
+import com.example.feignretryapi.domain.exception.InvalidPageRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Codificação do cursor opaco da paginação.
+ * O cursor carrega o ID do último produto entregue, com prefixo de versão, em Base64 URL-safe;
+ * o cliente só o repassa, e o formato pode mudar sem quebrar o contrato.
+ */
+final class PageCursor {
+
+    static final int MAX_LIMIT = 100;
+
+    private static final String PREFIX = "v1:";
+
+    private PageCursor() {
+    }
+
+    static String encode(String afterId) {
+        if (afterId == null) {
+            return null;
+        }
+        byte[] bytes = (PREFIX + afterId).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * ID a partir do qual a página começa, ou null sem cursor (primeira página).
+     *
+     * @throws InvalidPageRequestException se o cursor não foi emitido por esta API
+     */
+    static String decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (value.startsWith(PREFIX) && value.length() > PREFIX.length()) {
+                return value.substring(PREFIX.length());
+            }
+        } catch (IllegalArgumentException e) {
+            // Base64 inválido: tratado como cursor inválido abaixo
+        }
+        throw new InvalidPageRequestException("Cursor inválido: " + cursor);
+    }
+
+    static int checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidPageRequestException("limit deve estar entre 1 e " + MAX_LIMIT + ": " + limit);
+        }
+        return limit;
+    }
+}
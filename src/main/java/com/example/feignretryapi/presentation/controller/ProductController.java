@@ -1,96 +1,329 @@
 package com.example.feignretryapi.presentation.controller;
 
+import com.example.feignretryapi.application.dto.ProductField;
 import com.example.feignretryapi.application.dto.ProductListResponse;
+import com.example.feignretryapi.application.dto.ProductPageResponse;
 import com.example.feignretryapi.application.dto.ProductResponse;
 import com.example.feignretryapi.application.usecase.GetAllProductsUseCase;
 import com.example.feignretryapi.application.usecase.GetProductByIdUseCase;
 import com.example.feignretryapi.application.usecase.GetProductsByCategoryUseCase;
 import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.domain.entity.ProductPage;
+import com.example.feignretryapi.infrastructure.codec.WireFormat;
+import com.example.feignretryapi.infrastructure.codec.WireFormatMappers;
 import com.example.feignretryapi.infrastructure.mapper.ProductMapper;
+import com.example.feignretryapi.presentation.cache.EncodedResponse;
+import com.example.feignretryapi.presentation.cache.EncodedResponseCache;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Controller REST para operações com produtos.
+ * Os endpoints retornam {@link CompletableFuture}: com o gateway assíncrono ativo,
+ * a thread do servlet é liberada enquanto a chamada à API externa está pendente.
+ * Todos aceitam {@code ?fields=id,name,...}: só os campos pedidos são mapeados e serializados
+ * (ver {@link ProductFieldsResponseAdvice}).
+ * As listagens completas e o streaming escrevem os produtos direto no formato do ProductResponse, sem a cópia
+ * para o DTO, e devolvem o corpo já codificado, guardado no {@link EncodedResponseCache} enquanto
+ * os dados de origem não mudam. Além de JSON, os endpoints respondem em CBOR ({@code application/cbor})
+ * e Smile ({@code application/x-jackson-smile}) conforme o Accept.
  */
 @RestController
 @RequestMapping("/api/v1/products")
 public class ProductController {
 
     private static final Logger logger = LoggerFactory.getLogger(ProductController.class);
+    static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
 
     private final GetAllProductsUseCase getAllProductsUseCase;
     private final GetProductByIdUseCase getProductByIdUseCase;
     private final GetProductsByCategoryUseCase getProductsByCategoryUseCase;
     private final ProductMapper productMapper;
+    private final WireFormatMappers wireFormatMappers;
+    private final EncodedResponseCache responseCache;
 
     public ProductController(
             GetAllProductsUseCase getAllProductsUseCase,
             GetProductByIdUseCase getProductByIdUseCase,
             GetProductsByCategoryUseCase getProductsByCategoryUseCase,
-            ProductMapper productMapper
+            ProductMapper productMapper,
+            ObjectMapper objectMapper
+    ) {
+        this(getAllProductsUseCase, getProductByIdUseCase, getProductsByCategoryUseCase, productMapper,
+                new WireFormatMappers(objectMapper), Optional.empty());
+    }
+
+    @Autowired
+    public ProductController(
+            GetAllProductsUseCase getAllProductsUseCase,
+            GetProductByIdUseCase getProductByIdUseCase,
+            GetProductsByCategoryUseCase getProductsByCategoryUseCase,
+            ProductMapper productMapper,
+            WireFormatMappers wireFormatMappers,
+            Optional<EncodedResponseCache> responseCache
     ) {
         this.getAllProductsUseCase = getAllProductsUseCase;
         this.getProductByIdUseCase = getProductByIdUseCase;
         this.getProductsByCategoryUseCase = getProductsByCategoryUseCase;
         this.productMapper = productMapper;
+        this.wireFormatMappers = wireFormatMappers;
+        this.responseCache = responseCache.orElse(null);
     }
 
     /**
      * Busca todos os produtos.
      *
-     * @return Lista de produtos
+     * @param fields         Campos do produto a incluir, separados por vírgula; ausente inclui todos
+     * @param accept         Header Accept; escolhe entre JSON, CBOR e Smile
+     * @param acceptEncoding Header Accept-Encoding; com gzip, a resposta guardada vai comprimida
+     * @return Lista de produtos ({@link ProductListResponse}) já codificada
      */
     @GetMapping
-    public ResponseEntity<ProductListResponse> getAllProducts() {
+    public CompletableFuture<ResponseEntity<byte[]>> getAllProducts(
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         logger.info("Requisição para buscar todos os produtos");
+        Set<ProductField> selected = ProductField.parse(fields);
         
-        List<Product> products = getAllProductsUseCase.execute();
-        List<ProductResponse> productResponses = productMapper.toResponseList(products);
-        
-        ProductListResponse response = new ProductListResponse(productResponses, productResponses.size());
-        
-        logger.info("Retornando {} produtos", productResponses.size());
-        return ResponseEntity.ok(response);
+        return getAllProductsUseCase.executeAsync().thenApply(products -> {
+            logger.info("Retornando {} produtos", products.size());
+            return toListResponse("findAll", null, products, selected, accept, acceptEncoding);
+        });
+    }
+
+    /**
+     * Busca uma página de produtos em ordem de ID (paginação por cursor).
+     *
+     * @param limit  Tamanho máximo da página (1 a {@value PageCursor#MAX_LIMIT})
+     * @param cursor Cursor devolvido pela página anterior; ausente na primeira página
+     * @param fields Campos do produto a incluir, separados por vírgula; ausente inclui todos
+     * @return Página de produtos e o cursor da próxima
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<ProductPageResponse> getProductsPage(@RequestParam int limit,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(required = false) String fields) {
+        logger.info("Requisição para buscar página de até {} produtos", limit);
+        Set<ProductField> selected = ProductField.parse(fields);
+        ProductPage page = getAllProductsUseCase.executePage(PageCursor.decode(cursor), PageCursor.checkLimit(limit));
+        logger.info("Retornando página com {} produtos", page.products().size());
+        return ResponseEntity.ok(toPageResponse(page, selected));
+    }
+
+    /**
+     * Busca todos os produtos em streaming, como NDJSON: um produto por linha.
+     * Cada produto é lido da API externa, mapeado e escrito em seguida, com memória constante
+     * independentemente do tamanho do catálogo.
+     *
+     * @param fields Campos do produto a incluir, separados por vírgula; ausente inclui todos
+     * @return Produtos em application/x-ndjson
+     */
+    @GetMapping(params = "stream=ndjson")
+    public StreamingResponseBody streamAllProductsAsNdjson(@RequestParam(required = false) String fields,
+                                                           HttpServletResponse response) {
+        logger.info("Requisição para transmitir todos os produtos em NDJSON");
+        return productStream(response, true, ProductField.parse(fields));
+    }
+
+    /**
+     * Busca todos os produtos em streaming, no mesmo formato do {@link #getAllProducts(String, String, String)}
+     * ({@code {"products": [...], "total": n}}), escrito em chunks à medida que os produtos chegam.
+     *
+     * @param fields Campos do produto a incluir, separados por vírgula; ausente inclui todos
+     * @return Lista de produtos em application/json
+     */
+    @GetMapping(params = "stream=json")
+    public StreamingResponseBody streamAllProductsAsJson(@RequestParam(required = false) String fields,
+                                                         HttpServletResponse response) {
+        logger.info("Requisição para transmitir todos os produtos em JSON");
+        return productStream(response, false, ProductField.parse(fields));
+    }
+
+    /**
+     * Escreve os produtos com o gerador de streaming do Jackson. Nada é escrito, nem o Content-Type, antes do
+     * primeiro produto, para que uma falha na chamada à API externa ainda chegue ao GlobalExceptionHandler;
+     * uma falha no meio da leitura interrompe a resposta sem fechar o JSON, para que o cliente não a tome
+     * como completa.
+     */
+    private StreamingResponseBody productStream(HttpServletResponse response, boolean ndjson,
+                                                Set<ProductField> fields) {
+        ObjectMapper productResponseMapper = wireFormatMappers.productResponseMapper(WireFormat.JSON);
+        ObjectWriter writer = productResponseMapper.writer(ProductFieldsFilter.filterProvider(fields));
+        return outputStream -> {
+            AtomicLong total = new AtomicLong();
+            try (JsonGenerator generator = productResponseMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+                // flush no stream do servlet faria o commit do status 200 mesmo sem nenhum byte escrito
+                generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+                generator.setRootValueSeparator(null);
+                getAllProductsUseCase.stream(product -> {
+                    try {
+                        if (total.get() == 0) {
+                            startStream(response, generator, ndjson);
+                        }
+                        writer.writeValue(generator, product);
+                        if (ndjson) {
+                            generator.writeRaw('\n');
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    total.incrementAndGet();
+                });
+                if (total.get() == 0) {
+                    startStream(response, generator, ndjson);
+                }
+                if (!ndjson) {
+                    generator.writeEndArray();
+                    generator.writeNumberField("total", total.get());
+                    generator.writeEndObject();
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            logger.info("Transmitidos {} produtos", total.get());
+        };
+    }
+
+    private static void startStream(HttpServletResponse response, JsonGenerator generator, boolean ndjson)
+            throws IOException {
+        response.setContentType(ndjson ? APPLICATION_NDJSON_VALUE : MediaType.APPLICATION_JSON_VALUE);
+        if (!ndjson) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("products");
+        }
     }
 
     /**
      * Busca um produto pelo ID.
      *
-     * @param id Identificador do produto
+     * @param id     Identificador do produto
+     * @param fields Campos do produto a incluir, separados por vírgula; ausente inclui todos
      * @return Produto encontrado
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ProductResponse> getProductById(@PathVariable String id) {
+    public CompletableFuture<ResponseEntity<ProductResponse>> getProductById(
+            @PathVariable String id, @RequestParam(required = false) String fields) {
         logger.info("Requisição para buscar produto com ID: {}", id);
+        Set<ProductField> selected = ProductField.parse(fields);
         
-        Product product = getProductByIdUseCase.execute(id);
-        ProductResponse response = productMapper.toResponse(product);
-        
-        logger.info("Retornando produto: {}", response.name());
-        return ResponseEntity.ok(response);
+        return getProductByIdUseCase.executeAsync(id).thenApply(product -> {
+            ProductResponse response = productMapper.toResponse(product, selected);
+
+            logger.info("Retornando produto: {}", product.getName());
+            return ResponseEntity.ok(response);
+        });
+    }
+
+    /**
+     * Busca uma página dos produtos de uma categoria, em ordem de ID (paginação por cursor).
+     *
+     * @param category Categoria dos produtos
+     * @param limit    Tamanho máximo da página (1 a {@value PageCursor#MAX_LIMIT})
+     * @param cursor   Cursor devolvido pela página anterior; ausente na primeira página
+     * @param fields   Campos do produto a incluir, separados por vírgula; ausente inclui todos
+     * @return Página de produtos da categoria e o cursor da próxima
+     */
+    @GetMapping(value = "/category/{category}", params = "limit")
+    public ResponseEntity<ProductPageResponse> getProductsByCategoryPage(
+            @PathVariable String category, @RequestParam int limit, @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String fields) {
+        logger.info("Requisição para buscar página de até {} produtos da categoria: {}", limit, category);
+        Set<ProductField> selected = ProductField.parse(fields);
+        ProductPage page = getProductsByCategoryUseCase.executePage(category, PageCursor.decode(cursor),
+                PageCursor.checkLimit(limit));
+        logger.info("Retornando página com {} produtos da categoria {}", page.products().size(), category);
+        return ResponseEntity.ok(toPageResponse(page, selected));
     }
 
     /**
      * Busca produtos por categoria.
      *
      * @param category Categoria dos produtos
-     * @return Lista de produtos da categoria
+     * @param fields         Campos do produto a incluir, separados por vírgula; ausente inclui todos
+     * @param accept         Header Accept; escolhe entre JSON, CBOR e Smile
+     * @param acceptEncoding Header Accept-Encoding; com gzip, a resposta guardada vai comprimida
+     * @return Lista de produtos da categoria ({@link ProductListResponse}) já codificada
      */
     @GetMapping("/category/{category}")
-    public ResponseEntity<ProductListResponse> getProductsByCategory(@PathVariable String category) {
+    public CompletableFuture<ResponseEntity<byte[]>> getProductsByCategory(
+            @PathVariable String category, @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         logger.info("Requisição para buscar produtos da categoria: {}", category);
+        Set<ProductField> selected = ProductField.parse(fields);
         
-        List<Product> products = getProductsByCategoryUseCase.execute(category);
-        List<ProductResponse> productResponses = productMapper.toResponseList(products);
-        
-        ProductListResponse response = new ProductListResponse(productResponses, productResponses.size());
-        
-        logger.info("Retornando {} produtos da categoria {}", productResponses.size(), category);
-        return ResponseEntity.ok(response);
+        return getProductsByCategoryUseCase.executeAsync(category).thenApply(products -> {
+            logger.info("Retornando {} produtos da categoria {}", products.size(), category);
+            return toListResponse("findByCategory", category, products, selected, accept, acceptEncoding);
+        });
+    }
+
+    /**
+     * Listagem já codificada no formato negociado pelo Accept. Com o cache de respostas, os bytes (e o gzip,
+     * se aceito) são reaproveitados enquanto o gateway devolver a mesma lista; sem ele, a lista é mapeada e
+     * serializada a cada chamada.
+     */
+    private ResponseEntity<byte[]> toListResponse(String operation, String argument, List<Product> products,
+                                                  Set<ProductField> fields, String accept, String acceptEncoding) {
+        WireFormat format = WireFormat.negotiate(accept);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().contentType(format.mediaType());
+        if (responseCache == null) {
+            return builder.varyBy(HttpHeaders.ACCEPT).body(encodeList(products, fields, format));
+        }
+        EncodedResponse encoded = responseCache.get(operation, argument, fields, format, products,
+                () -> encodeList(products, fields, format));
+        builder.varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (EncodedResponseCache.acceptsGzip(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(encoded.gzip());
+        }
+        return builder.body(encoded.body());
+    }
+
+    /**
+     * Escreve a lista no formato do {@link ProductListResponse} direto a partir dos produtos, sem mapear cada um
+     * para ProductResponse: o mapper de {@link WireFormatMappers#productResponseMapper} já serializa o Product
+     * com os nomes do ProductResponse, e o filtro de {@code fields} omite os campos fora da seleção.
+     */
+    private byte[] encodeList(List<Product> products, Set<ProductField> fields, WireFormat format) {
+        ObjectMapper productResponseMapper = wireFormatMappers.productResponseMapper(format);
+        ByteArrayBuilder out = new ByteArrayBuilder();
+        try (JsonGenerator generator = productResponseMapper.getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeFieldName("products");
+            productResponseMapper.writer(ProductFieldsFilter.filterProvider(fields)).writeValue(generator, products);
+            generator.writeNumberField("total", products.size());
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private ProductPageResponse toPageResponse(ProductPage page, Set<ProductField> fields) {
+        List<ProductResponse> productResponses = productMapper.toResponseList(page.products(), fields);
+        return new ProductPageResponse(productResponses, productResponses.size(),
+                PageCursor.encode(page.nextAfterId()));
     }
 }
@@ -0,0 +1,30 @@
+package com.example.feignretryapi.presentation.controller;
+
+import com.example.feignretryapi.application.dto.ProductField;
+import com.example.feignretryapi.application.dto.ProductResponse;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import java.util.Set;
+
+/**
+ * Filtro do Jackson para a seleção {@code ?fields=} do {@link ProductResponse}.
+ */
+public final class ProductFieldsFilter {
+
+    private ProductFieldsFilter() {
+    }
+
+    /**
+     * Filtro do {@link ProductResponse#FIELDS_FILTER}: os campos fora da seleção nem são escritos.
+     */
+    public static FilterProvider filterProvider(Set<ProductField> fields) {
+        SimpleBeanPropertyFilter filter = SimpleBeanPropertyFilter.serializeAll();
+        if (!fields.containsAll(ProductField.ALL)) {
+            filter = SimpleBeanPropertyFilter.filterOutAllExcept(
+                    fields.stream().map(ProductField::jsonName).toArray(String[]::new));
+        }
+        return new SimpleFilterProvider().addFilter(ProductResponse.FIELDS_FILTER, filter);
+    }
+}
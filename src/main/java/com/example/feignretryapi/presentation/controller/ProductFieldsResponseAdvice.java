@@ -0,0 +1,37 @@
+package com.example.feignretryapi.presentation.controller;
+
+import com.example.feignretryapi.application.dto.ProductField;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Set;
+
+/**
+ * Aplica a seleção {@code ?fields=} na serialização das respostas do {@link ProductController}:
+ * os campos não pedidos são omitidos pelo filtro do ProductResponse, sem ser escritos nem como null.
+ * A seleção já foi validada pelo controller antes de a resposta chegar aqui.
+ */
+@RestControllerAdvice(assignableTypes = ProductController.class)
+public class ProductFieldsResponseAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    static final String FIELDS_PARAMETER = "fields";
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            String fields = servletRequest.getServletRequest().getParameter(FIELDS_PARAMETER);
+            Set<ProductField> selected = ProductField.parse(fields);
+            if (!selected.containsAll(ProductField.ALL)) {
+                bodyContainer.setFilters(ProductFieldsFilter.filterProvider(selected));
+            }
+        }
+    }
+}
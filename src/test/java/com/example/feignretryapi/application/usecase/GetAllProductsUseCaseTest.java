@@ -2,6 +2,7 @@ package com.example.feignretryapi.application.usecase;
 
 import com.example.feignretryapi.domain.entity.Product;
 import com.example.feignretryapi.domain.exception.ExternalApiException;
+import com.example.feignretryapi.infrastructure.mock.MockAsyncProductGateway;
 import com.example.feignretryapi.infrastructure.mock.MockProductGateway;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -94,4 +96,19 @@ class GetAllProductsUseCaseTest {
         assertEquals("First", result.get(0).getName());
         assertEquals("Second", result.get(1).getName());
     }
+
+    @Test
+    @DisplayName("executeAsync - Deve retornar produtos usando o gateway assíncrono")
+    void executeAsyncShouldReturnProductsUsingAsyncGateway() {
+        // Arrange
+        GetAllProductsUseCase asyncUseCase = new GetAllProductsUseCase(
+                mockProductGateway, Optional.of(new MockAsyncProductGateway(mockProductGateway)));
+
+        // Act
+        List<Product> result = asyncUseCase.executeAsync().join();
+
+        // Assert
+        assertEquals(3, result.size());
+        mockProductGateway.verifyFindAllCalled(1);
+    }
 }
@@ -3,6 +3,7 @@ package com.example.feignretryapi.application.usecase;
 import com.example.feignretryapi.domain.entity.Product;
 import com.example.feignretryapi.domain.exception.ExternalApiException;
 import com.example.feignretryapi.domain.exception.ProductNotFoundException;
+import com.example.feignretryapi.infrastructure.mock.MockAsyncProductGateway;
 import com.example.feignretryapi.infrastructure.mock.MockProductGateway;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.concurrent.CompletionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -111,4 +113,45 @@ class GetProductByIdUseCaseTest {
         // Assert
         assertEquals("2", mockProductGateway.getLastFindByIdParameter());
     }
+
+    @Test
+    @DisplayName("executeAsync - Deve retornar produto usando o gateway assíncrono")
+    void executeAsyncShouldReturnProductUsingAsyncGateway() {
+        // Arrange
+        GetProductByIdUseCase asyncUseCase = new GetProductByIdUseCase(
+                mockProductGateway, Optional.of(new MockAsyncProductGateway(mockProductGateway)));
+
+        // Act
+        Product result = asyncUseCase.executeAsync("1").join();
+
+        // Assert
+        assertEquals("1", result.getId());
+        mockProductGateway.verifyFindByIdCalledWith("1");
+    }
+
+    @Test
+    @DisplayName("executeAsync - Deve completar com ProductNotFoundException quando produto não existe")
+    void executeAsyncShouldFailWithProductNotFoundException() {
+        // Arrange
+        GetProductByIdUseCase asyncUseCase = new GetProductByIdUseCase(
+                mockProductGateway, Optional.of(new MockAsyncProductGateway(mockProductGateway)));
+
+        // Act
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> asyncUseCase.executeAsync("999").join());
+
+        // Assert
+        assertInstanceOf(ProductNotFoundException.class, exception.getCause());
+    }
+
+    @Test
+    @DisplayName("executeAsync - Deve executar de forma síncrona sem gateway assíncrono")
+    void executeAsyncShouldRunSynchronouslyWithoutAsyncGateway() {
+        // Act
+        Product result = useCase.executeAsync("2").join();
+
+        // Assert
+        assertEquals("2", result.getId());
+        mockProductGateway.verifyFindByIdCalled(1);
+    }
 }
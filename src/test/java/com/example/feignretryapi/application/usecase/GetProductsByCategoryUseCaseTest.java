@@ -2,12 +2,14 @@ package com.example.feignretryapi.application.usecase;
 
 import com.example.feignretryapi.domain.entity.Product;
 import com.example.feignretryapi.domain.exception.ExternalApiException;
+import com.example.feignretryapi.infrastructure.mock.MockAsyncProductGateway;
 import com.example.feignretryapi.infrastructure.mock.MockProductGateway;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -95,4 +97,19 @@ class GetProductsByCategoryUseCaseTest {
     private void verifyFindByCategoryCallCount(int times) {
         mockProductGateway.verifyFindByCategoryCalled(times);
     }
+
+    @Test
+    @DisplayName("executeAsync - Deve retornar produtos da categoria usando o gateway assíncrono")
+    void executeAsyncShouldReturnProductsUsingAsyncGateway() {
+        // Arrange
+        GetProductsByCategoryUseCase asyncUseCase = new GetProductsByCategoryUseCase(
+                mockProductGateway, Optional.of(new MockAsyncProductGateway(mockProductGateway)));
+
+        // Act
+        List<Product> result = asyncUseCase.executeAsync("electronics").join();
+
+        // Assert
+        assertEquals(2, result.size());
+        mockProductGateway.verifyFindByCategoryCalledWith("electronics");
+    }
 }
@@ -0,0 +1,135 @@
+package com.example.feignretryapi.benchmark;
+
+import com.example.feignretryapi.application.dto.ProductField;
+import com.example.feignretryapi.application.dto.ProductListResponse;
+import com.example.feignretryapi.application.dto.ProductResponse;
+import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.infrastructure.client.codec.ExternalProductDeserializer;
+import com.example.feignretryapi.infrastructure.client.feign.dto.ExternalProductDto;
+import com.example.feignretryapi.infrastructure.codec.WireFormat;
+import com.example.feignretryapi.infrastructure.codec.WireFormatMappers;
+import com.example.feignretryapi.infrastructure.mapper.ProductMapper;
+import com.example.feignretryapi.infrastructure.mapper.ProductMapperImpl;
+import com.example.feignretryapi.presentation.controller.ProductFieldsFilter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o caminho de leitura da listagem, do corpo JSON da API externa até o corpo da resposta:
+ * <ul>
+ *   <li>{@code layered}: ExternalProductDto, {@code toDomainList} para Product, {@code toResponseList} para
+ *       ProductResponse e serialização do ProductListResponse</li>
+ *   <li>{@code fused}: leitura direta para Product ({@link ExternalProductDeserializer}) e escrita do Product no
+ *       formato do ProductResponse ({@link WireFormatMappers#productResponseMapper})</li>
+ *   <li>{@code layeredMapping} e {@code fusedMapping}: só a parte entre os bytes da API externa e os objetos
+ *       que vão para a serialização</li>
+ * </ul>
+ * Rodando o JMH com {@code -prof gc} a saída mostra a alocação por operação.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ProductReadPathBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductReadPathBenchmark {
+
+    @Param({"100", "1000"})
+    private int products;
+
+    private byte[] upstreamBody;
+    private ProductMapper productMapper;
+    private ObjectReader dtoReader;
+    private ObjectReader productReader;
+    private ObjectWriter responseWriter;
+    private ObjectMapper productResponseMapper;
+    private ObjectWriter productResponseWriter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .filters(ProductFieldsFilter.filterProvider(ProductField.ALL))
+                .modulesToInstall(ExternalProductDeserializer.module())
+                .build();
+        WireFormatMappers mappers = new WireFormatMappers(objectMapper);
+
+        // Produtos cadastrados em lotes de 50, como no catálogo real: timestamps repetidos
+        LocalDateTime base = LocalDateTime.of(2026, 10, 16, 12, 0, 0, 123_456_789);
+        List<ExternalProductDto> catalog = new ArrayList<>(products);
+        for (int i = 0; i < products; i++) {
+            String createdAt = base.plusMinutes(i / 50).format(DateTimeFormatter.ISO_DATE_TIME);
+            String updatedAt = base.plusHours(i / 50).format(DateTimeFormatter.ISO_DATE_TIME);
+            catalog.add(new ExternalProductDto(String.valueOf(i), "Produto " + i, "Descrição do produto " + i,
+                    new BigDecimal("1999.90").add(BigDecimal.valueOf(i, 2)), i % 100,
+                    i % 2 == 0 ? "electronics" : "furniture", createdAt, updatedAt));
+        }
+        upstreamBody = objectMapper.writeValueAsBytes(catalog);
+
+        productMapper = new ProductMapperImpl();
+        dtoReader = objectMapper.readerFor(new TypeReference<List<ExternalProductDto>>() { });
+        productReader = objectMapper.readerFor(new TypeReference<List<Product>>() { });
+        responseWriter = objectMapper.writer(ProductFieldsFilter.filterProvider(ProductField.ALL));
+        productResponseMapper = mappers.productResponseMapper(WireFormat.JSON);
+        productResponseWriter = productResponseMapper.writer(ProductFieldsFilter.filterProvider(ProductField.ALL));
+    }
+
+    @Benchmark
+    public byte[] layered() throws IOException {
+        return responseWriter.writeValueAsBytes(layeredMapping());
+    }
+
+    @Benchmark
+    public byte[] fused() throws IOException {
+        List<Product> catalog = fusedMapping();
+        ByteArrayBuilder out = new ByteArrayBuilder();
+        try (JsonGenerator generator = productResponseMapper.getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeFieldName("products");
+            productResponseWriter.writeValue(generator, catalog);
+            generator.writeNumberField("total", catalog.size());
+            generator.writeEndObject();
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public ProductListResponse layeredMapping() throws IOException {
+        List<ExternalProductDto> dtos = dtoReader.readValue(upstreamBody);
+        List<ProductResponse> responses = productMapper.toResponseList(productMapper.toDomainList(dtos));
+        return new ProductListResponse(responses, responses.size());
+    }
+
+    @Benchmark
+    public List<Product> fusedMapping() throws IOException {
+        return productReader.readValue(upstreamBody);
+    }
+}
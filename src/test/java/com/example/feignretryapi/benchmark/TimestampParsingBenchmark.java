@@ -0,0 +1,85 @@
+package com.example.feignretryapi.benchmark;
+
+import com.example.feignretryapi.infrastructure.mapper.IsoDateTimeParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a conversão dos created_at/updated_at de um catálogo com o DateTimeFormatter.ISO_DATE_TIME,
+ * com o caminho rápido do {@link IsoDateTimeParser} e com o caminho rápido mais o cache.
+ * {@code distinct} é a quantidade de timestamps diferentes entre os {@value #TIMESTAMPS} do catálogo
+ * (muitos produtos são cadastrados e atualizados em lote). Rodando o JMH com {@code -prof gc} a saída
+ * mostra também a alocação por operação.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=TimestampParsingBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimestampParsingBenchmark {
+
+    private static final int TIMESTAMPS = 2000;
+
+    @Param({"10", "2000"})
+    private int distinct;
+
+    private String[] timestamps;
+    private IsoDateTimeParser parser;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime base = LocalDateTime.of(2026, 10, 16, 12, 0, 0, 123_456_789);
+        timestamps = new String[TIMESTAMPS];
+        for (int i = 0; i < TIMESTAMPS; i++) {
+            // Cópia do texto, como chegaria de cada produto desserializado
+            String text = base.plusSeconds(i % distinct).format(DateTimeFormatter.ISO_DATE_TIME);
+            timestamps[i] = new String(text.toCharArray());
+        }
+        parser = new IsoDateTimeParser(1024);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TIMESTAMPS)
+    public void formatter(Blackhole blackhole) {
+        for (String text : timestamps) {
+            blackhole.consume(LocalDateTime.parse(text, DateTimeFormatter.ISO_DATE_TIME));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TIMESTAMPS)
+    public void fastPath(Blackhole blackhole) {
+        for (String text : timestamps) {
+            blackhole.consume(IsoDateTimeParser.parseUncached(text));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TIMESTAMPS)
+    public void fastPathCached(Blackhole blackhole) {
+        for (String text : timestamps) {
+            blackhole.consume(parser.parse(text));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.feignretryapi.benchmark;
+
+import com.example.feignretryapi.infrastructure.client.decoder.CustomErrorDecoder;
+import com.example.feignretryapi.infrastructure.client.retryer.CustomRetryer;
+import com.example.feignretryapi.infrastructure.client.transport.HttpClientType;
+import com.example.feignretryapi.infrastructure.client.transport.HttpTransport;
+import com.example.feignretryapi.infrastructure.client.transport.HttpTransportFactory;
+import com.example.feignretryapi.infrastructure.client.transport.HttpTransportSettings;
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Feign;
+import feign.RequestLine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a vazão sustentada do caminho de requisição com platform threads e com virtual threads
+ * quando a API externa é lenta.
+ * Cada operação dispara {@value #REQUESTS} chamadas Feign bloqueantes, como fariam as threads do Tomcat;
+ * o modo platform usa um pool fixo do tamanho padrão do Tomcat (200 threads).
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=VirtualThreadThroughputBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class VirtualThreadThroughputBenchmark {
+
+    private static final int REQUESTS = 1000;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final String BODY = "{\"id\":\"1\",\"name\":\"Notebook\",\"price\":4500.00}";
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"100", "500"})
+    private long upstreamLatencyMs;
+
+    private HttpServer upstream;
+    private HttpTransport<Client> transport;
+    private UpstreamClient client;
+    private ExecutorService requestExecutor;
+
+    interface UpstreamClient {
+        @RequestLine("GET /products/1")
+        String getProduct();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        upstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        upstream.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        upstream.createContext("/products", exchange -> {
+            try {
+                Thread.sleep(upstreamLatencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        upstream.start();
+
+        transport = HttpTransportFactory.create(new HttpTransportSettings(
+                HttpClientType.APACHE_HC5, REQUESTS * 2, REQUESTS * 2, 60_000, 30_000, 30_000, 5_000));
+        client = Feign.builder()
+                .client(transport.getClient())
+                .retryer(new CustomRetryer(3, 100))
+                .errorDecoder(new CustomErrorDecoder())
+                .target(UpstreamClient.class, "http://127.0.0.1:" + upstream.getAddress().getPort());
+
+        requestExecutor = "virtual".equals(mode)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        requestExecutor.shutdownNow();
+        transport.close();
+        upstream.stop(0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public int sustainedThroughput() throws Exception {
+        List<Future<String>> futures = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            futures.add(requestExecutor.submit(client::getProduct));
+        }
+        int bytes = 0;
+        for (Future<String> future : futures) {
+            bytes += future.get().length();
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.feignretryapi.benchmark;
+
+import com.example.feignretryapi.application.dto.ProductField;
+import com.example.feignretryapi.application.dto.ProductListResponse;
+import com.example.feignretryapi.application.dto.ProductResponse;
+import com.example.feignretryapi.infrastructure.codec.WireFormat;
+import com.example.feignretryapi.infrastructure.codec.WireFormatMappers;
+import com.example.feignretryapi.presentation.controller.ProductFieldsFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara JSON, CBOR e Smile na listagem de produtos: custo de codificar e decodificar um
+ * {@link ProductListResponse} com os mappers da aplicação ({@link WireFormatMappers}) e tamanho do payload,
+ * reportado pelo contador auxiliar {@code payloadBytes}.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=WireFormatBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"100", "1000"})
+    private int products;
+
+    private ObjectMapper mapper;
+    private ProductListResponse response;
+    private byte[] encoded;
+
+    /**
+     * Tamanho do payload codificado, por operação.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long payloadBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json()
+                .filters(ProductFieldsFilter.filterProvider(ProductField.ALL))
+                .build();
+        mapper = new WireFormatMappers(jsonMapper).get(WireFormat.from(format));
+
+        LocalDateTime base = LocalDateTime.of(2026, 10, 16, 12, 0, 0, 123_456_789);
+        List<ProductResponse> items = new ArrayList<>(products);
+        for (int i = 0; i < products; i++) {
+            items.add(new ProductResponse(String.valueOf(i), "Produto " + i, "Descrição do produto " + i,
+                    new BigDecimal("1999.90").add(BigDecimal.valueOf(i, 2)), i % 100,
+                    i % 2 == 0 ? "electronics" : "furniture", base.plusMinutes(i), base.plusHours(i)));
+        }
+        response = new ProductListResponse(items, items.size());
+        encoded = mapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] encode(PayloadSize size) throws IOException {
+        byte[] bytes = mapper.writeValueAsBytes(response);
+        size.payloadBytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public ProductListResponse decode() throws IOException {
+        return mapper.readValue(encoded, ProductListResponse.class);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.feignretryapi.infrastructure.client.circuitbreaker;
+
+import com.example.feignretryapi.domain.exception.CircuitBreakerOpenException;
+import feign.AsyncClient;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para CircuitBreakerAsyncClient.
+ */
+@DisplayName("CircuitBreakerAsyncClient Tests")
+class CircuitBreakerAsyncClientTest {
+
+    private static final String URL = "http://localhost:8081/api/products";
+
+    private final AtomicInteger networkCalls = new AtomicInteger();
+    private CircuitBreakerRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new CircuitBreakerRegistry(new CircuitBreakerSettings(4, 2, 50, 100, 10_000, 60_000, 1));
+    }
+
+    @Test
+    @DisplayName("Deve abrir o circuito com respostas 5xx e rejeitar sem acessar a rede")
+    void shouldOpenOnServerErrorsAndFailFast() throws Exception {
+        // Arrange
+        CircuitBreakerAsyncClient client = new CircuitBreakerAsyncClient(respondingWith(503), registry);
+        execute(client).get();
+        execute(client).get();
+
+        // Act
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> execute(client).get());
+
+        // Assert
+        assertInstanceOf(CircuitBreakerOpenException.class, exception.getCause());
+        assertEquals(2, networkCalls.get());
+        assertEquals(CircuitState.OPEN, registry.circuitBreaker("GET " + URL).getState());
+    }
+
+    @Test
+    @DisplayName("Deve contar o futuro com falha de I/O como falha")
+    void shouldCountFailedFutureAsFailure() {
+        // Arrange
+        CircuitBreakerAsyncClient client = new CircuitBreakerAsyncClient((request, options, context) -> {
+            networkCalls.incrementAndGet();
+            return CompletableFuture.failedFuture(new IOException("Connection refused"));
+        }, registry);
+
+        // Act
+        assertThrows(ExecutionException.class, () -> execute(client).get());
+        assertThrows(ExecutionException.class, () -> execute(client).get());
+
+        // Assert
+        assertEquals(CircuitState.OPEN, registry.circuitBreaker("GET " + URL).getState());
+    }
+
+    private AsyncClient<Object> respondingWith(int status) {
+        return (request, options, context) -> {
+            networkCalls.incrementAndGet();
+            return CompletableFuture.completedFuture(Response.builder()
+                    .status(status)
+                    .reason("Mock")
+                    .request(request)
+                    .headers(Collections.emptyMap())
+                    .build());
+        };
+    }
+
+    private static CompletableFuture<Response> execute(CircuitBreakerAsyncClient client) {
+        Request request = Request.create(Request.HttpMethod.GET, URL, Collections.emptyMap(), null,
+                StandardCharsets.UTF_8, new RequestTemplate());
+        return client.execute(request, new Request.Options(), Optional.empty());
+    }
+}
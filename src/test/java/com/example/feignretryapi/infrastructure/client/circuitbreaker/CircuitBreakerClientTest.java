@@ -0,0 +1,143 @@
+package com.example.feignretryapi.infrastructure.client.circuitbreaker;
+
+import com.example.feignretryapi.domain.exception.CircuitBreakerOpenException;
+import feign.Client;
+import feign.Contract;
+import feign.Param;
+import feign.Request;
+import feign.RequestLine;
+import feign.RequestTemplate;
+import feign.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para CircuitBreakerClient.
+ */
+@DisplayName("CircuitBreakerClient Tests")
+class CircuitBreakerClientTest {
+
+    private static final String GET_ALL = "ProductApi#getAllProducts()";
+    private static final String GET_BY_ID = "ProductApi#getProductById(String)";
+
+    interface ProductApi {
+        @RequestLine("GET /api/products")
+        String getAllProducts();
+
+        @RequestLine("GET /api/products/{id}")
+        String getProductById(@Param("id") String id);
+    }
+
+    private final AtomicInteger networkCalls = new AtomicInteger();
+    private int responseStatus;
+    private CircuitBreakerRegistry registry;
+    private CircuitBreakerClient client;
+
+    @BeforeEach
+    void setUp() {
+        responseStatus = 200;
+        registry = new CircuitBreakerRegistry(new CircuitBreakerSettings(4, 2, 50, 100, 10_000, 60_000, 1));
+        Client delegate = (request, options) -> {
+            networkCalls.incrementAndGet();
+            return Response.builder()
+                    .status(responseStatus)
+                    .reason("Mock")
+                    .request(request)
+                    .headers(Collections.emptyMap())
+                    .build();
+        };
+        client = new CircuitBreakerClient(delegate, registry);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar chamadas sem acessar a rede quando o circuito está aberto")
+    void shouldFailFastWithoutNetworkWhenOpen() throws IOException {
+        // Arrange
+        responseStatus = 503;
+        client.execute(createRequest(GET_ALL), new Request.Options());
+        client.execute(createRequest(GET_ALL), new Request.Options());
+
+        // Act
+        CircuitBreakerOpenException exception = assertThrows(CircuitBreakerOpenException.class,
+                () -> client.execute(createRequest(GET_ALL), new Request.Options()));
+
+        // Assert
+        assertEquals(2, networkCalls.get());
+        assertEquals(GET_ALL, exception.getCircuitName());
+        assertEquals(503, exception.getStatusCode());
+        assertTrue(exception.getRetryAfterMillis() > 0);
+    }
+
+    @Test
+    @DisplayName("Deve manter circuitos independentes por methodKey")
+    void shouldKeepIndependentCircuitsPerMethodKey() throws IOException {
+        // Arrange
+        responseStatus = 500;
+        client.execute(createRequest(GET_ALL), new Request.Options());
+        client.execute(createRequest(GET_ALL), new Request.Options());
+        responseStatus = 200;
+
+        // Act
+        Response response = client.execute(createRequest(GET_BY_ID), new Request.Options());
+
+        // Assert
+        assertEquals(200, response.status());
+        assertEquals(CircuitState.OPEN, registry.circuitBreaker(GET_ALL).getState());
+        assertEquals(CircuitState.CLOSED, registry.circuitBreaker(GET_BY_ID).getState());
+    }
+
+    @Test
+    @DisplayName("Não deve contar respostas 4xx como falha")
+    void shouldNotCountClientErrorsAsFailures() throws IOException {
+        // Arrange
+        responseStatus = 404;
+
+        // Act
+        for (int i = 0; i < 4; i++) {
+            client.execute(createRequest(GET_BY_ID), new Request.Options());
+        }
+
+        // Assert
+        assertEquals(CircuitState.CLOSED, registry.circuitBreaker(GET_BY_ID).getState());
+        assertEquals(4, networkCalls.get());
+    }
+
+    @Test
+    @DisplayName("Deve contar falhas de I/O e propagar a exceção original")
+    void shouldCountIoFailuresAndRethrow() {
+        // Arrange
+        CircuitBreakerClient failingClient = new CircuitBreakerClient((request, options) -> {
+            throw new IOException("Connection refused");
+        }, registry);
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> failingClient.execute(createRequest(GET_ALL), new Request.Options()));
+        assertThrows(IOException.class, () -> failingClient.execute(createRequest(GET_ALL), new Request.Options()));
+        assertThrows(CircuitBreakerOpenException.class,
+                () -> failingClient.execute(createRequest(GET_ALL), new Request.Options()));
+    }
+
+    private Request createRequest(String configKey) {
+        RequestTemplate template = new RequestTemplate();
+        template.methodMetadata(new Contract.Default().parseAndValidateMetadata(ProductApi.class).stream()
+                .filter(metadata -> metadata.configKey().equals(configKey))
+                .findFirst()
+                .orElseThrow());
+        return Request.create(
+                Request.HttpMethod.GET,
+                "http://localhost:8081/api/products",
+                Collections.emptyMap(),
+                null,
+                StandardCharsets.UTF_8,
+                template
+        );
+    }
+}
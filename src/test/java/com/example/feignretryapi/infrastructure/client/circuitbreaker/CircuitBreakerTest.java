@@ -0,0 +1,141 @@
+package com.example.feignretryapi.infrastructure.client.circuitbreaker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para CircuitBreaker.
+ */
+@DisplayName("CircuitBreaker Tests")
+class CircuitBreakerTest {
+
+    private static final long OPEN_DURATION = 100;
+    private static final long SLOW_CALL_DURATION = 50;
+
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new CircuitBreaker("ExternalProductClient#getAllProducts()",
+                new CircuitBreakerSettings(10, 4, 50, 60, SLOW_CALL_DURATION, OPEN_DURATION, 2));
+    }
+
+    @Test
+    @DisplayName("Deve permanecer fechado enquanto não houver o mínimo de chamadas")
+    void shouldStayClosedBelowMinimumCalls() {
+        // Act
+        recordCalls(3, true, 0);
+
+        // Assert
+        assertEquals(CircuitState.CLOSED, circuitBreaker.getState());
+        assertEquals(0f, circuitBreaker.getFailureRate());
+    }
+
+    @Test
+    @DisplayName("Deve abrir quando a taxa de falhas atinge o limite")
+    void shouldOpenWhenFailureRateReachesThreshold() {
+        // Act
+        recordCalls(2, false, 0);
+        recordCalls(2, true, 0);
+
+        // Assert
+        assertEquals(CircuitState.OPEN, circuitBreaker.getState());
+        assertNull(circuitBreaker.tryAcquirePermission());
+        assertEquals(1, circuitBreaker.getNotPermittedCalls());
+        assertTrue(circuitBreaker.getRemainingOpenMillis() > 0);
+    }
+
+    @Test
+    @DisplayName("Deve abrir quando a taxa de chamadas lentas atinge o limite")
+    void shouldOpenWhenSlowCallRateReachesThreshold() {
+        // Act
+        recordCalls(1, false, 0);
+        recordCalls(3, false, SLOW_CALL_DURATION + 10);
+
+        // Assert
+        assertEquals(CircuitState.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    @DisplayName("Deve descartar resultados antigos da janela deslizante")
+    void shouldEvictOldOutcomesFromSlidingWindow() {
+        // Arrange
+        recordCalls(4, false, 0);
+        recordCalls(3, true, 0);
+
+        // Act - 10 sucessos substituem todas as falhas
+        recordCalls(10, false, 0);
+
+        // Assert
+        assertEquals(CircuitState.CLOSED, circuitBreaker.getState());
+        assertEquals(0f, circuitBreaker.getFailureRate());
+    }
+
+    @Test
+    @DisplayName("Deve fechar após as chamadas de teste do half-open terem sucesso")
+    void shouldCloseAfterSuccessfulHalfOpenProbes() throws InterruptedException {
+        // Arrange
+        recordCalls(4, true, 0);
+        Thread.sleep(OPEN_DURATION + 20);
+
+        // Act
+        CircuitBreaker.Permission first = circuitBreaker.tryAcquirePermission();
+        CircuitBreaker.Permission second = circuitBreaker.tryAcquirePermission();
+        CircuitBreaker.Permission third = circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onResult(first, false, 0);
+        circuitBreaker.onResult(second, false, 0);
+
+        // Assert
+        assertNotNull(first);
+        assertNotNull(second);
+        assertNull(third, "Somente halfOpenCalls chamadas de teste devem ser permitidas");
+        assertEquals(CircuitState.CLOSED, circuitBreaker.getState());
+        assertEquals(0f, circuitBreaker.getFailureRate());
+    }
+
+    @Test
+    @DisplayName("Deve reabrir quando uma chamada de teste do half-open falha")
+    void shouldReopenWhenHalfOpenProbeFails() throws InterruptedException {
+        // Arrange
+        recordCalls(4, true, 0);
+        Thread.sleep(OPEN_DURATION + 20);
+
+        // Act
+        CircuitBreaker.Permission probe = circuitBreaker.tryAcquirePermission();
+        assertEquals(CircuitState.HALF_OPEN, circuitBreaker.getState());
+        circuitBreaker.onResult(probe, true, 0);
+
+        // Assert
+        assertEquals(CircuitState.OPEN, circuitBreaker.getState());
+        assertNull(circuitBreaker.tryAcquirePermission());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar resultados de chamadas permitidas em um estado anterior")
+    void shouldIgnoreResultsFromPreviousState() throws InterruptedException {
+        // Arrange
+        CircuitBreaker.Permission stale = circuitBreaker.tryAcquirePermission();
+        recordCalls(4, true, 0);
+        Thread.sleep(OPEN_DURATION + 20);
+        CircuitBreaker.Permission probe = circuitBreaker.tryAcquirePermission();
+
+        // Act
+        circuitBreaker.onResult(stale, true, 0);
+
+        // Assert
+        assertNotNull(probe);
+        assertEquals(CircuitState.HALF_OPEN, circuitBreaker.getState());
+    }
+
+    private void recordCalls(int count, boolean failure, long durationMillis) {
+        for (int i = 0; i < count; i++) {
+            CircuitBreaker.Permission permission = circuitBreaker.tryAcquirePermission();
+            if (permission != null) {
+                circuitBreaker.onResult(permission, failure, durationMillis);
+            }
+        }
+    }
+}
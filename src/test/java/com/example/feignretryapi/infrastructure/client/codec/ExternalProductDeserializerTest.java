@@ -0,0 +1,151 @@
+package com.example.feignretryapi.infrastructure.client.codec;
+
+import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.infrastructure.client.feign.dto.ExternalProductDto;
+import com.example.feignretryapi.infrastructure.codec.WireFormat;
+import com.example.feignretryapi.infrastructure.codec.WireFormatMappers;
+import com.example.feignretryapi.infrastructure.mapper.ProductMapper;
+import com.example.feignretryapi.infrastructure.mapper.ProductMapperImpl;
+import com.example.feignretryapi.infrastructure.mock.MockProductMapper;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ExternalProductDeserializer.
+ */
+@DisplayName("ExternalProductDeserializer Tests")
+class ExternalProductDeserializerTest {
+
+    private static final TypeReference<List<Product>> PRODUCT_LIST = new TypeReference<>() { };
+
+    /**
+     * Payloads da API externa lidos pelos dois caminhos: direto para Product e DTO + ProductMapper.
+     */
+    private static final List<String> PAYLOADS = List.of(
+            "{\"id\":\"1\",\"name\":\"Notebook\",\"description\":\"Tela 4K\",\"price\":8999.99,\"quantity\":10,"
+                    + "\"category\":\"electronics\",\"created_at\":\"2026-10-16T12:34:56.789\","
+                    + "\"updated_at\":\"2026-10-16T13:00:00Z\"}",
+            "{\"id\":\"2\",\"name\":null,\"price\":null,\"quantity\":null,\"created_at\":null,\"updated_at\":\"\"}",
+            "{\"id\":\"3\",\"price\":\"12.50\",\"quantity\":\"3\",\"created_at\":\"2026-10-16T08:00\","
+                    + "\"updated_at\":\"2026-10-16T09:30:00+02:00\"}",
+            "{\"id\":4,\"price\":100,\"category\":\"furniture\",\"updated_at\":\"2026-02-28T23:59:59.123456789\"}",
+            "{}");
+
+    /**
+     * Payloads com timestamp inválido, que os dois caminhos devem rejeitar.
+     */
+    private static final List<String> INVALID_PAYLOADS = List.of(
+            "{\"id\":\"1\",\"created_at\":\"16/10/2026\"}",
+            "{\"id\":\"1\",\"updated_at\":12345}",
+            "{\"id\":\"1\",\"created_at\":\"2026-02-30T10:00:00\"}");
+
+    private final ProductMapper productMapper = new ProductMapperImpl();
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .modulesToInstall(ExternalProductDeserializer.module())
+            .build();
+
+    @Test
+    @DisplayName("Deve ler o produto da API externa com o mesmo resultado do DTO mapeado")
+    void shouldReadProductLikeMappedDto() throws IOException {
+        // Arrange
+        List<ExternalProductDto> dtos = List.of(
+                new ExternalProductDto("1", "Notebook", "Tela 4K", new BigDecimal("8999.99"), 10,
+                        "electronics", "2026-10-16T12:34:56.789", "2026-10-16T13:00:00"),
+                new ExternalProductDto("2", null, null, null, null, "furniture", null, ""));
+        byte[] json = objectMapper.writeValueAsBytes(dtos);
+
+        // Act
+        List<Product> products = objectMapper.readValue(json, PRODUCT_LIST);
+
+        // Assert
+        List<Product> expected = new MockProductMapper().toDomainList(dtos);
+        assertEquals(expected.toString(), products.toString());
+        assertEquals(LocalDateTime.of(2026, 10, 16, 12, 34, 56, 789_000_000), products.get(0).getCreatedAt());
+        assertNull(products.get(1).getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("Deve produzir o mesmo Product que o ExternalProductDto convertido pelo ProductMapper")
+    void shouldMatchDtoAndProductMapperPath() throws IOException {
+        for (String payload : PAYLOADS) {
+            // Act
+            Product direct = objectMapper.readValue(payload, Product.class);
+            Product mapped = productMapper.toDomain(objectMapper.readValue(payload, ExternalProductDto.class));
+
+            // Assert
+            assertEquals(mapped.toString(), direct.toString(), payload);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar os mesmos timestamps inválidos que o ProductMapper")
+    void shouldRejectSameInvalidTimestampsAsProductMapper() {
+        for (String payload : INVALID_PAYLOADS) {
+            // Act & Assert
+            assertThrows(IOException.class, () -> objectMapper.readValue(payload, Product.class), payload);
+            assertThrows(RuntimeException.class, () -> productMapper.toDomain(
+                    objectMapper.readValue(payload, ExternalProductDto.class)), payload);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve aceitar preço e quantidade como texto e ignorar campos desconhecidos")
+    void shouldCoerceScalarsAndIgnoreUnknownFields() throws IOException {
+        // Arrange
+        String json = "{\"id\":\"9\",\"price\":\"12.50\",\"quantity\":\"3\",\"sku\":{\"a\":[1,2]},"
+                + "\"category\":\"books\"}";
+
+        // Act
+        Product product = objectMapper.readValue(json, Product.class);
+
+        // Assert
+        assertEquals("9", product.getId());
+        assertEquals(new BigDecimal("12.50"), product.getPrice());
+        assertEquals(3, product.getQuantity());
+        assertEquals("books", product.getCategory());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar timestamp inválido com InvalidFormatException")
+    void shouldRejectInvalidTimestamp() {
+        // Arrange
+        String json = "{\"id\":\"1\",\"created_at\":\"16/10/2026\"}";
+
+        // Act & Assert
+        InvalidFormatException exception = assertThrows(InvalidFormatException.class,
+                () -> objectMapper.readValue(json, Product.class));
+        assertEquals("16/10/2026", exception.getValue());
+    }
+
+    @Test
+    @DisplayName("Deve ler produtos em CBOR e Smile pelos mappers derivados")
+    void shouldReadBinaryFormats() throws IOException {
+        // Arrange
+        WireFormatMappers mappers = new WireFormatMappers(objectMapper);
+        ExternalProductDto dto = new ExternalProductDto("5", "Cadeira", "Ergonômica", new BigDecimal("1299.90"),
+                50, "furniture", "2026-10-16T08:00:00", "2026-10-16T09:30:00.5");
+
+        for (WireFormat format : List.of(WireFormat.CBOR, WireFormat.SMILE)) {
+            // Act
+            ObjectMapper mapper = mappers.get(format);
+            Product product = mapper.readValue(mapper.writeValueAsBytes(dto), Product.class);
+
+            // Assert
+            assertEquals("Cadeira", product.getName());
+            assertEquals(new BigDecimal("1299.90"), product.getPrice());
+            assertEquals(LocalDateTime.of(2026, 10, 16, 9, 30, 0, 500_000_000), product.getUpdatedAt());
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.feignretryapi.infrastructure.client.codec;
+
+import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.infrastructure.client.feign.dto.ExternalProductDto;
+import com.example.feignretryapi.infrastructure.codec.WireFormat;
+import com.example.feignretryapi.infrastructure.codec.WireFormatMappers;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Request;
+import feign.Response;
+import feign.codec.DecodeException;
+import feign.codec.Decoder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para WireFormatDecoder.
+ */
+@DisplayName("WireFormatDecoder Tests")
+class WireFormatDecoderTest {
+
+    private static final Type PRODUCT_LIST = new TypeReference<List<ExternalProductDto>>() { }.getType();
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final WireFormatMappers mappers =
+            new WireFormatMappers(objectMapper, List.of(ExternalProductDeserializer.module()));
+    private int delegateCalls;
+    private final Decoder delegate = (response, type) -> {
+        delegateCalls++;
+        return List.of();
+    };
+    private final WireFormatDecoder decoder = new WireFormatDecoder(delegate, mappers);
+
+    @Test
+    @DisplayName("Deve decodificar CBOR e Smile pelo Content-Type, sem passar pelo delegate")
+    void shouldDecodeBinaryFormatsByContentType() throws IOException {
+        for (WireFormat format : List.of(WireFormat.CBOR, WireFormat.SMILE)) {
+            // Arrange
+            byte[] body = mappers.get(format).writeValueAsBytes(List.of(Map.of("id", "7", "name", "Mesa")));
+
+            // Act
+            Object decoded = decoder.decode(response(body, format.mediaType().toString()), PRODUCT_LIST);
+
+            // Assert
+            List<?> products = assertInstanceOf(List.class, decoded);
+            ExternalProductDto product = assertInstanceOf(ExternalProductDto.class, products.get(0));
+            assertEquals("7", product.getId());
+            assertEquals("Mesa", product.getName());
+        }
+        assertEquals(0, delegateCalls);
+    }
+
+    @Test
+    @DisplayName("Deve decodificar JSON pelo mapper da origem e delegar só os tipos que não são JSON")
+    void shouldDecodeJsonTypesAndDelegateOtherTypes() throws IOException {
+        byte[] body = "[{\"id\":\"7\"}]".getBytes(StandardCharsets.UTF_8);
+        for (String contentType : List.of("application/json", "application/vnd.api+json", "application/json;x")) {
+            // Act
+            Object decoded = decoder.decode(response(body, contentType), PRODUCT_LIST);
+
+            // Assert
+            List<?> products = assertInstanceOf(List.class, decoded);
+            assertEquals("7", assertInstanceOf(ExternalProductDto.class, products.get(0)).getId(), contentType);
+        }
+        assertEquals(0, delegateCalls);
+
+        // Act
+        decoder.decode(response(body, "text/plain"), PRODUCT_LIST);
+
+        // Assert
+        assertEquals(1, delegateCalls);
+    }
+
+    @Test
+    @DisplayName("Deve ler List<Product> sem Content-Type no layout da origem, com os timestamps")
+    void shouldReadProductsWithoutContentTypeWithTimestamps() throws IOException {
+        // Arrange
+        Type productList = new TypeReference<List<Product>>() { }.getType();
+        byte[] body = ("[{\"id\":\"1\",\"created_at\":\"2026-10-16T12:00:00\","
+                + "\"updated_at\":\"2026-10-16T13:30:00\"}]").getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        Object decoded = decoder.decode(response(body, null), productList);
+
+        // Assert
+        Product product = assertInstanceOf(Product.class, assertInstanceOf(List.class, decoded).get(0));
+        assertEquals(LocalDateTime.of(2026, 10, 16, 12, 0), product.getCreatedAt());
+        assertEquals(LocalDateTime.of(2026, 10, 16, 13, 30), product.getUpdatedAt());
+        assertEquals(0, delegateCalls);
+    }
+
+    @Test
+    @DisplayName("Deve decodificar corpo vazio como null")
+    void shouldDecodeEmptyBodyAsNull() throws IOException {
+        // Arrange
+        Response response = response(new byte[0], null).toBuilder()
+                .body(new ByteArrayInputStream(new byte[0]), null)
+                .build();
+
+        // Act & Assert
+        assertNull(decoder.decode(response, PRODUCT_LIST));
+        assertEquals(0, delegateCalls);
+    }
+
+    @Test
+    @DisplayName("Deve ler Product no layout da origem sem alterar o mapper da aplicação")
+    void shouldReadUpstreamProductWithoutChangingApplicationMapper() throws IOException {
+        // Arrange
+        Type productList = new TypeReference<List<Product>>() { }.getType();
+        byte[] body = "[{\"id\":\"1\",\"created_at\":\"2026-10-16T12:00:00\"}]".getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        Object decoded = decoder.decode(response(body, "application/json"), productList);
+        Product product = assertInstanceOf(Product.class, assertInstanceOf(List.class, decoded).get(0));
+        Product roundTrip = objectMapper.readValue(objectMapper.writeValueAsBytes(product), Product.class);
+
+        // Assert
+        assertEquals(LocalDateTime.of(2026, 10, 16, 12, 0), product.getCreatedAt());
+        assertEquals(product.toString(), roundTrip.toString());
+        assertEquals(0, delegateCalls);
+    }
+
+    @Test
+    @DisplayName("Deve lançar DecodeException para corpo binário inválido")
+    void shouldThrowDecodeExceptionForInvalidBinaryBody() {
+        // Act & Assert
+        assertThrows(DecodeException.class,
+                () -> decoder.decode(response(new byte[]{(byte) 0xff, 0x01}, "application/cbor"), PRODUCT_LIST));
+    }
+
+    private static Response response(byte[] body, String contentType) {
+        Request request = Request.create(Request.HttpMethod.GET, "/api/products", Collections.emptyMap(),
+                null, StandardCharsets.UTF_8, null);
+        return Response.builder()
+                .status(200)
+                .request(request)
+                .headers(contentType == null ? Collections.emptyMap() : Map.of("Content-Type", List.of(contentType)))
+                .body(body)
+                .build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.feignretryapi.infrastructure.client.codec;
+
+import com.example.feignretryapi.infrastructure.codec.WireFormat;
+import com.example.feignretryapi.infrastructure.codec.WireFormatMappers;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.RequestTemplate;
+import feign.codec.Encoder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para WireFormatEncoder e WireFormatAcceptInterceptor.
+ */
+@DisplayName("WireFormatEncoder Tests")
+class WireFormatEncoderTest {
+
+    private final WireFormatMappers mappers = new WireFormatMappers(Jackson2ObjectMapperBuilder.json().build());
+    private int delegateCalls;
+    private final Encoder delegate = (object, bodyType, template) -> delegateCalls++;
+
+    @Test
+    @DisplayName("Deve codificar o corpo no formato binário configurado")
+    void shouldEncodeBodyInConfiguredBinaryFormat() throws IOException {
+        // Arrange
+        ObjectMapper smile = mappers.get(WireFormat.SMILE);
+        WireFormatEncoder encoder = new WireFormatEncoder(WireFormat.SMILE, smile, delegate);
+        RequestTemplate template = new RequestTemplate();
+        template.header("Content-Type", "application/json");
+
+        // Act
+        encoder.encode(Map.of("id", "1"), Map.class, template);
+
+        // Assert
+        assertEquals(List.of("application/x-jackson-smile"), List.copyOf(template.headers().get("Content-Type")));
+        assertEquals(Map.of("id", "1"), smile.readValue(template.body(), Map.class));
+        assertEquals(0, delegateCalls);
+    }
+
+    @Test
+    @DisplayName("Deve delegar em JSON e para corpo nulo")
+    void shouldDelegateForJsonAndNullBody() {
+        // Arrange
+        WireFormatEncoder json = new WireFormatEncoder(WireFormat.JSON, mappers.get(WireFormat.JSON), delegate);
+        WireFormatEncoder cbor = new WireFormatEncoder(WireFormat.CBOR, mappers.get(WireFormat.CBOR), delegate);
+
+        // Act
+        json.encode(Map.of("id", "1"), Map.class, new RequestTemplate());
+        cbor.encode(null, Map.class, new RequestTemplate());
+
+        // Assert
+        assertEquals(2, delegateCalls);
+    }
+
+    @Test
+    @DisplayName("Accept - Deve pedir o formato binário com JSON como alternativa, sem sobrescrever o existente")
+    void acceptInterceptorShouldPreferBinaryWithJsonFallback() {
+        // Arrange
+        RequestTemplate template = new RequestTemplate();
+        RequestTemplate explicit = new RequestTemplate().header("Accept", "application/json");
+
+        // Act
+        new WireFormatAcceptInterceptor(WireFormat.CBOR).apply(template);
+        new WireFormatAcceptInterceptor(WireFormat.CBOR).apply(explicit);
+
+        // Assert
+        assertEquals(WireFormat.CBOR, WireFormat.negotiate(template.headers().get("Accept").iterator().next()));
+        assertTrue(template.headers().get("Accept").iterator().next().contains("application/json;q=0.5"));
+        assertEquals(List.of("application/json"), List.copyOf(explicit.headers().get("Accept")));
+    }
+}
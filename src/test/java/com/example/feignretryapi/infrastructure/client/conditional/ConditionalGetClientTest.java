@@ -0,0 +1,140 @@
+package com.example.feignretryapi.infrastructure.client.conditional;
+
+import feign.Client;
+import feign.Contract;
+import feign.Request;
+import feign.RequestLine;
+import feign.RequestTemplate;
+import feign.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ConditionalGetClient.
+ */
+@DisplayName("ConditionalGetClient Tests")
+class ConditionalGetClientTest {
+
+    private static final String URL = "http://localhost:8081/api/products";
+
+    private final AtomicReference<Request> lastRequest = new AtomicReference<>();
+    private int responseStatus;
+    private ConditionalGetCache cache;
+    private ConditionalGetClient client;
+
+    @BeforeEach
+    void setUp() {
+        responseStatus = 200;
+        cache = new ConditionalGetCache(100);
+        Client delegate = (request, options) -> {
+            lastRequest.set(request);
+            return Response.builder()
+                    .status(responseStatus)
+                    .reason("Mock")
+                    .request(request)
+                    .headers(Map.of("ETag", List.of("\"v2\"")))
+                    .body(responseStatus == 200 ? "[]" : null, StandardCharsets.UTF_8)
+                    .build();
+        };
+        client = new ConditionalGetClient(delegate, cache);
+    }
+
+    @Test
+    @DisplayName("Não deve enviar validadores quando não há resposta guardada")
+    void shouldNotSendValidatorsWithoutStoredResponse() throws IOException {
+        // Act
+        client.execute(createRequest(Request.HttpMethod.GET), new Request.Options());
+
+        // Assert
+        assertFalse(lastRequest.get().headers().containsKey("If-None-Match"));
+        assertEquals(0, cache.getModified() + cache.getNotModified());
+    }
+
+    @Test
+    @DisplayName("Deve enviar If-None-Match e If-Modified-Since com a resposta guardada")
+    void shouldSendValidatorsForStoredResponse() throws IOException {
+        // Arrange
+        cache.put(new ConditionalGetCache.Entry(URL, "\"v1\"", "Wed, 21 Oct 2026 07:28:00 GMT", List.of()));
+
+        // Act
+        Response response = client.execute(createRequest(Request.HttpMethod.GET), new Request.Options());
+
+        // Assert
+        Map<String, Collection<String>> headers = lastRequest.get().headers();
+        assertEquals(List.of("\"v1\""), List.copyOf(headers.get("If-None-Match")));
+        assertEquals(List.of("Wed, 21 Oct 2026 07:28:00 GMT"), List.copyOf(headers.get("If-Modified-Since")));
+        assertEquals(200, response.status());
+        assertFalse(response.headers().containsKey(ConditionalGetClient.NOT_MODIFIED_HEADER));
+        assertEquals(1, cache.getModified());
+    }
+
+    @Test
+    @DisplayName("Deve devolver 304 como 200 sem corpo, marcado como não modificado")
+    void shouldTranslateNotModifiedToMarkedSuccess() throws IOException {
+        // Arrange
+        cache.put(new ConditionalGetCache.Entry(URL, "\"v1\"", null, List.of()));
+        responseStatus = 304;
+
+        // Act
+        Response response = client.execute(createRequest(Request.HttpMethod.GET), new Request.Options());
+
+        // Assert
+        assertEquals(200, response.status());
+        assertNull(response.body());
+        assertTrue(response.headers().containsKey(ConditionalGetClient.NOT_MODIFIED_HEADER));
+        assertFalse(lastRequest.get().headers().containsKey("If-Modified-Since"));
+        assertEquals(1, cache.getNotModified());
+    }
+
+    @Test
+    @DisplayName("Não deve tornar condicionais requisições que não são GET")
+    void shouldNotMakeNonGetRequestsConditional() throws IOException {
+        // Arrange
+        cache.put(new ConditionalGetCache.Entry(URL, "\"v1\"", null, List.of()));
+
+        // Act
+        client.execute(createRequest(Request.HttpMethod.POST), new Request.Options());
+
+        // Assert
+        assertFalse(lastRequest.get().headers().containsKey("If-None-Match"));
+    }
+
+    @Test
+    @DisplayName("Não deve tornar condicionais os métodos que devolvem a resposta crua")
+    void shouldNotSendValidatorsForRawResponseMethods() throws IOException {
+        // Arrange
+        cache.put(new ConditionalGetCache.Entry(URL, "\"v1\"", null, List.of()));
+        RequestTemplate template = new RequestTemplate()
+                .methodMetadata(new Contract.Default().parseAndValidateMetadata(RawApi.class).get(0));
+        Request request = Request.create(Request.HttpMethod.GET, URL, Collections.emptyMap(), null,
+                StandardCharsets.UTF_8, template);
+
+        // Act
+        Response response = client.execute(request, new Request.Options());
+
+        // Assert
+        assertFalse(lastRequest.get().headers().containsKey("If-None-Match"));
+        assertNotNull(response.body());
+        assertEquals(0, cache.getModified() + cache.getNotModified());
+    }
+
+    interface RawApi {
+        @RequestLine("GET /api/products")
+        Response streamAllProducts();
+    }
+
+    private Request createRequest(Request.HttpMethod method) {
+        return Request.create(method, URL, Collections.emptyMap(), null, StandardCharsets.UTF_8, null);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.feignretryapi.infrastructure.client.conditional;
+
+import feign.Request;
+import feign.Response;
+import feign.RetryableException;
+import feign.codec.Decoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ConditionalGetDecoder.
+ */
+@DisplayName("ConditionalGetDecoder Tests")
+class ConditionalGetDecoderTest {
+
+    private static final String URL = "http://localhost:8081/api/products/1";
+
+    private final AtomicInteger decodeCalls = new AtomicInteger();
+    private ConditionalGetCache cache;
+    private ConditionalGetDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ConditionalGetCache(100);
+        Decoder delegate = (response, type) -> {
+            decodeCalls.incrementAndGet();
+            return new String(response.body().asInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        };
+        decoder = new ConditionalGetDecoder(delegate, cache);
+    }
+
+    @Test
+    @DisplayName("Deve guardar a resposta decodificada com ETag e Last-Modified")
+    void shouldStoreDecodedResponseWithValidators() throws IOException {
+        // Act
+        Object body = decoder.decode(createResponse(Map.of(
+                "ETag", List.of("\"v1\""),
+                "Last-Modified", List.of("Wed, 21 Oct 2026 07:28:00 GMT")), "{\"id\":\"1\"}"), String.class);
+
+        // Assert
+        ConditionalGetCache.Entry entry = cache.get(URL);
+        assertEquals("{\"id\":\"1\"}", body);
+        assertEquals("\"v1\"", entry.etag());
+        assertEquals("Wed, 21 Oct 2026 07:28:00 GMT", entry.lastModified());
+        assertSame(body, entry.body());
+    }
+
+    @Test
+    @DisplayName("Não deve guardar respostas sem validadores")
+    void shouldNotStoreResponseWithoutValidators() throws IOException {
+        // Act
+        decoder.decode(createResponse(Collections.emptyMap(), "{}"), String.class);
+
+        // Assert
+        assertNull(cache.get(URL));
+    }
+
+    @Test
+    @DisplayName("Deve devolver o corpo guardado sem decodificar quando não modificado")
+    void shouldReturnStoredBodyWithoutDecodingWhenNotModified() throws IOException {
+        // Arrange
+        Object stored = List.of("produto");
+        cache.put(new ConditionalGetCache.Entry(URL, "\"v1\"", null, stored));
+
+        // Act
+        Object body = decoder.decode(createResponse(
+                Map.of(ConditionalGetClient.NOT_MODIFIED_HEADER, List.of("true")), null), String.class);
+
+        // Assert
+        assertSame(stored, body);
+        assertEquals(0, decodeCalls.get());
+    }
+
+    @Test
+    @DisplayName("Deve lançar RetryableException quando a resposta guardada foi descartada")
+    void shouldThrowRetryableWhenStoredResponseWasEvicted() {
+        // Act & Assert
+        assertThrows(RetryableException.class, () -> decoder.decode(createResponse(
+                Map.of(ConditionalGetClient.NOT_MODIFIED_HEADER, List.of("true")), null), String.class));
+    }
+
+    private Response createResponse(Map<String, Collection<String>> headers, String body) {
+        return Response.builder()
+                .status(200)
+                .reason("OK")
+                .request(Request.create(Request.HttpMethod.GET, URL, Collections.emptyMap(), null,
+                        StandardCharsets.UTF_8, null))
+                .headers(headers)
+                .body(body, StandardCharsets.UTF_8)
+                .build();
+    }
+}
@@ -13,7 +13,13 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -133,7 +139,57 @@ class CustomErrorDecoderTest {
         assertNotNull(result.getMessage());
     }
 
+    @Test
+    @DisplayName("Deve preencher retryAfter a partir do Retry-After em segundos")
+    void shouldParseRetryAfterInSeconds() {
+        // Arrange
+        Response response = createResponse(429, "Too Many Requests", Map.of("Retry-After", List.of("2")));
+        long now = System.currentTimeMillis();
+
+        // Act
+        RetryableException result = (RetryableException) errorDecoder.decode("TestMethod#test", response);
+
+        // Assert
+        assertNotNull(result.retryAfter());
+        assertTrue(result.retryAfter() >= now + 2000 && result.retryAfter() <= now + 3000);
+    }
+
+    @Test
+    @DisplayName("Deve preencher retryAfter a partir do Retry-After em HTTP-date")
+    void shouldParseRetryAfterHttpDate() {
+        // Arrange
+        ZonedDateTime retryAt = ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(30).withNano(0);
+        String httpDate = DateTimeFormatter.RFC_1123_DATE_TIME.format(retryAt);
+        Response response = createResponse(503, "Service Unavailable", Map.of("retry-after", List.of(httpDate)));
+
+        // Act
+        RetryableException result = (RetryableException) errorDecoder.decode("TestMethod#test", response);
+
+        // Assert
+        assertEquals(retryAt.toInstant().toEpochMilli(), result.retryAfter());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar Retry-After ausente ou inválido")
+    void shouldIgnoreMissingOrInvalidRetryAfter() {
+        // Arrange
+        Response withoutHeader = createResponse(503, "Service Unavailable");
+        Response invalidHeader = createResponse(503, "Service Unavailable", Map.of("Retry-After", List.of("amanhã")));
+
+        // Act
+        RetryableException withoutResult = (RetryableException) errorDecoder.decode("TestMethod#test", withoutHeader);
+        RetryableException invalidResult = (RetryableException) errorDecoder.decode("TestMethod#test", invalidHeader);
+
+        // Assert
+        assertNull(withoutResult.retryAfter());
+        assertNull(invalidResult.retryAfter());
+    }
+
     private Response createResponse(int status, String reason) {
+        return createResponse(status, reason, Collections.emptyMap());
+    }
+
+    private Response createResponse(int status, String reason, Map<String, Collection<String>> headers) {
         Request request = Request.create(
                 Request.HttpMethod.GET,
                 "/api/products",
@@ -147,7 +203,7 @@ class CustomErrorDecoderTest {
                 .status(status)
                 .reason(reason)
                 .request(request)
-                .headers(Collections.emptyMap())
+                .headers(headers)
                 .build();
     }
 }
@@ -0,0 +1,44 @@
+package com.example.feignretryapi.infrastructure.client.limiter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para AimdLimit.
+ */
+@DisplayName("AimdLimit Tests")
+class AimdLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final AimdLimit aimd = new AimdLimit(2, 50, 0.5, TimeUnit.MILLISECONDS.toNanos(100));
+
+    @Test
+    @DisplayName("Deve aumentar o limite em 1 quando está em uso e a chamada foi rápida")
+    void shouldIncreaseAdditivelyWhenLimitIsUsed() {
+        // Act & Assert
+        assertEquals(11, aimd.update(10, FAST, 8, false));
+        assertEquals(50, aimd.update(50, FAST, 50, false));
+    }
+
+    @Test
+    @DisplayName("Não deve aumentar o limite quando está ocioso")
+    void shouldNotIncreaseWhenLimitIsIdle() {
+        // Act & Assert
+        assertEquals(10, aimd.update(10, FAST, 2, false));
+    }
+
+    @Test
+    @DisplayName("Deve reduzir multiplicativamente em sobrecarga ou latência alta")
+    void shouldDecreaseMultiplicativelyOnDropOrSlowCall() {
+        // Act & Assert
+        assertEquals(5, aimd.update(10, FAST, 10, true));
+        assertEquals(5, aimd.update(10, SLOW, 10, false));
+        assertEquals(2, aimd.update(3, SLOW, 3, false));
+    }
+}
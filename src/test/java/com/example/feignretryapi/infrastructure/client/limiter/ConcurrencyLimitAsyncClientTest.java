@@ -0,0 +1,87 @@
+package com.example.feignretryapi.infrastructure.client.limiter;
+
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ConcurrencyLimitAsyncClient.
+ */
+@DisplayName("ConcurrencyLimitAsyncClient Tests")
+class ConcurrencyLimitAsyncClientTest {
+
+    private final AtomicInteger drops = new AtomicInteger();
+    private final AtomicInteger samples = new AtomicInteger();
+    private ConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new ConcurrencyLimiter(new ConcurrencyLimiterSettings(1, 1, 10, 0, 0),
+                (limit, rtt, inflight, dropped) -> {
+                    samples.incrementAndGet();
+                    if (dropped) {
+                        drops.incrementAndGet();
+                    }
+                    return limit;
+                });
+    }
+
+    @Test
+    @DisplayName("Deve manter a vaga até o corpo da resposta assíncrona ser fechado")
+    void shouldHoldPermitUntilBodyIsClosed() throws Exception {
+        // Arrange
+        ConcurrencyLimitAsyncClient client = new ConcurrencyLimitAsyncClient((request, options, context) ->
+                CompletableFuture.completedFuture(Response.builder()
+                        .status(200)
+                        .reason("Mock")
+                        .request(request)
+                        .headers(Collections.emptyMap())
+                        .body("[]", StandardCharsets.UTF_8)
+                        .build()), limiter);
+
+        // Act
+        Response response = execute(client).get();
+
+        // Assert
+        assertEquals(1, limiter.getInflight());
+        response.close();
+        assertEquals(0, limiter.getInflight());
+        assertEquals(1, samples.get());
+        assertEquals(0, drops.get());
+    }
+
+    @Test
+    @DisplayName("Deve tratar o futuro com falha de I/O como sobrecarga e liberar a vaga")
+    void shouldDropPermitWhenFutureFails() {
+        // Arrange
+        ConcurrencyLimitAsyncClient client = new ConcurrencyLimitAsyncClient((request, options, context) ->
+                CompletableFuture.failedFuture(new IOException("Connection reset")), limiter);
+
+        // Act
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> execute(client).get());
+
+        // Assert
+        assertInstanceOf(IOException.class, exception.getCause());
+        assertEquals(1, drops.get());
+        assertEquals(0, limiter.getInflight());
+    }
+
+    private static CompletableFuture<Response> execute(ConcurrencyLimitAsyncClient client) {
+        Request request = Request.create(Request.HttpMethod.GET, "http://localhost:8081/api/products",
+                Collections.emptyMap(), null, StandardCharsets.UTF_8, new RequestTemplate());
+        return client.execute(request, new Request.Options(), Optional.empty());
+    }
+}
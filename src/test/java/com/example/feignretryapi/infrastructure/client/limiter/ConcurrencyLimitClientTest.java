@@ -0,0 +1,160 @@
+package com.example.feignretryapi.infrastructure.client.limiter;
+
+import com.example.feignretryapi.domain.exception.CircuitBreakerOpenException;
+import com.example.feignretryapi.domain.exception.ConcurrencyLimitExceededException;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ConcurrencyLimitClient.
+ */
+@DisplayName("ConcurrencyLimitClient Tests")
+class ConcurrencyLimitClientTest {
+
+    private final AtomicInteger drops = new AtomicInteger();
+    private final AtomicInteger samples = new AtomicInteger();
+    private ConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new ConcurrencyLimiter(new ConcurrencyLimiterSettings(1, 1, 10, 0, 0),
+                (limit, rtt, inflight, dropped) -> {
+                    samples.incrementAndGet();
+                    if (dropped) {
+                        drops.incrementAndGet();
+                    }
+                    return limit;
+                });
+    }
+
+    @Test
+    @DisplayName("Deve tratar 503 como sobrecarga e liberar a vaga")
+    void shouldTreatServiceUnavailableAsDrop() throws IOException {
+        // Arrange
+        ConcurrencyLimitClient client = new ConcurrencyLimitClient((request, options) -> createResponse(request, 503), limiter);
+
+        // Act
+        Response response = client.execute(createRequest(), new Request.Options());
+
+        // Assert
+        assertEquals(503, response.status());
+        assertEquals(1, drops.get());
+        assertEquals(0, limiter.getInflight());
+    }
+
+    @Test
+    @DisplayName("Deve manter a vaga até o corpo da resposta ser fechado")
+    void shouldHoldPermitUntilBodyIsClosed() throws IOException {
+        // Arrange
+        ConcurrencyLimitClient client = new ConcurrencyLimitClient(
+                (request, options) -> createResponse(request, 200, "[{\"id\":\"1\"}]"), limiter);
+
+        // Act
+        Response response = client.execute(createRequest(), new Request.Options());
+
+        // Assert
+        assertEquals(1, limiter.getInflight());
+        assertEquals(0, samples.get());
+
+        // Act
+        response.close();
+        response.close();
+
+        // Assert
+        assertEquals(0, limiter.getInflight());
+        assertEquals(1, samples.get());
+        assertEquals(0, drops.get());
+    }
+
+    @Test
+    @DisplayName("Deve liberar a vaga ao fechar o stream lido do corpo")
+    void shouldReleasePermitWhenBodyStreamIsClosed() throws IOException {
+        // Arrange
+        ConcurrencyLimitClient client = new ConcurrencyLimitClient(
+                (request, options) -> createResponse(request, 200, "[]"), limiter);
+        Response response = client.execute(createRequest(), new Request.Options());
+
+        // Act
+        try (InputStream body = response.body().asInputStream()) {
+            assertEquals("[]", new String(body.readAllBytes(), StandardCharsets.UTF_8));
+            assertEquals(1, limiter.getInflight());
+        }
+
+        // Assert
+        assertEquals(0, limiter.getInflight());
+        assertEquals(1, samples.get());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar sem chamar a API externa quando o limite está esgotado")
+    void shouldRejectWithoutCallingDelegateWhenLimitIsExhausted() {
+        // Arrange
+        AtomicInteger delegateCalls = new AtomicInteger();
+        ConcurrencyLimitClient client = new ConcurrencyLimitClient((request, options) -> {
+            delegateCalls.incrementAndGet();
+            return createResponse(request, 200);
+        }, limiter);
+        limiter.acquire();
+
+        // Act & Assert
+        assertThrows(ConcurrencyLimitExceededException.class,
+                () -> client.execute(createRequest(), new Request.Options()));
+        assertEquals(0, delegateCalls.get());
+    }
+
+    @Test
+    @DisplayName("Deve liberar a vaga sem amostra quando o circuit breaker rejeita a chamada")
+    void shouldIgnoreCircuitBreakerRejections() {
+        // Arrange
+        ConcurrencyLimitClient client = new ConcurrencyLimitClient((request, options) -> {
+            throw new CircuitBreakerOpenException("ProductApi#getAllProducts()", 1_000);
+        }, limiter);
+
+        // Act & Assert
+        assertThrows(CircuitBreakerOpenException.class, () -> client.execute(createRequest(), new Request.Options()));
+        assertEquals(0, samples.get());
+        assertEquals(0, limiter.getInflight());
+    }
+
+    private Response createResponse(Request request, int status, String body) {
+        return Response.builder()
+                .status(status)
+                .reason("Mock")
+                .request(request)
+                .headers(Collections.emptyMap())
+                .body(body, StandardCharsets.UTF_8)
+                .build();
+    }
+
+    private Response createResponse(Request request, int status) {
+        return Response.builder()
+                .status(status)
+                .reason("Mock")
+                .request(request)
+                .headers(Collections.emptyMap())
+                .build();
+    }
+
+    private Request createRequest() {
+        return Request.create(
+                Request.HttpMethod.GET,
+                "http://localhost:8081/api/products",
+                Collections.emptyMap(),
+                null,
+                StandardCharsets.UTF_8,
+                new RequestTemplate()
+        );
+    }
+}
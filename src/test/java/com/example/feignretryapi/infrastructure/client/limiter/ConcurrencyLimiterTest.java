@@ -0,0 +1,95 @@
+package com.example.feignretryapi.infrastructure.client.limiter;
+
+import com.example.feignretryapi.domain.exception.ConcurrencyLimitExceededException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ConcurrencyLimiter.
+ */
+@DisplayName("ConcurrencyLimiter Tests")
+class ConcurrencyLimiterTest {
+
+    private static final LimitAlgorithm FIXED = (limit, rtt, inflight, dropped) -> limit;
+
+    @Test
+    @DisplayName("Deve rejeitar imediatamente acima do limite quando não há fila")
+    void shouldRejectImmediatelyWithoutQueue() {
+        // Arrange
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new ConcurrencyLimiterSettings(2, 1, 10, 0, 100), FIXED);
+        limiter.acquire();
+        limiter.acquire();
+
+        // Act
+        ConcurrencyLimitExceededException exception =
+                assertThrows(ConcurrencyLimitExceededException.class, limiter::acquire);
+
+        // Assert
+        assertEquals(2, exception.getLimit());
+        assertEquals(503, exception.getStatusCode());
+        assertEquals(2, limiter.getInflight());
+        assertEquals(1, limiter.getRejectedCalls());
+    }
+
+    @Test
+    @DisplayName("Deve liberar a chamada da fila quando uma vaga é devolvida")
+    void shouldAdmitQueuedCallWhenPermitIsReleased() throws Exception {
+        // Arrange
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new ConcurrencyLimiterSettings(1, 1, 10, 5, 2_000), FIXED);
+        ConcurrencyLimiter.Permit first = limiter.acquire();
+        CompletableFuture<ConcurrencyLimiter.Permit> queued = CompletableFuture.supplyAsync(limiter::acquire);
+        while (limiter.getWaiting() == 0) {
+            Thread.sleep(5);
+        }
+
+        // Act
+        Thread.sleep(50);
+        first.onSuccess();
+
+        // Assert
+        assertNotNull(queued.get(1, TimeUnit.SECONDS));
+        assertEquals(1, limiter.getInflight());
+        assertEquals(1, limiter.getQueuedCalls());
+        assertTrue(limiter.getQueueDelayNanos() >= TimeUnit.MILLISECONDS.toNanos(40));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar a chamada da fila após o tempo máximo de espera")
+    void shouldRejectQueuedCallAfterMaxWait() {
+        // Arrange
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new ConcurrencyLimiterSettings(1, 1, 10, 5, 50), FIXED);
+        limiter.acquire();
+        long start = System.nanoTime();
+
+        // Act & Assert
+        assertThrows(ConcurrencyLimitExceededException.class, limiter::acquire);
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(45));
+        assertEquals(0, limiter.getWaiting());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar o limite calculado pelo algoritmo")
+    void shouldApplyLimitFromAlgorithm() {
+        // Arrange
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new ConcurrencyLimiterSettings(4, 1, 10, 0, 0),
+                (limit, rtt, inflight, dropped) -> dropped ? limit / 2 : limit + 1);
+
+        // Act
+        limiter.acquire().onDropped();
+        int afterDrop = limiter.getLimit();
+        limiter.acquire().onSuccess();
+        int afterSuccess = limiter.getLimit();
+        limiter.acquire().onIgnore();
+
+        // Assert
+        assertEquals(2, afterDrop);
+        assertEquals(3, afterSuccess);
+        assertEquals(3, limiter.getLimit());
+        assertEquals(0, limiter.getInflight());
+    }
+}
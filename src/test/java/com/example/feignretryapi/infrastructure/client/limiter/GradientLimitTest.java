@@ -0,0 +1,79 @@
+package com.example.feignretryapi.infrastructure.client.limiter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para GradientLimit.
+ */
+@DisplayName("GradientLimit Tests")
+class GradientLimitTest {
+
+    private static final long BASELINE = TimeUnit.MILLISECONDS.toNanos(20);
+
+    @Test
+    @DisplayName("Deve aumentar o limite com latência estável")
+    void shouldGrowWithStableLatency() {
+        // Arrange
+        GradientLimit gradient = new GradientLimit(2, 200, 1.5, 0.2, 100);
+        int limit = 20;
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            limit = gradient.update(limit, BASELINE, limit, false);
+        }
+
+        // Assert
+        assertTrue(limit > 20, "Limite deveria crescer, mas ficou em " + limit);
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o limite quando a latência sobe acima da média de longo prazo")
+    void shouldShrinkWhenLatencyRises() {
+        // Arrange
+        GradientLimit gradient = new GradientLimit(2, 200, 1.5, 0.2, 100);
+        int limit = 100;
+        for (int i = 0; i < 100; i++) {
+            gradient.update(limit, BASELINE, limit, false);
+        }
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            limit = gradient.update(limit, BASELINE * 10, limit, false);
+        }
+
+        // Assert
+        assertTrue(limit < 100, "Limite deveria cair, mas ficou em " + limit);
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o limite em sobrecarga e respeitar o mínimo")
+    void shouldShrinkOnDropAndRespectMinimum() {
+        // Arrange
+        GradientLimit gradient = new GradientLimit(4, 200, 1.5, 1.0, 100);
+
+        // Act
+        int limit = 50;
+        for (int i = 0; i < 30; i++) {
+            limit = gradient.update(limit, BASELINE, 0, true);
+        }
+
+        // Assert
+        assertEquals(4, limit);
+    }
+
+    @Test
+    @DisplayName("Não deve alterar o limite quando está ocioso")
+    void shouldKeepLimitWhenIdle() {
+        // Arrange
+        GradientLimit gradient = new GradientLimit(2, 200, 1.5, 0.2, 100);
+
+        // Act & Assert
+        assertEquals(40, gradient.update(40, BASELINE * 10, 3, false));
+        assertEquals(BASELINE * 10, gradient.getLongRttNanos(), 1.0);
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.feignretryapi.infrastructure.client.retryer;
+
+import com.example.feignretryapi.domain.exception.ExternalApiException;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.RetryableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para AsyncRetryer.
+ */
+@DisplayName("AsyncRetryer Tests")
+class AsyncRetryerTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long BACKOFF_PERIOD = 20;
+
+    private ScheduledExecutorService scheduler;
+    private AsyncRetryer retryer;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        retryer = new AsyncRetryer(scheduler, MAX_ATTEMPTS, BACKOFF_PERIOD);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve retornar resultado após falhas retryable")
+    void shouldReturnResultAfterRetryableFailures() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        CompletableFuture<String> result = retryer.execute(() -> calls.incrementAndGet() < 3
+                ? CompletableFuture.failedFuture(createRetryableException())
+                : CompletableFuture.completedFuture("ok"));
+
+        // Assert
+        assertEquals("ok", result.join());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    @DisplayName("Deve propagar exceção quando máximo de tentativas é alcançado")
+    void shouldPropagateWhenMaxAttemptsReached() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        CompletableFuture<String> result = retryer.execute(() -> {
+            calls.incrementAndGet();
+            return CompletableFuture.failedFuture(createRetryableException());
+        });
+
+        // Assert
+        CompletionException exception = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(RetryableException.class, exception.getCause());
+        assertEquals(MAX_ATTEMPTS, calls.get());
+    }
+
+    @Test
+    @DisplayName("Não deve fazer retry para exceções não retryable")
+    void shouldNotRetryNonRetryableExceptions() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        CompletableFuture<String> result = retryer.execute(() -> {
+            calls.incrementAndGet();
+            return CompletableFuture.failedFuture(
+                    new CompletionException(new ExternalApiException("Erro", 400, false)));
+        });
+
+        // Assert
+        CompletionException exception = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(ExternalApiException.class, exception.getCause());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("Não deve bloquear a thread chamadora durante o backoff")
+    void shouldNotBlockCallerDuringBackoff() {
+        // Arrange
+        AsyncRetryer slowRetryer = new AsyncRetryer(scheduler, MAX_ATTEMPTS, 10_000);
+        long startTime = System.currentTimeMillis();
+
+        // Act
+        CompletableFuture<String> result = slowRetryer.execute(
+                () -> CompletableFuture.failedFuture(createRetryableException()));
+        long elapsed = System.currentTimeMillis() - startTime;
+
+        // Assert - Retorna imediatamente com o retry agendado
+        assertFalse(result.isDone());
+        assertTrue(elapsed < 1_000, "Não deveria bloquear, mas levou " + elapsed + "ms");
+        result.cancel(true);
+    }
+
+    @Test
+    @DisplayName("Não deve iniciar novas tentativas após cancelamento")
+    void shouldStopRetryingAfterCancellation() throws InterruptedException {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<String> result = retryer.execute(() -> {
+            calls.incrementAndGet();
+            return CompletableFuture.failedFuture(createRetryableException());
+        });
+
+        // Act
+        result.cancel(true);
+        Thread.sleep(BACKOFF_PERIOD * 8);
+
+        // Assert
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("Deve falhar sem agendar retry quando o orçamento de retries está esgotado")
+    void shouldFailWithoutRetryWhenRetryBudgetIsExhausted() {
+        // Arrange
+        RetryBudget budget = new RetryBudget(0, 0, 0);
+        AsyncRetryer budgetedRetryer = new AsyncRetryer(scheduler, MAX_ATTEMPTS,
+                BackoffStrategy.exponential(BACKOFF_PERIOD), 1_000, budget);
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        CompletableFuture<String> result = budgetedRetryer.execute(() -> {
+            calls.incrementAndGet();
+            return CompletableFuture.failedFuture(createRetryableException());
+        });
+
+        // Assert
+        CompletionException exception = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(RetryableException.class, exception.getCause());
+        assertEquals(1, calls.get());
+        assertEquals(1, budget.getRetriesRejected());
+    }
+
+    private RetryableException createRetryableException() {
+        Request request = Request.create(
+                Request.HttpMethod.GET,
+                "/api/products",
+                Collections.emptyMap(),
+                null,
+                StandardCharsets.UTF_8,
+                new RequestTemplate()
+        );
+
+        return new RetryableException(
+                503,
+                "Service Unavailable",
+                Request.HttpMethod.GET,
+                (Long) null,
+                request
+        );
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.feignretryapi.infrastructure.client.retryer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para BackoffStrategy.
+ */
+@DisplayName("BackoffStrategy Tests")
+class BackoffStrategyTest {
+
+    private static final long BASE = 100;
+    private static final long MAX = 1000;
+    private static final int SAMPLES = 200;
+
+    @Test
+    @DisplayName("Exponencial - Deve dobrar a espera a cada tentativa até o teto")
+    void exponentialShouldDoubleUntilCap() {
+        // Arrange
+        BackoffStrategy strategy = new BackoffStrategy(BackoffType.EXPONENTIAL, BASE, MAX);
+
+        // Act & Assert
+        assertEquals(100, strategy.nextDelay(1, 0));
+        assertEquals(200, strategy.nextDelay(2, 0));
+        assertEquals(400, strategy.nextDelay(3, 0));
+        assertEquals(800, strategy.nextDelay(4, 0));
+        assertEquals(MAX, strategy.nextDelay(5, 0));
+        assertEquals(MAX, strategy.nextDelay(200, 0));
+    }
+
+    @Test
+    @DisplayName("Full jitter - Deve ficar entre 0 e o exponencial")
+    void fullJitterShouldStayBetweenZeroAndExponential() {
+        // Arrange
+        BackoffStrategy strategy = new BackoffStrategy(BackoffType.FULL_JITTER, BASE, MAX);
+
+        // Act & Assert
+        for (int i = 0; i < SAMPLES; i++) {
+            long delay = strategy.nextDelay(3, 0);
+            assertTrue(delay >= 0 && delay <= 400, "Espera fora do intervalo: " + delay);
+        }
+    }
+
+    @Test
+    @DisplayName("Full jitter - Deve espalhar as esperas")
+    void fullJitterShouldSpreadDelays() {
+        // Arrange
+        BackoffStrategy strategy = new BackoffStrategy(BackoffType.FULL_JITTER, BASE, MAX);
+
+        // Act
+        long distinct = IntStream.range(0, SAMPLES)
+                .mapToLong(i -> strategy.nextDelay(4, 0))
+                .distinct()
+                .count();
+
+        // Assert
+        assertTrue(distinct > 1, "Clientes que falham juntos não devem esperar o mesmo tempo");
+    }
+
+    @Test
+    @DisplayName("Equal jitter - Deve ficar entre metade e o exponencial")
+    void equalJitterShouldStayBetweenHalfAndExponential() {
+        // Arrange
+        BackoffStrategy strategy = new BackoffStrategy(BackoffType.EQUAL_JITTER, BASE, MAX);
+
+        // Act & Assert
+        for (int i = 0; i < SAMPLES; i++) {
+            long delay = strategy.nextDelay(3, 0);
+            assertTrue(delay >= 200 && delay <= 400, "Espera fora do intervalo: " + delay);
+        }
+    }
+
+    @Test
+    @DisplayName("Decorrelated jitter - Deve ficar entre a base e o triplo da espera anterior, limitado ao teto")
+    void decorrelatedJitterShouldStayBetweenBaseAndThreeTimesPrevious() {
+        // Arrange
+        BackoffStrategy strategy = new BackoffStrategy(BackoffType.DECORRELATED_JITTER, BASE, MAX);
+
+        // Act & Assert
+        for (int i = 0; i < SAMPLES; i++) {
+            long delay = strategy.nextDelay(2, 200);
+            assertTrue(delay >= BASE && delay <= 600, "Espera fora do intervalo: " + delay);
+            assertTrue(strategy.nextDelay(10, 900) <= MAX);
+        }
+    }
+
+    @Test
+    @DisplayName("Fixed e linear - Devem respeitar a base e o teto")
+    void fixedAndLinearShouldRespectBaseAndCap() {
+        // Arrange
+        BackoffStrategy fixed = new BackoffStrategy(BackoffType.FIXED, BASE, MAX);
+        BackoffStrategy linear = new BackoffStrategy(BackoffType.LINEAR, BASE, MAX);
+
+        // Act & Assert
+        assertEquals(BASE, fixed.nextDelay(7, 0));
+        assertEquals(300, linear.nextDelay(3, 0));
+        assertEquals(MAX, linear.nextDelay(50, 0));
+    }
+
+    @Test
+    @DisplayName("Deve converter o valor configurado para o tipo de backoff")
+    void shouldParseConfiguredType() {
+        // Act & Assert
+        assertEquals(BackoffType.DECORRELATED_JITTER, BackoffType.from("decorrelated-jitter"));
+        assertEquals(BackoffType.FULL_JITTER, BackoffType.from(" Full-Jitter "));
+        assertEquals(BackoffType.EXPONENTIAL, BackoffType.from(null));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar teto menor que a base")
+    void shouldRejectCapLowerThanBase() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> new BackoffStrategy(BackoffType.EXPONENTIAL, 500, 100));
+    }
+}
@@ -136,7 +136,115 @@ class CustomRetryerTest {
                 () -> customRetryer.continueOrPropagate(exception));
     }
 
+    @Test
+    @DisplayName("Deve aguardar no mínimo até o instante do Retry-After")
+    void shouldWaitAtLeastUntilRetryAfter() {
+        // Arrange
+        CustomRetryer fixedRetryer = new CustomRetryer(MAX_ATTEMPTS,
+                new BackoffStrategy(BackoffType.FIXED, 10, 10), 5_000);
+        RetryableException exception = createRetryableException(new Date(System.currentTimeMillis() + 300));
+        long startTime = System.currentTimeMillis();
+
+        // Act
+        fixedRetryer.continueOrPropagate(exception);
+        long elapsed = System.currentTimeMillis() - startTime;
+
+        // Assert
+        assertTrue(elapsed >= 250, "Deveria ter respeitado o Retry-After, mas aguardou " + elapsed + "ms");
+        assertEquals(2, fixedRetryer.getCurrentAttempt());
+    }
+
+    @Test
+    @DisplayName("Deve propagar sem aguardar quando o Retry-After excede o limite")
+    void shouldPropagateWhenRetryAfterExceedsLimit() {
+        // Arrange
+        CustomRetryer limitedRetryer = new CustomRetryer(MAX_ATTEMPTS,
+                new BackoffStrategy(BackoffType.FIXED, 10, 10), 1_000);
+        RetryableException exception = createRetryableException(new Date(System.currentTimeMillis() + 60_000));
+
+        // Act & Assert
+        assertThrows(RetryableException.class, () -> limitedRetryer.continueOrPropagate(exception));
+        assertEquals(1, limitedRetryer.getCurrentAttempt());
+    }
+
+    @Test
+    @DisplayName("Deve preservar a estratégia de backoff ao clonar")
+    void shouldPreserveBackoffStrategyOnClone() {
+        // Arrange
+        BackoffStrategy strategy = new BackoffStrategy(BackoffType.DECORRELATED_JITTER, 50, 2_000);
+        CustomRetryer jitterRetryer = new CustomRetryer(4, strategy, 10_000);
+
+        // Act
+        CustomRetryer clone = (CustomRetryer) jitterRetryer.clone();
+
+        // Assert
+        assertEquals(strategy, clone.getBackoffStrategy());
+        assertEquals(10_000, clone.getMaxRetryAfter());
+        assertEquals(4, clone.getMaxAttempts());
+    }
+
+    @Test
+    @DisplayName("Deve propagar imediatamente quando o orçamento de retries está esgotado")
+    void shouldPropagateWhenRetryBudgetIsExhausted() {
+        // Arrange
+        RetryBudget budget = new RetryBudget(0.2, 0, 1);
+        CustomRetryer budgetedRetryer = new CustomRetryer(MAX_ATTEMPTS,
+                new BackoffStrategy(BackoffType.FIXED, 10, 10), 1_000, budget);
+        RetryableException exception = createRetryableException();
+
+        // Act
+        budgetedRetryer.continueOrPropagate(exception);
+
+        // Assert
+        assertThrows(RetryableException.class, () -> budgetedRetryer.continueOrPropagate(exception));
+        assertEquals(2, budgetedRetryer.getCurrentAttempt());
+        assertEquals(1, budget.getRetriesRejected());
+    }
+
+    @Test
+    @DisplayName("Deve propagar sem consumir o orçamento quando a thread foi interrompida (chamada cancelada)")
+    void shouldPropagateWithoutSpendingBudgetWhenInterrupted() {
+        // Arrange
+        RetryBudget budget = new RetryBudget(0.2, 0, 1);
+        CustomRetryer budgetedRetryer = new CustomRetryer(MAX_ATTEMPTS,
+                new BackoffStrategy(BackoffType.FIXED, 10, 10), 1_000, budget);
+        RetryableException exception = createRetryableException();
+
+        // Act
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(RetryableException.class, () -> budgetedRetryer.continueOrPropagate(exception));
+        } finally {
+            Thread.interrupted();
+        }
+
+        // Assert
+        assertEquals(1, budgetedRetryer.getCurrentAttempt());
+        assertEquals(1.0, budget.getAvailableTokens());
+    }
+
+    @Test
+    @DisplayName("Deve depositar no orçamento a cada clone (nova requisição)")
+    void shouldDepositIntoBudgetOnClone() {
+        // Arrange
+        RetryBudget budget = new RetryBudget(0.5, 0, 10);
+        CustomRetryer budgetedRetryer = new CustomRetryer(MAX_ATTEMPTS,
+                new BackoffStrategy(BackoffType.FIXED, 10, 10), 1_000, budget);
+
+        // Act
+        CustomRetryer clone = (CustomRetryer) budgetedRetryer.clone();
+        clone.clone();
+
+        // Assert
+        assertEquals(2, budget.getRequests());
+        assertSame(budget, clone.getRetryBudget());
+    }
+
     private RetryableException createRetryableException() {
+        return createRetryableException(new Date());
+    }
+
+    private RetryableException createRetryableException(Date retryAfter) {
         Request request = Request.create(
                 Request.HttpMethod.GET,
                 "/api/products",
@@ -150,7 +258,7 @@ class CustomRetryerTest {
                 500,
                 "Server Error",
                 Request.HttpMethod.GET,
-                new Date(),
+                retryAfter,
                 request
         );
     }
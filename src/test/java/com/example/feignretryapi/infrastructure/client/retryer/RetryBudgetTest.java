@@ -0,0 +1,129 @@
+package com.example.feignretryapi.infrastructure.client.retryer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para RetryBudget.
+ */
+@DisplayName("RetryBudget Tests")
+class RetryBudgetTest {
+
+    @Test
+    @DisplayName("Deve negar retries quando o saldo inicial é consumido")
+    void shouldRejectRetriesWhenInitialBalanceIsConsumed() {
+        // Arrange
+        RetryBudget budget = new RetryBudget(0.2, 0, 2);
+
+        // Act & Assert
+        assertTrue(budget.tryAcquireRetry());
+        assertTrue(budget.tryAcquireRetry());
+        assertFalse(budget.tryAcquireRetry());
+        assertEquals(2, budget.getRetriesAllowed());
+        assertEquals(1, budget.getRetriesRejected());
+    }
+
+    @Test
+    @DisplayName("Deve liberar um retry a cada 1/ratio requisições")
+    void shouldAllowOneRetryPerInverseRatioRequests() {
+        // Arrange
+        RetryBudget budget = new RetryBudget(0.2, 0, 10);
+        while (budget.tryAcquireRetry()) {
+            // esvazia o saldo inicial
+        }
+
+        // Act
+        for (int i = 0; i < 4; i++) {
+            budget.recordRequest();
+        }
+        boolean afterFourRequests = budget.tryAcquireRetry();
+        budget.recordRequest();
+        boolean afterFiveRequests = budget.tryAcquireRetry();
+
+        // Assert
+        assertFalse(afterFourRequests);
+        assertTrue(afterFiveRequests);
+        assertEquals(5, budget.getRequests());
+    }
+
+    @Test
+    @DisplayName("Deve limitar o saldo à capacidade máxima")
+    void shouldCapBalanceAtMaxTokens() {
+        // Arrange
+        RetryBudget budget = new RetryBudget(1.0, 0, 3);
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            budget.recordRequest();
+        }
+
+        // Assert
+        assertEquals(3.0, budget.getAvailableTokens());
+    }
+
+    @Test
+    @DisplayName("Deve repor a reserva mínima com o passar do tempo")
+    void shouldRefillMinimumReserveOverTime() throws InterruptedException {
+        // Arrange
+        RetryBudget budget = new RetryBudget(0, 20, 1);
+        assertTrue(budget.tryAcquireRetry());
+        assertFalse(budget.tryAcquireRetry());
+
+        // Act
+        Thread.sleep(100);
+
+        // Assert
+        assertTrue(budget.tryAcquireRetry());
+    }
+
+    @Test
+    @DisplayName("Não deve autorizar mais retries que o saldo sob concorrência")
+    void shouldNotOverspendUnderConcurrency() throws InterruptedException {
+        // Arrange
+        RetryBudget budget = new RetryBudget(0, 0, 50);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < 100; j++) {
+                    if (budget.tryAcquireRetry()) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        // Assert
+        assertEquals(50, allowed.get());
+        assertEquals(0.0, budget.getAvailableTokens());
+    }
+
+    @Test
+    @DisplayName("Orçamento ilimitado deve sempre permitir retries")
+    void unlimitedBudgetShouldAlwaysAllowRetries() {
+        // Arrange
+        RetryBudget budget = RetryBudget.unlimited();
+
+        // Act & Assert
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(budget.tryAcquireRetry());
+        }
+        assertTrue(budget.isUnlimited());
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.feignretryapi.infrastructure.client.streaming;
+
+import com.example.feignretryapi.domain.exception.ExternalApiException;
+import com.example.feignretryapi.infrastructure.client.decoder.CustomErrorDecoder;
+import com.example.feignretryapi.infrastructure.client.feign.dto.ExternalProductDto;
+import com.example.feignretryapi.infrastructure.client.feign.ExternalProductClient;
+import com.example.feignretryapi.infrastructure.client.retryer.CustomRetryer;
+import com.example.feignretryapi.infrastructure.config.FeignConfig;
+import com.example.feignretryapi.infrastructure.mock.MockExternalProductClient;
+import feign.Client;
+import feign.Feign;
+import feign.Logger;
+import feign.Response;
+import feign.RetryableException;
+import feign.Retryer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ExternalProductStreamer.
+ */
+@DisplayName("ExternalProductStreamer Tests")
+class ExternalProductStreamerTest {
+
+    private MockExternalProductClient mockClient;
+    private ExternalProductStreamer streamer;
+
+    @BeforeEach
+    void setUp() {
+        mockClient = new MockExternalProductClient();
+        streamer = new ExternalProductStreamer(mockClient, new CustomErrorDecoder(), new CustomRetryer(3, 1),
+                Jackson2ObjectMapperBuilder.json().build());
+    }
+
+    @Test
+    @DisplayName("Deve entregar todos os produtos da resposta")
+    void shouldStreamAllProducts() throws IOException {
+        // Arrange
+        List<ExternalProductDto> received = new ArrayList<>();
+
+        // Act
+        long count = streamer.streamAllProducts(received::add);
+
+        // Assert
+        assertEquals(3, count);
+        assertEquals(List.of("1", "2", "3"), received.stream().map(ExternalProductDto::getId).toList());
+        assertEquals(1, mockClient.getStreamAllProductsCallCount());
+        assertEquals(0, mockClient.getGetAllProductsCallCount());
+    }
+
+    @Test
+    @DisplayName("Deve repetir a requisição em erros de servidor, como o Retryer do Feign")
+    void shouldRetryOnServerErrors() throws IOException {
+        // Arrange
+        mockClient.setFailStreamAllProductsUntilAttempt(2);
+        mockClient.setErrorStatusCode(503);
+
+        // Act
+        long count = streamer.streamAllProducts(dto -> { });
+
+        // Assert
+        assertEquals(3, count);
+        assertEquals(3, mockClient.getStreamAllProductsCallCount());
+    }
+
+    @Test
+    @DisplayName("Deve propagar RetryableException após esgotar as tentativas")
+    void shouldPropagateAfterRetriesExhausted() {
+        // Arrange
+        mockClient.setFailStreamAllProductsUntilAttempt(10);
+        mockClient.setErrorStatusCode(500);
+
+        // Act & Assert
+        assertThrows(RetryableException.class, () -> streamer.streamAllProducts(dto -> { }));
+        assertEquals(3, mockClient.getStreamAllProductsCallCount());
+    }
+
+    @Test
+    @DisplayName("Não deve repetir erros de cliente")
+    void shouldNotRetryClientErrors() {
+        // Arrange
+        mockClient.setFailStreamAllProductsUntilAttempt(10);
+        mockClient.setErrorStatusCode(400);
+
+        // Act & Assert
+        assertThrows(ExternalApiException.class, () -> streamer.streamAllProducts(dto -> { }));
+        assertEquals(1, mockClient.getStreamAllProductsCallCount());
+    }
+
+    @Test
+    @DisplayName("Deve fechar a resposta com erro antes da espera do retry")
+    void shouldCloseFailedResponseBeforeBackoff() throws IOException {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean();
+        AtomicBoolean closedAtRetry = new AtomicBoolean();
+        MockExternalProductClient client = new MockExternalProductClient() {
+            @Override
+            public Response streamAllProducts() {
+                Response response = super.streamAllProducts();
+                if (response.status() < 300) {
+                    return response;
+                }
+                return response.toBuilder()
+                        .body(new ByteArrayInputStream(new byte[0]) {
+                            @Override
+                            public void close() {
+                                closed.set(true);
+                            }
+                        }, 0)
+                        .build();
+            }
+        };
+        client.setFailStreamAllProductsUntilAttempt(1);
+        client.setErrorStatusCode(503);
+        Retryer retryer = new Retryer() {
+            @Override
+            public void continueOrPropagate(RetryableException e) {
+                closedAtRetry.set(closed.get());
+            }
+
+            @Override
+            public Retryer clone() {
+                return this;
+            }
+        };
+        ExternalProductStreamer closingStreamer = new ExternalProductStreamer(client, new CustomErrorDecoder(),
+                retryer, Jackson2ObjectMapperBuilder.json().build());
+
+        // Act
+        long count = closingStreamer.streamAllProducts(dto -> { });
+
+        // Assert
+        assertEquals(3, count);
+        assertTrue(closedAtRetry.get());
+    }
+
+    @Test
+    @DisplayName("O logger do Feign não deve bufferizar o corpo do streaming no nível padrão")
+    void shouldNotBufferStreamingBodyWithDefaultLoggerLevel() throws IOException {
+        for (String level : defaultLoggerLevels()) {
+            // Arrange
+            AtomicBoolean bufferedAtDecode = new AtomicBoolean(true);
+            ExternalProductClient client = Feign.builder()
+                    .contract(new SpringMvcContract())
+                    .client(chunkedCatalogClient())
+                    .logger(new Logger.NoOpLogger())
+                    .logLevel(Logger.Level.valueOf(level.toUpperCase(Locale.ROOT)))
+                    .target(ExternalProductClient.class, "http://external-api");
+            ExternalProductStreamer feignStreamer = new ExternalProductStreamer(new MockExternalProductClient() {
+                @Override
+                public Response streamAllProducts() {
+                    Response response = client.streamAllProducts();
+                    bufferedAtDecode.set(response.body().isRepeatable());
+                    return response;
+                }
+            }, new CustomErrorDecoder(), new CustomRetryer(3, 1), Jackson2ObjectMapperBuilder.json().build());
+
+            // Act
+            long count = feignStreamer.streamAllProducts(dto -> { });
+
+            // Assert
+            assertEquals(2, count, "loggerLevel " + level);
+            assertFalse(bufferedAtDecode.get(), "corpo bufferizado com loggerLevel " + level);
+        }
+    }
+
+    /**
+     * Níveis de log padrão do Feign: o do application.yml e o default do FeignConfig sem a propriedade.
+     */
+    private static List<String> defaultLoggerLevels() {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource("application.yml"));
+        String configured = yaml.getObject().getProperty("feign.client.config.default.loggerLevel");
+        try {
+            String placeholder = FeignConfig.class.getDeclaredField("loggerLevel").getAnnotation(Value.class).value();
+            return List.of(configured, new StandardEnvironment().resolvePlaceholders(placeholder));
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Transporte que responde o catálogo sem Content-Length, como um corpo chunked do servidor real.
+     */
+    private static Client chunkedCatalogClient() {
+        byte[] body = """
+                [{"id":"1","name":"Product 1","category":"electronics"},
+                 {"id":"2","name":"Product 2","category":"furniture"}]"""
+                .getBytes(StandardCharsets.UTF_8);
+        return (request, options) -> Response.builder()
+                .status(200)
+                .request(request)
+                .headers(Map.<String, Collection<String>>of("Content-Type", List.of("application/json")))
+                .body(new ByteArrayInputStream(body), null)
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.feignretryapi.infrastructure.client.streaming;
+
+import com.example.feignretryapi.infrastructure.client.feign.dto.ExternalProductDto;
+import com.example.feignretryapi.infrastructure.codec.WireFormat;
+import com.example.feignretryapi.infrastructure.codec.WireFormatMappers;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para JsonArrayStreamDecoder.
+ */
+@DisplayName("JsonArrayStreamDecoder Tests")
+class JsonArrayStreamDecoderTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final JsonArrayStreamDecoder<ExternalProductDto> decoder =
+            new JsonArrayStreamDecoder<>(objectMapper, ExternalProductDto.class);
+
+    @Test
+    @DisplayName("Deve entregar cada elemento do array, na ordem, com os nomes de campo da API externa")
+    void shouldDeliverEachElementInOrder() throws IOException {
+        // Arrange
+        List<ExternalProductDto> received = new ArrayList<>();
+
+        // Act
+        long count = decoder.decode(response("[{\"id\":\"1\",\"updated_at\":\"2026-10-16T12:00:00\"},"
+                + "{\"id\":\"2\",\"category\":\"furniture\"}]"), received::add);
+
+        // Assert
+        assertEquals(2, count);
+        assertEquals("1", received.get(0).getId());
+        assertEquals("2026-10-16T12:00:00", received.get(0).getUpdatedAt());
+        assertEquals("furniture", received.get(1).getCategory());
+    }
+
+    @Test
+    @DisplayName("Deve entregar os elementos já lidos antes de falhar em um array truncado")
+    void shouldFailOnTruncatedArrayAfterDeliveredElements() {
+        // Arrange
+        List<ExternalProductDto> received = new ArrayList<>();
+
+        // Act
+        assertThrows(IOException.class,
+                () -> decoder.decode(response("[{\"id\":\"1\"},{\"id\":\"2\""), received::add));
+
+        // Assert
+        assertEquals(1, received.size());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar corpo que não é um array JSON")
+    void shouldRejectNonArrayBody() {
+        // Act & Assert
+        assertThrows(IOException.class, () -> decoder.decode(response("{\"id\":\"1\"}"), dto -> { }));
+    }
+
+    @Test
+    @DisplayName("Deve aceitar array vazio")
+    void shouldAcceptEmptyArray() throws IOException {
+        // Act & Assert
+        assertEquals(0, decoder.decode(response("[]"), dto -> fail("Nenhum elemento esperado")));
+    }
+
+    @Test
+    @DisplayName("Deve ler array CBOR com o parser do formato indicado no Content-Type")
+    void shouldDecodeCborArrayByContentType() throws IOException {
+        // Arrange
+        ObjectMapper cborMapper = new WireFormatMappers(objectMapper).get(WireFormat.CBOR);
+        byte[] body = cborMapper.writeValueAsBytes(List.of(Map.of("id", "1", "price", 10.5), Map.of("id", "2")));
+        List<ExternalProductDto> received = new ArrayList<>();
+
+        // Act
+        long count = decoder.decode(response(body, Map.of("Content-Type", List.of("application/cbor"))),
+                received::add);
+
+        // Assert
+        assertEquals(2, count);
+        assertEquals("1", received.get(0).getId());
+        assertEquals(0, new BigDecimal("10.5").compareTo(received.get(0).getPrice()));
+        assertEquals("2", received.get(1).getId());
+    }
+
+    private static Response response(String body) {
+        return response(body.getBytes(StandardCharsets.UTF_8), Collections.emptyMap());
+    }
+
+    private static Response response(byte[] body, Map<String, Collection<String>> headers) {
+        Request request = Request.create(Request.HttpMethod.GET, "/api/products", Collections.emptyMap(),
+                null, StandardCharsets.UTF_8, null);
+        return Response.builder()
+                .status(200)
+                .request(request)
+                .headers(headers)
+                .body(body)
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.feignretryapi.infrastructure.client.transport;
+
+import feign.Client;
+import feign.hc5.ApacheHttp5Client;
+import feign.http2client.Http2Client;
+import feign.okhttp.OkHttpClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para HttpTransportFactory.
+ */
+@DisplayName("HttpTransportFactory Tests")
+class HttpTransportFactoryTest {
+
+    @Test
+    @DisplayName("Deve criar Apache HttpClient 5 com estatísticas do pool")
+    void shouldCreateApacheHc5WithPoolStats() {
+        // Act
+        try (HttpTransport<Client> transport = HttpTransportFactory.create(settings(HttpClientType.APACHE_HC5))) {
+            // Assert
+            assertInstanceOf(ApacheHttp5Client.class, transport.getClient());
+            ConnectionPoolStats stats = transport.getPoolStats().orElseThrow();
+            assertEquals(0, stats.leased());
+            assertEquals(0, stats.pending());
+            assertEquals(0, stats.available());
+            assertEquals(20, stats.max());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve criar OkHttp com estatísticas do pool")
+    void shouldCreateOkHttpWithPoolStats() {
+        // Act
+        try (HttpTransport<Client> transport = HttpTransportFactory.create(settings(HttpClientType.OKHTTP))) {
+            // Assert
+            assertInstanceOf(OkHttpClient.class, transport.getClient());
+            assertTrue(transport.getPoolStats().isPresent());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve criar HttpClient do JDK sem estatísticas do pool")
+    void shouldCreateJdkClientWithoutPoolStats() {
+        // Act
+        try (HttpTransport<Client> transport = HttpTransportFactory.create(settings(HttpClientType.JDK))) {
+            // Assert
+            assertInstanceOf(Http2Client.class, transport.getClient());
+            assertTrue(transport.getPoolStats().isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve criar o client padrão do Feign")
+    void shouldCreateDefaultClient() {
+        // Act
+        try (HttpTransport<Client> transport = HttpTransportFactory.create(settings(HttpClientType.DEFAULT))) {
+            // Assert
+            assertInstanceOf(Client.Default.class, transport.getClient());
+            assertTrue(transport.getPoolStats().isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve converter o tipo configurado para o enum")
+    void shouldParseConfiguredType() {
+        assertEquals(HttpClientType.APACHE_HC5, HttpClientType.from("apache-hc5"));
+        assertEquals(HttpClientType.OKHTTP, HttpClientType.from("okhttp"));
+        assertEquals(HttpClientType.JDK, HttpClientType.from("JDK"));
+        assertEquals(HttpClientType.DEFAULT, HttpClientType.from(null));
+        assertThrows(IllegalArgumentException.class, () -> HttpClientType.from("netty"));
+    }
+
+    @Test
+    @DisplayName("Deve registrar métricas do pool no MeterRegistry")
+    void shouldRegisterPoolMetrics() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        try (HttpTransport<Client> transport = HttpTransportFactory.create(settings(HttpClientType.APACHE_HC5))) {
+            // Act
+            new ConnectionPoolMetrics(transport).bindTo(registry);
+
+            // Assert
+            assertEquals(20, registry.get("feign.client.pool.max").gauge().value());
+            assertEquals(0, registry.get("feign.client.pool.leased").gauge().value());
+            assertNotNull(registry.get("feign.client.pool.pending").gauge());
+            assertNotNull(registry.get("feign.client.pool.available").gauge());
+        }
+    }
+
+    private HttpTransportSettings settings(HttpClientType type) {
+        return new HttpTransportSettings(type, 20, 10, 60000, 30000, 30000, 1000);
+    }
+}
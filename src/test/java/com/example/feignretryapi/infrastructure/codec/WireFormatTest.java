@@ -0,0 +1,110 @@
+package com.example.feignretryapi.infrastructure.codec;
+
+import com.example.feignretryapi.application.dto.ProductField;
+import com.example.feignretryapi.application.dto.ProductResponse;
+import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.presentation.controller.ProductFieldsFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para WireFormat e WireFormatMappers.
+ */
+@DisplayName("WireFormat Tests")
+class WireFormatTest {
+
+    @Test
+    @DisplayName("negotiate - Deve escolher o formato de maior qualidade no Accept")
+    void negotiateShouldPickHighestQualityFormat() {
+        // Act & Assert
+        assertEquals(WireFormat.CBOR, WireFormat.negotiate("application/cbor"));
+        assertEquals(WireFormat.SMILE, WireFormat.negotiate("application/json;q=0.5, application/x-jackson-smile"));
+        assertEquals(WireFormat.CBOR, WireFormat.negotiate("application/cbor, */*;q=0.1"));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("application/cbor;q=0.2, application/json"));
+    }
+
+    @Test
+    @DisplayName("negotiate - Deve usar JSON para curinga, Accept ausente, inválido ou sem formato suportado")
+    void negotiateShouldDefaultToJson() {
+        // Act & Assert
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("*/*"));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("application/*"));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate(null));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("text/html"));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("not a media type"));
+    }
+
+    @Test
+    @DisplayName("forContentType e from - Devem reconhecer os formatos pelo Content-Type e pela configuração")
+    void shouldResolveFormatFromContentTypeAndConfiguration() {
+        // Act & Assert
+        assertEquals(WireFormat.SMILE, WireFormat.forContentType("application/x-jackson-smile"));
+        assertEquals(WireFormat.JSON, WireFormat.forContentType("application/json;charset=UTF-8"));
+        assertEquals(WireFormat.JSON, WireFormat.forContentType(null));
+        assertEquals(WireFormat.CBOR, WireFormat.from(" cbor "));
+        assertEquals(WireFormat.JSON, WireFormat.from(null));
+        assertThrows(IllegalArgumentException.class, () -> WireFormat.from("xml"));
+    }
+
+    @Test
+    @DisplayName("WireFormatMappers - Deve fazer ida e volta nos formatos binários com datas, BigDecimal e filtro")
+    void mappersShouldRoundTripBinaryFormats() throws IOException {
+        // Arrange
+        ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json()
+                .filters(ProductFieldsFilter.filterProvider(ProductField.ALL))
+                .build();
+        WireFormatMappers mappers = new WireFormatMappers(jsonMapper);
+        ProductResponse product = new ProductResponse("1", "Notebook", "Desc", new BigDecimal("8999.99"), 10,
+                "electronics", LocalDateTime.of(2026, 10, 16, 12, 0), null);
+
+        for (WireFormat format : WireFormat.values()) {
+            // Act
+            ObjectMapper mapper = mappers.get(format);
+            byte[] encoded = mapper.writeValueAsBytes(product);
+            ProductResponse decoded = mapper.readValue(encoded, ProductResponse.class);
+
+            // Assert
+            assertEquals(product, decoded, format.name());
+        }
+        assertTrue(mappers.get(WireFormat.CBOR).writeValueAsBytes(product).length
+                < jsonMapper.writeValueAsBytes(product).length);
+    }
+
+    @Test
+    @DisplayName("WireFormatMappers - Deve serializar Product com os mesmos bytes do ProductResponse, com e sem fields")
+    void productResponseMapperShouldMatchResponseDto() throws IOException {
+        // Arrange
+        ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json()
+                .filters(ProductFieldsFilter.filterProvider(ProductField.ALL))
+                .build();
+        WireFormatMappers mappers = new WireFormatMappers(jsonMapper);
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 16, 12, 0, 0, 123_000_000);
+        Product product = new Product("1", "Notebook", null, new BigDecimal("8999.99"), 10, "electronics",
+                createdAt, null);
+        ProductResponse response = new ProductResponse("1", "Notebook", null, new BigDecimal("8999.99"), 10,
+                "electronics", createdAt, null);
+
+        for (WireFormat format : WireFormat.values()) {
+            for (Set<ProductField> fields : List.of(ProductField.ALL, ProductField.parse("price,name,updatedAt"))) {
+                // Act
+                FilterProvider filter = ProductFieldsFilter.filterProvider(fields);
+                byte[] fused = mappers.productResponseMapper(format).writer(filter).writeValueAsBytes(product);
+                byte[] dto = mappers.get(format).writer(filter).writeValueAsBytes(response);
+
+                // Assert
+                assertArrayEquals(dto, fused, format + " " + fields);
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.feignretryapi.infrastructure.gateway;
+
+import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.domain.exception.ExternalApiException;
+import com.example.feignretryapi.infrastructure.client.retryer.AsyncRetryer;
+import com.example.feignretryapi.infrastructure.mock.MockAsyncExternalProductClient;
+import com.example.feignretryapi.infrastructure.mock.MockExternalProductClient;
+import com.example.feignretryapi.infrastructure.mock.MockProductMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para AsyncProductGatewayImpl.
+ */
+@DisplayName("AsyncProductGatewayImpl Tests")
+class AsyncProductGatewayImplTest {
+
+    private MockExternalProductClient mockClient;
+    private MockProductMapper mockMapper;
+    private ScheduledExecutorService scheduler;
+    private AsyncProductGatewayImpl gateway;
+
+    @BeforeEach
+    void setUp() {
+        mockClient = new MockExternalProductClient();
+        mockMapper = new MockProductMapper();
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        gateway = new AsyncProductGatewayImpl(
+                new MockAsyncExternalProductClient(mockClient),
+                mockMapper,
+                new AsyncRetryer(scheduler, 3, 10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("findAll - Deve retornar lista de produtos com sucesso")
+    void findAllShouldReturnProductsSuccessfully() {
+        // Act
+        List<Product> result = gateway.findAll().join();
+
+        // Assert
+        assertEquals(3, result.size());
+        mockClient.verifyGetAllProductsCalled(1);
+        assertEquals("Product 1", result.get(0).getName());
+        assertNotNull(result.get(0).getCreatedAt());
+        // A listagem já chega do client como Product, sem passar pelo mapper
+        assertEquals(0, mockMapper.getToDomainListCallCount());
+    }
+
+    @Test
+    @DisplayName("findAll - Deve realizar retry assíncrono em erros de servidor")
+    void findAllShouldRetryOnServerErrors() {
+        // Arrange
+        mockClient.setFailGetAllProductsUntilAttempt(2);
+        mockClient.setErrorStatusCode(503);
+
+        // Act
+        List<Product> result = gateway.findAll().join();
+
+        // Assert
+        assertEquals(3, result.size());
+        mockClient.verifyGetAllProductsCalled(3);
+    }
+
+    @Test
+    @DisplayName("findAll - Deve falhar com ExternalApiException após esgotar as tentativas")
+    void findAllShouldFailWithExternalApiExceptionAfterRetries() {
+        // Arrange
+        mockClient.setFailGetAllProductsUntilAttempt(10);
+        mockClient.setErrorStatusCode(500);
+
+        // Act
+        CompletionException exception = assertThrows(CompletionException.class, () -> gateway.findAll().join());
+
+        // Assert
+        assertInstanceOf(ExternalApiException.class, exception.getCause());
+        assertEquals(500, ((ExternalApiException) exception.getCause()).getStatusCode());
+        mockClient.verifyGetAllProductsCalled(3);
+    }
+
+    @Test
+    @DisplayName("findById - Deve retornar produto quando encontrado")
+    void findByIdShouldReturnProductWhenFound() {
+        // Act
+        Optional<Product> result = gateway.findById("1").join();
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals("1", result.get().getId());
+    }
+
+    @Test
+    @DisplayName("findById - Deve retornar empty quando produto não existe")
+    void findByIdShouldReturnEmptyWhenProductNotExists() {
+        // Act
+        Optional<Product> result = gateway.findById("999").join();
+
+        // Assert
+        assertTrue(result.isEmpty());
+        mockClient.verifyGetProductByIdCalled(1);
+    }
+
+    @Test
+    @DisplayName("findByCategory - Deve retornar produtos da categoria")
+    void findByCategoryShouldReturnProductsFromCategory() {
+        // Act
+        List<Product> result = gateway.findByCategory("electronics").join();
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals("electronics", mockClient.getLastGetProductsByCategoryParameter());
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.feignretryapi.infrastructure.gateway;
+
+import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.domain.exception.ExternalApiException;
+import com.example.feignretryapi.infrastructure.gateway.caching.CacheFreshness;
+import com.example.feignretryapi.infrastructure.gateway.caching.CacheSettings;
+import com.example.feignretryapi.infrastructure.gateway.caching.CachingProductGateway;
+import com.example.feignretryapi.infrastructure.mock.MockProductGateway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ExecutorAsyncProductGateway.
+ */
+@DisplayName("ExecutorAsyncProductGateway Tests")
+class ExecutorAsyncProductGatewayTest {
+
+    private static final CacheSettings SETTINGS = new CacheSettings(100, 0, 60_000, 0, 0);
+
+    private MockProductGateway mockGateway;
+    private ExecutorService executor;
+    private ExecutorAsyncProductGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        mockGateway = new MockProductGateway();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        gateway = new ExecutorAsyncProductGateway(
+                new CachingProductGateway(mockGateway, SETTINGS, SETTINGS, SETTINGS, Runnable::run), executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve passar pelos decorators do ProductGateway, servindo a listagem do cache")
+    void shouldServeThroughDecorators() {
+        // Act
+        List<Product> first = gateway.findAll().join();
+        List<Product> second = gateway.findAll().join();
+
+        // Assert
+        assertSame(first, second);
+        mockGateway.verifyFindAllCalled(1);
+    }
+
+    @Test
+    @DisplayName("Deve registrar a idade do dado no Recorder da thread chamadora")
+    void shouldRecordFreshnessInCallerRecorder() {
+        // Arrange
+        gateway.findById("1").join();
+
+        // Act
+        CacheFreshness.Recorder recorder;
+        try (CacheFreshness.Recorder opened = CacheFreshness.open()) {
+            recorder = opened;
+            gateway.findById("1").join();
+        }
+
+        // Assert
+        assertFalse(recorder.oldest().orElseThrow().stale());
+    }
+
+    @Test
+    @DisplayName("Deve completar o futuro com a exceção do gateway")
+    void shouldCompleteExceptionallyWithGatewayException() {
+        // Arrange
+        mockGateway.setFindByCategoryException(new ExternalApiException("Falha", 503, true));
+
+        // Act
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> gateway.findByCategory("electronics").join());
+
+        // Assert
+        assertInstanceOf(ExternalApiException.class, exception.getCause());
+    }
+}
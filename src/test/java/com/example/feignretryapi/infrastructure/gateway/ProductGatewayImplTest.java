@@ -1,17 +1,24 @@
 package com.example.feignretryapi.infrastructure.gateway;
 
 import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.domain.entity.ProductPage;
 import com.example.feignretryapi.domain.exception.ExternalApiException;
+import com.example.feignretryapi.infrastructure.client.decoder.CustomErrorDecoder;
 import com.example.feignretryapi.infrastructure.client.feign.dto.ExternalProductDto;
+import com.example.feignretryapi.infrastructure.client.retryer.CustomRetryer;
+import com.example.feignretryapi.infrastructure.client.streaming.ExternalProductStreamer;
 import com.example.feignretryapi.infrastructure.mock.MockExternalProductClient;
 import com.example.feignretryapi.infrastructure.mock.MockProductMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,7 +51,10 @@ class ProductGatewayImplTest {
         assertNotNull(result);
         assertEquals(3, result.size());
         mockClient.verifyGetAllProductsCalled(1);
-        assertEquals(1, mockMapper.getToDomainListCallCount());
+        assertEquals("Product 1", result.get(0).getName());
+        assertNotNull(result.get(0).getCreatedAt());
+        // A listagem já chega do client como Product, sem passar pelo mapper
+        assertEquals(0, mockMapper.getToDomainListCallCount());
     }
 
     @Test
@@ -115,6 +125,70 @@ class ProductGatewayImplTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    @DisplayName("findByIds - Deve buscar o lote em uma única chamada, omitindo IDs inexistentes")
+    void findByIdsShouldFetchBatchInSingleCall() {
+        // Act
+        List<Product> result = gateway.findByIds(List.of("1", "3", "999"));
+
+        // Assert
+        assertEquals(List.of("1", "3"), result.stream().map(Product::getId).toList());
+        assertEquals(1, mockClient.getGetProductsByIdsCallCount());
+        assertEquals(0, mockClient.getGetProductByIdCallCount());
+    }
+
+    @Test
+    @DisplayName("findUpdatedSince - Deve buscar apenas os produtos alterados depois da marca d'água")
+    void findUpdatedSinceShouldFetchOnlyChangedProducts() {
+        // Arrange
+        LocalDateTime since = LocalDateTime.now().plusMinutes(1);
+        String later = since.plusMinutes(1).format(DateTimeFormatter.ISO_DATE_TIME);
+        mockClient.addProduct(new ExternalProductDto("4", "Product 4", "Description 4",
+                new BigDecimal("400.00"), 40, "books", later, later));
+
+        // Act
+        List<Product> result = gateway.findUpdatedSince(since);
+
+        // Assert
+        assertEquals(List.of("4"), result.stream().map(Product::getId).toList());
+        assertEquals(since.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                mockClient.getLastGetProductsUpdatedSinceParameter());
+        assertEquals(0, mockClient.getGetAllProductsCallCount());
+    }
+
+    @Test
+    @DisplayName("streamAll - Deve mapear e entregar cada produto lido em streaming")
+    void streamAllShouldDeliverMappedProducts() {
+        // Arrange
+        ProductGatewayImpl streamingGateway = new ProductGatewayImpl(mockClient, mockMapper,
+                new ExternalProductStreamer(mockClient, new CustomErrorDecoder(), new CustomRetryer(3, 1),
+                        Jackson2ObjectMapperBuilder.json().build()), true);
+        List<Product> received = new ArrayList<>();
+
+        // Act
+        streamingGateway.streamAll(received::add);
+
+        // Assert
+        assertEquals(List.of("1", "2", "3"), received.stream().map(Product::getId).toList());
+        assertEquals(1, mockClient.getStreamAllProductsCallCount());
+        assertEquals(0, mockClient.getGetAllProductsCallCount());
+        assertEquals(0, mockMapper.getToDomainListCallCount());
+    }
+
+    @Test
+    @DisplayName("streamAll - Deve usar o findAll quando não há leitura em streaming")
+    void streamAllShouldFallBackToFindAll() {
+        // Arrange
+        List<Product> received = new ArrayList<>();
+
+        // Act
+        gateway.streamAll(received::add);
+
+        // Assert
+        assertEquals(3, received.size());
+        assertEquals(1, mockClient.getGetAllProductsCallCount());
+    }
+
     @Test
     @DisplayName("findByCategory - Deve lançar exceção quando cliente falha")
     void findByCategoryShouldThrowExceptionWhenClientFails() {
@@ -159,4 +233,96 @@ class ProductGatewayImplTest {
                             times, mockClient.getGetProductsByCategoryCallCount()));
         }
     }
+
+    @Test
+    @DisplayName("findPage - Deve pedir à API externa um produto além do limite para saber se há próxima página")
+    void findPageShouldUseUpstreamPaginationWithLookahead() {
+        // Arrange
+        ProductGatewayImpl upstreamGateway = new ProductGatewayImpl(mockClient, mockMapper, null, true);
+
+        // Act
+        ProductPage first = upstreamGateway.findPage(null, 2);
+        ProductPage last = upstreamGateway.findPage(first.nextAfterId(), 2);
+
+        // Assert
+        assertEquals(List.of("1", "2"), first.products().stream().map(Product::getId).toList());
+        assertEquals("2", first.nextAfterId());
+        assertEquals(List.of("3"), last.products().stream().map(Product::getId).toList());
+        assertFalse(last.hasNext());
+        assertEquals("2", mockClient.getLastPageAfterParameter());
+        assertEquals(3, mockClient.getLastPageLimitParameter());
+        assertEquals(2, mockClient.getGetProductsPageCallCount());
+        assertEquals(0, mockClient.getGetAllProductsCallCount());
+    }
+
+    @Test
+    @DisplayName("findPageByCategory - Deve paginar a categoria na API externa")
+    void findPageByCategoryShouldUseUpstreamPagination() {
+        // Arrange
+        ProductGatewayImpl upstreamGateway = new ProductGatewayImpl(mockClient, mockMapper, null, true);
+
+        // Act
+        ProductPage page = upstreamGateway.findPageByCategory("electronics", "1", 5);
+
+        // Assert
+        assertEquals(List.of("2"), page.products().stream().map(Product::getId).toList());
+        assertFalse(page.hasNext());
+        assertEquals("electronics", mockClient.getLastGetProductsByCategoryParameter());
+        assertEquals(0, mockClient.getGetProductsByCategoryCallCount());
+    }
+
+    @Test
+    @DisplayName("findPage - Deve paginar o catálogo completo se a API externa ignorar limit e after")
+    void findPageShouldFallBackWhenUpstreamIgnoresPagination() {
+        // Arrange
+        MockExternalProductClient unpaginatedClient = new MockExternalProductClient() {
+            @Override
+            public List<ExternalProductDto> getProductsPage(String after, int limit) {
+                super.getProductsPage(after, limit);
+                List<ExternalProductDto> all = new ArrayList<>(getProductsByIds(List.of("1", "2", "3")));
+                Collections.reverse(all);
+                return all;
+            }
+        };
+        ProductGatewayImpl upstreamGateway = new ProductGatewayImpl(unpaginatedClient, mockMapper, null, true);
+
+        // Act
+        ProductPage first = upstreamGateway.findPage(null, 2);
+        ProductPage last = upstreamGateway.findPage(first.nextAfterId(), 2);
+
+        // Assert
+        assertEquals(List.of("1", "2"), first.products().stream().map(Product::getId).toList());
+        assertEquals("2", first.nextAfterId());
+        assertEquals(List.of("3"), last.products().stream().map(Product::getId).toList());
+        assertFalse(last.hasNext());
+        assertEquals(2, unpaginatedClient.getGetProductsPageCallCount());
+        unpaginatedClient.verifyGetAllProductsCalled(2);
+    }
+
+    @Test
+    @DisplayName("findPage - Sem paginação na API externa (padrão), deve paginar o catálogo completo")
+    void findPageShouldFallBackToFullCatalogWithoutUpstreamPagination() {
+        // Act
+        ProductPage page = gateway.findPage("1", 1);
+
+        // Assert
+        assertEquals(List.of("2"), page.products().stream().map(Product::getId).toList());
+        assertEquals("2", page.nextAfterId());
+        assertEquals(0, mockClient.getGetProductsPageCallCount());
+        mockClient.verifyGetAllProductsCalled(1);
+    }
+
+    @Test
+    @DisplayName("findPage - Deve lançar ExternalApiException quando a API externa falha")
+    void findPageShouldThrowExternalApiExceptionWhenClientFails() {
+        // Arrange
+        mockClient.setFailGetProductsPageUntilAttempt(1);
+        mockClient.setErrorStatusCode(503);
+        ProductGatewayImpl upstreamGateway = new ProductGatewayImpl(mockClient, mockMapper, null, true);
+
+        // Act & Assert
+        ExternalApiException exception =
+                assertThrows(ExternalApiException.class, () -> upstreamGateway.findPage(null, 2));
+        assertEquals(503, exception.getStatusCode());
+    }
 }
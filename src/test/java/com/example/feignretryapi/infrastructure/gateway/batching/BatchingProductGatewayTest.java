@@ -0,0 +1,93 @@
+package com.example.feignretryapi.infrastructure.gateway.batching;
+
+import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.domain.exception.ExternalApiException;
+import com.example.feignretryapi.infrastructure.mock.MockProductGateway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para BatchingProductGateway.
+ */
+@DisplayName("BatchingProductGateway Tests")
+class BatchingProductGatewayTest {
+
+    private MockProductGateway mockGateway;
+    private ExecutorService executor;
+    private final AtomicInteger bulkCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        mockGateway = new MockProductGateway();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve atender findById concorrentes com uma única busca em lote")
+    void shouldServeConcurrentFindByIdWithSingleBulkCall() throws Exception {
+        // Arrange
+        BatchingProductGateway gateway = new BatchingProductGateway(mockGateway, ids -> {
+            bulkCalls.incrementAndGet();
+            return mockGateway.findAll().stream().filter(p -> ids.contains(p.getId())).toList();
+        }, 3, 1_000, executor);
+
+        // Act
+        List<Future<Optional<Product>>> futures = new ArrayList<>();
+        for (String id : List.of("1", "2", "999")) {
+            futures.add(executor.submit(() -> gateway.findById(id)));
+        }
+
+        // Assert
+        assertEquals("1", futures.get(0).get(1, TimeUnit.SECONDS).orElseThrow().getId());
+        assertEquals("2", futures.get(1).get(1, TimeUnit.SECONDS).orElseThrow().getId());
+        assertTrue(futures.get(2).get(1, TimeUnit.SECONDS).isEmpty());
+        assertEquals(1, bulkCalls.get());
+        mockGateway.verifyFindByIdCalled(0);
+    }
+
+    @Test
+    @DisplayName("Deve propagar a exceção da busca em lote sem encapsular")
+    void shouldPropagateBulkExceptionUnwrapped() {
+        // Arrange
+        BatchingProductGateway gateway = new BatchingProductGateway(mockGateway, ids -> {
+            throw new ExternalApiException("Falha ao buscar lote", 503, true);
+        }, 10, 5, executor);
+
+        // Act & Assert
+        ExternalApiException exception = assertThrows(ExternalApiException.class, () -> gateway.findById("1"));
+        assertEquals(503, exception.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Deve delegar findAll e findByCategory sem agrupar")
+    void shouldDelegateFindAllAndFindByCategory() {
+        // Arrange
+        BatchingProductGateway gateway = new BatchingProductGateway(mockGateway, ids -> List.of(), 10, 5, executor);
+
+        // Act
+        gateway.findAll();
+        gateway.findByCategory("electronics");
+
+        // Assert
+        mockGateway.verifyFindAllCalled(1);
+        mockGateway.verifyFindByCategoryCalled(1);
+    }
+}
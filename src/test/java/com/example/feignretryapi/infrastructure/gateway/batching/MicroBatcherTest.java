@@ -0,0 +1,160 @@
+package com.example.feignretryapi.infrastructure.gateway.batching;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para MicroBatcher.
+ */
+@DisplayName("MicroBatcher Tests")
+class MicroBatcherTest {
+
+    private static final long WINDOW = 50;
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve agrupar as chaves pedidas dentro da janela em um único lote")
+    void shouldGroupKeysWithinWindowIntoSingleBatch() throws Exception {
+        // Arrange
+        MicroBatcher<String, String> batcher = createBatcher(10, this::echo);
+
+        // Act
+        CompletableFuture<String> first = batcher.load("1");
+        CompletableFuture<String> second = batcher.load("2");
+        CompletableFuture<String> third = batcher.load("3");
+
+        // Assert
+        assertEquals("produto-1", first.get(1, TimeUnit.SECONDS));
+        assertEquals("produto-2", second.get(1, TimeUnit.SECONDS));
+        assertEquals("produto-3", third.get(1, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of("1", "2", "3")), batches);
+        assertEquals(1, batcher.getBatchesByWindow());
+        assertEquals(0.3, batcher.getAverageFill(), 0.0001);
+    }
+
+    @Test
+    @DisplayName("Deve despachar o lote imediatamente ao atingir o tamanho máximo")
+    void shouldDispatchImmediatelyWhenBatchIsFull() throws Exception {
+        // Arrange
+        MicroBatcher<String, String> batcher = new MicroBatcher<>(this::echo, 2, 60_000, executor);
+
+        // Act
+        CompletableFuture<String> first = batcher.load("1");
+        CompletableFuture<String> second = batcher.load("2");
+
+        // Assert
+        assertEquals("produto-1", first.get(1, TimeUnit.SECONDS));
+        assertEquals("produto-2", second.get(1, TimeUnit.SECONDS));
+        assertEquals(1, batcher.getBatchesBySize());
+        assertEquals(0, batcher.getBatchesByWindow());
+    }
+
+    @Test
+    @DisplayName("Deve compartilhar o futuro de chaves repetidas no mesmo lote")
+    void shouldShareFutureForRepeatedKeys() throws Exception {
+        // Arrange
+        MicroBatcher<String, String> batcher = createBatcher(10, this::echo);
+
+        // Act
+        CompletableFuture<String> first = batcher.load("1");
+        CompletableFuture<String> repeated = batcher.load("1");
+        first.get(1, TimeUnit.SECONDS);
+
+        // Assert
+        assertSame(first, repeated);
+        assertEquals(List.of(List.of("1")), batches);
+        assertEquals(2, batcher.getKeys());
+        assertEquals(1, batcher.getBatchedKeys());
+    }
+
+    @Test
+    @DisplayName("Deve completar com null as chaves ausentes do resultado")
+    void shouldCompleteMissingKeysWithNull() throws Exception {
+        // Arrange
+        MicroBatcher<String, String> batcher = createBatcher(10,
+                keys -> echo(keys.stream().filter(key -> !key.equals("999")).toList()));
+
+        // Act
+        CompletableFuture<String> found = batcher.load("1");
+        CompletableFuture<String> missing = batcher.load("999");
+
+        // Assert
+        assertEquals("produto-1", found.get(1, TimeUnit.SECONDS));
+        assertNull(missing.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Deve propagar a falha da carga para todos os chamadores do lote")
+    void shouldPropagateFailureToAllCallersOfBatch() {
+        // Arrange
+        IllegalStateException failure = new IllegalStateException("Falha no lote");
+        MicroBatcher<String, String> batcher = createBatcher(10, keys -> {
+            throw failure;
+        });
+
+        // Act
+        CompletableFuture<String> first = batcher.load("1");
+        CompletableFuture<String> second = batcher.load("2");
+
+        // Assert
+        ExecutionException firstException = assertThrows(ExecutionException.class,
+                () -> first.get(1, TimeUnit.SECONDS));
+        ExecutionException secondException = assertThrows(ExecutionException.class,
+                () -> second.get(1, TimeUnit.SECONDS));
+        assertSame(failure, firstException.getCause());
+        assertSame(failure, secondException.getCause());
+    }
+
+    @Test
+    @DisplayName("Deve abrir um novo lote depois que o anterior foi despachado")
+    void shouldOpenNewBatchAfterDispatch() throws Exception {
+        // Arrange
+        MicroBatcher<String, String> batcher = createBatcher(10, this::echo);
+        batcher.load("1").get(1, TimeUnit.SECONDS);
+
+        // Act
+        batcher.load("2").get(1, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(List.of(List.of("1"), List.of("2")), batches);
+    }
+
+    private MicroBatcher<String, String> createBatcher(int maxBatchSize,
+                                                       Function<List<String>, Map<String, String>> loader) {
+        return new MicroBatcher<>(keys -> {
+            batches.add(keys);
+            return loader.apply(keys);
+        }, maxBatchSize, WINDOW, executor);
+    }
+
+    private Map<String, String> echo(List<String> keys) {
+        return keys.stream().collect(Collectors.toMap(Function.identity(), key -> "produto-" + key));
+    }
+}
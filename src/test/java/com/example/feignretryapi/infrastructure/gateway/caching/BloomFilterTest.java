@@ -0,0 +1,71 @@
+package com.example.feignretryapi.infrastructure.gateway.caching;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para BloomFilter.
+ */
+@DisplayName("BloomFilter Tests")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("Não deve ter falso negativo para as chaves inseridas")
+    void shouldNotHaveFalseNegatives() {
+        // Arrange
+        List<String> keys = IntStream.range(0, 10_000).mapToObj(i -> "product-" + i).toList();
+
+        // Act
+        BloomFilter filter = BloomFilter.of(keys, 10_000, 0.01);
+
+        // Assert
+        keys.forEach(key -> assertTrue(filter.mightContain(key), key));
+        assertEquals(10_000, filter.size());
+    }
+
+    @Test
+    @DisplayName("Deve manter a taxa de falso positivo próxima da configurada")
+    void shouldKeepFalsePositiveRateNearConfigured() {
+        // Arrange
+        List<String> keys = IntStream.range(0, 10_000).mapToObj(String::valueOf).toList();
+        BloomFilter filter = BloomFilter.of(keys, 10_000, 0.01);
+
+        // Act
+        long falsePositives = IntStream.range(10_000, 110_000)
+                .mapToObj(String::valueOf)
+                .filter(filter::mightContain)
+                .count();
+
+        // Assert
+        double rate = falsePositives / 100_000.0;
+        assertTrue(rate < 0.02, "Taxa de falso positivo alta: " + rate);
+        assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.005);
+        assertEquals(7, filter.hashCount());
+    }
+
+    @Test
+    @DisplayName("Deve dimensionar pelo tamanho da coleção quando maior que o esperado")
+    void shouldSizeByCollectionWhenLargerThanExpected() {
+        // Arrange
+        List<String> keys = IntStream.range(0, 1_000).mapToObj(String::valueOf).toList();
+
+        // Act
+        BloomFilter small = BloomFilter.of(keys, 10, 0.01);
+        BloomFilter sized = BloomFilter.of(keys, 1_000, 0.01);
+
+        // Assert
+        assertEquals(sized.bitCount(), small.bitCount());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar taxa de falso positivo inválida")
+    void shouldRejectInvalidFalsePositiveRate() {
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.of(List.of(), 10, 0));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.of(List.of(), 10, 1));
+    }
+}
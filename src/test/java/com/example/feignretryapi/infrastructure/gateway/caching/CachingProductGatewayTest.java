@@ -0,0 +1,238 @@
+package com.example.feignretryapi.infrastructure.gateway.caching;
+
+import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.domain.exception.ExternalApiException;
+import com.example.feignretryapi.infrastructure.mock.MockProductGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para CachingProductGateway.
+ */
+@DisplayName("CachingProductGateway Tests")
+class CachingProductGatewayTest {
+
+    private static final long TTL = 60_000;
+    private static final long REFRESH = 10_000;
+    private static final long GRACE = 30_000;
+
+    private MockProductGateway mockGateway;
+    private final AtomicLong nanos = new AtomicLong();
+    private CachingProductGateway gateway;
+
+    private final Queue<Runnable> pendingTasks = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        mockGateway = new MockProductGateway();
+        gateway = createGateway(new CacheSettings(100, 0, TTL, 0), new CacheSettings(100, 0, TTL, 0));
+    }
+
+    @Test
+    @DisplayName("Deve consultar o gateway apenas na primeira chamada e registrar acerto e falha")
+    void shouldCallDelegateOnlyOnFirstCallAndRecordHitAndMiss() {
+        // Act
+        Optional<Product> first = gateway.findById("1");
+        Optional<Product> second = gateway.findById("1");
+
+        // Assert
+        assertEquals(first, second);
+        mockGateway.verifyFindByIdCalled(1);
+        assertEquals(1, gateway.getFindByIdCache().getCache().stats().hitCount());
+        assertEquals(1, gateway.getFindByIdCache().getCache().stats().missCount());
+    }
+
+    @Test
+    @DisplayName("Deve consultar novamente após o TTL da operação")
+    void shouldReloadAfterTtl() {
+        // Arrange
+        gateway.findAll();
+
+        // Act
+        advance(TTL + 1);
+        gateway.findAll();
+
+        // Assert
+        mockGateway.verifyFindAllCalled(2);
+    }
+
+    @Test
+    @DisplayName("Deve devolver o valor antigo e recarregar em background após o refresh-after-write")
+    void shouldServeOldValueAndRefreshAfterRefreshInterval() {
+        // Arrange
+        gateway = createDeferredGateway(new CacheSettings(100, 0, TTL, REFRESH));
+        givenVersionedProducts();
+        gateway.findById("1");
+
+        // Act
+        advance(REFRESH + 1);
+        Optional<Product> duringRefresh = gateway.findById("1");
+        pendingTasks.forEach(Runnable::run);
+        Optional<Product> afterRefresh = gateway.findById("1");
+
+        // Assert
+        assertEquals("v1", duringRefresh.orElseThrow().getName());
+        assertEquals("v2", afterRefresh.orElseThrow().getName());
+        mockGateway.verifyFindByIdCalled(2);
+    }
+
+    @Test
+    @DisplayName("Deve servir a entrada vencida imediatamente e recarregar em background no período de stale")
+    void shouldServeStaleEntryAndRevalidateWithinGracePeriod() {
+        // Arrange
+        gateway = createDeferredGateway(new CacheSettings(100, 0, TTL, 0, GRACE));
+        givenVersionedProducts();
+        gateway.findById("1");
+
+        // Act
+        advance(TTL + 1);
+        Optional<Product> stale = gateway.findById("1");
+        pendingTasks.forEach(Runnable::run);
+        Optional<Product> revalidated = gateway.findById("1");
+
+        // Assert
+        assertEquals("v1", stale.orElseThrow().getName());
+        assertEquals("v2", revalidated.orElseThrow().getName());
+        assertEquals(1, gateway.getFindByIdCache().getStaleServed());
+    }
+
+    @Test
+    @DisplayName("Deve servir o último valor conhecido quando a recarga falha no período de stale")
+    void shouldServeLastKnownGoodValueWhenRefreshFails() {
+        // Arrange
+        gateway = createDeferredGateway(new CacheSettings(100, 0, TTL, 0, GRACE));
+        gateway.findById("1");
+        mockGateway.setFindByIdException(new ExternalApiException("Serviço indisponível", 503, true));
+
+        // Act
+        advance(TTL + 1);
+        gateway.findById("1");
+        pendingTasks.forEach(Runnable::run);
+        Optional<Product> result = gateway.findById("1");
+
+        // Assert
+        assertEquals("1", result.orElseThrow().getId());
+        assertEquals(2, gateway.getFindByIdCache().getStaleServed());
+    }
+
+    @Test
+    @DisplayName("Deve propagar o erro depois do fim do período de stale")
+    void shouldPropagateErrorAfterGracePeriod() {
+        // Arrange
+        gateway = createDeferredGateway(new CacheSettings(100, 0, TTL, 0, GRACE));
+        gateway.findById("1");
+        mockGateway.setFindByIdException(new ExternalApiException("Serviço indisponível", 503, true));
+
+        // Act
+        advance(TTL + GRACE + 1);
+
+        // Assert
+        assertThrows(ExternalApiException.class, () -> gateway.findById("1"));
+    }
+
+    @Test
+    @DisplayName("Deve registrar idade e staleness do dado servido no Recorder aberto")
+    void shouldRecordFreshnessInOpenRecorder() {
+        // Arrange
+        gateway = createDeferredGateway(new CacheSettings(100, 0, TTL, 0, GRACE));
+        gateway.findById("1");
+
+        // Act
+        advance(TTL + 5_000);
+        CacheFreshness.Recorder recorder;
+        try (CacheFreshness.Recorder opened = CacheFreshness.open()) {
+            recorder = opened;
+            gateway.findById("1");
+        }
+        gateway.findById("1");
+
+        // Assert
+        CacheFreshness freshness = recorder.oldest().orElseThrow();
+        assertEquals(65, freshness.ageSeconds());
+        assertTrue(freshness.stale());
+    }
+
+    @Test
+    @DisplayName("Deve limitar o cache por categoria pelo número total de produtos")
+    void shouldBoundCategoryCacheByNumberOfProducts() {
+        // Arrange
+        gateway = createGateway(new CacheSettings(100, 0, TTL, 0), new CacheSettings(0, 2, TTL, 0));
+
+        // Act
+        gateway.findByCategory("electronics");
+        gateway.findByCategory("furniture");
+        gateway.getFindByCategoryCache().getCache().cleanUp();
+
+        // Assert
+        assertTrue(gateway.getFindByCategoryCache().getCache().policy().eviction().orElseThrow().weightedSize().getAsLong() <= 2);
+        assertTrue(gateway.getFindByCategoryCache().getCache().stats().evictionCount() >= 1);
+    }
+
+    @Test
+    @DisplayName("Não deve cachear exceções")
+    void shouldNotCacheExceptions() {
+        // Arrange
+        mockGateway.setFindAllException(new ExternalApiException("Erro", 503, true));
+        assertThrows(ExternalApiException.class, () -> gateway.findAll());
+        mockGateway.setFindAllException(null);
+
+        // Act
+        List<Product> result = gateway.findAll();
+
+        // Assert
+        assertFalse(result.isEmpty());
+        mockGateway.verifyFindAllCalled(2);
+    }
+
+    @Test
+    @DisplayName("Não deve cachear produto não encontrado")
+    void shouldNotCacheMissingProduct() {
+        // Act
+        gateway.findById("999");
+        Optional<Product> result = gateway.findById("999");
+
+        // Assert
+        assertTrue(result.isEmpty());
+        mockGateway.verifyFindByIdCalled(2);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar configuração sem limite ou com refresh maior que o TTL")
+    void shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new CacheSettings(0, 0, TTL, 0));
+        assertThrows(IllegalArgumentException.class, () -> new CacheSettings(10, 10, TTL, 0));
+        assertThrows(IllegalArgumentException.class, () -> new CacheSettings(10, 0, TTL, TTL));
+        assertThrows(IllegalArgumentException.class, () -> new CacheSettings(10, 0, TTL, 0, -1));
+    }
+
+    private CachingProductGateway createGateway(CacheSettings findByIdSettings, CacheSettings findByCategorySettings) {
+        return new CachingProductGateway(mockGateway, new CacheSettings(1, 0, TTL, 0),
+                findByIdSettings, findByCategorySettings, Runnable::run, nanos::get);
+    }
+
+    private CachingProductGateway createDeferredGateway(CacheSettings findByIdSettings) {
+        return new CachingProductGateway(mockGateway, new CacheSettings(1, 0, TTL, 0),
+                findByIdSettings, new CacheSettings(100, 0, TTL, 0), pendingTasks::add, nanos::get);
+    }
+
+    private void givenVersionedProducts() {
+        AtomicInteger version = new AtomicInteger();
+        mockGateway.setCustomFindByIdBehavior(id -> Optional.of(
+                new Product(id, "v" + version.incrementAndGet(), null, null, null, null, null, null)));
+    }
+
+    private void advance(long millis) {
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
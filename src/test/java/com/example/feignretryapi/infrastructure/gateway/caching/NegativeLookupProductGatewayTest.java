@@ -0,0 +1,139 @@
+package com.example.feignretryapi.infrastructure.gateway.caching;
+
+import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.infrastructure.mock.MockProductGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para NegativeLookupProductGateway.
+ */
+@DisplayName("NegativeLookupProductGateway Tests")
+class NegativeLookupProductGatewayTest {
+
+    private static final long NEGATIVE_TTL = 30_000;
+    private static final long BLOOM_FILTER_TTL = 60_000;
+
+    private MockProductGateway mockGateway;
+    private final AtomicLong nanos = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        mockGateway = new MockProductGateway();
+    }
+
+    @Test
+    @DisplayName("Deve responder ID inexistente do cache negativo sem nova chamada")
+    void shouldAnswerUnknownIdFromNegativeCache() {
+        // Arrange
+        NegativeLookupProductGateway gateway = createGateway(false);
+        gateway.findById("999");
+
+        // Act
+        Optional<Product> result = gateway.findById("999");
+
+        // Assert
+        assertTrue(result.isEmpty());
+        mockGateway.verifyFindByIdCalled(1);
+        assertEquals(1, gateway.getNegativeCacheRejections());
+    }
+
+    @Test
+    @DisplayName("Deve consultar novamente após o TTL do cache negativo")
+    void shouldQueryAgainAfterNegativeTtl() {
+        // Arrange
+        NegativeLookupProductGateway gateway = createGateway(false);
+        gateway.findById("999");
+        mockGateway.addProduct(new Product("999", "Novo", null, null, null, null, null, null));
+
+        // Act
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(NEGATIVE_TTL + 1));
+        Optional<Product> result = gateway.findById("999");
+
+        // Assert
+        assertTrue(result.isPresent());
+        mockGateway.verifyFindByIdCalled(2);
+    }
+
+    @Test
+    @DisplayName("Não deve usar o Bloom filter antes do primeiro catálogo completo")
+    void shouldNotUseBloomFilterBeforeFirstCatalog() {
+        // Arrange
+        NegativeLookupProductGateway gateway = createGateway(true);
+
+        // Act
+        Optional<Product> result = gateway.findById("1");
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertNull(gateway.getKnownIds());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar pelo Bloom filter IDs fora do catálogo sem chamada externa")
+    void shouldRejectIdsOutsideCatalogThroughBloomFilter() {
+        // Arrange
+        NegativeLookupProductGateway gateway = createGateway(true);
+        gateway.findAll();
+
+        // Act
+        Optional<Product> unknown = gateway.findById("scraper-123");
+        Optional<Product> known = gateway.findById("2");
+
+        // Assert
+        assertTrue(unknown.isEmpty());
+        assertTrue(known.isPresent());
+        mockGateway.verifyFindByIdCalled(1);
+        assertEquals(1, gateway.getBloomFilterRejections());
+        assertEquals(3, gateway.getKnownIds().size());
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir o Bloom filter quando o catálogo muda")
+    void shouldRebuildBloomFilterWhenCatalogChanges() {
+        // Arrange
+        NegativeLookupProductGateway gateway = createGateway(true);
+        gateway.findAll();
+        BloomFilter first = gateway.getKnownIds();
+        mockGateway.addProduct(new Product("4", "Novo", null, null, null, "electronics", null, null));
+
+        // Act
+        gateway.findAll();
+
+        // Assert
+        assertNotSame(first, gateway.getKnownIds());
+        assertTrue(gateway.findById("4").isPresent());
+    }
+
+    @Test
+    @DisplayName("Deve consultar o delegate após o TTL do Bloom filter, sem esconder produtos novos")
+    void shouldStopRejectingThroughBloomFilterAfterTtl() {
+        // Arrange
+        NegativeLookupProductGateway gateway = createGateway(true);
+        gateway.findAll();
+        mockGateway.addProduct(new Product("4", "Novo", null, null, null, "electronics", null, null));
+
+        // Act
+        Optional<Product> beforeTtl = gateway.findById("4");
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(BLOOM_FILTER_TTL + 1));
+        Optional<Product> afterTtl = gateway.findById("4");
+
+        // Assert
+        assertTrue(beforeTtl.isEmpty());
+        assertTrue(afterTtl.isPresent());
+        assertEquals(1, gateway.getBloomFilterRejections());
+        mockGateway.verifyFindByIdCalled(1);
+    }
+
+    private NegativeLookupProductGateway createGateway(boolean bloomFilterEnabled) {
+        return new NegativeLookupProductGateway(mockGateway, NEGATIVE_TTL, 1_000,
+                bloomFilterEnabled, 1_000, 0.01, BLOOM_FILTER_TTL, nanos::get);
+    }
+}
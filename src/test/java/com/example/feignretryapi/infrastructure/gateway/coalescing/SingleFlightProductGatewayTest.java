@@ -0,0 +1,202 @@
+package com.example.feignretryapi.infrastructure.gateway.coalescing;
+
+import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.domain.entity.ProductPage;
+import com.example.feignretryapi.domain.exception.ExternalApiException;
+import com.example.feignretryapi.infrastructure.mock.MockProductGateway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para SingleFlightProductGateway.
+ */
+@DisplayName("SingleFlightProductGateway Tests")
+class SingleFlightProductGatewayTest {
+
+    private static final int CALLERS = 20;
+
+    private MockProductGateway mockGateway;
+    private SingleFlightProductGateway gateway;
+    private ExecutorService executor;
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        mockGateway = new MockProductGateway();
+        gateway = new SingleFlightProductGateway(mockGateway);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve compartilhar uma única chamada entre chamadores concorrentes da mesma chave")
+    void shouldShareSingleCallBetweenConcurrentCallersOfSameKey() throws Exception {
+        // Arrange
+        mockGateway.setCustomFindByIdBehavior(id -> {
+            upstreamCalls.incrementAndGet();
+            awaitRelease();
+            return Optional.of(new Product(id, "Notebook", null, null, null, null, null, null));
+        });
+
+        // Act
+        List<Future<Optional<Product>>> futures = submitFindById("1");
+        awaitSharedCalls(CALLERS - 1);
+        release.countDown();
+
+        // Assert
+        Product first = futures.get(0).get(5, TimeUnit.SECONDS).orElseThrow();
+        for (Future<Optional<Product>> future : futures) {
+            assertSame(first, future.get(5, TimeUnit.SECONDS).orElseThrow());
+        }
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1, gateway.getFindByIdFlight().getLeaderCalls());
+        assertEquals(CALLERS - 1, gateway.getFindByIdFlight().getSharedCalls());
+        assertEquals((double) (CALLERS - 1) / CALLERS, gateway.getFindByIdFlight().getCoalescingRatio(), 0.0001);
+    }
+
+    @Test
+    @DisplayName("Deve propagar a mesma exceção para todos os chamadores coalescidos")
+    void shouldPropagateSameExceptionToAllCoalescedCallers() throws Exception {
+        // Arrange
+        ExternalApiException failure = new ExternalApiException("Serviço indisponível", 503, true);
+        mockGateway.setCustomFindByIdBehavior(id -> {
+            upstreamCalls.incrementAndGet();
+            awaitRelease();
+            throw failure;
+        });
+
+        // Act
+        List<Future<Optional<Product>>> futures = submitFindById("1");
+        awaitSharedCalls(CALLERS - 1);
+        release.countDown();
+
+        // Assert
+        for (Future<Optional<Product>> future : futures) {
+            ExecutionException exception = assertThrows(ExecutionException.class,
+                    () -> future.get(5, TimeUnit.SECONDS));
+            assertSame(failure, exception.getCause());
+        }
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    @Test
+    @DisplayName("Não deve coalescer chamadas de chaves diferentes")
+    void shouldNotCoalesceDifferentKeys() {
+        // Act
+        gateway.findById("1");
+        gateway.findById("2");
+        gateway.findByCategory("electronics");
+        gateway.findByCategory("books");
+
+        // Assert
+        mockGateway.verifyFindByIdCalled(2);
+        mockGateway.verifyFindByCategoryCalled(2);
+        assertEquals(0, gateway.getFindByIdFlight().getSharedCalls());
+        assertEquals(0, gateway.getFindByCategoryFlight().getSharedCalls());
+    }
+
+    @Test
+    @DisplayName("Deve executar nova chamada depois que a chamada em andamento termina")
+    void shouldExecuteNewCallAfterInflightCallCompletes() {
+        // Act
+        gateway.findAll();
+        gateway.findAll();
+
+        // Assert
+        mockGateway.verifyFindAllCalled(2);
+        assertEquals(2, gateway.getFindAllFlight().getLeaderCalls());
+        assertEquals(0, gateway.getFindAllFlight().getInflightKeys());
+    }
+
+    @Test
+    @DisplayName("Deve liberar a chave quando a chamada falha")
+    void shouldReleaseKeyWhenCallFails() {
+        // Arrange
+        mockGateway.setFindByCategoryException(new ExternalApiException("Erro", 500, true));
+
+        // Act
+        assertThrows(ExternalApiException.class, () -> gateway.findByCategory("electronics"));
+        mockGateway.setFindByCategoryException(null);
+        List<Product> result = gateway.findByCategory("electronics");
+
+        // Assert
+        assertFalse(result.isEmpty());
+        assertEquals(0, gateway.getFindByCategoryFlight().getInflightKeys());
+    }
+
+    @Test
+    @DisplayName("Deve coalescer páginas iguais e separar por categoria, cursor e limite")
+    void shouldCoalesceIdenticalPages() throws Exception {
+        // Arrange
+        mockGateway.setCustomFindAllBehavior(() -> {
+            upstreamCalls.incrementAndGet();
+            awaitRelease();
+            return List.of(new Product("1", "Notebook", null, null, null, null, null, null));
+        });
+        List<Future<ProductPage>> futures = new ArrayList<>(CALLERS);
+
+        // Act
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(() -> gateway.findPage(null, 20)));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (gateway.getFindPageFlight().getSharedCalls() < CALLERS - 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+        for (Future<ProductPage> future : futures) {
+            assertEquals(1, future.get(5, TimeUnit.SECONDS).products().size());
+        }
+        gateway.findPage(null, 10);
+        gateway.findPageByCategory("electronics", null, 20);
+
+        // Assert
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(3, gateway.getFindPageFlight().getLeaderCalls());
+        assertEquals(CALLERS - 1, gateway.getFindPageFlight().getSharedCalls());
+        mockGateway.verifyFindByCategoryCalled(1);
+    }
+
+    private List<Future<Optional<Product>>> submitFindById(String id) {
+        List<Future<Optional<Product>>> futures = new ArrayList<>(CALLERS);
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(() -> gateway.findById(id)));
+        }
+        return futures;
+    }
+
+    private void awaitSharedCalls(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (gateway.getFindByIdFlight().getSharedCalls() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
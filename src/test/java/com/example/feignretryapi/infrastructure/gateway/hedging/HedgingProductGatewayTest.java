@@ -0,0 +1,290 @@
+package com.example.feignretryapi.infrastructure.gateway.hedging;
+
+import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.domain.exception.ExternalApiException;
+import com.example.feignretryapi.infrastructure.client.circuitbreaker.CircuitBreaker;
+import com.example.feignretryapi.infrastructure.client.circuitbreaker.CircuitBreakerClient;
+import com.example.feignretryapi.infrastructure.client.circuitbreaker.CircuitBreakerRegistry;
+import com.example.feignretryapi.infrastructure.client.circuitbreaker.CircuitBreakerSettings;
+import com.example.feignretryapi.infrastructure.client.circuitbreaker.CircuitState;
+import com.example.feignretryapi.infrastructure.client.limiter.ConcurrencyLimitClient;
+import com.example.feignretryapi.infrastructure.client.limiter.ConcurrencyLimiter;
+import com.example.feignretryapi.infrastructure.client.limiter.ConcurrencyLimiterSettings;
+import com.example.feignretryapi.infrastructure.client.retryer.RetryBudget;
+import com.example.feignretryapi.infrastructure.mock.MockProductGateway;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para HedgingProductGateway.
+ */
+@DisplayName("HedgingProductGateway Tests")
+class HedgingProductGatewayTest {
+
+    private static final long HEDGE_DELAY = 50;
+
+    private MockProductGateway mockGateway;
+    private ExecutorService executor;
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        mockGateway = new MockProductGateway();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Não deve disparar hedge quando a primeira tentativa responde a tempo")
+    void shouldNotHedgeWhenPrimaryIsFast() {
+        // Arrange
+        HedgingProductGateway gateway = createGateway(new RetryBudget(1.0, 0, 10));
+
+        // Act
+        Optional<Product> result = gateway.findById("1");
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals(1, mockGateway.getFindByIdCallCount());
+        assertEquals(0, gateway.getHedgesFired());
+        assertEquals(1, gateway.getPrimaryWins());
+    }
+
+    @Test
+    @DisplayName("Deve disparar hedge e usar a resposta mais rápida quando a primeira tentativa demora")
+    void shouldHedgeAndUseFastestResponseWhenPrimaryIsSlow() {
+        // Arrange
+        CountDownLatch primaryInterrupted = new CountDownLatch(1);
+        mockGateway.setCustomFindByIdBehavior(id -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleepUntilInterrupted(primaryInterrupted);
+            }
+            return Optional.of(new Product(id, "Hedge", null, null, null, null, null, null));
+        });
+        HedgingProductGateway gateway = createGateway(new RetryBudget(1.0, 0, 10));
+        long start = System.nanoTime();
+
+        // Act
+        Optional<Product> result = gateway.findById("1");
+
+        // Assert
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertEquals("Hedge", result.orElseThrow().getName());
+        assertTrue(elapsed < 1_000, "Hedge deveria responder rápido, mas levou " + elapsed + "ms");
+        assertEquals(1, gateway.getHedgesFired());
+        assertEquals(1, gateway.getHedgeWins());
+        assertDoesNotThrow(() -> assertTrue(primaryInterrupted.await(1, TimeUnit.SECONDS),
+                "A tentativa perdedora deveria ser cancelada"));
+    }
+
+    @Test
+    @DisplayName("Não deve contar a tentativa cancelada pelo hedge no circuit breaker nem no limitador")
+    void shouldNotCountCancelledLoserInBreakerOrLimiter() throws InterruptedException {
+        // Arrange
+        CircuitBreakerRegistry registry = new CircuitBreakerRegistry(
+                new CircuitBreakerSettings(4, 2, 50, 100, 10_000, 60_000, 1));
+        AtomicInteger drops = new AtomicInteger();
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new ConcurrencyLimiterSettings(10, 1, 10, 0, 0),
+                (limit, rtt, inflight, dropped) -> {
+                    if (dropped) {
+                        drops.incrementAndGet();
+                    }
+                    return limit;
+                });
+        Client transport = (request, options) -> {
+            if (attempts.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    // como uma virtual thread interrompida durante a leitura do socket
+                    Thread.currentThread().interrupt();
+                    throw new SocketException("Closed by interrupt");
+                }
+            }
+            return Response.builder()
+                    .status(200)
+                    .reason("OK")
+                    .request(request)
+                    .headers(Collections.emptyMap())
+                    .build();
+        };
+        Client client = new ConcurrencyLimitClient(new CircuitBreakerClient(transport, registry), limiter);
+        CountDownLatch loserFinished = new CountDownLatch(1);
+        mockGateway.setCustomFindByIdBehavior(id -> {
+            try (Response response = client.execute(createRequest(), new Request.Options())) {
+                return Optional.of(new Product(id, "Hedge", null, null, null, null, null, null));
+            } catch (IOException e) {
+                loserFinished.countDown();
+                throw new UncheckedIOException(e);
+            }
+        });
+        HedgingProductGateway gateway = createGateway(new RetryBudget(1.0, 0, 10));
+
+        // Act
+        Optional<Product> result = gateway.findById("1");
+
+        // Assert
+        assertEquals("Hedge", result.orElseThrow().getName());
+        assertEquals(1, gateway.getHedgeWins());
+        assertTrue(loserFinished.await(1, TimeUnit.SECONDS), "A tentativa perdedora deveria ser cancelada");
+        CircuitBreaker circuitBreaker = registry.circuitBreaker("GET " + createRequest().url());
+        assertEquals(CircuitState.CLOSED, circuitBreaker.getState());
+        assertEquals(0, circuitBreaker.getFailureRate());
+        assertEquals(0, drops.get());
+        assertEquals(0, limiter.getInflight());
+    }
+
+    @Test
+    @DisplayName("Deve registrar a tentativa cancelada com ao menos a espera do hedge")
+    void shouldRecordCancelledLoserAtLeastAsHedgeDelay() throws InterruptedException {
+        // Arrange
+        CountDownLatch hedgeInterrupted = new CountDownLatch(1);
+        mockGateway.setCustomFindByIdBehavior(id -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleep(HEDGE_DELAY + 10);
+            } else {
+                sleepUntilInterrupted(hedgeInterrupted);
+            }
+            return Optional.of(new Product(id, "Primária", null, null, null, null, null, null));
+        });
+        LatencyPercentileTracker tracker = new LatencyPercentileTracker(0.01, 100, 1, 1);
+        HedgingProductGateway gateway = new HedgingProductGateway(mockGateway, executor, tracker,
+                new RetryBudget(1.0, 0, 10), HEDGE_DELAY, HEDGE_DELAY);
+
+        // Act
+        Optional<Product> result = gateway.findById("1");
+
+        // Assert
+        assertEquals("Primária", result.orElseThrow().getName());
+        assertTrue(hedgeInterrupted.await(1, TimeUnit.SECONDS), "O hedge perdedor deveria ser cancelado");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (tracker.getRecordedSamples() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(2, tracker.getRecordedSamples());
+        // a menor amostra é o hedge cancelado após ~10ms, registrado com a espera do hedge
+        assertTrue(tracker.getPercentileNanos() >= TimeUnit.MILLISECONDS.toNanos(HEDGE_DELAY));
+    }
+
+    @Test
+    @DisplayName("Não deve disparar hedge quando o orçamento está esgotado")
+    void shouldNotHedgeWhenBudgetIsExhausted() {
+        // Arrange
+        mockGateway.setCustomFindByIdBehavior(id -> {
+            attempts.incrementAndGet();
+            sleep(HEDGE_DELAY * 3);
+            return Optional.empty();
+        });
+        HedgingProductGateway gateway = createGateway(new RetryBudget(0, 0, 0));
+
+        // Act
+        Optional<Product> result = gateway.findById("1");
+
+        // Assert
+        assertTrue(result.isEmpty());
+        assertEquals(1, attempts.get());
+        assertEquals(0, gateway.getHedgesFired());
+        assertEquals(1, gateway.getHedgesRejected());
+    }
+
+    @Test
+    @DisplayName("Deve usar o hedge quando a primeira tentativa falha após o disparo")
+    void shouldUseHedgeWhenPrimaryFailsAfterHedging() {
+        // Arrange
+        mockGateway.setCustomFindByIdBehavior(id -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleep(HEDGE_DELAY * 2);
+                throw new ExternalApiException("Falha", 500, false);
+            }
+            sleep(HEDGE_DELAY * 4);
+            return Optional.of(new Product(id, "Hedge", null, null, null, null, null, null));
+        });
+        HedgingProductGateway gateway = createGateway(new RetryBudget(1.0, 0, 10));
+
+        // Act
+        Optional<Product> result = gateway.findById("1");
+
+        // Assert
+        assertEquals("Hedge", result.orElseThrow().getName());
+        assertEquals(1, gateway.getHedgeWins());
+        assertEquals(0, gateway.getPrimaryWins());
+        assertEquals(1, gateway.getPrimaryFailures());
+    }
+
+    @Test
+    @DisplayName("Deve propagar a exceção quando a primeira tentativa falha antes do hedge")
+    void shouldPropagateExceptionWhenPrimaryFailsBeforeHedge() {
+        // Arrange
+        mockGateway.setFindByIdException(new ExternalApiException("Falha", 500, false));
+        HedgingProductGateway gateway = createGateway(new RetryBudget(1.0, 0, 10));
+
+        // Act & Assert
+        assertThrows(ExternalApiException.class, () -> gateway.findById("1"));
+        assertEquals(0, gateway.getHedgesFired());
+        assertEquals(0, gateway.getPrimaryWins());
+        assertEquals(1, gateway.getPrimaryFailures());
+    }
+
+    @Test
+    @DisplayName("Deve delegar findAll e findByCategory sem hedging")
+    void shouldDelegateOtherMethods() {
+        // Arrange
+        HedgingProductGateway gateway = createGateway(new RetryBudget(1.0, 0, 10));
+
+        // Act & Assert
+        assertEquals(3, gateway.findAll().size());
+        assertEquals(2, gateway.findByCategory("electronics").size());
+        assertEquals(0, gateway.getHedgesFired());
+    }
+
+    private static Request createRequest() {
+        return Request.create(Request.HttpMethod.GET, "http://localhost:8081/api/products/1",
+                Collections.emptyMap(), null, StandardCharsets.UTF_8, new RequestTemplate());
+    }
+
+    private HedgingProductGateway createGateway(RetryBudget budget) {
+        return new HedgingProductGateway(mockGateway, executor,
+                new LatencyPercentileTracker(0.95, 100, 10, 10), budget, HEDGE_DELAY, HEDGE_DELAY);
+    }
+
+    private static void sleepUntilInterrupted(CountDownLatch interrupted) {
+        try {
+            Thread.sleep(10_000);
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.feignretryapi.infrastructure.gateway.hedging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para LatencyPercentileTracker.
+ */
+@DisplayName("LatencyPercentileTracker Tests")
+class LatencyPercentileTrackerTest {
+
+    @Test
+    @DisplayName("Deve retornar -1 enquanto não houver o mínimo de amostras")
+    void shouldReturnMinusOneBeforeMinimumSamples() {
+        // Arrange
+        LatencyPercentileTracker tracker = new LatencyPercentileTracker(0.95, 100, 10, 10);
+
+        // Act
+        for (int i = 0; i < 9; i++) {
+            tracker.record(1_000);
+        }
+
+        // Assert
+        assertEquals(-1, tracker.getPercentileNanos());
+    }
+
+    @Test
+    @DisplayName("Deve calcular o percentil das amostras")
+    void shouldComputePercentile() {
+        // Arrange
+        LatencyPercentileTracker tracker = new LatencyPercentileTracker(0.95, 100, 10, 100);
+
+        // Act
+        for (int i = 1; i <= 100; i++) {
+            tracker.record(i);
+        }
+
+        // Assert
+        assertEquals(95, tracker.getPercentileNanos());
+    }
+
+    @Test
+    @DisplayName("Deve considerar apenas as amostras recentes da janela")
+    void shouldOnlyConsiderRecentSamples() {
+        // Arrange
+        LatencyPercentileTracker tracker = new LatencyPercentileTracker(0.5, 10, 10, 10);
+        for (int i = 0; i < 10; i++) {
+            tracker.record(1_000_000);
+        }
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            tracker.record(10);
+        }
+
+        // Assert
+        assertEquals(10, tracker.getPercentileNanos());
+        assertEquals(20, tracker.getRecordedSamples());
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.feignretryapi.infrastructure.gateway.snapshot;
+
+import com.example.feignretryapi.domain.entity.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para CatalogSnapshotStore.
+ */
+@DisplayName("CatalogSnapshotStore Tests")
+class CatalogSnapshotStoreTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-16T12:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+    private CatalogSnapshotStore store;
+    private CatalogSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        file = directory.resolve("catalog.snapshot");
+        store = new CatalogSnapshotStore(file, Duration.ofHours(1), Clock.fixed(NOW, ZoneOffset.UTC));
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 10, 16, 11, 59, 30, 123_456_789);
+        snapshot = CatalogSnapshot.of(List.of(
+                new Product("1", "Notebook Dell XPS 15", "Tela 4K", new BigDecimal("8999.99"), 10,
+                        "electronics", updatedAt.minusDays(1), updatedAt),
+                new Product("2", "Cadeira ção", null, null, null, null, null, null)), 7, NOW.minusSeconds(30));
+    }
+
+    @Test
+    @DisplayName("Deve restaurar a foto gravada com todos os campos e a versão")
+    void shouldRoundTripSnapshot() {
+        // Arrange
+        store.save(snapshot);
+
+        // Act
+        CatalogSnapshot loaded = store.load().orElseThrow();
+
+        // Assert
+        assertEquals(7, loaded.getVersion());
+        assertEquals(snapshot.getCreatedAt().toEpochMilli(), loaded.getCreatedAt().toEpochMilli());
+        assertEquals(snapshot.getHighWaterMark(), loaded.getHighWaterMark());
+        Product notebook = loaded.findById("1");
+        assertEquals("Notebook Dell XPS 15", notebook.getName());
+        assertEquals(new BigDecimal("8999.99"), notebook.getPrice());
+        assertEquals(10, notebook.getQuantity());
+        assertEquals(snapshot.findById("1").getCreatedAt(), notebook.getCreatedAt());
+        Product chair = loaded.findById("2");
+        assertEquals("Cadeira ção", chair.getName());
+        assertNull(chair.getPrice());
+        assertNull(chair.getQuantity());
+        assertNull(chair.getUpdatedAt());
+        assertEquals(1, loaded.findByCategory("electronics").size());
+        assertEquals(1, store.getSaveSuccesses());
+        assertEquals(1, store.getLoadSuccesses());
+    }
+
+    @Test
+    @DisplayName("Deve preservar o instante da última carga completa de uma foto derivada por delta")
+    void shouldRoundTripFullSyncInstantOfDeltaSnapshot() {
+        // Arrange
+        CatalogSnapshot delta = snapshot.withChanges(
+                List.of(new Product("3", "Mesa", null, null, null, "furniture", null, null)), 8, NOW);
+        store.save(delta);
+
+        // Act
+        CatalogSnapshot loaded = store.load().orElseThrow();
+
+        // Assert
+        assertEquals(NOW, loaded.getCreatedAt());
+        assertEquals(NOW.minusSeconds(30), loaded.getFullSyncAt());
+        assertEquals(3, loaded.size());
+    }
+
+    @Test
+    @DisplayName("Deve substituir o arquivo sem deixar temporários no diretório")
+    void shouldReplaceFileWithoutLeavingTemporaries() throws IOException {
+        // Arrange
+        store.save(snapshot);
+
+        // Act
+        store.save(snapshot.withChanges(List.of(new Product("3", "Novo", null, null, null, "books", null, null)),
+                8, NOW));
+
+        // Assert
+        try (var files = Files.list(directory)) {
+            assertEquals(List.of(file), files.toList());
+        }
+        assertEquals(8, store.load().orElseThrow().getVersion());
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio sem registrar falha quando não há arquivo")
+    void shouldReturnEmptyWhenFileIsMissing() {
+        // Act
+        Optional<CatalogSnapshot> loaded = store.load();
+
+        // Assert
+        assertTrue(loaded.isEmpty());
+        assertEquals(0, store.getLoadFailures());
+    }
+
+    @Test
+    @DisplayName("Deve descartar arquivo com corpo corrompido pelo checksum")
+    void shouldRejectCorruptedBody() throws IOException {
+        // Arrange
+        store.save(snapshot);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x5A;
+        Files.write(file, bytes);
+
+        // Act
+        Optional<CatalogSnapshot> loaded = store.load();
+
+        // Assert
+        assertTrue(loaded.isEmpty());
+        assertEquals(1, store.getLoadFailures());
+    }
+
+    @Test
+    @DisplayName("Deve descartar arquivo truncado, como uma escrita interrompida")
+    void shouldRejectTruncatedFile() throws IOException {
+        // Arrange
+        store.save(snapshot);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, java.util.Arrays.copyOf(bytes, bytes.length - 10));
+
+        // Act & Assert
+        assertTrue(store.load().isEmpty());
+        assertEquals(1, store.getLoadFailures());
+    }
+
+    @Test
+    @DisplayName("Deve descartar arquivo de outro formato")
+    void shouldRejectUnknownFormatVersion() throws IOException {
+        // Arrange
+        store.save(snapshot);
+        byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer.wrap(bytes).putInt(4, CatalogSnapshotStore.FORMAT_VERSION + 1);
+        Files.write(file, bytes);
+
+        // Act & Assert
+        assertTrue(store.load().isEmpty());
+        assertEquals(1, store.getLoadFailures());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar foto mais velha que a idade máxima")
+    void shouldIgnoreSnapshotOlderThanMaxAge() {
+        // Arrange
+        store.save(CatalogSnapshot.of(snapshot.findAll(), 7, NOW.minus(Duration.ofHours(2))));
+
+        // Act & Assert
+        assertTrue(store.load().isEmpty());
+        assertEquals(0, store.getLoadFailures());
+    }
+}
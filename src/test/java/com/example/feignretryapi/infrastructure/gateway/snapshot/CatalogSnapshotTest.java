@@ -0,0 +1,201 @@
+package com.example.feignretryapi.infrastructure.gateway.snapshot;
+
+import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.domain.entity.ProductPage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para CatalogSnapshot.
+ */
+@DisplayName("CatalogSnapshot Tests")
+class CatalogSnapshotTest {
+
+    private static final List<Product> PRODUCTS = List.of(
+            product("1", "Electronics"),
+            product("2", "electronics "),
+            product("3", "furniture"),
+            product("4", null));
+
+    @Test
+    @DisplayName("Deve indexar os produtos por ID")
+    void shouldIndexProductsById() {
+        // Act
+        CatalogSnapshot snapshot = CatalogSnapshot.of(PRODUCTS, 1, Instant.EPOCH);
+
+        // Assert
+        assertSame(PRODUCTS.get(2), snapshot.findById("3"));
+        assertNull(snapshot.findById("999"));
+        assertEquals(4, snapshot.size());
+    }
+
+    @Test
+    @DisplayName("Deve indexar por categoria normalizada, preservando a ordem do catálogo")
+    void shouldIndexByNormalizedCategory() {
+        // Act
+        CatalogSnapshot snapshot = CatalogSnapshot.of(PRODUCTS, 1, Instant.EPOCH);
+
+        // Assert
+        assertEquals(List.of("1", "2"), snapshot.findByCategory(" ELECTRONICS").stream().map(Product::getId).toList());
+        assertEquals(1, snapshot.findByCategory("Furniture").size());
+        assertTrue(snapshot.findByCategory("books").isEmpty());
+        assertEquals(2, snapshot.categoryCount());
+    }
+
+    @Test
+    @DisplayName("Deve ser imutável e independente da lista de origem")
+    void shouldBeImmutableAndIndependentOfSource() {
+        // Arrange
+        List<Product> source = new ArrayList<>(PRODUCTS);
+        CatalogSnapshot snapshot = CatalogSnapshot.of(source, 1, Instant.EPOCH);
+
+        // Act
+        source.clear();
+
+        // Assert
+        assertEquals(4, snapshot.findAll().size());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.findAll().clear());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.findByCategory("furniture").clear());
+    }
+
+    @Test
+    @DisplayName("withChanges - Deve substituir na mesma posição, acrescentar novos e mover de categoria")
+    void withChangesShouldMergeChanges() {
+        // Arrange
+        CatalogSnapshot snapshot = CatalogSnapshot.of(PRODUCTS, 1, Instant.EPOCH);
+        Product moved = product("2", "furniture");
+        Product added = product("5", "books");
+
+        // Act
+        CatalogSnapshot merged = snapshot.withChanges(List.of(moved, added), 2, Instant.EPOCH);
+
+        // Assert
+        assertEquals(List.of("1", "2", "3", "4", "5"), merged.findAll().stream().map(Product::getId).toList());
+        assertSame(moved, merged.findById("2"));
+        assertEquals(List.of("1"), merged.findByCategory("electronics").stream().map(Product::getId).toList());
+        assertEquals(List.of("3", "2"), merged.findByCategory("furniture").stream().map(Product::getId).toList());
+        assertEquals(1, merged.findByCategory("books").size());
+        assertEquals(2, merged.getVersion());
+        assertEquals(4, snapshot.size());
+        assertSame(PRODUCTS.get(1), snapshot.findById("2"));
+    }
+
+    @Test
+    @DisplayName("withChanges - Deve compartilhar as categorias não afetadas e remover as que esvaziam")
+    void withChangesShouldShareUnaffectedCategories() {
+        // Arrange
+        CatalogSnapshot snapshot = CatalogSnapshot.of(PRODUCTS, 1, Instant.EPOCH);
+
+        // Act
+        CatalogSnapshot merged = snapshot.withChanges(List.of(product("3", "electronics")), 2, Instant.EPOCH);
+
+        // Assert
+        assertSame(snapshot.findByCategory("electronics").get(0), merged.findByCategory("electronics").get(0));
+        assertEquals(3, merged.findByCategory("electronics").size());
+        assertTrue(merged.findByCategory("furniture").isEmpty());
+        assertEquals(1, merged.categoryCount());
+    }
+
+    @Test
+    @DisplayName("Deve acompanhar o maior updated_at como marca d'água")
+    void shouldTrackHighWaterMark() {
+        // Arrange
+        LocalDateTime t1 = LocalDateTime.of(2026, 1, 1, 10, 0);
+        LocalDateTime t2 = t1.plusHours(1);
+        CatalogSnapshot snapshot = CatalogSnapshot.of(
+                List.of(product("1", "electronics", t1), product("2", "electronics", null)), 1, Instant.EPOCH);
+
+        // Act
+        CatalogSnapshot merged = snapshot.withChanges(List.of(product("2", "electronics", t2)), 2, Instant.EPOCH);
+
+        // Assert
+        assertEquals(t1, snapshot.getHighWaterMark());
+        assertEquals(t2, merged.getHighWaterMark());
+        assertNull(CatalogSnapshot.of(PRODUCTS, 1, Instant.EPOCH).getHighWaterMark());
+    }
+
+    @Test
+    @DisplayName("findPage - Deve percorrer o catálogo em ordem de ID, página a página")
+    void findPageShouldWalkCatalogInIdOrder() {
+        // Arrange
+        CatalogSnapshot snapshot = CatalogSnapshot.of(
+                List.of(product("c", "x"), product("a", "x"), product("e", "y"), product("b", "y"), product("d", "x")),
+                1, Instant.EPOCH);
+        List<String> visited = new ArrayList<>();
+
+        // Act
+        ProductPage page = snapshot.findPage(null, 2);
+        int pages = 1;
+        page.products().forEach(p -> visited.add(p.getId()));
+        while (page.hasNext()) {
+            page = snapshot.findPage(page.nextAfterId(), 2);
+            page.products().forEach(p -> visited.add(p.getId()));
+            pages++;
+        }
+
+        // Assert
+        assertEquals(List.of("a", "b", "c", "d", "e"), visited);
+        assertEquals(3, pages);
+        assertFalse(snapshot.findPage("d", 1).hasNext());
+        assertTrue(snapshot.findPage("e", 10).products().isEmpty());
+    }
+
+    @Test
+    @DisplayName("findPage - Deve continuar do cursor mesmo se o produto do cursor foi removido ou há novos")
+    void findPageShouldResumeFromCursorAcrossChanges() {
+        // Arrange
+        CatalogSnapshot snapshot = CatalogSnapshot.of(
+                List.of(product("1", "electronics"), product("3", "electronics"), product("5", "furniture")),
+                1, Instant.EPOCH);
+        String cursor = snapshot.findPage(null, 1).nextAfterId();
+
+        // Act
+        CatalogSnapshot merged = snapshot.withChanges(
+                List.of(product("2", "electronics"), product("4", "furniture"), product("3", "furniture")),
+                2, Instant.EPOCH);
+
+        // Assert
+        assertEquals(List.of("2", "3", "4"), ids(merged.findPage(cursor, 3)));
+        assertEquals(List.of("1", "2"), ids(merged.findPageByCategory("Electronics", null, 5)));
+        assertEquals(List.of("4", "5"), ids(merged.findPageByCategory("furniture", "3", 5)));
+        assertEquals(List.of("3", "5"), ids(snapshot.findPage("2", 5)));
+        assertTrue(merged.findPageByCategory("books", null, 5).products().isEmpty());
+    }
+
+    @Test
+    @DisplayName("withChanges - Deve intercalar novos fora de ordem na ordem por ID, como uma ordenação completa")
+    void withChangesShouldMergeUnsortedAdditionsInIdOrder() {
+        // Arrange
+        CatalogSnapshot snapshot = CatalogSnapshot.of(
+                List.of(product("b", "x"), product("d", "y"), product("f", "x")), 1, Instant.EPOCH);
+
+        // Act
+        CatalogSnapshot merged = snapshot.withChanges(
+                List.of(product("g", "x"), product("a", "y"), product("e", "x"), product("c", "y"), product("d", "x")),
+                2, Instant.EPOCH);
+
+        // Assert
+        assertEquals(List.of("a", "b", "c", "d", "e", "f", "g"), ids(merged.findPage(null, 10)));
+        assertEquals(List.of("b", "d", "e", "f", "g"), ids(merged.findPageByCategory("x", null, 10)));
+        assertEquals(List.of("a", "c"), ids(merged.findPageByCategory("y", null, 10)));
+    }
+
+    private static List<String> ids(ProductPage page) {
+        return page.products().stream().map(Product::getId).toList();
+    }
+
+    private static Product product(String id, String category) {
+        return product(id, category, null);
+    }
+
+    private static Product product(String id, String category, LocalDateTime updatedAt) {
+        return new Product(id, "Produto " + id, null, null, null, category, null, updatedAt);
+    }
+}
@@ -0,0 +1,382 @@
+package com.example.feignretryapi.infrastructure.gateway.snapshot;
+
+import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.domain.exception.ExternalApiException;
+import com.example.feignretryapi.infrastructure.mock.MockProductGateway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para SnapshotProductGateway.
+ */
+@DisplayName("SnapshotProductGateway Tests")
+class SnapshotProductGatewayTest {
+
+    private MockProductGateway mockGateway;
+    private SnapshotProductGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        mockGateway = new MockProductGateway();
+        gateway = new SnapshotProductGateway(mockGateway, Duration.ofHours(1),
+                Clock.fixed(Instant.parse("2026-10-16T12:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        gateway.close();
+    }
+
+    @Test
+    @DisplayName("Deve servir findAll, findById e findByCategory da foto sem chamadas externas")
+    void shouldServeAllOperationsFromSnapshot() {
+        // Arrange
+        gateway.refresh();
+
+        // Act
+        int all = gateway.findAll().size();
+        Product product = gateway.findById("2").orElseThrow();
+        int electronics = gateway.findByCategory("Electronics").size();
+
+        // Assert
+        assertEquals(3, all);
+        assertEquals("Product 2", product.getName());
+        assertEquals(2, electronics);
+        assertTrue(gateway.findById("999").isEmpty());
+        mockGateway.verifyFindAllCalled(1);
+        mockGateway.verifyFindByIdCalled(0);
+        mockGateway.verifyFindByCategoryCalled(0);
+    }
+
+    @Test
+    @DisplayName("Deve consultar o delegate enquanto nenhuma foto foi carregada")
+    void shouldUseDelegateBeforeFirstSnapshot() {
+        // Act
+        gateway.findById("1");
+        gateway.findByCategory("electronics");
+
+        // Assert
+        mockGateway.verifyFindByIdCalled(1);
+        mockGateway.verifyFindByCategoryCalled(1);
+        assertEquals(-1, gateway.getSnapshotAgeSeconds());
+    }
+
+    @Test
+    @DisplayName("Deve trocar a foto a cada recarga, incrementando a versão")
+    void shouldSwapSnapshotOnEachRefresh() {
+        // Arrange
+        gateway.refresh();
+        CatalogSnapshot first = gateway.getSnapshot();
+        mockGateway.addProduct(new Product("4", "Novo", null, null, null, "books", null, null));
+
+        // Act
+        boolean swapped = gateway.refresh();
+
+        // Assert
+        assertTrue(swapped);
+        assertNotSame(first, gateway.getSnapshot());
+        assertEquals(2, gateway.getSnapshot().getVersion());
+        assertEquals(1, gateway.findByCategory("books").size());
+        assertEquals(2, gateway.getRefreshSuccesses());
+    }
+
+    @Test
+    @DisplayName("Deve manter a foto anterior quando a recarga falha")
+    void shouldKeepPreviousSnapshotWhenRefreshFails() {
+        // Arrange
+        gateway.refresh();
+        CatalogSnapshot first = gateway.getSnapshot();
+        mockGateway.setFindAllException(new ExternalApiException("Serviço indisponível", 503, true));
+
+        // Act
+        boolean swapped = gateway.refresh();
+
+        // Assert
+        assertFalse(swapped);
+        assertSame(first, gateway.getSnapshot());
+        assertEquals(3, gateway.findAll().size());
+        assertEquals(1, gateway.getRefreshFailures());
+    }
+
+    @Test
+    @DisplayName("Deve carregar a primeira foto em background ao iniciar")
+    void shouldLoadFirstSnapshotInBackgroundOnStart() throws InterruptedException {
+        // Act
+        gateway.start();
+
+        // Assert
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (gateway.getSnapshot() == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertNotNull(gateway.getSnapshot());
+        assertEquals(0, gateway.getSnapshotAgeSeconds());
+    }
+
+    @Test
+    @DisplayName("Delta - Deve aplicar apenas os produtos alterados desde a marca d'água")
+    void shouldApplyDeltaSinceHighWaterMark() {
+        // Arrange
+        DeltaSource delta = new DeltaSource();
+        SnapshotProductGateway deltaGateway = deltaGateway(delta, new MutableClock());
+        deltaGateway.refresh();
+        LocalDateTime highWaterMark = deltaGateway.getSnapshot().getHighWaterMark();
+        Product changed = new Product("2", "Product 2 v2", null, null, null, "furniture", null,
+                highWaterMark.plusSeconds(1));
+        delta.changes = List.of(changed);
+
+        // Act
+        boolean updated = deltaGateway.refresh();
+
+        // Assert
+        assertTrue(updated);
+        assertEquals(List.of(highWaterMark), delta.requests);
+        assertEquals("Product 2 v2", deltaGateway.findById("2").orElseThrow().getName());
+        assertEquals(2, deltaGateway.findByCategory("furniture").size());
+        assertEquals(2, deltaGateway.getSnapshot().getVersion());
+        assertEquals(changed.getUpdatedAt(), deltaGateway.getSnapshot().getHighWaterMark());
+        assertEquals(1, deltaGateway.getFullSyncs());
+        assertEquals(1, deltaGateway.getDeltaSyncs());
+        assertEquals(1, deltaGateway.getDeltaChanges());
+        mockGateway.verifyFindAllCalled(1);
+    }
+
+    @Test
+    @DisplayName("Delta - Deve aplicar alteração com updated_at igual à marca d'água e ignorar reenvios iguais")
+    void shouldApplyChangeAtHighWaterMarkTimestamp() {
+        // Arrange
+        DeltaSource delta = new DeltaSource();
+        SnapshotProductGateway deltaGateway = deltaGateway(delta, new MutableClock());
+        deltaGateway.refresh();
+        CatalogSnapshot first = deltaGateway.getSnapshot();
+        LocalDateTime highWaterMark = first.getHighWaterMark();
+        Product unchanged = first.findById("1");
+        Product changedAtMark = new Product("2", "Product 2 v2", null, null, null, "electronics", null,
+                highWaterMark);
+        delta.changes = List.of(unchanged);
+        deltaGateway.refresh();
+        CatalogSnapshot afterResend = deltaGateway.getSnapshot();
+        delta.changes = List.of(unchanged, changedAtMark);
+
+        // Act
+        deltaGateway.refresh();
+
+        // Assert
+        assertSame(first, afterResend);
+        assertEquals(List.of(highWaterMark, highWaterMark), delta.requests);
+        assertEquals("Product 2 v2", deltaGateway.findById("2").orElseThrow().getName());
+        assertEquals(2, deltaGateway.getSnapshot().getVersion());
+        assertEquals(1, deltaGateway.getDeltaChanges());
+        assertEquals(1, deltaGateway.getFullSyncs());
+    }
+
+    @Test
+    @DisplayName("Delta - Delta vazio deve confirmar a foto sem trocar a versão")
+    void emptyDeltaShouldKeepSnapshotVersion() {
+        // Arrange
+        MutableClock clock = new MutableClock();
+        SnapshotProductGateway deltaGateway = deltaGateway(new DeltaSource(), clock);
+        deltaGateway.refresh();
+        CatalogSnapshot first = deltaGateway.getSnapshot();
+        clock.advance(Duration.ofSeconds(30));
+
+        // Act
+        deltaGateway.refresh();
+
+        // Assert
+        assertSame(first, deltaGateway.getSnapshot());
+        assertEquals(0, deltaGateway.getSnapshotAgeSeconds());
+        assertEquals(1, deltaGateway.getDeltaSyncs());
+    }
+
+    @Test
+    @DisplayName("Delta - Deve refazer a carga completa após o intervalo de ressincronização")
+    void shouldFullResyncAfterInterval() {
+        // Arrange
+        MutableClock clock = new MutableClock();
+        DeltaSource delta = new DeltaSource();
+        SnapshotProductGateway deltaGateway = deltaGateway(delta, clock);
+        deltaGateway.refresh();
+        deltaGateway.refresh();
+        clock.advance(Duration.ofMinutes(10));
+
+        // Act
+        deltaGateway.refresh();
+
+        // Assert
+        assertEquals(1, delta.requests.size());
+        assertEquals(2, deltaGateway.getFullSyncs());
+        mockGateway.verifyFindAllCalled(2);
+    }
+
+    @Test
+    @DisplayName("Delta - Falha no delta deve antecipar a carga completa")
+    void deltaFailureShouldTriggerFullResync() {
+        // Arrange
+        DeltaSource delta = new DeltaSource();
+        SnapshotProductGateway deltaGateway = deltaGateway(delta, new MutableClock());
+        deltaGateway.refresh();
+        delta.failure = new ExternalApiException("Serviço indisponível", 503, true);
+        deltaGateway.refresh();
+        delta.failure = null;
+
+        // Act
+        deltaGateway.refresh();
+
+        // Assert
+        assertEquals(1, deltaGateway.getRefreshFailures());
+        assertEquals(2, deltaGateway.getFullSyncs());
+        assertEquals(1, delta.requests.size());
+    }
+
+    @Test
+    @DisplayName("Delta - Produto alterado sem updated_at deve agendar a carga completa")
+    void changeWithoutUpdatedAtShouldTriggerFullResync() {
+        // Arrange
+        DeltaSource delta = new DeltaSource();
+        SnapshotProductGateway deltaGateway = deltaGateway(delta, new MutableClock());
+        deltaGateway.refresh();
+        delta.changes = List.of(new Product("9", "Sem data", null, null, null, "books", null, null));
+        deltaGateway.refresh();
+        int booksAfterDelta = deltaGateway.findByCategory("books").size();
+
+        // Act
+        deltaGateway.refresh();
+
+        // Assert
+        assertEquals(1, booksAfterDelta);
+        assertTrue(deltaGateway.findByCategory("books").isEmpty());
+        assertEquals(1, delta.requests.size());
+        assertEquals(2, deltaGateway.getFullSyncs());
+    }
+
+    @Test
+    @DisplayName("Persistência - Deve servir a foto persistida na partida e reconciliar por delta")
+    void shouldRestorePersistedSnapshotOnStart(@TempDir Path directory) throws InterruptedException {
+        // Arrange
+        MutableClock clock = new MutableClock();
+        CatalogSnapshotStore store = new CatalogSnapshotStore(directory.resolve("catalog.snapshot"),
+                Duration.ofDays(1), clock);
+        SnapshotProductGateway previous = new SnapshotProductGateway(mockGateway, Duration.ofHours(1), null,
+                Duration.ofMinutes(10), store, clock);
+        previous.refresh();
+        clock.advance(Duration.ofSeconds(5));
+        MockProductGateway restartedUpstream = new MockProductGateway();
+        DeltaSource delta = new DeltaSource();
+        SnapshotProductGateway restarted = new SnapshotProductGateway(restartedUpstream, Duration.ofHours(1),
+                delta::load, Duration.ofMinutes(10), store, clock);
+
+        // Act
+        restarted.start();
+        int products = restarted.findAll().size();
+
+        // Assert
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (restarted.getDeltaSyncs() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        restarted.close();
+        assertEquals(3, products);
+        assertEquals(1, restarted.getSnapshot().getVersion());
+        assertEquals(1, restarted.getDeltaSyncs());
+        assertEquals(0, restarted.getFullSyncs());
+        restartedUpstream.verifyFindAllCalled(0);
+        assertEquals(1, store.getLoadSuccesses());
+    }
+
+    @Test
+    @DisplayName("Persistência - Prazo da carga completa deve contar da última carga completa, não do último delta")
+    void restoredSnapshotShouldKeepFullResyncDeadline(@TempDir Path directory) throws InterruptedException {
+        // Arrange
+        MutableClock clock = new MutableClock();
+        CatalogSnapshotStore store = new CatalogSnapshotStore(directory.resolve("catalog.snapshot"),
+                Duration.ofDays(1), clock);
+        DeltaSource delta = new DeltaSource();
+        SnapshotProductGateway previous = new SnapshotProductGateway(mockGateway, Duration.ofHours(1),
+                delta::load, Duration.ofMinutes(10), store, clock);
+        previous.refresh();
+        clock.advance(Duration.ofMinutes(9));
+        delta.changes = List.of(new Product("9", "Novo", null, null, null, "books", null,
+                previous.getSnapshot().getHighWaterMark().plusSeconds(1)));
+        previous.refresh();
+        clock.advance(Duration.ofMinutes(2));
+        CatalogSnapshot persisted = store.load().orElseThrow();
+        SnapshotProductGateway restarted = new SnapshotProductGateway(mockGateway, Duration.ofHours(1),
+                delta::load, Duration.ofMinutes(10), store, clock);
+
+        // Act
+        restarted.start();
+
+        // Assert
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (restarted.getRefreshSuccesses() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        restarted.close();
+        assertEquals(Duration.ofMinutes(9), Duration.between(persisted.getFullSyncAt(), persisted.getCreatedAt()));
+        assertEquals(1, restarted.getFullSyncs());
+        assertEquals(0, restarted.getDeltaSyncs());
+        mockGateway.verifyFindAllCalled(2);
+    }
+
+    private SnapshotProductGateway deltaGateway(DeltaSource delta, Clock clock) {
+        return new SnapshotProductGateway(mockGateway, Duration.ofHours(1), delta::load, Duration.ofMinutes(10),
+                null, clock);
+    }
+
+    /**
+     * Fonte de deltas configurável que registra as marcas d'água solicitadas.
+     */
+    private static class DeltaSource {
+        private final List<LocalDateTime> requests = new ArrayList<>();
+        private List<Product> changes = List.of();
+        private RuntimeException failure;
+
+        List<Product> load(LocalDateTime since) {
+            requests.add(since);
+            if (failure != null) {
+                throw failure;
+            }
+            return changes;
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-10-16T12:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.feignretryapi.infrastructure.mapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para IsoDateTimeParser.
+ */
+@DisplayName("IsoDateTimeParser Tests")
+class IsoDateTimeParserTest {
+
+    private IsoDateTimeParser parser;
+
+    @BeforeEach
+    void setUp() {
+        parser = new IsoDateTimeParser(16);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2026-10-16T12:34",
+            "2026-10-16T12:34:56",
+            "2026-10-16T12:34:56.1",
+            "2026-10-16T12:34:56.123",
+            "2026-10-16T12:34:56.123456",
+            "2026-10-16T12:34:56.123456789",
+            "2026-10-16T12:34:56Z",
+            "2026-10-16T12:34:56.5Z",
+            "2024-02-29T00:00:00",
+            "0001-01-01T00:00:00"
+    })
+    @DisplayName("Deve converter o layout fixo pelo caminho rápido com o mesmo resultado do formatter")
+    void shouldParseFixedLayoutLikeFormatter(String text) {
+        // Act
+        LocalDateTime fast = IsoDateTimeParser.parseFast(text);
+
+        // Assert
+        assertNotNull(fast);
+        assertEquals(LocalDateTime.parse(text, DateTimeFormatter.ISO_DATE_TIME), fast);
+        assertEquals(fast, parser.parse(text));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2026-10-16T12:34:56-03:00",
+            "2026-10-16T12:34:56+01:00[Europe/Paris]",
+            "2026-10-16t12:34:56",
+            "+12026-10-16T12:34:56",
+            "2026-10-16T12:34:56."
+    })
+    @DisplayName("Deve delegar ao formatter as formas fora do layout fixo")
+    void shouldFallBackToFormatterForOtherForms(String text) {
+        // Act
+        LocalDateTime fast = IsoDateTimeParser.parseFast(text);
+
+        // Assert
+        assertNull(fast);
+        assertEquals(LocalDateTime.parse(text, DateTimeFormatter.ISO_DATE_TIME), parser.parse(text));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2026-02-30T12:00:00",
+            "2026-13-01T12:00:00",
+            "2026-10-16T24:00:00",
+            "2026-10-16T12:00:00.1234567890",
+            "2026-10-16 12:00:00",
+            "2026-10-16",
+            "abc"
+    })
+    @DisplayName("Deve rejeitar textos inválidos com DateTimeParseException, como o formatter")
+    void shouldRejectInvalidTextLikeFormatter(String text) {
+        // Act & Assert
+        assertThrows(DateTimeParseException.class, () -> parser.parse(text));
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar a instância convertida para textos repetidos")
+    void shouldReuseCachedValueForRepeatedText() {
+        // Arrange
+        String first = "2026-10-16T12:34:56.789";
+        String copy = new String(first.toCharArray());
+
+        // Act
+        LocalDateTime a = parser.parse(first);
+        LocalDateTime b = parser.parse(copy);
+
+        // Assert
+        assertSame(a, b);
+    }
+
+    @Test
+    @DisplayName("Deve converter a partir de um trecho de char[] compartilhando o cache com as Strings")
+    void shouldParseCharRangeSharingCacheWithStrings() {
+        // Arrange
+        String text = "2026-10-16T12:34:56.789";
+        char[] buffer = ("[\"" + text + "\"]").toCharArray();
+
+        // Act
+        LocalDateTime fromString = parser.parse(text);
+        LocalDateTime fromChars = parser.parse(buffer, 2, text.length());
+
+        // Assert
+        assertSame(fromString, fromChars);
+        assertEquals(LocalDateTime.of(2026, 10, 16, 12, 34, 56, 789_000_000),
+                new IsoDateTimeParser(16).parse(buffer, 2, text.length()));
+        assertThrows(DateTimeParseException.class, () -> parser.parse(buffer, 0, text.length()));
+    }
+
+    @Test
+    @DisplayName("Deve converter corretamente textos que colidem na mesma posição do cache")
+    void shouldHandleCacheCollisions() {
+        // Arrange
+        IsoDateTimeParser singleEntry = new IsoDateTimeParser(1);
+
+        // Act & Assert
+        assertEquals(LocalDateTime.of(2026, 1, 1, 0, 0), singleEntry.parse("2026-01-01T00:00:00"));
+        assertEquals(LocalDateTime.of(2026, 1, 2, 0, 0), singleEntry.parse("2026-01-02T00:00:00"));
+        assertEquals(LocalDateTime.of(2026, 1, 1, 0, 0), singleEntry.parse("2026-01-01T00:00:00"));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tamanho de cache que não é potência de 2")
+    void shouldRejectCacheSizeNotPowerOfTwo() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new IsoDateTimeParser(1000));
+        assertThrows(IllegalArgumentException.class, () -> new IsoDateTimeParser(0));
+    }
+}
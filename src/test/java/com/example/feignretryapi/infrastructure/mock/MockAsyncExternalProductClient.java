@@ -0,0 +1,54 @@
+package com.example.feignretryapi.infrastructure.mock;
+
+import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.infrastructure.client.feign.AsyncExternalProductClient;
+import com.example.feignretryapi.infrastructure.client.feign.dto.ExternalProductDto;
+import feign.FeignException;
+import feign.RetryableException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Mock manual do AsyncExternalProductClient para testes.
+ * Delega ao {@link MockExternalProductClient}; erros 5xx são entregues como
+ * RetryableException, como faria o CustomErrorDecoder.
+ */
+public class MockAsyncExternalProductClient implements AsyncExternalProductClient {
+
+    private final MockExternalProductClient delegate;
+
+    public MockAsyncExternalProductClient(MockExternalProductClient delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public CompletableFuture<List<Product>> getAllProducts() {
+        return call(delegate::getAllProducts);
+    }
+
+    @Override
+    public CompletableFuture<ExternalProductDto> getProductById(String id) {
+        return call(() -> delegate.getProductById(id));
+    }
+
+    @Override
+    public CompletableFuture<List<Product>> getProductsByCategory(String category) {
+        return call(() -> delegate.getProductsByCategory(category));
+    }
+
+    private <T> CompletableFuture<T> call(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return supplier.get();
+            } catch (FeignException e) {
+                if (e.status() >= 500) {
+                    throw new RetryableException(e.status(), e.getMessage(), e.request().httpMethod(),
+                            (Long) null, e.request());
+                }
+                throw e;
+            }
+        });
+    }
+}
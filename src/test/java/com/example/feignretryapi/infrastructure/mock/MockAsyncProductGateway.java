@@ -0,0 +1,36 @@
+package com.example.feignretryapi.infrastructure.mock;
+
+import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.domain.gateway.AsyncProductGateway;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Mock manual do AsyncProductGateway para testes.
+ * Delega ao {@link MockProductGateway}, completando os futuros em outra thread.
+ */
+public class MockAsyncProductGateway implements AsyncProductGateway {
+
+    private final MockProductGateway delegate;
+
+    public MockAsyncProductGateway(MockProductGateway delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public CompletableFuture<List<Product>> findAll() {
+        return CompletableFuture.supplyAsync(delegate::findAll);
+    }
+
+    @Override
+    public CompletableFuture<Optional<Product>> findById(String id) {
+        return CompletableFuture.supplyAsync(() -> delegate.findById(id));
+    }
+
+    @Override
+    public CompletableFuture<List<Product>> findByCategory(String category) {
+        return CompletableFuture.supplyAsync(() -> delegate.findByCategory(category));
+    }
+}
@@ -1,10 +1,16 @@
 package com.example.feignretryapi.infrastructure.mock;
 
+import com.example.feignretryapi.domain.entity.Product;
+import com.example.feignretryapi.infrastructure.client.codec.ExternalProductDeserializer;
 import com.example.feignretryapi.infrastructure.client.feign.ExternalProductClient;
 import com.example.feignretryapi.infrastructure.client.feign.dto.ExternalProductDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import feign.FeignException;
 import feign.Request;
 import feign.RequestTemplate;
+import feign.Response;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
@@ -15,22 +21,36 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Mock manual do ExternalProductClient para testes de retry.
+ * As listagens devolvem Product convertidos dos DTOs pelo ExternalProductDeserializer, como faria o Feign.
  */
 public class MockExternalProductClient implements ExternalProductClient {
 
+    private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json()
+            .modulesToInstall(ExternalProductDeserializer.module())
+            .build();
+
     private List<ExternalProductDto> products = new ArrayList<>();
     private final AtomicInteger getAllProductsCallCount = new AtomicInteger(0);
     private final AtomicInteger getProductByIdCallCount = new AtomicInteger(0);
     private final AtomicInteger getProductsByCategoryCallCount = new AtomicInteger(0);
+    private final AtomicInteger getProductsByIdsCallCount = new AtomicInteger(0);
+    private final AtomicInteger getProductsUpdatedSinceCallCount = new AtomicInteger(0);
+    private final AtomicInteger streamAllProductsCallCount = new AtomicInteger(0);
+    private final AtomicInteger getProductsPageCallCount = new AtomicInteger(0);
 
     // Configuração de falhas
     private int failGetAllProductsUntilAttempt = 0;
     private int failGetProductByIdUntilAttempt = 0;
     private int failGetProductsByCategoryUntilAttempt = 0;
+    private int failStreamAllProductsUntilAttempt = 0;
+    private int failGetProductsPageUntilAttempt = 0;
     private int errorStatusCode = 500;
 
     private String lastGetProductByIdParameter;
     private String lastGetProductsByCategoryParameter;
+    private String lastGetProductsUpdatedSinceParameter;
+    private String lastPageAfterParameter;
+    private int lastPageLimitParameter;
 
     public MockExternalProductClient() {
         initializeDefaultProducts();
@@ -48,14 +68,45 @@ public class MockExternalProductClient implements ExternalProductClient {
     }
 
     @Override
-    public List<ExternalProductDto> getAllProducts() {
+    public List<Product> getAllProducts() {
         int currentCall = getAllProductsCallCount.incrementAndGet();
         
         if (currentCall <= failGetAllProductsUntilAttempt) {
             throw createFeignException(errorStatusCode, "GET", "/api/products");
         }
         
-        return new ArrayList<>(products);
+        return toProducts(products);
+    }
+
+    /**
+     * Devolve a resposta crua com o catálogo serializado; nas tentativas configuradas para falhar,
+     * responde com o status de erro em vez de lançar exceção, como faria o Feign.
+     */
+    @Override
+    public Response streamAllProducts() {
+        int currentCall = streamAllProductsCallCount.incrementAndGet();
+        Request request = Request.create(Request.HttpMethod.GET, "/api/products", Collections.emptyMap(),
+                null, StandardCharsets.UTF_8, new RequestTemplate());
+
+        if (currentCall <= failStreamAllProductsUntilAttempt) {
+            return Response.builder()
+                    .status(errorStatusCode)
+                    .reason("Mock error")
+                    .request(request)
+                    .headers(Collections.emptyMap())
+                    .build();
+        }
+
+        try {
+            return Response.builder()
+                    .status(200)
+                    .request(request)
+                    .headers(Collections.emptyMap())
+                    .body(OBJECT_MAPPER.writeValueAsBytes(products))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     @Override
@@ -74,7 +125,27 @@ public class MockExternalProductClient implements ExternalProductClient {
     }
 
     @Override
-    public List<ExternalProductDto> getProductsByCategory(String category) {
+    public List<ExternalProductDto> getProductsByIds(List<String> ids) {
+        getProductsByIdsCallCount.incrementAndGet();
+
+        return products.stream()
+                .filter(p -> ids.contains(p.getId()))
+                .toList();
+    }
+
+    @Override
+    public List<ExternalProductDto> getProductsUpdatedSince(String updatedSince) {
+        getProductsUpdatedSinceCallCount.incrementAndGet();
+        lastGetProductsUpdatedSinceParameter = updatedSince;
+        LocalDateTime since = LocalDateTime.parse(updatedSince, DateTimeFormatter.ISO_DATE_TIME);
+
+        return products.stream()
+                .filter(p -> !LocalDateTime.parse(p.getUpdatedAt(), DateTimeFormatter.ISO_DATE_TIME).isBefore(since))
+                .toList();
+    }
+
+    @Override
+    public List<Product> getProductsByCategory(String category) {
         int currentCall = getProductsByCategoryCallCount.incrementAndGet();
         lastGetProductsByCategoryParameter = category;
         
@@ -82,9 +153,47 @@ public class MockExternalProductClient implements ExternalProductClient {
             throw createFeignException(errorStatusCode, "GET", "/api/products/category?category=" + category);
         }
         
-        return products.stream()
+        return toProducts(products.stream()
+                .filter(p -> p.getCategory().equalsIgnoreCase(category))
+                .toList());
+    }
+
+    @Override
+    public List<ExternalProductDto> getProductsPage(String after, int limit) {
+        return page(products, after, limit, "/api/products");
+    }
+
+    @Override
+    public List<ExternalProductDto> getProductsByCategoryPage(String category, String after, int limit) {
+        lastGetProductsByCategoryParameter = category;
+        List<ExternalProductDto> filtered = products.stream()
                 .filter(p -> p.getCategory().equalsIgnoreCase(category))
                 .toList();
+        return page(filtered, after, limit, "/api/products/category?category=" + category);
+    }
+
+    private List<ExternalProductDto> page(List<ExternalProductDto> source, String after, int limit, String url) {
+        int currentCall = getProductsPageCallCount.incrementAndGet();
+        lastPageAfterParameter = after;
+        lastPageLimitParameter = limit;
+
+        if (currentCall <= failGetProductsPageUntilAttempt) {
+            throw createFeignException(errorStatusCode, "GET", url);
+        }
+
+        return source.stream()
+                .filter(p -> after == null || p.getId().compareTo(after) > 0)
+                .sorted(Comparator.comparing(ExternalProductDto::getId))
+                .limit(limit)
+                .toList();
+    }
+
+    private static List<Product> toProducts(List<ExternalProductDto> dtos) {
+        List<Product> result = new ArrayList<>(dtos.size());
+        for (ExternalProductDto dto : dtos) {
+            result.add(OBJECT_MAPPER.convertValue(dto, Product.class));
+        }
+        return result;
     }
 
     private FeignException createFeignException(int status, String method, String url) {
@@ -121,6 +230,14 @@ public class MockExternalProductClient implements ExternalProductClient {
         this.failGetAllProductsUntilAttempt = failUntilAttempt;
     }
 
+    public void setFailStreamAllProductsUntilAttempt(int failUntilAttempt) {
+        this.failStreamAllProductsUntilAttempt = failUntilAttempt;
+    }
+
+    public void setFailGetProductsPageUntilAttempt(int failUntilAttempt) {
+        this.failGetProductsPageUntilAttempt = failUntilAttempt;
+    }
+
     public void setFailGetProductByIdUntilAttempt(int failUntilAttempt) {
         this.failGetProductByIdUntilAttempt = failUntilAttempt;
     }
@@ -146,6 +263,34 @@ public class MockExternalProductClient implements ExternalProductClient {
         return getProductsByCategoryCallCount.get();
     }
 
+    public int getGetProductsByIdsCallCount() {
+        return getProductsByIdsCallCount.get();
+    }
+
+    public int getStreamAllProductsCallCount() {
+        return streamAllProductsCallCount.get();
+    }
+
+    public int getGetProductsUpdatedSinceCallCount() {
+        return getProductsUpdatedSinceCallCount.get();
+    }
+
+    public String getLastGetProductsUpdatedSinceParameter() {
+        return lastGetProductsUpdatedSinceParameter;
+    }
+
+    public int getGetProductsPageCallCount() {
+        return getProductsPageCallCount.get();
+    }
+
+    public String getLastPageAfterParameter() {
+        return lastPageAfterParameter;
+    }
+
+    public int getLastPageLimitParameter() {
+        return lastPageLimitParameter;
+    }
+
     public String getLastGetProductByIdParameter() {
         return lastGetProductByIdParameter;
     }
@@ -160,12 +305,21 @@ public class MockExternalProductClient implements ExternalProductClient {
         getAllProductsCallCount.set(0);
         getProductByIdCallCount.set(0);
         getProductsByCategoryCallCount.set(0);
+        getProductsByIdsCallCount.set(0);
+        getProductsUpdatedSinceCallCount.set(0);
+        streamAllProductsCallCount.set(0);
+        getProductsPageCallCount.set(0);
         failGetAllProductsUntilAttempt = 0;
         failGetProductByIdUntilAttempt = 0;
         failGetProductsByCategoryUntilAttempt = 0;
+        failStreamAllProductsUntilAttempt = 0;
+        failGetProductsPageUntilAttempt = 0;
         errorStatusCode = 500;
         lastGetProductByIdParameter = null;
         lastGetProductsByCategoryParameter = null;
+        lastGetProductsUpdatedSinceParameter = null;
+        lastPageAfterParameter = null;
+        lastPageLimitParameter = 0;
     }
 
     public void verifyGetAllProductsCalled(int times) {
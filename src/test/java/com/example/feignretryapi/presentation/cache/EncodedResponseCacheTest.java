@@ -0,0 +1,134 @@
+package com.example.feignretryapi.presentation.cache;
+
+import com.example.feignretryapi.application.dto.ProductField;
+import com.example.feignretryapi.infrastructure.codec.WireFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para EncodedResponseCache.
+ */
+@DisplayName("EncodedResponseCache Tests")
+class EncodedResponseCacheTest {
+
+    private EncodedResponseCache cache;
+    private AtomicInteger encodings;
+
+    @BeforeEach
+    void setUp() {
+        cache = new EncodedResponseCache(100);
+        encodings = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar os bytes enquanto a origem for a mesma instância")
+    void shouldReuseBytesForSameSourceInstance() {
+        // Arrange
+        List<String> source = List.of("1", "2");
+
+        // Act
+        EncodedResponse first = cache.get("findAll", null, ProductField.ALL, WireFormat.JSON, source,
+                encoder("[1,2]"));
+        EncodedResponse second = cache.get("findAll", null, ProductField.ALL, WireFormat.JSON, source,
+                encoder("[1,2]"));
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, encodings.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    @DisplayName("Deve recodificar e substituir a entrada quando a origem muda")
+    void shouldReencodeWhenSourceChanges() {
+        // Arrange
+        cache.get("findAll", null, ProductField.ALL, WireFormat.JSON, List.of("1"), encoder("[1]"));
+
+        // Act
+        EncodedResponse updated = cache.get("findAll", null, ProductField.ALL, WireFormat.JSON, List.of("1", "2"),
+                encoder("[1,2]"));
+
+        // Assert
+        assertEquals("[1,2]", new String(updated.body(), StandardCharsets.UTF_8));
+        assertEquals(2, encodings.get());
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getSize());
+    }
+
+    @Test
+    @DisplayName("Deve separar as entradas por operação, argumento, campos e formato")
+    void shouldKeyByOperationArgumentFieldsAndFormat() {
+        // Arrange
+        List<String> source = List.of("1");
+        Set<ProductField> idOnly = ProductField.parse("id");
+
+        // Act
+        cache.get("findAll", null, ProductField.ALL, WireFormat.JSON, source, encoder("a"));
+        cache.get("findAll", null, idOnly, WireFormat.JSON, source, encoder("b"));
+        cache.get("findByCategory", "electronics", ProductField.ALL, WireFormat.JSON, source, encoder("c"));
+        cache.get("findAll", null, ProductField.ALL, WireFormat.CBOR, source, encoder("d"));
+        EncodedResponse projected = cache.get("findAll", null, idOnly, WireFormat.JSON, source, encoder("x"));
+
+        // Assert
+        assertEquals("b", new String(projected.body(), StandardCharsets.UTF_8));
+        assertEquals(4, encodings.get());
+        assertEquals(4, cache.getSize());
+    }
+
+    @Test
+    @DisplayName("Deve comprimir em gzip uma única vez, sob demanda")
+    void shouldCompressGzipOnceOnDemand() throws IOException {
+        // Arrange
+        EncodedResponse encoded = cache.get("findAll", null, ProductField.ALL, WireFormat.JSON, List.of(),
+                encoder("{\"total\":0}"));
+
+        // Act
+        byte[] gzip = encoded.gzip();
+
+        // Assert
+        assertSame(gzip, encoded.gzip());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            assertEquals("{\"total\":0}", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve reconhecer gzip no Accept-Encoding respeitando q=0")
+    void shouldParseAcceptEncoding() {
+        // Act & Assert
+        assertTrue(EncodedResponseCache.acceptsGzip("gzip, deflate, br"));
+        assertTrue(EncodedResponseCache.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(EncodedResponseCache.acceptsGzip("*"));
+        assertFalse(EncodedResponseCache.acceptsGzip("gzip;q=0"));
+        assertFalse(EncodedResponseCache.acceptsGzip("deflate, br"));
+        assertFalse(EncodedResponseCache.acceptsGzip("identity"));
+        assertFalse(EncodedResponseCache.acceptsGzip(null));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tamanho máximo não positivo")
+    void shouldRejectNonPositiveMaximumSize() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new EncodedResponseCache(0));
+    }
+
+    private Supplier<byte[]> encoder(String json) {
+        return () -> {
+            encodings.incrementAndGet();
+            return json.getBytes(StandardCharsets.UTF_8);
+        };
+    }
+}
@@ -1,23 +1,45 @@
 package com.example.feignretryapi.presentation.controller;
 
+import com.example.feignretryapi.application.dto.ProductField;
 import com.example.feignretryapi.application.dto.ProductListResponse;
+import com.example.feignretryapi.application.dto.ProductPageResponse;
 import com.example.feignretryapi.application.dto.ProductResponse;
 import com.example.feignretryapi.application.usecase.GetAllProductsUseCase;
 import com.example.feignretryapi.application.usecase.GetProductByIdUseCase;
 import com.example.feignretryapi.application.usecase.GetProductsByCategoryUseCase;
+import com.example.feignretryapi.domain.exception.InvalidFieldSelectionException;
+import com.example.feignretryapi.domain.exception.InvalidPageRequestException;
 import com.example.feignretryapi.domain.entity.Product;
 import com.example.feignretryapi.domain.exception.ProductNotFoundException;
+import com.example.feignretryapi.infrastructure.codec.WireFormat;
+import com.example.feignretryapi.infrastructure.codec.WireFormatMappers;
 import com.example.feignretryapi.infrastructure.mock.MockProductGateway;
 import com.example.feignretryapi.infrastructure.mock.MockProductMapper;
+import com.example.feignretryapi.presentation.cache.EncodedResponseCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -32,6 +54,9 @@ class ProductControllerTest {
     private GetAllProductsUseCase getAllProductsUseCase;
     private GetProductByIdUseCase getProductByIdUseCase;
     private GetProductsByCategoryUseCase getProductsByCategoryUseCase;
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .filters(ProductFieldsFilter.filterProvider(ProductField.ALL))
+            .build();
     private ProductController controller;
 
     @BeforeEach
@@ -45,7 +70,8 @@ class ProductControllerTest {
                 getAllProductsUseCase,
                 getProductByIdUseCase,
                 getProductsByCategoryUseCase,
-                mockProductMapper
+                mockProductMapper,
+                objectMapper
         );
     }
 
@@ -53,13 +79,14 @@ class ProductControllerTest {
     @DisplayName("getAllProducts - Deve retornar lista de produtos com status 200")
     void getAllProductsShouldReturnProductsWithStatus200() {
         // Act
-        ResponseEntity<ProductListResponse> response = controller.getAllProducts();
+        ResponseEntity<byte[]> response = controller.getAllProducts(null, null, null).join();
+        ProductListResponse body = read(response);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertNotNull(response.getBody());
-        assertEquals(3, response.getBody().total());
-        assertEquals(3, response.getBody().products().size());
+        assertNotNull(body);
+        assertEquals(3, body.total());
+        assertEquals(3, body.products().size());
     }
 
     @Test
@@ -69,20 +96,21 @@ class ProductControllerTest {
         mockProductGateway.setProducts(List.of());
 
         // Act
-        ResponseEntity<ProductListResponse> response = controller.getAllProducts();
+        ResponseEntity<byte[]> response = controller.getAllProducts(null, null, null).join();
+        ProductListResponse body = read(response);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertNotNull(response.getBody());
-        assertEquals(0, response.getBody().total());
-        assertTrue(response.getBody().products().isEmpty());
+        assertNotNull(body);
+        assertEquals(0, body.total());
+        assertTrue(body.products().isEmpty());
     }
 
     @Test
     @DisplayName("getProductById - Deve retornar produto com status 200")
     void getProductByIdShouldReturnProductWithStatus200() {
         // Act
-        ResponseEntity<ProductResponse> response = controller.getProductById("1");
+        ResponseEntity<ProductResponse> response = controller.getProductById("1", null).join();
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -96,41 +124,47 @@ class ProductControllerTest {
     void getProductByIdShouldThrowExceptionWhenProductNotExists() {
         // Act & Assert
         assertThrows(ProductNotFoundException.class, 
-                () -> controller.getProductById("999"));
+                () -> controller.getProductById("999", null));
     }
 
     @Test
     @DisplayName("getProductsByCategory - Deve retornar produtos da categoria")
     void getProductsByCategoryShouldReturnProductsFromCategory() {
         // Act
-        ResponseEntity<ProductListResponse> response = controller.getProductsByCategory("electronics");
+        ResponseEntity<byte[]> response = controller.getProductsByCategory("electronics", null, null, null).join();
+        ProductListResponse body = read(response);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertNotNull(response.getBody());
-        assertEquals(2, response.getBody().total());
+        assertNotNull(body);
+        assertEquals(2, body.total());
     }
 
     @Test
     @DisplayName("getProductsByCategory - Deve retornar lista vazia para categoria inexistente")
     void getProductsByCategoryShouldReturnEmptyListForNonExistentCategory() {
         // Act
-        ResponseEntity<ProductListResponse> response = controller.getProductsByCategory("non-existent");
+        ResponseEntity<byte[]> response = controller.getProductsByCategory("non-existent", null, null, null).join();
+        ProductListResponse body = read(response);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertNotNull(response.getBody());
-        assertEquals(0, response.getBody().total());
+        assertNotNull(body);
+        assertEquals(0, body.total());
     }
 
     @Test
-    @DisplayName("Deve chamar mapper para converter produtos")
-    void shouldCallMapperToConvertProducts() {
+    @DisplayName("Deve serializar os produtos no formato do ProductResponse sem mapear para o DTO")
+    void shouldWriteProductsWithoutMappingToResponseDto() throws IOException {
         // Act
-        controller.getAllProducts();
+        byte[] body = controller.getAllProducts(null, null, null).join().getBody();
 
         // Assert
-        assertEquals(1, mockProductMapper.getToResponseListCallCount());
+        List<ProductResponse> expected = new MockProductMapper().toResponseList(mockProductGateway.findAll());
+        String expectedJson = objectMapper.writeValueAsString(new ProductListResponse(expected, expected.size()));
+        assertEquals(expectedJson, new String(body, StandardCharsets.UTF_8));
+        assertEquals(0, mockProductMapper.getToResponseListCallCount());
+        assertEquals(0, mockProductMapper.getToResponseCallCount());
     }
 
     @Test
@@ -143,10 +177,11 @@ class ProductControllerTest {
         mockProductGateway.setProducts(List.of(product));
 
         // Act
-        ResponseEntity<ProductListResponse> response = controller.getAllProducts();
+        ResponseEntity<byte[]> response = controller.getAllProducts(null, null, null).join();
+        ProductListResponse body = read(response);
 
         // Assert
-        ProductResponse productResponse = response.getBody().products().get(0);
+        ProductResponse productResponse = body.products().get(0);
         assertEquals("test-id", productResponse.id());
         assertEquals("Test Name", productResponse.name());
         assertEquals("Test Desc", productResponse.description());
@@ -154,4 +189,210 @@ class ProductControllerTest {
         assertEquals(10, productResponse.quantity());
         assertEquals("test-cat", productResponse.category());
     }
+
+    @Test
+    @DisplayName("streamAllProducts - Deve escrever um produto por linha em NDJSON")
+    void streamAllProductsAsNdjsonShouldWriteOneProductPerLine() throws IOException {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        String body = write(controller.streamAllProductsAsNdjson(null, response));
+
+        // Assert
+        assertEquals(ProductController.APPLICATION_NDJSON_VALUE, response.getContentType());
+        String[] lines = body.split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(body.endsWith("\n"));
+        assertEquals("1", objectMapper.readTree(lines[0]).get("id").asText());
+        assertEquals("furniture", objectMapper.readTree(lines[2]).get("category").asText());
+        assertEquals(0, mockProductMapper.getToResponseCallCount());
+    }
+
+    @Test
+    @DisplayName("streamAllProducts - Deve escrever em JSON o mesmo formato do getAllProducts")
+    void streamAllProductsAsJsonShouldKeepListResponseShape() throws IOException {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        JsonNode body = objectMapper.readTree(write(controller.streamAllProductsAsJson(null, response)));
+
+        // Assert
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, response.getContentType());
+        assertEquals(3, body.get("total").asInt());
+        assertEquals(3, body.get("products").size());
+        assertEquals("Product 2", body.get("products").get(1).get("name").asText());
+        byte[] materialized = controller.getAllProducts(null, null, null).join().getBody();
+        assertEquals(objectMapper.readTree(materialized), body);
+    }
+
+    @Test
+    @DisplayName("streamAllProducts - Deve propagar a falha do gateway sem fazer commit da resposta")
+    void streamAllProductsShouldPropagateGatewayFailure() {
+        // Arrange
+        mockProductGateway.setFindAllException(new RuntimeException("Falha na API externa"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act & Assert
+        assertThrows(RuntimeException.class,
+                () -> controller.streamAllProductsAsNdjson(null, response).writeTo(response.getOutputStream()));
+        assertFalse(response.isCommitted());
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertNull(response.getContentType());
+    }
+
+    @Test
+    @DisplayName("streamAllProducts - Deve escrever lista vazia quando não há produtos")
+    void streamAllProductsAsJsonShouldWriteEmptyList() throws IOException {
+        // Arrange
+        mockProductGateway.setProducts(List.of());
+
+        // Act
+        String body = write(controller.streamAllProductsAsJson(null, new MockHttpServletResponse()));
+
+        // Assert
+        assertEquals("{\"products\":[],\"total\":0}", body);
+    }
+
+    @Test
+    @DisplayName("getProductsPage - Deve paginar com cursor opaco até a última página")
+    void getProductsPageShouldPaginateWithOpaqueCursor() {
+        // Act
+        ProductPageResponse first = controller.getProductsPage(2, null, null).getBody();
+        ProductPageResponse last = controller.getProductsPage(2, first.nextCursor(), null).getBody();
+
+        // Assert
+        assertEquals(List.of("1", "2"), first.products().stream().map(ProductResponse::id).toList());
+        assertEquals(2, first.count());
+        assertNotNull(first.nextCursor());
+        assertNotEquals("2", first.nextCursor());
+        assertEquals(List.of("3"), last.products().stream().map(ProductResponse::id).toList());
+        assertNull(last.nextCursor());
+    }
+
+    @Test
+    @DisplayName("getProductsByCategoryPage - Deve paginar os produtos da categoria")
+    void getProductsByCategoryPageShouldPaginateCategory() {
+        // Act
+        ResponseEntity<ProductPageResponse> response = controller.getProductsByCategoryPage("electronics", 1, null, null);
+        ProductPageResponse next = controller.getProductsByCategoryPage(
+                "electronics", 1, response.getBody().nextCursor(), null).getBody();
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("1", response.getBody().products().get(0).id());
+        assertEquals("2", next.products().get(0).id());
+        assertEquals("electronics", mockProductGateway.getLastFindByCategoryParameter());
+    }
+
+    @Test
+    @DisplayName("getProductsPage - Deve rejeitar limite fora da faixa e cursor inválido")
+    void getProductsPageShouldRejectInvalidLimitAndCursor() {
+        // Act & Assert
+        assertThrows(InvalidPageRequestException.class, () -> controller.getProductsPage(0, null, null));
+        assertThrows(InvalidPageRequestException.class,
+                () -> controller.getProductsPage(PageCursor.MAX_LIMIT + 1, null, null));
+        assertThrows(InvalidPageRequestException.class, () -> controller.getProductsPage(2, "%%%", null));
+        assertThrows(InvalidPageRequestException.class, () -> controller.getProductsPage(2, "MQ", null));
+        assertEquals(0, mockProductGateway.getFindAllCallCount());
+    }
+
+    @Test
+    @DisplayName("getAllProducts - Deve mapear só os campos pedidos em fields")
+    void getAllProductsShouldProjectRequestedFields() throws IOException {
+        // Act
+        byte[] body = controller.getAllProducts("id, price", null, null).join().getBody();
+
+        // Assert
+        JsonNode first = objectMapper.readTree(body).get("products").get(0);
+        assertEquals(List.of("id", "price"), fieldNames(first));
+        assertEquals("1", first.get("id").asText());
+        assertEquals(0, mockProductMapper.getToResponseListCallCount());
+    }
+
+    @Test
+    @DisplayName("streamAllProducts - Deve serializar só os campos pedidos em fields")
+    void streamAllProductsShouldWriteOnlyRequestedFields() throws IOException {
+        // Act
+        String body = write(controller.streamAllProductsAsNdjson("name,category", new MockHttpServletResponse()));
+
+        // Assert
+        JsonNode first = objectMapper.readTree(body.split("\n")[0]);
+        assertEquals(List.of("name", "category"), fieldNames(first));
+        assertEquals("Product 1", first.get("name").asText());
+    }
+
+    @Test
+    @DisplayName("getAllProducts - Deve rejeitar campo desconhecido em fields sem chamar o gateway")
+    void getAllProductsShouldRejectUnknownField() {
+        // Act & Assert
+        InvalidFieldSelectionException exception = assertThrows(InvalidFieldSelectionException.class,
+                () -> controller.getAllProducts("id,sku", null, null));
+        assertTrue(exception.getMessage().contains("sku"));
+        assertThrows(InvalidFieldSelectionException.class, () -> controller.getProductById("1", "price,foo"));
+        assertEquals(0, mockProductGateway.getFindAllCallCount());
+    }
+
+    @Test
+    @DisplayName("getAllProducts - Deve servir os bytes guardados enquanto o gateway devolver a mesma lista")
+    void getAllProductsShouldServeCachedBytesForSameSourceList() throws IOException {
+        // Arrange
+        List<Product> catalog = mockProductGateway.findAll();
+        mockProductGateway.setCustomFindAllBehavior(() -> catalog);
+        EncodedResponseCache responseCache = new EncodedResponseCache(10);
+        ProductController cachingController = new ProductController(getAllProductsUseCase, getProductByIdUseCase,
+                getProductsByCategoryUseCase, mockProductMapper, new WireFormatMappers(objectMapper), Optional.of(responseCache));
+
+        // Act
+        ResponseEntity<byte[]> first = cachingController.getAllProducts(null, null, null).join();
+        ResponseEntity<byte[]> gzipped = cachingController.getAllProducts(null, null, "gzip, br").join();
+        mockProductGateway.setCustomFindAllBehavior(() -> List.of(catalog.get(0)));
+        ResponseEntity<byte[]> changed = cachingController.getAllProducts(null, null, null).join();
+
+        // Assert
+        assertEquals(2, responseCache.getMisses());
+        assertEquals(1, responseCache.getHits());
+        assertEquals("gzip", gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertNull(first.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getBody()))) {
+            assertArrayEquals(first.getBody(), in.readAllBytes());
+        }
+        assertEquals(3, read(first).total());
+        assertEquals(1, read(changed).total());
+    }
+
+    @Test
+    @DisplayName("getAllProducts - Deve responder em CBOR quando o Accept pede application/cbor")
+    void getAllProductsShouldNegotiateCbor() throws IOException {
+        // Act
+        ResponseEntity<byte[]> response = controller.getAllProducts(null, "application/cbor", null).join();
+
+        // Assert
+        assertEquals(MediaType.APPLICATION_CBOR, response.getHeaders().getContentType());
+        ProductListResponse body = new WireFormatMappers(objectMapper).get(WireFormat.CBOR)
+                .readValue(response.getBody(), ProductListResponse.class);
+        assertEquals(3, body.total());
+        assertEquals(read(controller.getAllProducts(null, null, null).join()), body);
+    }
+
+    private ProductListResponse read(ResponseEntity<byte[]> response) {
+        try {
+            return objectMapper.readValue(response.getBody(), ProductListResponse.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+
+    private static String write(StreamingResponseBody body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
 }